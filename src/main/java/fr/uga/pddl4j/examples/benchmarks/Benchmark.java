@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify * it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License * along with PDDL4J.  If not,
+ * see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.benchmarks;
+
+import fr.uga.pddl4j.parser.DefaultParsedProblem;
+import fr.uga.pddl4j.parser.Parser;
+import fr.uga.pddl4j.problem.DefaultProblem;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class contains the common methods of the benchmarks: problem loading, sampling of reachable states and a
+ * minimal JMH-like measurement loop (warmup iterations followed by measured iterations).
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class Benchmark {
+
+    /**
+     * The root directory of the IPC benchmarks.
+     */
+    public static final String PDDL_BENCH_DIR = "src/test/resources/benchmarks/pddl/";
+
+    /**
+     * The default number of warmup iterations.
+     */
+    public static final int DEFAULT_WARMUP_ITERATIONS = 5;
+
+    /**
+     * The default number of measured iterations.
+     */
+    public static final int DEFAULT_MEASURED_ITERATIONS = 10;
+
+    /**
+     * The interface of the operation measured by a benchmark.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * Runs the operation once and returns the number of elementary operations done. The returned value is also
+         * used to prevent the JIT compiler to remove the code of the benchmark as dead code.
+         *
+         * @return the number of elementary operations done.
+         */
+        long run();
+    }
+
+    /**
+     * Creates a new benchmark. This class cannot be instantiated.
+     */
+    private Benchmark() {
+    }
+
+    /**
+     * Parses and instantiates a planning problem.
+     *
+     * @param domain  the path to the domain file.
+     * @param problem the path to the problem file.
+     * @return the instantiated problem or null if the problem cannot be parsed.
+     * @throws FileNotFoundException if the domain or the problem file does not exist.
+     */
+    public static Problem load(final String domain, final String problem) throws FileNotFoundException {
+        final Parser parser = new Parser();
+        final DefaultParsedProblem parsedProblem = parser.parse(domain, problem);
+        if (!parser.getErrorManager().isEmpty()) {
+            return null;
+        }
+        final Problem pb = new DefaultProblem(parsedProblem);
+        pb.instantiate();
+        return pb;
+    }
+
+    /**
+     * Samples a list of reachable states of a problem by random walks from the initial state.
+     *
+     * @param problem the problem.
+     * @param size    the number of states to sample.
+     * @param length  the maximum length of each random walk.
+     * @param seed    the seed of the random number generator.
+     * @return the list of states sampled.
+     */
+    public static List<State> sample(final Problem problem, final int size, final int length, final long seed) {
+        final Random random = new Random(seed);
+        final List<Action> actions = problem.getActions();
+        final List<State> states = new ArrayList<>(size);
+        final List<Action> applicable = new ArrayList<>();
+        while (states.size() < size) {
+            final State state = new State(problem.getInitialState());
+            states.add(new State(state));
+            for (int i = 0; i < length && states.size() < size; i++) {
+                applicable.clear();
+                for (Action a : actions) {
+                    if (a.isApplicable(state)) {
+                        applicable.add(a);
+                    }
+                }
+                if (applicable.isEmpty()) {
+                    break;
+                }
+                final Action a = applicable.get(random.nextInt(applicable.size()));
+                for (ConditionalEffect ce : a.getConditionalEffects()) {
+                    if (state.satisfy(ce.getCondition())) {
+                        state.apply(ce.getEffect());
+                    }
+                }
+                states.add(new State(state));
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Measures an operation: the operation is run <code>warmup</code> times without measure, then
+     * <code>iterations</code> times. The method returns the average throughput of the measured iterations in elementary
+     * operations per second.
+     *
+     * @param operation  the operation to measure.
+     * @param warmup     the number of warmup iterations.
+     * @param iterations the number of measured iterations.
+     * @return the average throughput in elementary operations per second.
+     */
+    public static double measure(final Operation operation, final int warmup, final int iterations) {
+        long blackhole = 0;
+        for (int i = 0; i < warmup; i++) {
+            blackhole += operation.run();
+        }
+        long ops = 0;
+        final long begin = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            ops += operation.run();
+        }
+        final long time = Math.max(1, System.nanoTime() - begin);
+        if (blackhole == Long.MIN_VALUE) {
+            System.out.print("");
+        }
+        return ops / (time / 1e9);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.benchmarks;
+
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.statespace.search.HDAStar;
+import fr.uga.pddl4j.planners.statespace.search.Node;
+import fr.uga.pddl4j.problem.Problem;
+
+import java.io.FileNotFoundException;
+
+/**
+ * This benchmark measures the scaling of the hash distributed A* search strategy with the number of threads. The
+ * benchmark is run with the admissible MAX heuristic on blocks and depots problems, so that the plans found are optimal
+ * and have the same cost for every number of threads. For each problem and each number of threads, it prints the
+ * searching time, the number of explored nodes, the throughput in explored nodes per second, the speedup over one
+ * thread and the cost of the plan found.
+ *
+ * <p>Command line example:</p>
+ * <pre>
+ * {@code
+ *    java -cp build/libs/pddl4j-4.0-all.jar fr.uga.pddl4j.examples.benchmarks.HDAStarBenchmark
+ * }
+ * </pre>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class HDAStarBenchmark {
+
+    /**
+     * The benchmarks used: pairs of domain and problem files.
+     */
+    private static final String[][] BENCHMARKS = {
+        {"ipc2000/blocks/strips-typed/domain.pddl", "ipc2000/blocks/strips-typed/p004.pddl"},
+        {"ipc2000/blocks/strips-typed/domain.pddl", "ipc2000/blocks/strips-typed/p006.pddl"},
+        {"ipc2000/blocks/strips-typed/domain.pddl", "ipc2000/blocks/strips-typed/p008.pddl"},
+        {"ipc2002/depots/strips-automatic/domain.pddl", "ipc2002/depots/strips-automatic/p01.pddl"},
+        {"ipc2002/depots/strips-automatic/domain.pddl", "ipc2002/depots/strips-automatic/p02.pddl"},
+    };
+
+    /**
+     * The numbers of threads compared.
+     */
+    private static final int[] THREADS = {1, 2, 4, 8, 16};
+
+    /**
+     * The number of warmup runs on the first problem.
+     */
+    private static final int WARMUP = 3;
+
+    /**
+     * The timeout of each run in seconds.
+     */
+    private static final int TIMEOUT = 300;
+
+    /**
+     * Creates a new benchmark. This class cannot be instantiated.
+     */
+    private HDAStarBenchmark() {
+    }
+
+    /**
+     * The main method of the benchmark.
+     *
+     * @param args the arguments of the command line (not used).
+     * @throws FileNotFoundException if a benchmark file does not exist.
+     */
+    public static void main(final String[] args) throws FileNotFoundException {
+        final Problem warmup = Benchmark.load(Benchmark.PDDL_BENCH_DIR + BENCHMARKS[0][0],
+            Benchmark.PDDL_BENCH_DIR + BENCHMARKS[0][1]);
+        for (int i = 0; i < WARMUP && warmup != null; i++) {
+            for (int threads : THREADS) {
+                HDAStarBenchmark.newSearch(threads).searchSolutionNode(warmup);
+            }
+        }
+        System.out.println("problem, threads, time (ms), explored nodes, nodes/s, speedup, plan cost");
+        for (String[] benchmark : BENCHMARKS) {
+            final Problem problem = Benchmark.load(Benchmark.PDDL_BENCH_DIR + benchmark[0],
+                Benchmark.PDDL_BENCH_DIR + benchmark[1]);
+            if (problem == null) {
+                continue;
+            }
+            double reference = 0;
+            for (int threads : THREADS) {
+                final HDAStar search = HDAStarBenchmark.newSearch(threads);
+                final Node solution = search.searchSolutionNode(problem);
+                final double time = Math.max(1, search.getSearchingTime()) / 1e3;
+                if (threads == 1) {
+                    reference = time;
+                }
+                System.out.printf("%s, %d, %.0f, %d, %.0f, %.2f, %.1f%n", benchmark[1], threads, time * 1000,
+                    search.getExploredNodes(), search.getExploredNodes() / time, reference / time,
+                    solution == null ? -1.0 : solution.getCost());
+            }
+        }
+    }
+
+    /**
+     * Creates a new hash distributed A* search with the MAX heuristic.
+     *
+     * @param threads the number of threads of the search.
+     * @return the search.
+     */
+    private static HDAStar newSearch(final int threads) {
+        final HDAStar search = new HDAStar(TIMEOUT, StateHeuristic.Name.MAX, 1.0);
+        search.setNumberOfThreads(threads);
+        return search;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.benchmarks;
+
+import fr.uga.pddl4j.montecarlo.MonteCarloStatistics;
+import fr.uga.pddl4j.montecarlo.MonteCarloTreeSearch;
+import fr.uga.pddl4j.plan.Plan;
+import fr.uga.pddl4j.planners.ProblemNotSupportedException;
+import fr.uga.pddl4j.problem.Problem;
+
+import java.io.FileNotFoundException;
+
+/**
+ * This benchmark compares the evaluation modes of the random walks of the Monte Carlo planner: the per-step mode that
+ * evaluates every node of a walk, the in-place mode that evaluates only the endpoint of a walk and the in-place mode
+ * that also evaluates every few steps. The benchmark is run on the blocks, logistics and gripper problems used by the
+ * performance comparison of the planner. For each problem and each mode, it prints the throughput of the planner in
+ * walks per second and in heuristic evaluations per second, and the length of the plan found.
+ *
+ * <p>Command line example:</p>
+ * <pre>
+ * {@code
+ *    java -cp build/libs/pddl4j-4.0-all.jar fr.uga.pddl4j.examples.benchmarks.MonteCarloWalkBenchmark
+ * }
+ * </pre>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class MonteCarloWalkBenchmark {
+
+    /**
+     * The benchmarks used: pairs of domain and problem files.
+     */
+    private static final String[][] BENCHMARKS = {
+        {"ipc2000/blocks/strips-typed/domain.pddl", "ipc2000/blocks/strips-typed/p001.pddl"},
+        {"ipc2000/blocks/strips-typed/domain.pddl", "ipc2000/blocks/strips-typed/p010.pddl"},
+        {"ipc2000/logistics/strips-typed/domain.pddl", "ipc2000/logistics/strips-typed/p01.pddl"},
+        {"ipc2000/logistics/strips-typed/domain.pddl", "ipc2000/logistics/strips-typed/p06.pddl"},
+        {"ipc1998/gripper/strips/domain.pddl", "ipc1998/gripper/strips/p01.pddl"},
+        {"ipc1998/gripper/strips/domain.pddl", "ipc1998/gripper/strips/p03.pddl"},
+    };
+
+    /**
+     * The evaluation periods compared: per step, endpoint only and every 5 steps.
+     */
+    private static final int[] EVALUATION_PERIODS = {1, 0, 5};
+
+    /**
+     * The timeout of each run in seconds.
+     */
+    private static final int TIMEOUT = 30;
+
+    /**
+     * Creates a new benchmark. This class cannot be instantiated.
+     */
+    private MonteCarloWalkBenchmark() {
+    }
+
+    /**
+     * The main method of the benchmark.
+     *
+     * @param args the arguments of the command line (not used).
+     * @throws FileNotFoundException if a benchmark file does not exist.
+     */
+    public static void main(final String[] args) throws FileNotFoundException {
+        System.out.println("problem, evaluation period, time (ms), walks, walks/s, evaluations, evaluations/s, "
+            + "plan length");
+        for (String[] benchmark : BENCHMARKS) {
+            final Problem problem = Benchmark.load(Benchmark.PDDL_BENCH_DIR + benchmark[0],
+                Benchmark.PDDL_BENCH_DIR + benchmark[1]);
+            if (problem == null) {
+                continue;
+            }
+            for (int period : EVALUATION_PERIODS) {
+                final MonteCarloTreeSearch planner = new MonteCarloTreeSearch();
+                planner.setEvaluationPeriod(period);
+                planner.setTimeout(TIMEOUT);
+                final long begin = System.nanoTime();
+                Plan plan = null;
+                try {
+                    plan = planner.solve(problem);
+                } catch (ProblemNotSupportedException e) {
+                    System.err.printf("%s: %s%n", benchmark[1], e.getMessage());
+                }
+                final double time = Math.max(1, System.nanoTime() - begin) / 1e9;
+                final MonteCarloStatistics statistics = (MonteCarloStatistics) planner.getStatistics();
+                final long walks = statistics.getTotalWalks();
+                final long evaluations = statistics.getEvaluations();
+                System.out.printf("%s, %d, %.0f, %d, %.0f, %d, %.0f, %d%n", benchmark[1], period, time * 1000,
+                    walks, walks / time, evaluations, evaluations / time, plan == null ? -1 : plan.size());
+            }
+        }
+    }
+}
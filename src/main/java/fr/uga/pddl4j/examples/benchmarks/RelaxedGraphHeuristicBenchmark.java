@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.benchmarks;
+
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Condition;
+
+import java.io.FileNotFoundException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * This benchmark measures the evaluation of the heuristics based on the relaxed planning graph, i.e., the
+ * {@link fr.uga.pddl4j.heuristics.state.FastForward}, {@link fr.uga.pddl4j.heuristics.state.Sum} and
+ * {@link fr.uga.pddl4j.heuristics.state.Max} heuristics, on IPC 2000 and IPC 2002 benchmarks. For each problem and each
+ * heuristic, it prints the throughput in evaluations per second and the number of bytes allocated by evaluation, which
+ * is expected to be zero once the evaluation context of the thread is created, and the throughput of the batch
+ * estimate of the states by the heuristic (see {@link StateHeuristic#estimate(List, Condition, int[])}).
+ *
+ * <p>Command line example:</p>
+ * <pre>
+ * {@code
+ *    java -cp build/libs/pddl4j-4.0-all.jar fr.uga.pddl4j.examples.benchmarks.RelaxedGraphHeuristicBenchmark
+ * }
+ * </pre>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class RelaxedGraphHeuristicBenchmark {
+
+    /**
+     * The benchmarks used: pairs of domain and problem files.
+     */
+    private static final String[][] BENCHMARKS = {
+        {"ipc2000/blocks/strips-typed/domain.pddl", "ipc2000/blocks/strips-typed/p011.pddl"},
+        {"ipc2000/logistics/strips-typed/domain.pddl", "ipc2000/logistics/strips-typed/p11.pddl"},
+        {"ipc2000/freecell/strips-typed/domain.pddl", "ipc2000/freecell/strips-typed/p10.pddl"},
+        {"ipc2002/depots/strips-automatic/domain.pddl", "ipc2002/depots/strips-automatic/p10.pddl"},
+        {"ipc2002/driverlog/strips-automatic/domain.pddl", "ipc2002/driverlog/strips-automatic/p10.pddl"},
+        {"ipc2002/satellite/strips-automatic/domain.pddl", "ipc2002/satellite/strips-automatic/p10.pddl"},
+        {"ipc2002/zenotravel/strips-automatic/domain.pddl", "ipc2002/zenotravel/strips-automatic/p10.pddl"},
+    };
+
+    /**
+     * The heuristics compared.
+     */
+    private static final StateHeuristic.Name[] HEURISTICS = {
+        StateHeuristic.Name.FAST_FORWARD,
+        StateHeuristic.Name.SUM,
+        StateHeuristic.Name.MAX,
+    };
+
+    /**
+     * The number of states sampled for each problem.
+     */
+    private static final int SAMPLE_SIZE = 1000;
+
+    /**
+     * Creates a new benchmark. This class cannot be instantiated.
+     */
+    private RelaxedGraphHeuristicBenchmark() {
+    }
+
+    /**
+     * Evaluates a list of states with a heuristic.
+     *
+     * @param heuristic the heuristic.
+     * @param states    the states.
+     * @param goal      the goal.
+     * @return the number of states evaluated.
+     */
+    private static long evaluate(final StateHeuristic heuristic, final List<State> states, final Condition goal) {
+        long sum = 0;
+        for (State state : states) {
+            sum += heuristic.estimate(state, goal);
+        }
+        return sum == Long.MIN_VALUE ? 0 : states.size();
+    }
+
+    /**
+     * Evaluates a list of states at once with the batch estimate of a heuristic.
+     *
+     * @param heuristic the heuristic.
+     * @param states    the states.
+     * @param goal      the goal.
+     * @param values    the array in which the heuristic values are stored.
+     * @return the number of states evaluated.
+     */
+    private static long evaluate(final StateHeuristic heuristic, final List<State> states, final Condition goal,
+                                 final int[] values) {
+        heuristic.estimate(states, goal, values);
+        return values[0] == Integer.MIN_VALUE ? 0 : states.size();
+    }
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread or -1 if the virtual machine does not
+     * support the measure.
+     *
+     * @return the number of bytes allocated by the current thread.
+     */
+    private static long getAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * The main method of the benchmark.
+     *
+     * @param args the arguments of the command line (not used).
+     * @throws FileNotFoundException if a benchmark file does not exist.
+     */
+    public static void main(final String[] args) throws FileNotFoundException {
+        System.out.println("problem, heuristic, actions, fluents, evaluations/s, bytes/evaluation, "
+            + "batch evaluations/s");
+        for (String[] benchmark : BENCHMARKS) {
+            final Problem problem = Benchmark.load(Benchmark.PDDL_BENCH_DIR + benchmark[0],
+                Benchmark.PDDL_BENCH_DIR + benchmark[1]);
+            if (problem == null) {
+                continue;
+            }
+            final List<State> states = Benchmark.sample(problem, SAMPLE_SIZE, 50, 0);
+            final Condition goal = problem.getGoal();
+            final int[] values = new int[states.size()];
+            for (StateHeuristic.Name name : HEURISTICS) {
+                final StateHeuristic heuristic = StateHeuristic.getInstance(name, problem);
+                final double throughput = Benchmark.measure(() -> evaluate(heuristic, states, goal),
+                    Benchmark.DEFAULT_WARMUP_ITERATIONS, Benchmark.DEFAULT_MEASURED_ITERATIONS);
+                final long before = RelaxedGraphHeuristicBenchmark.getAllocatedBytes();
+                RelaxedGraphHeuristicBenchmark.evaluate(heuristic, states, goal);
+                final long allocated = RelaxedGraphHeuristicBenchmark.getAllocatedBytes() - before;
+                final double batch = Benchmark.measure(() -> evaluate(heuristic, states, goal, values),
+                    Benchmark.DEFAULT_WARMUP_ITERATIONS, Benchmark.DEFAULT_MEASURED_ITERATIONS);
+                System.out.printf("%s, %s, %d, %d, %.0f, %.1f, %.0f%n", benchmark[1], name,
+                    problem.getActions().size(), problem.getFluents().size(), throughput,
+                    before < 0 ? -1.0 : (double) allocated / states.size(), batch);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify * it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License * along with PDDL4J.  If not,
+ * see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.examples.benchmarks;
+
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.io.FileNotFoundException;
+import java.util.List;
+
+/**
+ * This benchmark compares the successor generation with the allocation-free inclusion test of
+ * {@link State#satisfy(Condition)} and with the former inclusion test that copied the state, applied a logical
+ * <b>OR</b> and compared the copy to the state. The benchmark is run on the IPC 1998 gripper and the IPC 2000
+ * logistics benchmarks. The linear scans are also compared with the decision tree of {@link SuccessorGenerator}. For
+ * each problem, it prints the throughput of the three versions in successors per second.
+ *
+ * <p>Command line example:</p>
+ * <pre>
+ * {@code
+ *    java -cp build/libs/pddl4j-4.0-all.jar fr.uga.pddl4j.examples.benchmarks.SuccessorGenerationBenchmark
+ * }
+ * </pre>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class SuccessorGenerationBenchmark {
+
+    /**
+     * The benchmarks used: pairs of domain and problem files.
+     */
+    private static final String[][] BENCHMARKS = {
+        {"ipc1998/gripper/strips/domain.pddl", "ipc1998/gripper/strips/p01.pddl"},
+        {"ipc1998/gripper/strips/domain.pddl", "ipc1998/gripper/strips/p02.pddl"},
+        {"ipc1998/gripper/strips/domain.pddl", "ipc1998/gripper/strips/p03.pddl"},
+        {"ipc2000/logistics/strips-typed/domain.pddl", "ipc2000/logistics/strips-typed/p01.pddl"},
+        {"ipc2000/logistics/strips-typed/domain.pddl", "ipc2000/logistics/strips-typed/p06.pddl"},
+        {"ipc2000/logistics/strips-typed/domain.pddl", "ipc2000/logistics/strips-typed/p11.pddl"},
+    };
+
+    /**
+     * The number of states sampled for each problem.
+     */
+    private static final int SAMPLE_SIZE = 1000;
+
+    /**
+     * Creates a new benchmark. This class cannot be instantiated.
+     */
+    private SuccessorGenerationBenchmark() {
+    }
+
+    /**
+     * Generates the successors of a list of states using the allocation-free inclusion test.
+     *
+     * @param problem the problem.
+     * @param states  the states.
+     * @return the number of successors generated.
+     */
+    private static long generate(final Problem problem, final List<State> states) {
+        long successors = 0;
+        for (State state : states) {
+            for (Action a : problem.getActions()) {
+                if (a.isApplicable(state)) {
+                    final State next = new State(state);
+                    for (ConditionalEffect ce : a.getConditionalEffects()) {
+                        if (state.satisfy(ce.getCondition())) {
+                            next.apply(ce.getEffect());
+                        }
+                    }
+                    successors++;
+                }
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Generates the successors of a list of states using the successor generator of the problem.
+     *
+     * @param problem the problem.
+     * @param states  the states.
+     * @return the number of successors generated.
+     */
+    private static long generateWithTree(final Problem problem, final List<State> states) {
+        final SuccessorGenerator generator = problem.getSuccessorGenerator();
+        final int[] applicable = new int[generator.size()];
+        long successors = 0;
+        for (State state : states) {
+            final int count = generator.getApplicableActions(state, applicable);
+            for (int i = 0; i < count; i++) {
+                final Action a = problem.getActions().get(applicable[i]);
+                final State next = new State(state);
+                for (ConditionalEffect ce : a.getConditionalEffects()) {
+                    if (state.satisfy(ce.getCondition())) {
+                        next.apply(ce.getEffect());
+                    }
+                }
+                successors++;
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Generates the successors of a list of states using the former inclusion test based on a copy of the state.
+     *
+     * @param problem the problem.
+     * @param states  the states.
+     * @return the number of successors generated.
+     */
+    private static long generateWithCopy(final Problem problem, final List<State> states) {
+        long successors = 0;
+        for (State state : states) {
+            for (Action a : problem.getActions()) {
+                if (SuccessorGenerationBenchmark.satisfyWithCopy(state, a.getPrecondition())) {
+                    final State next = new State(state);
+                    for (ConditionalEffect ce : a.getConditionalEffects()) {
+                        if (SuccessorGenerationBenchmark.satisfyWithCopy(state, ce.getCondition())) {
+                            next.apply(ce.getEffect());
+                        }
+                    }
+                    successors++;
+                }
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * The former implementation of the satisfaction test of a condition.
+     *
+     * @param state     the state.
+     * @param condition the condition.
+     * @return <code>true</code> if the state satisfies the condition; <code>false</code> otherwise.
+     */
+    private static boolean satisfyWithCopy(final State state, final Condition condition) {
+        final BitVector copy = new BitVector(state);
+        copy.or(condition.getPositiveFluents());
+        return copy.equals(state) && !state.intersects(condition.getNegativeFluents());
+    }
+
+    /**
+     * The main method of the benchmark.
+     *
+     * @param args the arguments of the command line (not used).
+     * @throws FileNotFoundException if a benchmark file does not exist.
+     */
+    public static void main(final String[] args) throws FileNotFoundException {
+        System.out.println("problem, actions, fluents, nodes, copy (succ/s), kernel (succ/s), tree (succ/s), "
+            + "kernel speedup, tree speedup");
+        for (String[] benchmark : BENCHMARKS) {
+            final Problem problem = Benchmark.load(Benchmark.PDDL_BENCH_DIR + benchmark[0],
+                Benchmark.PDDL_BENCH_DIR + benchmark[1]);
+            if (problem == null) {
+                continue;
+            }
+            final List<State> states = Benchmark.sample(problem, SAMPLE_SIZE, 50, 0);
+            final double copy = Benchmark.measure(() -> generateWithCopy(problem, states),
+                Benchmark.DEFAULT_WARMUP_ITERATIONS, Benchmark.DEFAULT_MEASURED_ITERATIONS);
+            final double kernel = Benchmark.measure(() -> generate(problem, states),
+                Benchmark.DEFAULT_WARMUP_ITERATIONS, Benchmark.DEFAULT_MEASURED_ITERATIONS);
+            final double tree = Benchmark.measure(() -> generateWithTree(problem, states),
+                Benchmark.DEFAULT_WARMUP_ITERATIONS, Benchmark.DEFAULT_MEASURED_ITERATIONS);
+            System.out.printf("%s, %d, %d, %d, %.0f, %.0f, %.0f, %.2f, %.2f%n", benchmark[1],
+                problem.getActions().size(), problem.getFluents().size(),
+                problem.getSuccessorGenerator().getNumberOfNodes(), copy, kernel, tree, kernel / copy, tree / copy);
+        }
+    }
+}
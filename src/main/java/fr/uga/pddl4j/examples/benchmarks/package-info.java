@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify * it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License * along with PDDL4J.  If not,
+ * see <http://www.gnu.org/licenses/>
+ */
+
+/**
+ * This package contains micro-benchmarks of the library. Each benchmark is a main class that runs a warmup phase and a
+ * measurement phase on IPC benchmarks of the test resources and prints its results in CSV format.
+ */
+package fr.uga.pddl4j.examples.benchmarks;
@@ -88,7 +88,7 @@ public abstract class AbstractStateHeuristic extends AbstractHeuristic implement
      *
      * @return the goal.
      */
-    protected final Condition getGoal() {
+    protected Condition getGoal() {
         return this.goal;
     }
 
@@ -90,6 +90,16 @@ public final class AjustedSum2M extends RelaxedGraphHeuristic {
             + (this.delta.estimate(state, goal) - super.getMaxValue()) : Integer.MAX_VALUE;
     }
 
+    /**
+     * Returns <code>false</code>: the set level heuristic used internally is not thread safe.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Return the estimated distance to the goal to reach the specified state. If the return value is
      * <code>DOUBLE.MAX_VALUE</code>, it means that the goal is unreachable from the specified
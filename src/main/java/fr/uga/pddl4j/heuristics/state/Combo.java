@@ -83,6 +83,16 @@ public final class Combo extends RelaxedGraphHeuristic {
         return super.isGoalReachable() ? this.getSumValue() + this.delta.estimate(state, goal) : Integer.MAX_VALUE;
     }
 
+    /**
+     * Returns <code>false</code>: the set level heuristic used internally is not thread safe.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Return the estimated distance to the goal to reach the specified state. If the return value is
      * <code>DOUBLE.MAX_VALUE</code>, it means that the goal is unreachable from the specified
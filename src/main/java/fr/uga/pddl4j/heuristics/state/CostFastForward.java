@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.heuristics.state;
+
+import fr.uga.pddl4j.planners.statespace.search.Node;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.util.BitVector;
+
+/**
+ * This class implements the relaxed plan heuristic of the fast forward planner taking into account the cost of the
+ * actions. The costs of the atoms are first computed with the additive heuristic (see {@link CostSum}). The relaxed
+ * plan is then made of the cheapest achiever of each goal, called its best supporter, and recursively of the best
+ * supporters of the preconditions of the actions of the relaxed plan. Each action is counted once: the heuristic
+ * value is the sum of the costs of the actions of the relaxed plan. With unit costs, the value is the number of actions
+ * of the relaxed plan, as for the {@link FastForward} heuristic.
+ * <p>
+ * The helpful actions of a state are the actions of the relaxed plan applicable in the state.
+ * </p>
+ * <b>Warning:</b> The relaxed plan heuristic is not admissible.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ * @see RelaxedGraphHeuristic
+ */
+public final class CostFastForward extends RelaxedGraphHeuristic {
+
+    /**
+     * Creates a new relaxed plan heuristic taking into account the cost of the actions for a specified planning
+     * problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public CostFastForward(final Problem problem) {
+        super(problem);
+        super.setAdmissible(false);
+    }
+
+    /**
+     * Return the estimated cost to reach the goal from the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified state.
+     *
+     * @param state the state from which the cost to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the estimated cost to reach the goal from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null</code>.
+     */
+    @Override
+    public int estimate(final State state, final Condition goal) {
+        super.setGoal(goal);
+        super.propagateCosts(state, true);
+        return super.isGoalReachable() ? super.getRelaxedPlanCostValue(null) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Return the estimated cost to reach the goal from the specified state and collects the helpful actions of the
+     * state, i.e., the actions of the relaxed plan applicable in the state. The bit vector is cleared before the
+     * indexes of the helpful actions are set. If the return value is <code>Integer.MAX_VALUE</code>, it means that the
+     * goal is unreachable from the specified state and no action is helpful.
+     *
+     * @param state   the state from which the cost to the goal must be estimated.
+     * @param goal    the goal expression.
+     * @param helpful the bit vector in which the indexes of the helpful actions are set.
+     * @return the estimated cost to reach the goal from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null &#38;&#38; helpful == null</code>.
+     */
+    public int estimate(final State state, final Condition goal, final BitVector helpful) {
+        helpful.clear();
+        super.setGoal(goal);
+        super.propagateCosts(state, true);
+        return super.isGoalReachable() ? super.getRelaxedPlanCostValue(helpful) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Return the estimated cost to reach the goal from the specified node. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified node.
+     *
+     * @param node the node from which the cost to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the estimated cost to reach the goal from the specified node.
+     */
+    @Override
+    public double estimate(final Node node, final Condition goal) {
+        return this.estimate((State) node, goal);
+    }
+
+}
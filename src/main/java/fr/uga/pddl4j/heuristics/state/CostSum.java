@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.heuristics.state;
+
+import fr.uga.pddl4j.planners.statespace.search.Node;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Condition;
+
+/**
+ * This class implements the additive heuristic taking into account the cost of the actions (for more details on this
+ * heuristic see Blai Bonet and Hector Geffner, Planning as Heuristic Search, Artificial Intelligence 129, 2001,
+ * Elsevier).
+ * <p>
+ * The cost of achieving an atom <i>p</i> from the state <i>s</i> is noted <i>gs(p)</i>:
+ * </p>
+ * <ul>
+ * <li> <i>gs(p)</i> = 0, if <i>p</i> is in <i>s</i>,
+ * <li> <i>gs(p)</i> = min[cost(op) + <i>gs(Prec(op))]</i> for each <i>op</i> in <i>O(p)</i>, otherwise
+ * </ul>
+ * <p>where the cost <i>gs(C)</i> of a set of atoms is the sum of the costs of its atoms. Unlike the {@link Sum}
+ * heuristic, which sums the levels of the goals in the relaxed planning graph, the costs are computed with the
+ * generalized Dijkstra algorithm of {@link RelaxedGraphHeuristic#propagateCosts(State, boolean)}.
+ * </p>
+ * <b>Warning:</b> The additive heuristic is not admissible.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ * @see RelaxedGraphHeuristic
+ */
+public final class CostSum extends RelaxedGraphHeuristic {
+
+    /**
+     * Creates a new additive heuristic taking into account the cost of the actions for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public CostSum(final Problem problem) {
+        super(problem);
+        super.setAdmissible(false);
+    }
+
+    /**
+     * Return the estimated cost to reach the goal from the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified state.
+     *
+     * @param state the state from which the cost to the goal must be estimated.
+     * @param goal  the goal expression.
+     * @return the estimated cost to reach the goal from the specified state or <code>Integer.MAX_VALUE</code> if the
+     *     goal is unreachable from the specified state.
+     * @throws NullPointerException if <code>state == null</code>.
+     */
+    @Override
+    public int estimate(final State state, final Condition goal) {
+        super.setGoal(goal);
+        super.propagateCosts(state, true);
+        return super.isGoalReachable() ? super.getAdditiveCostValue() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Return the estimated cost to reach the goal from the specified node. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified node.
+     *
+     * @param node the node from which the cost to the goal must be estimated.
+     * @param goal the goal expression.
+     * @return the estimated cost to reach the goal from the specified node.
+     */
+    @Override
+    public double estimate(final Node node, final Condition goal) {
+        return this.estimate((State) node, goal);
+    }
+
+}
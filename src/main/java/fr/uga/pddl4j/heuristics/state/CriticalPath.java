@@ -197,6 +197,16 @@ public final class CriticalPath extends RelaxedGraphHeuristic {
         return super.isGoalReachable() ? critical : Integer.MAX_VALUE;
     }
 
+    /**
+     * Returns <code>false</code>: the heuristic stores its working sets in instance fields.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Return the estimated distance to the goal to reach the specified state. If the return value is
      * <code>DOUBLE.MAX_VALUE</code>, it means that the goal is unreachable from the specified
@@ -23,6 +23,7 @@ import fr.uga.pddl4j.planners.statespace.search.Node;
 import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
 import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.util.BitVector;
 
 /**
  * This class implements the heuristics of the fast forward planner. For more about this
@@ -53,7 +54,7 @@ import fr.uga.pddl4j.problem.operator.Condition;
  * @version 1.0 - 20.08.2010
  * @see RelaxedGraphHeuristic
  */
-public final class FastForward extends RelaxedGraphHeuristic {
+public final class FastForward extends RelaxedGraphHeuristic implements IncrementalStateHeuristic {
 
     /**
      * Creates a new <code>FF</code> heuristic for a specified planning problem.
@@ -83,6 +84,49 @@ public final class FastForward extends RelaxedGraphHeuristic {
         return super.isGoalReachable() ? super.getRelaxedPlanValue() : Integer.MAX_VALUE;
     }
 
+    /**
+     * Return the estimated distance to the goal to reach the specified state and collects the helpful actions of the
+     * state, i.e., the applicable actions achieving a goal of the first level of the relaxed plan. The bit vector is
+     * cleared before the indexes of the helpful actions are set. If the return value is <code>Integer.MAX_VALUE</code>,
+     * it means that the goal is unreachable from the specified state and no action is helpful.
+     *
+     * @param state   the state from which the distance to the goal must be estimated.
+     * @param goal    the goal expression.
+     * @param helpful the bit vector in which the indexes of the helpful actions are set.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null &#38;&#38; goal == null &#38;&#38; helpful == null</code>.
+     */
+    public int estimate(final State state, final Condition goal, final BitVector helpful) {
+        helpful.clear();
+        super.setGoal(goal);
+        super.expandRelaxedPlanningGraph(state);
+        return super.isGoalReachable() ? super.getRelaxedPlanValue(helpful) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Return the estimated distance to the goal of a state from the fixpoint of the relaxed planning graph of its
+     * parent. Only the levels of the graph depending on the relevant facts changed between the parent and the state are
+     * repaired and the fixpoint is restored before the method returns. The value returned is the one of
+     * {@link #estimate(State, Condition)}.
+     *
+     * @param state    the state from which the distance to the goal must be estimated.
+     * @param goal     the goal expression.
+     * @param parent   the parent of the state.
+     * @param fixpoint the fixpoint of the relaxed planning graph of the parent.
+     * @return the distance to the goal state from the specified state or <code>Integer.MAX_VALUE</code> if the goal is
+     * unreachable from the specified state.
+     */
+    @Override
+    public int estimate(final State state, final Condition goal, final State parent, final Fixpoint fixpoint) {
+        super.setGoal(goal);
+        super.repairRelaxedPlanningGraph(parent, fixpoint, state);
+        try {
+            return super.isGoalReachable() ? super.getRelaxedPlanValue() : Integer.MAX_VALUE;
+        } finally {
+            super.restoreRelaxedPlanningGraph();
+        }
+    }
+
     /**
      * Return the estimated distance to the goal to reach the specified state. If the return value is
      * <code>DOUBLE.MAX_VALUE</code>, it means that the goal is unreachable from the specified
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.heuristics.state;
+
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Condition;
+
+/**
+ * This interface defines the heuristics able to evaluate a state incrementally from the relaxed planning graph of its
+ * parent. The levels of the graph of the parent are kept in a {@link RelaxedGraphHeuristic.Fixpoint} and only the
+ * levels depending on the relevant facts changed by the action applied are repaired to evaluate a successor. The value
+ * computed is the one of {@link #estimate(State, Condition)}.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ * @see RelaxedGraphHeuristic
+ */
+public interface IncrementalStateHeuristic extends StateHeuristic {
+
+    /**
+     * Creates an empty fixpoint of the relaxed planning graph of the problem.
+     *
+     * @return an empty fixpoint of the relaxed planning graph.
+     */
+    RelaxedGraphHeuristic.Fixpoint createFixpoint();
+
+    /**
+     * Computes the fixpoint of the relaxed planning graph of a specified state.
+     *
+     * @param state    the state.
+     * @param fixpoint the fixpoint in which the levels are stored.
+     */
+    void computeFixpoint(final State state, final RelaxedGraphHeuristic.Fixpoint fixpoint);
+
+    /**
+     * Updates the fixpoint of the relaxed planning graph of a state into the fixpoint of the graph of another state.
+     *
+     * @param from     the state of the fixpoint.
+     * @param fixpoint the fixpoint of the state <code>from</code>.
+     * @param to       the state whose fixpoint is computed.
+     */
+    void repairFixpoint(final State from, final RelaxedGraphHeuristic.Fixpoint fixpoint, final State to);
+
+    /**
+     * Returns the estimated distance to the goal of a state from the fixpoint of the relaxed planning graph of its
+     * parent. The fixpoint is repaired for the state and restored before the method returns.
+     *
+     * @param state    the state from which the distance to the goal must be estimated.
+     * @param goal     the goal expression.
+     * @param parent   the parent of the state.
+     * @param fixpoint the fixpoint of the relaxed planning graph of the parent.
+     * @return the distance to the goal state from the specified state or <code>Integer.MAX_VALUE</code> if the goal is
+     * unreachable from the specified state.
+     */
+    int estimate(final State state, final Condition goal, final State parent,
+                 final RelaxedGraphHeuristic.Fixpoint fixpoint);
+
+    /**
+     * Returns the number of literals, i.e., of relevant facts or negations of relevant facts, whose level was modified
+     * by the last incremental estimation done by the calling thread.
+     *
+     * @return the number of literals touched by the last incremental estimation.
+     */
+    int getTouchedLiterals();
+
+}
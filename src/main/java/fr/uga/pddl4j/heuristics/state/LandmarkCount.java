@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.heuristics.state;
+
+import fr.uga.pddl4j.planners.statespace.search.Node;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.problem.operator.Effect;
+import fr.uga.pddl4j.util.BitVector;
+
+/**
+ * This class implements the landmark count heuristic (for more details on this heuristic see S. Richter and M.
+ * Westphal, The LAMA Planner: Guiding Cost-Based Anytime Planning with Landmarks, JAIR 39, 2010).
+ * <p>
+ * The landmarks of the problem and their orderings are extracted once when the heuristic is created (see
+ * {@link LandmarkGraph}). The value of a state is the number of landmarks not accepted yet plus the number of
+ * accepted landmarks of the goal that are false in the state and must be achieved again. The landmarks accepted in a
+ * state depend on the path that reaches it: the accepted landmarks of a state are the accepted landmarks of its
+ * parent and the landmarks achieved by the action applied to the parent whose ordered predecessors are accepted in
+ * the parent. The search strategies that keep the accepted landmarks of their nodes call
+ * {@link #estimate(State, Condition, State, Action, AcceptedLandmarks, AcceptedLandmarks)}, which only looks at the
+ * relevant facts changed by the action: the cost of an estimate is linear in the number of effects of the action, plus
+ * the copy of the accepted landmarks of the parent, instead of the number of landmarks. Without the parent,
+ * {@link #estimate(State, Condition)} accepts the landmarks true in the state and their ordered predecessors.
+ * </p>
+ * <b>Warning:</b> The landmark count heuristic is not admissible. The landmarks are extracted for the goal of the
+ * problem: the goal given to the estimate methods must be the goal of the problem.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ * @see LandmarkGraph
+ */
+public final class LandmarkCount extends AbstractStateHeuristic {
+
+    /**
+     * The landmark graph of the problem.
+     */
+    private final LandmarkGraph graph;
+
+    /**
+     * The accepted landmarks computed by each thread without the parent of the state.
+     */
+    private final ThreadLocal<AcceptedLandmarks> accepted;
+
+    /**
+     * The relevant facts already visited by each thread while the accepted landmarks of a state are updated. The
+     * vector is cleared after each update.
+     */
+    private final ThreadLocal<BitVector> visited;
+
+    /**
+     * This class implements the accepted landmarks of a state and the number of landmarks that remain to be achieved
+     * in the state, i.e., the landmarks not accepted yet and the accepted landmarks of the goal that are false in the
+     * state.
+     */
+    public static final class AcceptedLandmarks {
+
+        /**
+         * The accepted landmarks.
+         */
+        private final BitVector landmarks;
+
+        /**
+         * The number of landmarks that remain to be achieved.
+         */
+        private int count;
+
+        /**
+         * Creates new accepted landmarks with no landmark accepted.
+         *
+         * @param size the number of landmarks of the landmark graph.
+         */
+        private AcceptedLandmarks(final int size) {
+            this.landmarks = new BitVector(size);
+            this.count = 0;
+        }
+
+        /**
+         * Returns the accepted landmarks. The returned vector must not be modified.
+         *
+         * @return the accepted landmarks.
+         */
+        public BitVector getLandmarks() {
+            return this.landmarks;
+        }
+
+        /**
+         * Returns the number of landmarks that remain to be achieved.
+         *
+         * @return the number of landmarks that remain to be achieved.
+         */
+        public int getCount() {
+            return this.count;
+        }
+    }
+
+    /**
+     * Creates a new landmark count heuristic for a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public LandmarkCount(final Problem problem) {
+        super(problem);
+        super.setAdmissible(false);
+        this.graph = new LandmarkGraph(problem);
+        this.accepted = ThreadLocal.withInitial(this::createAcceptedLandmarks);
+        this.visited = ThreadLocal.withInitial(() -> new BitVector(this.graph.getNumberOfRelevantFacts()));
+    }
+
+    /**
+     * Returns the landmark graph of the heuristic.
+     *
+     * @return the landmark graph of the heuristic.
+     */
+    public LandmarkGraph getLandmarkGraph() {
+        return this.graph;
+    }
+
+    /**
+     * Returns <code>true</code>: the landmark graph is never modified after the construction of the heuristic and
+     * each thread uses its own accepted landmarks.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    /**
+     * Creates new accepted landmarks for the landmark graph of the heuristic.
+     *
+     * @return the new accepted landmarks.
+     */
+    public AcceptedLandmarks createAcceptedLandmarks() {
+        return new AcceptedLandmarks(this.graph.size());
+    }
+
+    /**
+     * Computes the landmarks accepted in a state without its parent: the landmarks true in the state and their ordered
+     * predecessors are accepted. The accepted landmarks of the initial state of the problem are the same as the ones
+     * of the root node of a search.
+     *
+     * @param state    the state.
+     * @param accepted the accepted landmarks in which the accepted landmarks of the state are stored.
+     */
+    public void accept(final State state, final AcceptedLandmarks accepted) {
+        final BitVector landmarks = accepted.landmarks;
+        landmarks.clear();
+        for (int lm = 0; lm < this.graph.size(); lm++) {
+            if (this.graph.isTrue(state, this.graph.getLiteral(lm))) {
+                landmarks.set(lm);
+                landmarks.or(this.graph.getOrderings(lm));
+            }
+        }
+        int count = this.graph.size() - landmarks.cardinality();
+        final int[] goals = this.graph.getGoals();
+        final int[] goalLandmarks = this.graph.getGoalLandmarks();
+        for (int i = 0; i < goals.length; i++) {
+            if (!this.graph.isTrue(state, goals[i]) && (goalLandmarks[i] == -1 || landmarks.get(goalLandmarks[i]))) {
+                count++;
+            }
+        }
+        accepted.count = count;
+    }
+
+    /**
+     * Computes the landmarks accepted in a state from the accepted landmarks of its parent: the accepted landmarks of
+     * the parent are kept and a landmark achieved by the action, i.e., false in the parent and true in the state, is
+     * accepted if all its ordered predecessors are accepted in the parent. Only the relevant facts changed by the
+     * effects of the action are visited.
+     *
+     * @param state       the state.
+     * @param parentState the state of the parent.
+     * @param action      the action applied to the parent to reach the state.
+     * @param parent      the accepted landmarks of the parent of the state.
+     * @param accepted    the accepted landmarks in which the accepted landmarks of the state are stored. They must
+     *                    differ from the accepted landmarks of the parent.
+     */
+    public void accept(final State state, final State parentState, final Action action, final AcceptedLandmarks parent,
+                       final AcceptedLandmarks accepted) {
+        accepted.landmarks.clear();
+        accepted.landmarks.or(parent.landmarks);
+        int count = parent.count;
+        final BitVector visited = this.visited.get();
+        for (ConditionalEffect ce : action.getConditionalEffects()) {
+            final Effect effect = ce.getEffect();
+            count += this.accept(state, parentState, effect.getPositiveFluents(), parent, accepted, visited);
+            count += this.accept(state, parentState, effect.getNegativeFluents(), parent, accepted, visited);
+        }
+        for (ConditionalEffect ce : action.getConditionalEffects()) {
+            visited.andNot(ce.getEffect().getPositiveFluents());
+            visited.andNot(ce.getEffect().getNegativeFluents());
+        }
+        accepted.count = count;
+    }
+
+    /**
+     * Updates the accepted landmarks of a state with a set of relevant facts of the effects of the action applied to
+     * its parent. A relevant fact is only taken into account if its value differs in the state and in its parent,
+     * whether the condition of the effect holds or another effect changed it, and if it was not visited before.
+     *
+     * @param state       the state.
+     * @param parentState the state of the parent.
+     * @param fluents     the relevant facts of an effect of the action.
+     * @param parent      the accepted landmarks of the parent of the state.
+     * @param accepted    the accepted landmarks of the state.
+     * @param visited     the relevant facts already visited.
+     * @return the variation of the number of landmarks that remain to be achieved.
+     */
+    private int accept(final State state, final State parentState, final BitVector fluents,
+                       final AcceptedLandmarks parent, final AcceptedLandmarks accepted, final BitVector visited) {
+        final int nbRelevantFacts = this.graph.getNumberOfRelevantFacts();
+        int delta = 0;
+        for (int p = fluents.nextSetBit(0); p >= 0; p = fluents.nextSetBit(p + 1)) {
+            final boolean value = state.get(p);
+            if (value == parentState.get(p) || visited.get(p)) {
+                continue;
+            }
+            visited.set(p);
+            final int achieved = value ? p : nbRelevantFacts + p;
+            final int deleted = value ? nbRelevantFacts + p : p;
+            final int lm = this.graph.getLandmark(achieved);
+            if (lm != -1 && !parent.landmarks.get(lm) && parent.landmarks.contains(this.graph.getOrderings(lm))) {
+                accepted.landmarks.set(lm);
+                delta--;
+            }
+            // A goal false in the parent and counted as a goal to achieve again is now achieved
+            if (this.graph.isGoal(achieved) && (lm == -1 || parent.landmarks.get(lm))) {
+                delta--;
+            }
+            // A goal true in the parent must be achieved again if its landmark is accepted. The literal is false in
+            // the state, so its landmark cannot be accepted by the action.
+            final int other = this.graph.getLandmark(deleted);
+            if (this.graph.isGoal(deleted) && (other == -1 || parent.landmarks.get(other))) {
+                delta++;
+            }
+        }
+        return delta;
+    }
+
+    /**
+     * Return the estimated distance to the goal from a state whose accepted landmarks are known.
+     *
+     * @param state    the state.
+     * @param goal     the goal of the problem.
+     * @param accepted the accepted landmarks of the state.
+     * @return the estimated distance to the goal or <code>Integer.MAX_VALUE</code> if the goal is unreachable.
+     */
+    private int count(final State state, final Condition goal, final AcceptedLandmarks accepted) {
+        if (!this.graph.isReachable()) {
+            return Integer.MAX_VALUE;
+        }
+        if (state.satisfy(goal)) {
+            return 0;
+        }
+        return accepted.count;
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified state. The accepted
+     * landmarks of the state are computed without its parent (see {@link #accept(State, AcceptedLandmarks)}).
+     *
+     * @param state the state from which the distance to the goal must be estimated.
+     * @param goal  the goal of the problem.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null</code>.
+     */
+    @Override
+    public int estimate(final State state, final Condition goal) {
+        final AcceptedLandmarks accepted = this.accepted.get();
+        this.accept(state, accepted);
+        return this.count(state, goal, accepted);
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified state from the accepted landmarks of its
+     * parent. The accepted landmarks of the state are stored in the specified accepted landmarks (see
+     * {@link #accept(State, State, Action, AcceptedLandmarks, AcceptedLandmarks)}). If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified state.
+     *
+     * @param state       the state from which the distance to the goal must be estimated.
+     * @param goal        the goal of the problem.
+     * @param parentState the state of the parent.
+     * @param action      the action applied to the parent to reach the state.
+     * @param parent      the accepted landmarks of the parent of the state.
+     * @param accepted    the accepted landmarks in which the accepted landmarks of the state are stored.
+     * @return the distance to the goal state from the specified state.
+     * @throws NullPointerException if <code>state == null</code>.
+     */
+    public int estimate(final State state, final Condition goal, final State parentState, final Action action,
+                        final AcceptedLandmarks parent, final AcceptedLandmarks accepted) {
+        this.accept(state, parentState, action, parent, accepted);
+        return this.count(state, goal, accepted);
+    }
+
+    /**
+     * Return the estimated distance to the goal to reach the specified node. If the return value is
+     * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified node.
+     *
+     * @param node the node from which the distance to the goal must be estimated.
+     * @param goal the goal of the problem.
+     * @return the distance to the goal state from the specified node.
+     */
+    @Override
+    public double estimate(final Node node, final Condition goal) {
+        return this.estimate((State) node, goal);
+    }
+
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.heuristics.state;
+
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.problem.operator.Effect;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements the landmark graph of a planning problem. A landmark is a literal, i.e., a relevant fact or the
+ * negation of a relevant fact, that must be true at some point of every plan. The landmarks are extracted once from
+ * the delete relaxation of the problem with the label propagation of Zhu and Givan (L. Zhu and R. Givan, Landmark
+ * Extraction via Planning Graph Propagation, ICAPS Doctoral Consortium, 2003): the label of a literal true in the
+ * initial state is the literal itself and the label of any other literal <i>l</i> is
+ * <ul>
+ * <li> <i>LM(l)</i> = {<i>l</i>} &cup; &cap;<sub><i>op</i> &isin; <i>O(l)</i></sub> &cup;<sub><i>q</i> &isin;
+ * <i>Prec(op)</i></sub> <i>LM(q)</i>,
+ * </ul>
+ * <p>where <i>O(l)</i> is the set of the operators reached that achieve <i>l</i>. The labels are computed by a
+ * fixpoint over the operators and each literal of the label of a goal is a landmark. A literal <i>q</i> of the label
+ * of a landmark <i>l</i> must be true before <i>l</i> is first achieved: the graph records these orderings.</p>
+ *
+ * <p>The landmarks true in the initial state are accepted at the start of every plan and are not part of the graph,
+ * except when they are goals, which is recorded separately. The landmarks are numbered from 0 in the increasing order
+ * of their literals: the literal of a positive fact <i>p</i> is <i>p</i> and the literal of its negation is
+ * <i>n</i> + <i>p</i>, where <i>n</i> is the number of relevant facts. The graph is never modified after its
+ * construction.</p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ * @see LandmarkCount
+ */
+public final class LandmarkGraph {
+
+    /**
+     * The number of relevant facts of the problem.
+     */
+    private final int nbRelevantFacts;
+
+    /**
+     * The literal of each landmark.
+     */
+    private final int[] landmarks;
+
+    /**
+     * The landmarks ordered before each landmark.
+     */
+    private final BitVector[] orderings;
+
+    /**
+     * The landmark of each literal or -1 if the literal is not a landmark.
+     */
+    private final int[] landmarkOfLiterals;
+
+    /**
+     * The literals of the goal.
+     */
+    private final int[] goals;
+
+    /**
+     * The literals of the goal as a set of literals.
+     */
+    private final BitVector goalLiterals;
+
+    /**
+     * The landmark of each literal of the goal or -1 if the literal is true in the initial state.
+     */
+    private final int[] goalLandmarks;
+
+    /**
+     * The flag used to indicate if the goal is reachable from the initial state in the relaxed problem.
+     */
+    private final boolean reachable;
+
+    /**
+     * Creates the landmark graph of a specified planning problem.
+     *
+     * @param problem the planning problem.
+     * @throws NullPointerException if <code>problem == null</code>.
+     */
+    public LandmarkGraph(final Problem problem) {
+        this.nbRelevantFacts = problem.getFluents().size();
+        final int nbLiterals = 2 * this.nbRelevantFacts;
+        // Enumerate the unconditional operators of the problem
+        final List<Action> actions = problem.getActions();
+        int nbOperators = 0;
+        for (Action a : actions) {
+            nbOperators += a.getConditionalEffects().size();
+        }
+        final int[][] preconditions = new int[nbOperators][];
+        final int[][] effects = new int[nbOperators][];
+        final int[] nbConsumers = new int[nbLiterals];
+        int o = 0;
+        for (Action a : actions) {
+            for (ConditionalEffect ce : a.getConditionalEffects()) {
+                final Condition pre = new Condition(a.getPrecondition());
+                pre.getPositiveFluents().or(ce.getCondition().getPositiveFluents());
+                pre.getNegativeFluents().or(ce.getCondition().getNegativeFluents());
+                preconditions[o] = this.toLiterals(pre.getPositiveFluents(), pre.getNegativeFluents());
+                final Effect effect = ce.getEffect();
+                effects[o] = this.toLiterals(effect.getPositiveFluents(), effect.getNegativeFluents());
+                for (int q : preconditions[o]) {
+                    nbConsumers[q]++;
+                }
+                o++;
+            }
+        }
+        // The operators having each literal as precondition
+        final int[][] consumers = new int[nbLiterals][];
+        for (int l = 0; l < nbLiterals; l++) {
+            consumers[l] = new int[nbConsumers[l]];
+            nbConsumers[l] = 0;
+        }
+        for (o = 0; o < nbOperators; o++) {
+            for (int q : preconditions[o]) {
+                consumers[q][nbConsumers[q]++] = o;
+            }
+        }
+
+        // The labels of the literals true in the initial state contain only the literal
+        final BitVector init = problem.getInitialState().getPositiveFluents();
+        final BitVector[] labels = new BitVector[nbLiterals];
+        for (int p = 0; p < this.nbRelevantFacts; p++) {
+            final int l = init.get(p) ? p : this.nbRelevantFacts + p;
+            labels[l] = new BitVector(nbLiterals);
+            labels[l].set(l);
+        }
+
+        // Propagate the labels until the fixpoint. The queue holds each operator at most once.
+        final int[] queue = new int[nbOperators + 1];
+        final boolean[] queued = new boolean[nbOperators];
+        int head = 0;
+        int tail = 0;
+        for (o = 0; o < nbOperators; o++) {
+            queue[tail++] = o;
+            queued[o] = true;
+        }
+        final BitVector union = new BitVector(nbLiterals);
+        while (head != tail) {
+            o = queue[head];
+            head = head == nbOperators ? 0 : head + 1;
+            queued[o] = false;
+            union.clear();
+            boolean applicable = true;
+            for (int i = 0; i < preconditions[o].length && applicable; i++) {
+                final BitVector label = labels[preconditions[o][i]];
+                if (label == null) {
+                    applicable = false;
+                } else {
+                    union.or(label);
+                }
+            }
+            if (!applicable) {
+                continue;
+            }
+            for (int e : effects[o]) {
+                final BitVector label = new BitVector(union);
+                label.set(e);
+                if (labels[e] != null) {
+                    label.and(labels[e]);
+                    if (label.equals(labels[e])) {
+                        continue;
+                    }
+                }
+                labels[e] = label;
+                for (int c : consumers[e]) {
+                    if (!queued[c]) {
+                        queue[tail] = c;
+                        tail = tail == nbOperators ? 0 : tail + 1;
+                        queued[c] = true;
+                    }
+                }
+            }
+        }
+
+        // The landmarks are the literals of the labels of the goals not true in the initial state
+        final Condition goal = problem.getGoal();
+        this.goals = this.toLiterals(goal.getPositiveFluents(), goal.getNegativeFluents());
+        this.goalLiterals = new BitVector(nbLiterals);
+        for (int g : this.goals) {
+            this.goalLiterals.set(g);
+        }
+        final BitVector literals = new BitVector(nbLiterals);
+        boolean reachable = true;
+        for (int g : this.goals) {
+            if (labels[g] == null) {
+                reachable = false;
+            } else {
+                literals.or(labels[g]);
+            }
+        }
+        this.reachable = reachable;
+        if (!reachable) {
+            literals.clear();
+        }
+        final int[] id = new int[nbLiterals];
+        int nbLandmarks = 0;
+        for (int l = literals.nextSetBit(0); l >= 0; l = literals.nextSetBit(l + 1)) {
+            if (this.isInitial(init, l)) {
+                literals.clear(l);
+            } else {
+                id[l] = nbLandmarks++;
+            }
+        }
+        this.landmarks = new int[nbLandmarks];
+        this.orderings = new BitVector[nbLandmarks];
+        nbLandmarks = 0;
+        for (int l = literals.nextSetBit(0); l >= 0; l = literals.nextSetBit(l + 1)) {
+            final BitVector before = new BitVector(this.landmarks.length);
+            final BitVector label = labels[l];
+            for (int q = label.nextSetBit(0); q >= 0; q = label.nextSetBit(q + 1)) {
+                if (q != l && literals.get(q)) {
+                    before.set(id[q]);
+                }
+            }
+            this.landmarks[nbLandmarks] = l;
+            this.orderings[nbLandmarks] = before;
+            nbLandmarks++;
+        }
+        this.landmarkOfLiterals = new int[nbLiterals];
+        Arrays.fill(this.landmarkOfLiterals, -1);
+        for (int lm = 0; lm < this.landmarks.length; lm++) {
+            this.landmarkOfLiterals[this.landmarks[lm]] = lm;
+        }
+        this.goalLandmarks = new int[this.goals.length];
+        for (int i = 0; i < this.goals.length; i++) {
+            this.goalLandmarks[i] = literals.get(this.goals[i]) ? id[this.goals[i]] : -1;
+        }
+    }
+
+    /**
+     * Returns the literals of a set of positive and negative relevant facts. The positive literals come first.
+     *
+     * @param positive the positive relevant facts.
+     * @param negative the negative relevant facts.
+     * @return the sorted array of literals.
+     */
+    private int[] toLiterals(final BitVector positive, final BitVector negative) {
+        final int[] literals = new int[positive.cardinality() + negative.cardinality()];
+        int i = 0;
+        for (int p = positive.nextSetBit(0); p >= 0; p = positive.nextSetBit(p + 1)) {
+            literals[i++] = p;
+        }
+        for (int p = negative.nextSetBit(0); p >= 0; p = negative.nextSetBit(p + 1)) {
+            literals[i++] = this.nbRelevantFacts + p;
+        }
+        return literals;
+    }
+
+    /**
+     * Returns <code>true</code> if a literal is true in the initial state.
+     *
+     * @param init    the positive relevant facts of the initial state.
+     * @param literal the literal.
+     * @return <code>true</code> if the literal is true in the initial state; <code>false</code> otherwise.
+     */
+    private boolean isInitial(final BitVector init, final int literal) {
+        return literal < this.nbRelevantFacts ? init.get(literal) : !init.get(literal - this.nbRelevantFacts);
+    }
+
+    /**
+     * Returns <code>true</code> if a literal is true in a specified state.
+     *
+     * @param state   the state.
+     * @param literal the literal.
+     * @return <code>true</code> if the literal is true in the state; <code>false</code> otherwise.
+     */
+    boolean isTrue(final State state, final int literal) {
+        return literal < this.nbRelevantFacts ? state.get(literal) : !state.get(literal - this.nbRelevantFacts);
+    }
+
+    /**
+     * Returns the number of landmarks of the graph.
+     *
+     * @return the number of landmarks of the graph.
+     */
+    public int size() {
+        return this.landmarks.length;
+    }
+
+    /**
+     * Returns the literal of a specified landmark.
+     *
+     * @param landmark the landmark.
+     * @return the literal of the landmark.
+     */
+    public int getLiteral(final int landmark) {
+        return this.landmarks[landmark];
+    }
+
+    /**
+     * Returns the landmark of a specified literal. The literal of a positive relevant fact <code>p</code> is
+     * <code>p</code> and the literal of its negation is <code>p</code> plus the number of relevant facts.
+     *
+     * @param literal the literal.
+     * @return the landmark of the literal or -1 if the literal is not a landmark.
+     */
+    public int getLandmark(final int literal) {
+        return this.landmarkOfLiterals[literal];
+    }
+
+    /**
+     * Returns the landmarks ordered before a specified landmark. The returned vector must not be modified.
+     *
+     * @param landmark the landmark.
+     * @return the landmarks ordered before the landmark.
+     */
+    public BitVector getOrderings(final int landmark) {
+        return this.orderings[landmark];
+    }
+
+    /**
+     * Returns the literals of the goal of the problem.
+     *
+     * @return the literals of the goal of the problem.
+     */
+    int[] getGoals() {
+        return this.goals;
+    }
+
+    /**
+     * Returns <code>true</code> if a literal is a literal of the goal.
+     *
+     * @param literal the literal.
+     * @return <code>true</code> if the literal is a literal of the goal; <code>false</code> otherwise.
+     */
+    boolean isGoal(final int literal) {
+        return this.goalLiterals.get(literal);
+    }
+
+    /**
+     * Returns the number of relevant facts of the problem.
+     *
+     * @return the number of relevant facts of the problem.
+     */
+    int getNumberOfRelevantFacts() {
+        return this.nbRelevantFacts;
+    }
+
+    /**
+     * Returns the landmark of each literal of the goal or -1 for the literals true in the initial state.
+     *
+     * @return the landmark of each literal of the goal.
+     */
+    int[] getGoalLandmarks() {
+        return this.goalLandmarks;
+    }
+
+    /**
+     * Returns <code>true</code> if the goal is reachable from the initial state in the relaxed problem. If the goal
+     * is not reachable, the problem has no solution and the graph has no landmark.
+     *
+     * @return <code>true</code> if the goal is reachable from the initial state in the relaxed problem.
+     */
+    public boolean isReachable() {
+        return this.reachable;
+    }
+}
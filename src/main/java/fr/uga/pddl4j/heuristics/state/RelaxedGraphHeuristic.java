@@ -26,6 +26,7 @@ import fr.uga.pddl4j.problem.operator.Condition;
 import fr.uga.pddl4j.problem.operator.ConditionalEffect;
 import fr.uga.pddl4j.problem.operator.Effect;
 import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.BucketQueue;
 
 import java.util.Arrays;
 import java.util.List;
@@ -38,6 +39,29 @@ import java.util.List;
  * Hoffmann, J. and Nebel, B. (2001). The FF Planning System: Fast Plan Generation Through Heuristic
  * Search. Journal of Artificial Intelligence Research, 14(1):253-302.
  *
+ * <p>The relaxed planning graph works on literals: the literal of the positive relevant fact <code>p</code> is
+ * <code>p</code> and the literal of its negation is <code>n + p</code>, where <code>n</code> is the number of relevant
+ * facts. The edges between the literals and the unconditional operators are precomputed once in compressed sparse
+ * rows, i.e., for each row an offset in a single array of edges. The expansion of the graph runs on the preallocated
+ * queues of the evaluation context of the calling thread, so that the computation of a heuristic value does not
+ * allocate any object.</p>
+ *
+ * <p>The same structure is used to compute the cost of the literals with the generalized Dijkstra algorithm of the
+ * additive and max heuristics taking into account the cost of the actions (B. Bonet and H. Geffner, Planning as
+ * Heuristic Search, Artificial Intelligence 129, 2001). The costs of the actions are rounded to non-negative integers
+ * (rounded down for the admissible heuristics, see {@link #roundDownCosts()}) and the literals are polled from a bucket
+ * queue, so that the propagation runs in time linear in the size of the
+ * relaxed problem plus the largest cost computed.</p>
+ *
+ * <p>The levels of the literals can also be computed for a batch of up to 64 states at once with a bit-sliced
+ * expansion: each literal and each operator holds a <code>long</code> whose bit <code>j</code> tells whether it is
+ * reached in the state <code>j</code> of the batch, so that one pass over the edges of the graph expands the graphs
+ * of all the states of the batch (see {@link #expandRelaxedPlanningGraphs(List, int[], boolean)}).</p>
+ *
+ * <p>Finally, the levels of the graph of a successor can be repaired from the {@link Fixpoint} of the graph of its
+ * parent: only the levels depending on the relevant facts changed by the action applied are computed again (see
+ * {@link #repairRelaxedPlanningGraph(State, Fixpoint, State)}).</p>
+ *
  * @author Damien Pellier
  * @version 1.0 20.08.2010
  */
@@ -54,49 +78,58 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
     private int[] precondCardinality;
 
     /**
-     * The array used to store the first level of apparition of an operator.
+     * The offsets of the rows of the preconditions' edges: the operators having the literal <code>l</code> as
+     * precondition are stored in <code>precondEdges</code> from <code>precondEdgesStart[l]</code> included to
+     * <code>precondEdgesStart[l + 1]</code> excluded.
      */
-    private int[] operatorsLevel;
+    private int[] precondEdgesStart;
 
     /**
-     * The array used to store the number of precondition encountered for each operator.
+     * The preconditions' edges from the literals to the operators.
      */
-    private int[] precondCounters;
+    private int[] precondEdges;
 
     /**
-     * The array used to store the difficulty of the operators.
+     * The offsets of the rows of the effects' edges: the operators having the literal <code>l</code> as effect are
+     * stored in <code>effectsEdges</code> from <code>effectsEdgesStart[l]</code> included to
+     * <code>effectsEdgesStart[l + 1]</code> excluded.
      */
-    private int[] operatorsDifficulty;
+    private int[] effectsEdgesStart;
 
     /**
-     * The array used to store the apparition level of the positive propositions.
+     * The effects' edges from the literals to the operators.
      */
-    private int[] pPropLevel;
+    private int[] effectsEdges;
 
     /**
-     * The array used to store the apparition level of the negative propositions.
+     * The offsets of the rows of the preconditions of the operators in <code>preconditions</code>.
      */
-    private int[] nPropLevel;
+    private int[] preconditionsStart;
 
     /**
-     * The array used to store the preconditions' edges for each operator.
+     * The literals of the preconditions of the operators.
      */
-    private Condition[] precondEdges;
+    private int[] preconditions;
 
     /**
-     * The array used to store the effects' edges for each operator.
+     * The offsets of the rows of the effects of the operators in <code>effects</code>.
      */
-    private Condition[] effectsEdges;
+    private int[] effectsStart;
 
     /**
-     * The array used to store the preconditions of the operators.
+     * The literals of the effects of the operators.
      */
-    private Condition[] preconditions;
+    private int[] effects;
 
     /**
-     * The array used to store the effects of the operators.
+     * The operators without precondition.
      */
-    private Effect[] effects;
+    private int[] freeOperators;
+
+    /**
+     * The cost of the operators, i.e., the cost of their action rounded to a non-negative integer.
+     */
+    private int[] operatorsCost;
 
     /**
      * The array used to store the unconditional effect of the operators.
@@ -104,19 +137,24 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
     private Effect[] unconditionalEffects;
 
     /**
-     * The counter used to count the number of goal propositions reached.
+     * The number of relevant facts of the problem.
      */
-    private int goalCounter;
+    private final int nbRelevantFacts;
 
     /**
-     * The number of goal propositions to reach.
+     * The number of unconditional operators of the problem.
      */
-    private int goalCardinality;
+    private final int nbUncondOperators;
 
     /**
-     * The level of the graph.
+     * The number of states expanded at once by the bit-sliced expansion of the relaxed planning graph.
      */
-    private int level;
+    protected static final int BATCH_SIZE = Long.SIZE;
+
+    /**
+     * The evaluation context of each thread using the heuristic.
+     */
+    private transient volatile ThreadLocal<Context> context;
 
     /**
      * Creates a new RelaxedGraphHeuristic heuristic.
@@ -126,7 +164,8 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
     protected RelaxedGraphHeuristic(final Problem problem) {
         super(problem);
         // Get the number of relevant facts of the problem
-        final int nbRelevantFacts = super.getRevelantFacts().size();
+        this.nbRelevantFacts = super.getRevelantFacts().size();
+        final int nbRelevantFacts = this.nbRelevantFacts;
         // Get the number of operators of the problem
         final int nbOperators = super.getActions().size();
         // Compute the number of unconditional operators
@@ -135,21 +174,11 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
         for (Action op : operators) {
             nbUncondOperators += op.getConditionalEffects().size();
         }
-        // Initialize the array that must contain the level of the positive propositions
-        this.pPropLevel = new int[nbRelevantFacts];
-        // Initialize the array that must contain the level of the negative propositions
-        this.nPropLevel = new int[nbRelevantFacts];
-        // Initialize the array that must contain the level of the operators
-        this.operatorsLevel = new int[nbUncondOperators];
-        // Initialize the array that must contain the difficulty of the operators
-        this.operatorsDifficulty = new int[nbUncondOperators];
-        // Initialize the array that must contain for each operator the number of its precondition
-        // reached
-        this.precondCounters = new int[nbUncondOperators];
-        // Initialize the array that must contain for each operator its preconditions
-        this.preconditions = new Condition[nbUncondOperators];
-        // Initialize the array that must contain for each operator its effects
-        this.effects = new Effect[nbUncondOperators];
+        this.nbUncondOperators = nbUncondOperators;
+        // Initialize the array that must contain for each operator the literals of its preconditions
+        final int[][] preconditions = new int[nbUncondOperators][];
+        // Initialize the array that must contain for each operator the literals of its effects
+        final int[][] effects = new int[nbUncondOperators][];
         // Initialize the array that must contain for each operator its unconditional effects
         this.unconditionalEffects = new Effect[nbOperators];
         for (int i = 0; i < this.unconditionalEffects.length; i++) {
@@ -157,23 +186,15 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
         }
         // The array that contains for each proposition the list of its unconditional operators
         this.unconditionalOperators = new int[nbUncondOperators][];
-        // Initialize the array that must contain for each operator its preconditions' edges
-        this.precondEdges = new Condition[nbRelevantFacts];
-        for (int i = 0; i < this.precondEdges.length; i++) {
-            this.precondEdges[i] = new Condition();
-        }
-        // Initialize the array that must contain for each operator its effects' edges
-        this.effectsEdges = new Condition[nbRelevantFacts];
-        for (int i = 0; i < this.effectsEdges.length; i++) {
-            this.effectsEdges[i] = new Condition();
-        }
-        // Initialize the number of proposition of the goal
-        this.goalCardinality = super.getGoal().cardinality();
         // The array that contains for each operator the number of propositions of its preconditions
         this.precondCardinality = new int[nbUncondOperators];
+        // The array that contains for each operator the cost of its action
+        this.operatorsCost = new int[nbUncondOperators];
 
         // The index of the unconditional operators
         int uncondOpIndex = 0;
+        // The number of operators without precondition
+        int nbFreeOperators = 0;
 
         // Start enumerating the unconditional operators
         for (int opIndex = 0; opIndex < operators.size(); opIndex++) {
@@ -186,38 +207,22 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
                 final int[] eff = {opIndex, ceIndex};
                 this.unconditionalOperators[uncondOpIndex] = eff;
 
-                // We pre-compute the preconditions' edges
-                final Condition pre = new Condition(op.getPrecondition());
-                final BitVector pPre = pre.getPositiveFluents();
-                final BitVector nPre = pre.getNegativeFluents();
-                pPre.or(cEffect.getCondition().getPositiveFluents());
-                nPre.or(cEffect.getCondition().getNegativeFluents());
-                for (int p = pPre.nextSetBit(0); p >= 0; p = pPre.nextSetBit(p + 1)) {
-                    this.precondEdges[p].getPositiveFluents().set(uncondOpIndex);
-                }
-                for (int p = nPre.nextSetBit(0); p >= 0; p = nPre.nextSetBit(p + 1)) {
-                    this.precondEdges[p].getNegativeFluents().set(uncondOpIndex);
-                }
-
                 // We set the preconditions of the unconditional operator
-                this.preconditions[uncondOpIndex] = pre;
-
-                // We pre-compute the effects' edges
-                final Effect effect = cEffect.getEffect();
-                final BitVector pEff = effect.getPositiveFluents();
-                final BitVector nEff = effect.getNegativeFluents();
-                for (int p = pEff.nextSetBit(0); p >= 0; p = pEff.nextSetBit(p + 1)) {
-                    this.effectsEdges[p].getPositiveFluents().set(uncondOpIndex);
-                }
-                for (int p = nEff.nextSetBit(0); p >= 0; p = nEff.nextSetBit(p + 1)) {
-                    this.effectsEdges[p].getNegativeFluents().set(uncondOpIndex);
-                }
+                final Condition pre = new Condition(op.getPrecondition());
+                pre.getPositiveFluents().or(cEffect.getCondition().getPositiveFluents());
+                pre.getNegativeFluents().or(cEffect.getCondition().getNegativeFluents());
+                preconditions[uncondOpIndex] = this.toLiterals(pre.getPositiveFluents(), pre.getNegativeFluents());
 
                 // We set the effects of the unconditional operator
-                this.effects[uncondOpIndex] = effect;
+                final Effect effect = cEffect.getEffect();
+                effects[uncondOpIndex] = this.toLiterals(effect.getPositiveFluents(), effect.getNegativeFluents());
 
                 // We initialize the number of precondition of the unconditional operator
                 this.precondCardinality[uncondOpIndex] = pre.cardinality();
+                this.operatorsCost[uncondOpIndex] = (int) Math.max(0, Math.round(op.getCost().getValue()));
+                if (pre.isEmpty()) {
+                    nbFreeOperators++;
+                }
 
                 // We initialize the unconditional effects of the operator
                 if (cEffect.getCondition().isEmpty()) {
@@ -232,28 +237,146 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
             }
         }
 
-        // A hack for the operator without precondition
+        // The operators without precondition are applicable from the first level of the graph
+        this.freeOperators = new int[nbFreeOperators];
+        nbFreeOperators = 0;
         for (int i = 0; i < nbUncondOperators; i++) {
-            if (this.preconditions[i].isEmpty()) {
-                for (Condition pEdge : precondEdges) {
-                    pEdge.getPositiveFluents().set(i);
-                    pEdge.getNegativeFluents().set(i);
+            if (this.precondCardinality[i] == 0) {
+                this.freeOperators[nbFreeOperators++] = i;
+            }
+        }
+
+        // We pre-compute the compressed rows of the operators and of their transposed edges
+        this.preconditionsStart = new int[nbUncondOperators + 1];
+        this.preconditions = RelaxedGraphHeuristic.compress(preconditions, this.preconditionsStart);
+        this.effectsStart = new int[nbUncondOperators + 1];
+        this.effects = RelaxedGraphHeuristic.compress(effects, this.effectsStart);
+        this.precondEdgesStart = new int[2 * nbRelevantFacts + 1];
+        this.precondEdges = RelaxedGraphHeuristic.transpose(this.preconditionsStart, this.preconditions,
+            this.precondEdgesStart);
+        this.effectsEdgesStart = new int[2 * nbRelevantFacts + 1];
+        this.effectsEdges = RelaxedGraphHeuristic.transpose(this.effectsStart, this.effects, this.effectsEdgesStart);
+    }
+
+    /**
+     * Returns the literals of a set of positive and negative relevant facts. The positive literals come first.
+     *
+     * @param positive the positive relevant facts.
+     * @param negative the negative relevant facts.
+     * @return the sorted array of literals.
+     */
+    private int[] toLiterals(final BitVector positive, final BitVector negative) {
+        final int[] literals = new int[positive.cardinality() + negative.cardinality()];
+        int i = 0;
+        for (int p = positive.nextSetBit(0); p >= 0; p = positive.nextSetBit(p + 1)) {
+            literals[i++] = p;
+        }
+        for (int p = negative.nextSetBit(0); p >= 0; p = negative.nextSetBit(p + 1)) {
+            literals[i++] = this.nbRelevantFacts + p;
+        }
+        return literals;
+    }
+
+    /**
+     * Compresses an array of rows into a single array of edges.
+     *
+     * @param rows  the rows to compress.
+     * @param start the array of length <code>rows.length + 1</code> in which the offsets of the rows are stored.
+     * @return the array of edges.
+     */
+    private static int[] compress(final int[][] rows, final int[] start) {
+        for (int i = 0; i < rows.length; i++) {
+            start[i + 1] = start[i] + rows[i].length;
+        }
+        final int[] edges = new int[start[rows.length]];
+        for (int i = 0; i < rows.length; i++) {
+            System.arraycopy(rows[i], 0, edges, start[i], rows[i].length);
+        }
+        return edges;
+    }
+
+    /**
+     * Transposes compressed rows. The edges of each row of the transposed rows are sorted in increasing order.
+     *
+     * @param start      the offsets of the rows to transpose.
+     * @param edges      the edges of the rows to transpose.
+     * @param transposed the array in which the offsets of the transposed rows are stored. Its length is the number of
+     *                   transposed rows plus one.
+     * @return the edges of the transposed rows.
+     */
+    private static int[] transpose(final int[] start, final int[] edges, final int[] transposed) {
+        for (int e : edges) {
+            transposed[e + 1]++;
+        }
+        for (int i = 1; i < transposed.length; i++) {
+            transposed[i] += transposed[i - 1];
+        }
+        final int[] next = Arrays.copyOf(transposed, transposed.length - 1);
+        final int[] transposedEdges = new int[edges.length];
+        for (int row = 0; row < start.length - 1; row++) {
+            for (int e = start[row]; e < start[row + 1]; e++) {
+                transposedEdges[next[edges[e]]++] = row;
+            }
+        }
+        return transposedEdges;
+    }
+
+    /**
+     * Returns the evaluation context of the calling thread. The context is created the first time a thread uses the
+     * heuristic.
+     *
+     * @return the evaluation context of the calling thread.
+     */
+    private Context getContext() {
+        ThreadLocal<Context> local = this.context;
+        if (local == null) {
+            synchronized (this) {
+                local = this.context;
+                if (local == null) {
+                    final Condition goal = super.getGoal();
+                    local = ThreadLocal.withInitial(() -> new Context(this.nbRelevantFacts, this.nbUncondOperators,
+                        goal));
+                    this.context = local;
                 }
             }
         }
+        return local.get();
+    }
+
+    /**
+     * Returns <code>true</code>: the precomputed graph is never modified after the construction of the heuristic and
+     * each thread evaluates in its own context.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
 
+    /**
+     * Returns the goal of the relaxed problem currently solved by the calling thread.
+     *
+     * @return the goal.
+     */
+    @Override
+    protected final Condition getGoal() {
+        return this.getContext().goal;
     }
 
     /**
-     * Set the goal of the relaxed problem to solve in order to compute the heuristic.
+     * Set the goal of the relaxed problem to solve in order to compute the heuristic. The goal is only set for the
+     * calling thread.
      *
      * @param goal the goal.
      * @throws NullPointerException if <code>goal == null</code>.
      */
     @Override
     protected final void setGoal(final Condition goal) {
-        super.setGoal(goal);
-        this.goalCardinality = goal.cardinality();
+        final Context ctx = this.getContext();
+        if (!goal.equals(ctx.goal)) {
+            ctx.setGoal(goal);
+        }
     }
 
     /**
@@ -263,149 +386,500 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
      * @return the level of the graph built.
      */
     protected final int expandRelaxedPlanningGraph(final State state) {
+        return this.expandRelaxedPlanningGraph(this.getContext(), state, true);
+    }
 
-        Arrays.fill(this.operatorsLevel, Integer.MAX_VALUE);
-        // The array that contains the level of the positive proposition apparition
-        Arrays.fill(this.pPropLevel, Integer.MAX_VALUE);
-        // The array that contains the level of the negative proposition apparition
-        Arrays.fill(this.nPropLevel, Integer.MAX_VALUE);
+    /**
+     * This method creates the relaxed planning graph from a specified initial state in the arrays of levels currently
+     * attached to an evaluation context.
+     *
+     * @param ctx        the evaluation context of the calling thread.
+     * @param state      the initial state of the relaxed planning graph.
+     * @param stopAtGoal <code>true</code> to stop the expansion as soon as all the goal literals are reached,
+     *                   <code>false</code> to expand the graph until its fixpoint.
+     * @return the level of the graph built.
+     */
+    private int expandRelaxedPlanningGraph(final Context ctx, final State state, final boolean stopAtGoal) {
+        Arrays.fill(ctx.operatorsLevel, Integer.MAX_VALUE);
+        // The array that contains the level of the literals apparition
+        Arrays.fill(ctx.propLevel, Integer.MAX_VALUE);
         // The array that contains the counter of precondition encounter for each operator
-        Arrays.fill(this.precondCounters, 0);
+        Arrays.fill(ctx.precondCounters, 0);
         // The array that contains the difficulty value for each operator
-        Arrays.fill(this.operatorsDifficulty, Integer.MAX_VALUE);
+        Arrays.fill(ctx.operatorsDifficulty, Integer.MAX_VALUE);
 
-        // The positive goal to reach
-        final BitVector pGoal = super.getGoal().getPositiveFluents();
-        // The negative goal to reach
-        final BitVector nGoal = super.getGoal().getNegativeFluents();
+        final int[] propLevel = ctx.propLevel;
+        final boolean[] isGoal = ctx.isGoal;
+        // The queue of the literals of the graph: the literals of the current level are stored from head to tail
+        final int[] props = ctx.props;
+        // The queue of the new operators of the current level
+        final int[] newOps = ctx.newOps;
+        int head = 0;
+        int tail = 0;
         // The counter used to store the number of goal reach.
-        this.goalCounter = 0;
+        ctx.goalCounter = 0;
 
         // The current level of the connectivity graph (the first level is 0)
-        this.level = 0;
-        // The bit vector used to store the positive propositions of the graph
-        BitVector ppk = new BitVector(state);
-        // The bit vector used to store the negative propositions of the graph
-        BitVector npk = new BitVector();
-        npk.flip(0, super.getRevelantFacts().size());
-        npk.andNot(state);
-        // All positive goal of the initial state are set to appear at level 0
-        for (int p = ppk.nextSetBit(0); p >= 0; p = ppk.nextSetBit(p + 1)) {
-            this.pPropLevel[p] = 0;
-            if (pGoal.get(p)) {
-                this.goalCounter++;
-            }
-        }
-        // All negative goal of the initial state are set to appear at level 0
-        for (int p = npk.nextSetBit(0); p >= 0; p = npk.nextSetBit(p + 1)) {
-            this.nPropLevel[p] = 0;
-            if (nGoal.get(p)) {
-                this.goalCounter++;
-            }
-        }
-
-        // The positive accumulator used to store the set of positive proposition already reached
-        final BitVector pAcc = new BitVector();
-        // The negative accumulator used to store the set of negative proposition already reached
-        final BitVector nAcc = new BitVector();
-
-        // We start building_the_library.rst the relaxed planning graph
+        ctx.level = 0;
+        // All the literals of the initial state are set to appear at level 0
+        for (int p = 0; p < this.nbRelevantFacts; p++) {
+            final int l = state.get(p) ? p : this.nbRelevantFacts + p;
+            propLevel[l] = 0;
+            props[tail++] = l;
+            if (isGoal[l]) {
+                ctx.goalCounter++;
+            }
+        }
+
+        // We start building the relaxed planning graph
         // The graph is expanded until the goal and the fixed point of the graph is not reached
-        while (this.goalCounter != this.goalCardinality && (!ppk.isEmpty() || !npk.isEmpty())) {
-            // A bit vector used to store the new operator to add
-            final BitVector newOps = new BitVector();
-            // For each positive proposition of the proposition layer
-            for (int p = ppk.nextSetBit(0); p >= 0; p = ppk.nextSetBit(p + 1)) {
-                // We getActionSet the operator that have this positive proposition as precondition
-                final BitVector pEdges = this.precondEdges[p].getPositiveFluents();
-                // We mark the positive proposition p has explored
-                pAcc.set(p);
-                // We update the counter associated to the operator precondition
-                for (int pe = pEdges.nextSetBit(0); pe >= 0; pe = pEdges.nextSetBit(pe + 1)) {
-                    // If the operator has a no-empty set of preconditions we increment its counter
-                    if (this.precondCardinality[pe] != 0) {
-                        this.precondCounters[pe]++;
-                    }
-                    // Finally, if the all the preconditions of an operator hold we mark the
-                    // operator has new operator for the level
-                    if (this.precondCounters[pe] == this.precondCardinality[pe]) {
-                        newOps.set(pe);
-                    }
+        while ((!stopAtGoal || ctx.goalCounter != ctx.goalCardinality) && head < tail) {
+            int nbNewOps = 0;
+            // The operators without precondition appear at the first level
+            if (ctx.level == 0) {
+                for (int o : this.freeOperators) {
+                    newOps[nbNewOps++] = o;
                 }
             }
-            // For each negative proposition of the proposition layer
-            for (int p = npk.nextSetBit(0); p >= 0; p = npk.nextSetBit(p + 1)) {
-                // We getActionSet the operator that have this positive proposition as precondition
-                final BitVector nEdges = this.precondEdges[p].getNegativeFluents();
-                // We mark the negative proposition p has explored
-                nAcc.set(p);
-                // We update the counter associated to the operator precondition
-                for (int pe = nEdges.nextSetBit(0); pe >= 0; pe = nEdges.nextSetBit(pe + 1)) {
-                    // If the operator has a no-empty set of preconditions we increment its counter
-                    if (this.precondCardinality[pe] != 0) {
-                        this.precondCounters[pe]++;
-                    }
-                    // Finally, if the all the preconditions of an operator hold we mark the
-                    // operator has new operator for the level
-                    if (this.precondCounters[pe] == this.precondCardinality[pe]) {
-                        newOps.set(pe);
+            // For each literal of the proposition layer we update the counter associated to the operators having it
+            // as precondition. If all the preconditions of an operator hold, the operator is new for the level
+            final int end = tail;
+            for (; head < end; head++) {
+                final int l = props[head];
+                for (int e = this.precondEdgesStart[l]; e < this.precondEdgesStart[l + 1]; e++) {
+                    final int pe = this.precondEdges[e];
+                    if (++ctx.precondCounters[pe] == this.precondCardinality[pe]) {
+                        newOps[nbNewOps++] = pe;
                     }
                 }
             }
-            // The bit vector used to the store the new positive proposition at the next level
-            final BitVector pNewProps = new BitVector();
-            // The bit vector used to the store the new negative proposition at the next level
-            final BitVector nNewProps = new BitVector();
             // For each new operator at level k
-            for (int o = newOps.nextSetBit(0); o >= 0; o = newOps.nextSetBit(o + 1)) {
+            for (int i = 0; i < nbNewOps; i++) {
+                final int o = newOps[i];
                 // We mark o as appearing at the level k
-                this.operatorsLevel[o] = this.level;
-                // We accumulate the positive effects of o for the next proposition level k
-                pNewProps.or(this.effects[o].getPositiveFluents());
-                // We accumulate the negative effects of o for the next proposition level k
-                nNewProps.or(this.effects[o].getNegativeFluents());
-                // Then we compute the difficulty of operator as the sum of the level of their
-                // preconditions
-                this.operatorsDifficulty[o] = 0;
-                // First the sum of the positive preconditions
-                final BitVector pPre = this.preconditions[o].getPositiveFluents();
-                for (int p = pPre.nextSetBit(0); p >= 0; p = pPre.nextSetBit(p + 1)) {
-                    this.operatorsDifficulty[o] += this.pPropLevel[p];
+                ctx.operatorsLevel[o] = ctx.level;
+                // Then we compute the difficulty of operator as the sum of the level of their preconditions
+                int difficulty = 0;
+                for (int e = this.preconditionsStart[o]; e < this.preconditionsStart[o + 1]; e++) {
+                    difficulty += propLevel[this.preconditions[e]];
+                }
+                ctx.operatorsDifficulty[o] = difficulty;
+                // The effects of o not yet encountered in the planning graph appear at level k + 1
+                for (int e = this.effectsStart[o]; e < this.effectsStart[o + 1]; e++) {
+                    final int l = this.effects[e];
+                    if (propLevel[l] == Integer.MAX_VALUE) {
+                        propLevel[l] = ctx.level + 1;
+                        props[tail++] = l;
+                        // Update the goal counter if a goal literal is reached
+                        if (isGoal[l]) {
+                            ctx.goalCounter++;
+                        }
+                    }
+                }
+            }
+            // We increment the counter level
+            ctx.level++;
+        }
+        return ctx.level;
+    }
+
+    /**
+     * Expands the relaxed planning graphs of a list of states with the bit-sliced expansion and computes the sum or
+     * the max of the levels of the goal literals in each graph. The states are expanded by batches of
+     * {@link #BATCH_SIZE} states: the bit <code>j</code> of the <code>long</code> of a literal or an operator tells
+     * whether it is reached in the state <code>j</code> of the batch. At each level, only the operators having a
+     * precondition reached at the previous level in some state of the batch are visited and the expansion of a state
+     * stops as soon as all the goal literals are reached in the state. The values computed are the ones of
+     * {@link #getSumValue()} and {@link #getMaxValue()} after the expansion of each state.
+     *
+     * @param states   the states.
+     * @param values   the array in which the value of each state is stored or <code>Integer.MAX_VALUE</code> if the
+     *                 goal is unreachable from the state.
+     * @param additive <code>true</code> to compute the sum of the levels of the goal literals, <code>false</code> to
+     *                 compute their max.
+     */
+    protected final void expandRelaxedPlanningGraphs(final List<? extends State> states, final int[] values,
+                                                     final boolean additive) {
+        final Context ctx = this.getContext();
+        for (int from = 0; from < states.size(); from += RelaxedGraphHeuristic.BATCH_SIZE) {
+            final int to = Math.min(states.size(), from + RelaxedGraphHeuristic.BATCH_SIZE);
+            this.expandBatch(ctx, states, from, to);
+            for (int i = from; i < to; i++) {
+                final int j = i - from;
+                if ((ctx.batchDone & (1L << j)) == 0) {
+                    values[i] = Integer.MAX_VALUE;
+                } else {
+                    values[i] = additive ? ctx.batchSum[j] : ctx.batchMax[j];
                 }
-                // First the sum of the negative preconditions
-                final BitVector nPre = this.preconditions[o].getNegativeFluents();
-                for (int p = nPre.nextSetBit(0); p >= 0; p = nPre.nextSetBit(p + 1)) {
-                    this.operatorsDifficulty[o] += this.nPropLevel[p];
+            }
+        }
+    }
+
+    /**
+     * Expands the relaxed planning graphs of a batch of at most {@link #BATCH_SIZE} states.
+     *
+     * @param ctx    the evaluation context of the calling thread.
+     * @param states the states.
+     * @param from   the index of the first state of the batch.
+     * @param to     the index after the last state of the batch.
+     */
+    private void expandBatch(final Context ctx, final List<? extends State> states, final int from, final int to) {
+        final int size = to - from;
+        final long all = size == Long.SIZE ? -1L : (1L << size) - 1;
+        final long[] reached = ctx.batchReached;
+        final long[] added = ctx.batchAdded;
+        final long[] applied = ctx.batchApplied;
+        final int[] changed = ctx.props;
+        final int[] next = ctx.batchNext;
+        final int[] ops = ctx.newOps;
+        final int[] stamps = ctx.batchStamps;
+        final boolean[] isGoal = ctx.isGoal;
+        Arrays.fill(reached, 0L);
+        Arrays.fill(applied, 0L);
+        Arrays.fill(stamps, 0);
+        Arrays.fill(ctx.batchSum, 0);
+        Arrays.fill(ctx.batchMax, Integer.MIN_VALUE);
+
+        // All the literals of the states are reached at level 0
+        for (int j = 0; j < size; j++) {
+            final State state = states.get(from + j);
+            for (int p = state.nextSetBit(0); p >= 0 && p < this.nbRelevantFacts; p = state.nextSetBit(p + 1)) {
+                reached[p] |= 1L << j;
+            }
+        }
+        int nbChanged = 0;
+        for (int p = 0; p < this.nbRelevantFacts; p++) {
+            reached[this.nbRelevantFacts + p] = all & ~reached[p];
+        }
+        for (int l = 0; l < reached.length; l++) {
+            if (reached[l] != 0) {
+                changed[nbChanged++] = l;
+            }
+        }
+        long done = all;
+        for (int i = 0; i < ctx.goalCardinality; i++) {
+            final long g = reached[ctx.goalLiterals[i]];
+            done &= g;
+            for (long bits = g; bits != 0; bits &= bits - 1) {
+                ctx.batchMax[Long.numberOfTrailingZeros(bits)] = 0;
+            }
+        }
+
+        int level = 0;
+        while (done != all && nbChanged > 0) {
+            final long active = all & ~done;
+            final int stamp = level + 1;
+            int nbOps = 0;
+            // The operators without precondition appear at the first level
+            if (level == 0) {
+                for (int o : this.freeOperators) {
+                    stamps[o] = stamp;
+                    ops[nbOps++] = o;
+                }
+            }
+            // Only the operators having a precondition reached at the previous level can be new
+            for (int i = 0; i < nbChanged; i++) {
+                final int l = changed[i];
+                for (int e = this.precondEdgesStart[l]; e < this.precondEdgesStart[l + 1]; e++) {
+                    final int o = this.precondEdges[e];
+                    if (stamps[o] != stamp) {
+                        stamps[o] = stamp;
+                        ops[nbOps++] = o;
+                    }
+                }
+            }
+            // The effects of the new operators of the states are reached at the next level
+            int nbNext = 0;
+            for (int i = 0; i < nbOps; i++) {
+                final int o = ops[i];
+                long mask = active & ~applied[o];
+                for (int e = this.preconditionsStart[o]; e < this.preconditionsStart[o + 1] && mask != 0; e++) {
+                    mask &= reached[this.preconditions[e]];
+                }
+                if (mask != 0) {
+                    applied[o] |= mask;
+                    for (int e = this.effectsStart[o]; e < this.effectsStart[o + 1]; e++) {
+                        final int l = this.effects[e];
+                        if (added[l] == 0) {
+                            next[nbNext++] = l;
+                        }
+                        added[l] |= mask;
+                    }
+                }
+            }
+            level++;
+            nbChanged = 0;
+            for (int i = 0; i < nbNext; i++) {
+                final int l = next[i];
+                final long delta = added[l] & ~reached[l];
+                added[l] = 0;
+                if (delta != 0) {
+                    reached[l] |= delta;
+                    changed[nbChanged++] = l;
+                    if (isGoal[l]) {
+                        for (long bits = delta; bits != 0; bits &= bits - 1) {
+                            final int j = Long.numberOfTrailingZeros(bits);
+                            ctx.batchSum[j] += level;
+                            ctx.batchMax[j] = level;
+                        }
+                    }
                 }
             }
+            done = all;
+            for (int i = 0; i < ctx.goalCardinality; i++) {
+                done &= reached[ctx.goalLiterals[i]];
+            }
+        }
+        ctx.batchDone = done;
+    }
+
+    /**
+     * Creates an empty fixpoint of the relaxed planning graph of the problem. The fixpoint must be computed with
+     * {@link #computeFixpoint(State, Fixpoint)} before it is used.
+     *
+     * @return an empty fixpoint of the relaxed planning graph.
+     */
+    public final Fixpoint createFixpoint() {
+        return new Fixpoint(2 * this.nbRelevantFacts, this.nbUncondOperators);
+    }
 
-            // Now, we compute the new proposition level just by adding positive and negative
-            // propositions that was not yet encounter in the planning graph
-            ppk = pNewProps;
-            npk = nNewProps;
-            ppk.andNot(pAcc);
-            npk.andNot(nAcc);
+    /**
+     * Computes the fixpoint of the relaxed planning graph of a specified state, i.e., the levels of all the literals
+     * and of all the operators reachable from the state whatever the goal.
+     *
+     * @param state    the state.
+     * @param fixpoint the fixpoint in which the levels are stored.
+     */
+    public final void computeFixpoint(final State state, final Fixpoint fixpoint) {
+        final Context ctx = this.getContext();
+        ctx.attach(fixpoint);
+        this.expandRelaxedPlanningGraph(ctx, state, false);
+        ctx.detach();
+    }
 
-            // We increment the counter level
-            this.level++;
-            // For each positive new proposition we set its level to k + 1
-            for (int p = ppk.nextSetBit(0); p >= 0; p = ppk.nextSetBit(p + 1)) {
-                this.pPropLevel[p] = this.level;
-                // Update the goal counter if a positive goal proposition is reached
-                if (pGoal.get(p)) {
-                    this.goalCounter++;
+    /**
+     * Updates the fixpoint of the relaxed planning graph of a state into the fixpoint of the graph of another state.
+     * Only the levels depending on the relevant facts whose value differs between the two states are repaired (see
+     * {@link #repairRelaxedPlanningGraph(State, Fixpoint, State)}).
+     *
+     * @param from     the state of the fixpoint.
+     * @param fixpoint the fixpoint of the state <code>from</code>.
+     * @param to       the state whose fixpoint is computed.
+     */
+    public final void repairFixpoint(final State from, final Fixpoint fixpoint, final State to) {
+        final Context ctx = this.getContext();
+        ctx.attach(fixpoint);
+        this.repair(ctx, from, to);
+        ctx.undoSize = 0;
+        ctx.detach();
+    }
+
+    /**
+     * Returns the number of literals whose level was modified by the last repair of the relaxed planning graph done
+     * by the calling thread.
+     *
+     * @return the number of literals touched by the last repair.
+     */
+    public final int getTouchedLiterals() {
+        return this.getContext().touched;
+    }
+
+    /**
+     * Repairs the fixpoint of the relaxed planning graph of a parent state into the relaxed planning graph of one of
+     * its successors. The literals that became false are first invalidated, then the operators having an invalidated
+     * precondition and the literals they may support, i.e., whose level is the level of the operator plus one.
+     * The levels of the invalidated literals and of the literals that became true are finally propagated again by
+     * increasing level with a bucket queue, as in a dynamic single source shortest path algorithm. The levels are the
+     * ones of a complete expansion of the graph of the successor, so that the heuristic values computed afterwards are
+     * the ones of a complete evaluation of the successor.
+     *
+     * <p>The repair is done in place in the fixpoint, which is attached to the evaluation context of the calling thread
+     * until {@link #restoreRelaxedPlanningGraph()} restores the levels of the parent state.</p>
+     *
+     * @param parent   the parent state.
+     * @param fixpoint the fixpoint of the relaxed planning graph of the parent state.
+     * @param state    the successor of the parent state.
+     */
+    protected final void repairRelaxedPlanningGraph(final State parent, final Fixpoint fixpoint, final State state) {
+        final Context ctx = this.getContext();
+        ctx.attach(fixpoint);
+        this.repair(ctx, parent, state);
+        // The graph is cut at the level of the last goal literal reached as in the expansion
+        ctx.goalCounter = 0;
+        ctx.level = 0;
+        for (int i = 0; i < ctx.goalCardinality; i++) {
+            final int gl = ctx.propLevel[ctx.goalLiterals[i]];
+            if (gl != Integer.MAX_VALUE) {
+                ctx.goalCounter++;
+                ctx.level = Math.max(ctx.level, gl);
+            }
+        }
+    }
+
+    /**
+     * Restores the levels of the fixpoint repaired by the last call to
+     * {@link #repairRelaxedPlanningGraph(State, Fixpoint, State)} and detaches it from the evaluation context of the
+     * calling thread.
+     */
+    protected final void restoreRelaxedPlanningGraph() {
+        final Context ctx = this.getContext();
+        final int nbLiterals = 2 * this.nbRelevantFacts;
+        final int[] undo = ctx.undo;
+        for (int i = ctx.undoSize - 2; i >= 0; i -= 2) {
+            final int index = undo[i];
+            if (index < nbLiterals) {
+                ctx.propLevel[index] = undo[i + 1];
+            } else if (index < nbLiterals + this.nbUncondOperators) {
+                ctx.operatorsLevel[index - nbLiterals] = undo[i + 1];
+            } else {
+                ctx.operatorsDifficulty[index - nbLiterals - this.nbUncondOperators] = undo[i + 1];
+            }
+        }
+        ctx.undoSize = 0;
+        ctx.detach();
+    }
+
+    /**
+     * Repairs the levels of the relaxed planning graph attached to an evaluation context from a state to another one.
+     * The previous values of the levels modified are pushed in the undo log of the context.
+     *
+     * @param ctx  the evaluation context of the calling thread.
+     * @param from the state of the levels attached to the context.
+     * @param to   the state whose levels are computed.
+     */
+    private void repair(final Context ctx, final State from, final State to) {
+        final int[] propLevel = ctx.propLevel;
+        final int[] operatorsLevel = ctx.operatorsLevel;
+        final BitVector diff = ctx.diff;
+        diff.clear();
+        diff.or(from);
+        diff.xor(to);
+        ctx.touched = 0;
+        if (++ctx.stamp == 0) {
+            Arrays.fill(ctx.stamps, 0);
+            ctx.stamp = 1;
+        }
+        // The literals that became false and, transitively, the literals that may have lost their support
+        final int[] invalid = ctx.props;
+        int nbInvalid = 0;
+        for (int p = diff.nextSetBit(0); p >= 0 && p < this.nbRelevantFacts; p = diff.nextSetBit(p + 1)) {
+            final int l = to.get(p) ? this.nbRelevantFacts + p : p;
+            this.setLevel(ctx, l, Integer.MAX_VALUE);
+            invalid[nbInvalid++] = l;
+        }
+        for (int i = 0; i < nbInvalid; i++) {
+            final int l = invalid[i];
+            for (int e = this.precondEdgesStart[l]; e < this.precondEdgesStart[l + 1]; e++) {
+                final int o = this.precondEdges[e];
+                final int level = operatorsLevel[o];
+                if (level != Integer.MAX_VALUE) {
+                    this.setOperatorLevel(ctx, o, Integer.MAX_VALUE, Integer.MAX_VALUE);
+                    for (int f = this.effectsStart[o]; f < this.effectsStart[o + 1]; f++) {
+                        final int q = this.effects[f];
+                        if (propLevel[q] == level + 1) {
+                            this.setLevel(ctx, q, Integer.MAX_VALUE);
+                            invalid[nbInvalid++] = q;
+                        }
+                    }
                 }
             }
-            // For each positive new proposition we set its level to k + 1
-            for (int p = npk.nextSetBit(0); p >= 0; p = npk.nextSetBit(p + 1)) {
-                this.nPropLevel[p] = this.level;
-                // Update the goal counter if a negative goal proposition is reached
-                if (nGoal.get(p)) {
-                    this.goalCounter++;
+        }
+
+        // The literals that became true appear at level 0 and the invalidated literals at the lowest level given by
+        // their achievers still reached
+        final BucketQueue queue = ctx.queue;
+        queue.clear();
+        for (int p = diff.nextSetBit(0); p >= 0 && p < this.nbRelevantFacts; p = diff.nextSetBit(p + 1)) {
+            final int l = to.get(p) ? p : this.nbRelevantFacts + p;
+            this.setLevel(ctx, l, 0);
+            queue.add(l, 0, 0);
+        }
+        for (int i = 0; i < nbInvalid; i++) {
+            final int l = invalid[i];
+            if (propLevel[l] == Integer.MAX_VALUE) {
+                int level = Integer.MAX_VALUE;
+                for (int e = this.effectsEdgesStart[l]; e < this.effectsEdgesStart[l + 1]; e++) {
+                    final int r = this.effectsEdges[e];
+                    if (operatorsLevel[r] != Integer.MAX_VALUE) {
+                        level = Math.min(level, operatorsLevel[r] + 1);
+                    }
+                }
+                if (level != Integer.MAX_VALUE) {
+                    this.setLevel(ctx, l, level);
+                    queue.add(l, level, 0);
+                }
+            }
+        }
+
+        // The levels are propagated by increasing level to the operators and to their effects
+        while (!queue.isEmpty()) {
+            final int l = queue.poll();
+            if (queue.getPolledPrimaryKey() > propLevel[l]) {
+                // The literal was already polled with a lower level
+                continue;
+            }
+            for (int e = this.precondEdgesStart[l]; e < this.precondEdgesStart[l + 1]; e++) {
+                final int o = this.precondEdges[e];
+                int level = 0;
+                int difficulty = 0;
+                for (int f = this.preconditionsStart[o]; f < this.preconditionsStart[o + 1]; f++) {
+                    final int pl = propLevel[this.preconditions[f]];
+                    if (pl == Integer.MAX_VALUE) {
+                        level = Integer.MAX_VALUE;
+                        break;
+                    }
+                    level = Math.max(level, pl);
+                    difficulty += pl;
+                }
+                if (level == Integer.MAX_VALUE) {
+                    continue;
+                }
+                if (level != operatorsLevel[o] || difficulty != ctx.operatorsDifficulty[o]) {
+                    this.setOperatorLevel(ctx, o, level, difficulty);
+                }
+                for (int f = this.effectsStart[o]; f < this.effectsStart[o + 1]; f++) {
+                    final int q = this.effects[f];
+                    if (level + 1 < propLevel[q]) {
+                        this.setLevel(ctx, q, level + 1);
+                        queue.add(q, level + 1, 0);
+                    }
                 }
             }
         }
-        return this.level;
+    }
+
+    /**
+     * Sets the level of a literal during a repair of the relaxed planning graph and records its previous level in the
+     * undo log of the evaluation context.
+     *
+     * @param ctx     the evaluation context of the calling thread.
+     * @param literal the literal.
+     * @param level   the new level of the literal.
+     */
+    private void setLevel(final Context ctx, final int literal, final int level) {
+        ctx.log(literal, ctx.propLevel[literal]);
+        ctx.propLevel[literal] = level;
+        if (ctx.stamps[literal] != ctx.stamp) {
+            ctx.stamps[literal] = ctx.stamp;
+            ctx.touched++;
+        }
+    }
+
+    /**
+     * Sets the level and the difficulty of an operator during a repair of the relaxed planning graph and records their
+     * previous values in the undo log of the evaluation context.
+     *
+     * @param ctx        the evaluation context of the calling thread.
+     * @param operator   the operator.
+     * @param level      the new level of the operator.
+     * @param difficulty the new difficulty of the operator.
+     */
+    private void setOperatorLevel(final Context ctx, final int operator, final int level, final int difficulty) {
+        final int nbLiterals = 2 * this.nbRelevantFacts;
+        ctx.log(nbLiterals + operator, ctx.operatorsLevel[operator]);
+        ctx.log(nbLiterals + this.nbUncondOperators + operator, ctx.operatorsDifficulty[operator]);
+        ctx.operatorsLevel[operator] = level;
+        ctx.operatorsDifficulty[operator] = difficulty;
     }
 
     /**
@@ -415,7 +889,8 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
      * <code>false</code> otherwise.
      */
     protected final boolean isGoalReachable() {
-        return this.goalCardinality == this.goalCounter;
+        final Context ctx = this.getContext();
+        return ctx.goalCardinality == ctx.goalCounter;
     }
 
     /**
@@ -425,14 +900,10 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
      * @see Sum
      */
     protected final int getSumValue() {
+        final Context ctx = this.getContext();
         int value = 0;
-        final BitVector pGoal = super.getGoal().getPositiveFluents();
-        final BitVector nGoal = super.getGoal().getNegativeFluents();
-        for (int g = pGoal.nextSetBit(0); g >= 0; g = pGoal.nextSetBit(g + 1)) {
-            value += this.pPropLevel[g];
-        }
-        for (int g = nGoal.nextSetBit(0); g >= 0; g = nGoal.nextSetBit(g + 1)) {
-            value += this.nPropLevel[g];
+        for (int i = 0; i < ctx.goalCardinality; i++) {
+            value += ctx.propLevel[ctx.goalLiterals[i]];
         }
         return value;
     }
@@ -444,17 +915,10 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
      * @see Max
      */
     protected final int getMaxValue() {
+        final Context ctx = this.getContext();
         int max = Integer.MIN_VALUE;
-        final BitVector pGoal = super.getGoal().getPositiveFluents();
-        final BitVector nGoal = super.getGoal().getNegativeFluents();
-        for (int g = pGoal.nextSetBit(0); g >= 0; g = pGoal.nextSetBit(g + 1)) {
-            final int gl = this.pPropLevel[g];
-            if (gl > max) {
-                max = gl;
-            }
-        }
-        for (int g = nGoal.nextSetBit(0); g >= 0; g = nGoal.nextSetBit(g + 1)) {
-            final int gl = this.nPropLevel[g];
+        for (int i = 0; i < ctx.goalCardinality; i++) {
+            final int gl = ctx.propLevel[ctx.goalLiterals[i]];
             if (gl > max) {
                 max = gl;
             }
@@ -469,111 +933,285 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
      * @see FastForward
      */
     protected final int getRelaxedPlanValue() {
+        return this.getRelaxedPlanValue(null);
+    }
+
+    /**
+     * Compute the relaxed plan heuristic value and collects the helpful actions of the state from which the relaxed
+     * planning graph was expanded. An action is helpful if one of its unconditional operators is applicable in the
+     * state and achieves a goal of the first level of the relaxed plan (J. Hoffmann and B. Nebel, The FF Planning
+     * System: Fast Plan Generation Through Heuristic Search, JAIR 14, 2001).
+     *
+     * @param helpful the bit vector in which the indexes of the helpful actions are set or <code>null</code> if the
+     *                helpful actions must not be collected.
+     * @return the relaxed plan heuristic value.
+     * @see FastForward
+     */
+    protected final int getRelaxedPlanValue(final BitVector helpful) {
+        final Context ctx = this.getContext();
         // The integer used to counter the number of actions of the relaxed plan
         int value = 0;
 
         // We initialize the for each level of the graph the goal to reach
-        final Condition[] goals = new Condition[this.level + 1];
-        for (int k = 0; k <= this.level; k++) {
-            goals[k] = new Condition();
-        }
-        final BitVector pGoal = super.getGoal().getPositiveFluents();
-        final BitVector nGoal = super.getGoal().getNegativeFluents();
-        for (int g = pGoal.nextSetBit(0); g >= 0; g = pGoal.nextSetBit(g + 1)) {
-            goals[this.pPropLevel[g]].getPositiveFluents().set(g);
-        }
-        for (int g = nGoal.nextSetBit(0); g >= 0; g = nGoal.nextSetBit(g + 1)) {
-            goals[this.nPropLevel[g]].getNegativeFluents().set(g);
+        final BitVector[] goals = ctx.getGoalLayers(ctx.level + 1);
+        for (int i = 0; i < ctx.goalCardinality; i++) {
+            final int g = ctx.goalLiterals[i];
+            goals[ctx.propLevel[g]].set(g);
         }
 
         // We start the extraction of the relaxed plan
-        for (int k = level; k > 0; k--) {
+        for (int k = ctx.level; k > 0; k--) {
             // goals at level k
-            final Condition gk = goals[k];
-            final BitVector pGk = gk.getPositiveFluents();
-            final BitVector nGk = gk.getNegativeFluents();
+            final BitVector gk = goals[k];
             // goals at level k - 1
-            final Condition gk1 = goals[k - 1];
-            final BitVector pGk1 = gk1.getPositiveFluents();
-            final BitVector nGk1 = gk1.getNegativeFluents();
-            // Each positive goal at level k we need to find a resolver to support it
-            for (int pg = pGk.nextSetBit(0); pg >= 0; pg = pGk.nextSetBit(pg + 1)) {
+            final BitVector gk1 = goals[k - 1];
+            // The goals at level 1 are complete: collect the applicable resolvers before they are cleared
+            if (k == 1 && helpful != null) {
+                this.collectHelpfulActions(ctx, gk, helpful);
+            }
+            // Each goal at level k we need to find a resolver to support it. The positive goals come first.
+            for (int g = gk.nextSetBit(0); g >= 0; g = gk.nextSetBit(g + 1)) {
                 // Select the best resolver according to the difficulty heuristic
-                final int resolverIndex = this.select(this.effectsEdges[pg].getPositiveFluents(), k);
+                final int resolverIndex = this.select(ctx, g, k);
                 if (resolverIndex != -1) {
-                    final Condition pre = this.preconditions[resolverIndex];
-                    final BitVector pPre = pre.getPositiveFluents();
-                    for (int p = pPre.nextSetBit(0); p >= 0; p = pPre.nextSetBit(p + 1)) {
-                        final int pLevel = this.pPropLevel[p];
-                        if (pLevel != 0 && !pGk1.get(p)) {
-                            goals[pLevel].getPositiveFluents().set(p);
-                        }
-                    }
-                    final BitVector nPre = pre.getNegativeFluents();
-                    for (int p = nPre.nextSetBit(0); p >= 0; p = nPre.nextSetBit(p + 1)) {
-                        final int pLevel = this.nPropLevel[p];
-                        if (pLevel != 0 && !nGk1.get(p)) {
-                            goals[pLevel].getNegativeFluents().set(p);
+                    final int preEnd = this.preconditionsStart[resolverIndex + 1];
+                    for (int e = this.preconditionsStart[resolverIndex]; e < preEnd; e++) {
+                        final int p = this.preconditions[e];
+                        final int pLevel = ctx.propLevel[p];
+                        if (pLevel != 0) {
+                            goals[pLevel].set(p);
                         }
                     }
                     // Get the effects of the operator marked them as true
-                    final Effect effect = this.effects[resolverIndex];
-                    final BitVector pEffect = effect.getPositiveFluents();
-                    final BitVector nEffect = effect.getNegativeFluents();
-                    pGk1.andNot(pEffect);
-                    nGk1.andNot(nEffect);
-                    pGk.andNot(pEffect);
-                    nGk.andNot(nEffect);
+                    final int effEnd = this.effectsStart[resolverIndex + 1];
+                    for (int e = this.effectsStart[resolverIndex]; e < effEnd; e++) {
+                        final int p = this.effects[e];
+                        gk1.clear(p);
+                        gk.clear(p);
+                    }
                     // We increment the number of action of the relaxed plan
-                    //System.out.println(resolverIndex +  " " + this.getActions().size());
-                    value++;//= this.getActions().get(resolverIndex).getCost().getValue();
+                    value++;
                 } else { // NOOP case
-                    pGk1.clear(pg);
-                    pGk.clear(pg);
+                    gk1.clear(g);
+                    gk.clear(g);
                 }
             }
-            // Each negative goal at level k we need to find a resolver to support it
-            for (int ng = nGk.nextSetBit(0); ng >= 0; ng = nGk.nextSetBit(ng + 1)) {
-                final int resolverIndex = this.select(this.effectsEdges[ng].getNegativeFluents(), k);
-                if (resolverIndex != -1) {
-                    final Condition pre = this.preconditions[resolverIndex];
-                    final BitVector pPre = pre.getPositiveFluents();
-                    for (int p = pPre.nextSetBit(0); p >= 0; p = pPre.nextSetBit(p + 1)) {
-                        final int pLevel = this.pPropLevel[p];
-                        if (pLevel != 0 && !pGk1.get(p)) {
-                            goals[pLevel].getPositiveFluents().set(p);
-                        }
-                    }
-                    final BitVector nPre = pre.getNegativeFluents();
-                    for (int p = nPre.nextSetBit(0); p >= 0; p = nPre.nextSetBit(p + 1)) {
-                        final int pLevel = this.nPropLevel[p];
-                        if (pLevel != 0 && !nGk1.get(p)) {
-                            goals[pLevel].getNegativeFluents().set(p);
-                        }
-                    }
-                    // Get the effects of the operator marked them as true
-                    final Effect effect = this.effects[resolverIndex];
-                    final BitVector pEffect = effect.getPositiveFluents();
-                    final BitVector nEffect = effect.getNegativeFluents();
-                    pGk1.andNot(pEffect);
-                    nGk1.andNot(nEffect);
-                    pGk.andNot(pEffect);
-                    nGk.andNot(nEffect);
-                    // We increment the number of action of the relaxed plan
-                    value++;//= this.getActions().get(resolverIndex).getCost().getValue();
-                } else { // NOOP case
-                    nGk1.set(ng);
-                    nGk.clear(ng);
+        }
+        return value;
+    }
+
+    /**
+     * Rounds down the costs of the actions used to propagate the costs. By default, the costs are rounded to the
+     * nearest integer, so that a non-integer cost can be overestimated, e.g., a cost of 0.5 is rounded to 1. A
+     * heuristic that claims to be admissible must round the costs down in order to never overestimate the cost of a
+     * plan.
+     */
+    protected final void roundDownCosts() {
+        final List<Action> actions = super.getActions();
+        for (int o = 0; o < this.nbUncondOperators; o++) {
+            final double cost = actions.get(this.unconditionalOperators[o][0]).getCost().getValue();
+            this.operatorsCost[o] = (int) Math.max(0, Math.floor(cost));
+        }
+    }
+
+    /**
+     * Computes the cost of the literals reachable from a specified state with the generalized Dijkstra algorithm. The
+     * cost of a literal of the state is 0 and the cost of a literal achieved by an operator is the cost of the operator
+     * plus the sum (additive propagation) or the maximum (max propagation) of the costs of its preconditions. The
+     * operator of minimal cost achieving a literal is kept as the best supporter of the literal. The propagation stops
+     * as soon as the costs of all the goal literals are known.
+     *
+     * @param state    the state.
+     * @param additive <code>true</code> for the additive propagation, <code>false</code> for the max propagation.
+     */
+    protected final void propagateCosts(final State state, final boolean additive) {
+        final Context ctx = this.getContext();
+        final int[] propCost = ctx.propCost;
+        final boolean[] isGoal = ctx.isGoal;
+        Arrays.fill(propCost, Integer.MAX_VALUE);
+        Arrays.fill(ctx.supporters, -1);
+        Arrays.fill(ctx.precondCounters, 0);
+        Arrays.fill(ctx.precondCosts, 0);
+        final BucketQueue queue = ctx.queue;
+        queue.clear();
+        ctx.goalCounter = 0;
+        // All the literals of the state have a null cost
+        for (int p = 0; p < this.nbRelevantFacts; p++) {
+            final int l = state.get(p) ? p : this.nbRelevantFacts + p;
+            propCost[l] = 0;
+            queue.add(l, 0, 0);
+        }
+        // The operators without precondition can be applied in the state
+        for (int o : this.freeOperators) {
+            this.applyCost(ctx, o);
+        }
+        // The literals are polled by increasing cost until the costs of all the goal literals are known
+        while (ctx.goalCounter != ctx.goalCardinality && !queue.isEmpty()) {
+            final int l = queue.poll();
+            final int cost = queue.getPolledPrimaryKey();
+            if (cost > propCost[l]) {
+                // The literal was already polled with a lower cost
+                continue;
+            }
+            if (isGoal[l]) {
+                ctx.goalCounter++;
+            }
+            for (int e = this.precondEdgesStart[l]; e < this.precondEdgesStart[l + 1]; e++) {
+                final int o = this.precondEdges[e];
+                ctx.precondCosts[o] = additive ? RelaxedGraphHeuristic.add(ctx.precondCosts[o], cost)
+                    : Math.max(ctx.precondCosts[o], cost);
+                if (++ctx.precondCounters[o] == this.precondCardinality[o]) {
+                    this.applyCost(ctx, o);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the cost of the effects of an operator whose preconditions have all been polled.
+     *
+     * @param ctx the evaluation context of the calling thread.
+     * @param o   the operator.
+     */
+    private void applyCost(final Context ctx, final int o) {
+        final int cost = RelaxedGraphHeuristic.add(ctx.precondCosts[o], this.operatorsCost[o]);
+        for (int e = this.effectsStart[o]; e < this.effectsStart[o + 1]; e++) {
+            final int l = this.effects[e];
+            if (cost < ctx.propCost[l]) {
+                ctx.propCost[l] = cost;
+                ctx.supporters[l] = o;
+                ctx.queue.add(l, cost, 0);
+            }
+        }
+    }
+
+    /**
+     * Adds two costs. The sum is bounded by <code>Integer.MAX_VALUE - 1</code>, which is less than the cost of an
+     * unreachable literal.
+     *
+     * @param c1 the first cost.
+     * @param c2 the second cost.
+     * @return the sum of the costs.
+     */
+    private static int add(final int c1, final int c2) {
+        return (int) Math.min((long) c1 + c2, Integer.MAX_VALUE - 1);
+    }
+
+    /**
+     * Compute the additive heuristic taking into account the cost of the actions. The costs must have been propagated
+     * from the state with the additive propagation.
+     *
+     * @return the additive heuristic value.
+     * @see CostSum
+     */
+    protected final int getAdditiveCostValue() {
+        final Context ctx = this.getContext();
+        int value = 0;
+        for (int i = 0; i < ctx.goalCardinality; i++) {
+            value = RelaxedGraphHeuristic.add(value, ctx.propCost[ctx.goalLiterals[i]]);
+        }
+        return value;
+    }
+
+    /**
+     * Compute the max heuristic taking into account the cost of the actions. The costs must have been propagated from
+     * the state with the max propagation.
+     *
+     * @return the max heuristic value.
+     * @see CostMax
+     */
+    protected final int getMaxCostValue() {
+        final Context ctx = this.getContext();
+        int max = 0;
+        for (int i = 0; i < ctx.goalCardinality; i++) {
+            max = Math.max(max, ctx.propCost[ctx.goalLiterals[i]]);
+        }
+        return max;
+    }
+
+    /**
+     * Compute the cost of the relaxed plan made of the best supporters of the goal literals and, recursively, of the
+     * preconditions of the best supporters. The costs must have been propagated from the state. The helpful actions
+     * collected are the actions having an operator of the relaxed plan applicable in the state.
+     *
+     * @param helpful the bit vector in which the indexes of the helpful actions are set or <code>null</code> if the
+     *                helpful actions must not be collected.
+     * @return the cost of the relaxed plan.
+     * @see CostFastForward
+     */
+    protected final int getRelaxedPlanCostValue(final BitVector helpful) {
+        final Context ctx = this.getContext();
+        // The literals of the relaxed plan in order of discovery
+        final int[] plan = ctx.props;
+        final boolean[] marked = ctx.marked;
+        // The operators of the relaxed plan
+        final int[] ops = ctx.newOps;
+        int size = 0;
+        int nbOps = 0;
+        int value = 0;
+        for (int i = 0; i < ctx.goalCardinality; i++) {
+            final int g = ctx.goalLiterals[i];
+            if (!marked[g]) {
+                marked[g] = true;
+                plan[size++] = g;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            final int o = ctx.supporters[plan[i]];
+            // The literal holds in the state or its supporter is already in the relaxed plan
+            if (o == -1 || ctx.operatorsMarked[o]) {
+                continue;
+            }
+            ctx.operatorsMarked[o] = true;
+            ops[nbOps++] = o;
+            value = RelaxedGraphHeuristic.add(value, this.operatorsCost[o]);
+            boolean applicable = true;
+            for (int e = this.preconditionsStart[o]; e < this.preconditionsStart[o + 1]; e++) {
+                final int p = this.preconditions[e];
+                if (ctx.supporters[p] != -1) {
+                    applicable = false;
+                }
+                if (!marked[p]) {
+                    marked[p] = true;
+                    plan[size++] = p;
                 }
             }
+            if (applicable && helpful != null) {
+                helpful.set(this.unconditionalOperators[o][0]);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            marked[plan[i]] = false;
+        }
+        for (int i = 0; i < nbOps; i++) {
+            ctx.operatorsMarked[ops[i]] = false;
         }
         return value;
     }
 
+    /**
+     * Sets in a bit vector the indexes of the actions having an unconditional operator applicable at level 0 of the
+     * relaxed planning graph that achieves one of the specified goals.
+     *
+     * @param ctx     the evaluation context of the calling thread.
+     * @param goals   the literals of the goals.
+     * @param helpful the bit vector in which the indexes of the actions are set.
+     */
+    private void collectHelpfulActions(final Context ctx, final BitVector goals, final BitVector helpful) {
+        for (int g = goals.nextSetBit(0); g >= 0; g = goals.nextSetBit(g + 1)) {
+            for (int e = this.effectsEdgesStart[g]; e < this.effectsEdgesStart[g + 1]; e++) {
+                final int r = this.effectsEdges[e];
+                if (ctx.operatorsLevel[r] == 0) {
+                    helpful.set(this.unconditionalOperators[r][0]);
+                }
+            }
+        }
+    }
+
     /**
      * Select an effect according to the unconditional operators difficulty heuristic. The question
      * is, which achiever should be choose when no NOOP is available ? It is certainly a good idea
-     * to select an achiever whose preconditions seems to be "easy". From the graph building_the_library.rst phase,
+     * to select an achiever whose preconditions seems to be "easy". From the graph building phase,
      * we can obtain a simple measure for the operatorsDifficulty of an action's preconditions as
      * follows:
      * <ul>
@@ -586,17 +1224,19 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
      * where there are severals ways to achieve one fact. but some ways need less effort than
      * others.
      *
-     * @param resolvers the list of resolver of p.
-     * @param lev       the level.
-     * @return the easier resolver for the proposition <code>p</code> at level <code>lev</code> or
-     * <code>null</code> if a NOOP operator is available.
+     * @param ctx     the evaluation context of the calling thread.
+     * @param literal the literal to achieve.
+     * @param lev     the level.
+     * @return the easier resolver for the literal at level <code>lev</code> or <code>-1</code> if a NOOP operator is
+     * available.
      */
-    private int select(final BitVector resolvers, final int lev) {
+    private int select(final Context ctx, final int literal, final int lev) {
         int resolver = -1;
         int minDifficulty = Integer.MAX_VALUE;
-        for (int r = resolvers.nextSetBit(0); r >= 0; r = resolvers.nextSetBit(r + 1)) {
-            if (this.operatorsLevel[r] < lev) {
-                final int difficulty = this.operatorsDifficulty[r];
+        for (int e = this.effectsEdgesStart[literal]; e < this.effectsEdgesStart[literal + 1]; e++) {
+            final int r = this.effectsEdges[e];
+            if (ctx.operatorsLevel[r] < lev) {
+                final int difficulty = ctx.operatorsDifficulty[r];
                 if (difficulty < minDifficulty) {
                     minDifficulty = difficulty;
                     resolver = r;
@@ -606,4 +1246,349 @@ public abstract class RelaxedGraphHeuristic extends AbstractStateHeuristic imple
         return resolver;
     }
 
+    /**
+     * This class implements the evaluation context of a thread, i.e., the working arrays written during the expansion
+     * of the relaxed planning graph and the extraction of the relaxed plan. All the arrays are allocated once, except
+     * the goal layers of the relaxed plan which grow with the deepest graph built by the thread, the buckets of the
+     * queue which grow with the largest cost computed by the thread and the undo log which grows with the largest
+     * repair of the graph done by the thread.
+     */
+    private static final class Context {
+
+        /**
+         * The goal to reach.
+         */
+        private Condition goal;
+
+        /**
+         * The number of goal literals to reach.
+         */
+        private int goalCardinality;
+
+        /**
+         * The goal literals to reach. Only the <code>goalCardinality</code> first entries are used.
+         */
+        private final int[] goalLiterals;
+
+        /**
+         * The array used to mark the goal literals.
+         */
+        private final boolean[] isGoal;
+
+        /**
+         * The counter used to count the number of goal propositions reached.
+         */
+        private int goalCounter;
+
+        /**
+         * The level of the graph.
+         */
+        private int level;
+
+        /**
+         * The array used to store the first level of apparition of an operator.
+         */
+        private int[] operatorsLevel;
+
+        /**
+         * The levels of the graph expanded in the context when no fixpoint is attached.
+         */
+        private final Fixpoint graph;
+
+        /**
+         * The array used to store the number of precondition encountered for each operator.
+         */
+        private final int[] precondCounters;
+
+        /**
+         * The array used to store the difficulty of the operators.
+         */
+        private int[] operatorsDifficulty;
+
+        /**
+         * The array used to store the apparition level of the literals.
+         */
+        private int[] propLevel;
+
+        /**
+         * The queue of the literals of the graph in order of apparition.
+         */
+        private final int[] props;
+
+        /**
+         * The queue of the new operators of a level of the graph.
+         */
+        private final int[] newOps;
+
+        /**
+         * The goal literals of each level of the relaxed plan.
+         */
+        private BitVector[] goalLayers;
+
+        /**
+         * The array used to store the cost of the literals.
+         */
+        private final int[] propCost;
+
+        /**
+         * The array used to store the best supporter of the literals or -1 if a literal holds in the state or is not
+         * reached.
+         */
+        private final int[] supporters;
+
+        /**
+         * The array used to store the cost of the preconditions of the operators.
+         */
+        private final int[] precondCosts;
+
+        /**
+         * The array used to mark the literals of the relaxed plan.
+         */
+        private final boolean[] marked;
+
+        /**
+         * The array used to mark the operators of the relaxed plan.
+         */
+        private final boolean[] operatorsMarked;
+
+        /**
+         * The bucket queue of the literals used to propagate the costs.
+         */
+        private final BucketQueue queue;
+
+        /**
+         * The literals reached in each state of a batch.
+         */
+        private final long[] batchReached;
+
+        /**
+         * The literals added at the next level in each state of a batch.
+         */
+        private final long[] batchAdded;
+
+        /**
+         * The operators applied in each state of a batch.
+         */
+        private final long[] batchApplied;
+
+        /**
+         * The literals added at the next level of the expansion of a batch.
+         */
+        private final int[] batchNext;
+
+        /**
+         * The last level at which each operator was visited during the expansion of a batch.
+         */
+        private final int[] batchStamps;
+
+        /**
+         * The states of a batch whose goal literals are all reached.
+         */
+        private long batchDone;
+
+        /**
+         * The sum of the levels of the goal literals in each state of a batch.
+         */
+        private final int[] batchSum;
+
+        /**
+         * The max of the levels of the goal literals in each state of a batch.
+         */
+        private final int[] batchMax;
+
+        /**
+         * The relevant facts whose value differs between the two states of a repair of the graph.
+         */
+        private final BitVector diff;
+
+        /**
+         * The undo log of a repair of the graph: the index of each level modified followed by its previous value.
+         */
+        private int[] undo;
+
+        /**
+         * The number of entries of the undo log.
+         */
+        private int undoSize;
+
+        /**
+         * The last repair of the graph in which each literal was touched.
+         */
+        private final int[] stamps;
+
+        /**
+         * The stamp of the current repair of the graph.
+         */
+        private int stamp;
+
+        /**
+         * The number of literals touched by the last repair of the graph.
+         */
+        private int touched;
+
+        /**
+         * Creates a new evaluation context.
+         *
+         * @param nbRelevantFacts   the number of relevant facts of the problem.
+         * @param nbUncondOperators the number of unconditional operators of the problem.
+         * @param goal              the initial goal to reach.
+         */
+        private Context(final int nbRelevantFacts, final int nbUncondOperators, final Condition goal) {
+            this.goalLiterals = new int[2 * nbRelevantFacts];
+            this.isGoal = new boolean[2 * nbRelevantFacts];
+            this.graph = new Fixpoint(2 * nbRelevantFacts, nbUncondOperators);
+            this.detach();
+            this.props = new int[2 * nbRelevantFacts];
+            this.precondCounters = new int[nbUncondOperators];
+            this.newOps = new int[nbUncondOperators];
+            this.goalLayers = new BitVector[0];
+            this.propCost = new int[2 * nbRelevantFacts];
+            this.supporters = new int[2 * nbRelevantFacts];
+            this.marked = new boolean[2 * nbRelevantFacts];
+            this.precondCosts = new int[nbUncondOperators];
+            this.operatorsMarked = new boolean[nbUncondOperators];
+            this.queue = new BucketQueue(false);
+            this.batchReached = new long[2 * nbRelevantFacts];
+            this.batchAdded = new long[2 * nbRelevantFacts];
+            this.batchApplied = new long[nbUncondOperators];
+            this.batchNext = new int[2 * nbRelevantFacts];
+            this.batchStamps = new int[nbUncondOperators];
+            this.batchSum = new int[RelaxedGraphHeuristic.BATCH_SIZE];
+            this.batchMax = new int[RelaxedGraphHeuristic.BATCH_SIZE];
+            this.diff = new BitVector(nbRelevantFacts);
+            this.undo = new int[2 * nbRelevantFacts];
+            this.stamps = new int[2 * nbRelevantFacts];
+            this.setGoal(goal);
+        }
+
+        /**
+         * Attaches the levels of a fixpoint to the context: the expansion, the repair and the extraction of the relaxed
+         * plan then work on the levels of the fixpoint.
+         *
+         * @param fixpoint the fixpoint.
+         */
+        private void attach(final Fixpoint fixpoint) {
+            this.propLevel = fixpoint.propLevel;
+            this.operatorsLevel = fixpoint.operatorsLevel;
+            this.operatorsDifficulty = fixpoint.operatorsDifficulty;
+        }
+
+        /**
+         * Detaches the fixpoint attached to the context, if any, and attaches back the levels of the context.
+         */
+        private void detach() {
+            this.attach(this.graph);
+        }
+
+        /**
+         * Records the previous value of a level in the undo log.
+         *
+         * @param index the index of the level.
+         * @param value the previous value of the level.
+         */
+        private void log(final int index, final int value) {
+            if (this.undoSize + 2 > this.undo.length) {
+                this.undo = Arrays.copyOf(this.undo, 2 * this.undo.length + 2);
+            }
+            this.undo[this.undoSize++] = index;
+            this.undo[this.undoSize++] = value;
+        }
+
+        /**
+         * Sets the goal to reach and computes its literals.
+         *
+         * @param goal the goal.
+         */
+        private void setGoal(final Condition goal) {
+            for (int i = 0; i < this.goalCardinality; i++) {
+                this.isGoal[this.goalLiterals[i]] = false;
+            }
+            this.goal = goal;
+            this.goalCardinality = 0;
+            final int nbRelevantFacts = this.isGoal.length / 2;
+            final BitVector pGoal = goal.getPositiveFluents();
+            for (int g = pGoal.nextSetBit(0); g >= 0; g = pGoal.nextSetBit(g + 1)) {
+                this.goalLiterals[this.goalCardinality++] = g;
+                this.isGoal[g] = true;
+            }
+            final BitVector nGoal = goal.getNegativeFluents();
+            for (int g = nGoal.nextSetBit(0); g >= 0; g = nGoal.nextSetBit(g + 1)) {
+                this.goalLiterals[this.goalCardinality++] = nbRelevantFacts + g;
+                this.isGoal[nbRelevantFacts + g] = true;
+            }
+        }
+
+        /**
+         * Returns the cleared goal layers of a relaxed plan.
+         *
+         * @param size the number of layers of the relaxed plan.
+         * @return the goal layers. The array may contain more layers than requested.
+         */
+        private BitVector[] getGoalLayers(final int size) {
+            if (size > this.goalLayers.length) {
+                final int length = this.goalLayers.length;
+                this.goalLayers = Arrays.copyOf(this.goalLayers, Math.max(size, 2 * length));
+                for (int k = length; k < this.goalLayers.length; k++) {
+                    this.goalLayers[k] = new BitVector(this.isGoal.length);
+                }
+            }
+            for (int k = 0; k < size; k++) {
+                this.goalLayers[k].clear();
+            }
+            return this.goalLayers;
+        }
+    }
+
+
+    /**
+     * This class implements the fixpoint of the relaxed planning graph of a state, i.e., the level of each literal and
+     * of each operator reachable from the state without stopping at the goal. A fixpoint computed once for a state can
+     * be repaired to evaluate its successors instead of expanding their graphs from scratch. A fixpoint is not thread
+     * safe: it must be used by one thread at a time.
+     *
+     * @see #computeFixpoint(State, Fixpoint)
+     * @see #repairFixpoint(State, Fixpoint, State)
+     */
+    public static final class Fixpoint {
+
+        /**
+         * The level of the literals.
+         */
+        private final int[] propLevel;
+
+        /**
+         * The level of the operators.
+         */
+        private final int[] operatorsLevel;
+
+        /**
+         * The difficulty of the operators.
+         */
+        private final int[] operatorsDifficulty;
+
+        /**
+         * Creates a new fixpoint.
+         *
+         * @param nbLiterals  the number of literals of the problem.
+         * @param nbOperators the number of unconditional operators of the problem.
+         */
+        private Fixpoint(final int nbLiterals, final int nbOperators) {
+            this.propLevel = new int[nbLiterals];
+            this.operatorsLevel = new int[nbOperators];
+            this.operatorsDifficulty = new int[nbOperators];
+        }
+
+        /**
+         * Copies the levels of another fixpoint of the same relaxed planning graph in this fixpoint.
+         *
+         * @param other the fixpoint to copy.
+         */
+        public void copy(final Fixpoint other) {
+            System.arraycopy(other.propLevel, 0, this.propLevel, 0, this.propLevel.length);
+            System.arraycopy(other.operatorsLevel, 0, this.operatorsLevel, 0, this.operatorsLevel.length);
+            System.arraycopy(other.operatorsDifficulty, 0, this.operatorsDifficulty, 0,
+                this.operatorsDifficulty.length);
+        }
+    }
+
 }
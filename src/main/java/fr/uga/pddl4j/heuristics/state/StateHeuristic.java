@@ -21,6 +21,8 @@ import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
 import fr.uga.pddl4j.problem.operator.Condition;
 
+import java.util.List;
+
 /**
  * This interface defines the methods accessible from all goal cost heuristics. An goal cost heuristic is a function
  * that estimates the remaining distance to the goal. In order to find this estimation an heuristic
@@ -75,6 +77,22 @@ public interface StateHeuristic extends Heuristic {
          * The type for the <code>SumMutex</code> heuristic.
          */
         SUM_MUTEX,
+        /**
+         * The type for the <code>CostFastForward</code> heuristic.
+         */
+        COST_FAST_FORWARD,
+        /**
+         * The type for the <code>CostMax</code> heuristic.
+         */
+        COST_MAX,
+        /**
+         * The type for the <code>CostSum</code> heuristic.
+         */
+        COST_SUM,
+        /**
+         * The type for the <code>LandmarkCount</code> heuristic.
+         */
+        LANDMARK_COUNT,
     }
 
     /**
@@ -88,6 +106,22 @@ public interface StateHeuristic extends Heuristic {
      */
     int estimate(final State state, final Condition goal);
 
+    /**
+     * Return the estimated distances to the goal of a list of states. The distance of the state <code>i</code> is
+     * stored in <code>values[i]</code>. If a value is <code>Integer.MAX_VALUE</code>, it means that the goal is
+     * unreachable from the state. By default, the states are estimated one by one; the heuristics that can share the
+     * computation of the estimates of several states override this method.
+     *
+     * @param states the states from which the distance to the goal must be estimated.
+     * @param goal   the goal expression.
+     * @param values the array in which the distances are stored. Its length must be at least the number of states.
+     */
+    default void estimate(final List<? extends State> states, final Condition goal, final int[] values) {
+        for (int i = 0; i < states.size(); i++) {
+            values[i] = this.estimate(states.get(i), goal);
+        }
+    }
+
     /**
      * Return the estimated distance to the goal to reach the specified state. If the return value is
      * <code>Integer.MAX_VALUE</code>, it means that the goal is unreachable from the specified
@@ -106,6 +140,16 @@ public interface StateHeuristic extends Heuristic {
      */
     boolean isAdmissible();
 
+    /**
+     * Returns <code>true</code> if this heuristic can be used by several threads at the same time. By default, a
+     * heuristic is not thread safe and each thread must create its own instance.
+     *
+     * @return <code>true</code> if this heuristic is thread safe; <code>false</code> otherwise.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * Create an instance of a goal cost heuristic for a specified problem.
      *
@@ -133,6 +177,14 @@ public interface StateHeuristic extends Heuristic {
                 return new Max(problem);
             case SET_LEVEL:
                 return new SetLevel(problem);
+            case COST_FAST_FORWARD:
+                return new CostFastForward(problem);
+            case COST_MAX:
+                return new CostMax(problem);
+            case COST_SUM:
+                return new CostSum(problem);
+            case LANDMARK_COUNT:
+                return new LandmarkCount(problem);
             default:
                 return null;
         }
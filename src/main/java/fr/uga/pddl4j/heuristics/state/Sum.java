@@ -24,6 +24,8 @@ import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
 import fr.uga.pddl4j.problem.operator.Condition;
 
+import java.util.List;
+
 /**
  * This class implements the SUM_ID heuristic. (for more details on this heuristic see Blai Bonet and
  * Hector Geffner, Planning as Heuristic Search, Artificial Intelligence 129, 2001, Elsevier)
@@ -55,7 +57,7 @@ import fr.uga.pddl4j.problem.operator.Condition;
  * @version 1.0 - 11.06.2010
  * @see RelaxedGraphHeuristic
  */
-public final class Sum extends RelaxedGraphHeuristic {
+public final class Sum extends RelaxedGraphHeuristic implements IncrementalStateHeuristic {
 
     /**
      * Creates a new <code>SUM_ID</code> heuristic for a specified planning problem.
@@ -88,6 +90,45 @@ public final class Sum extends RelaxedGraphHeuristic {
         return super.isGoalReachable() ? super.getSumValue() : Integer.MAX_VALUE;
     }
 
+    /**
+     * Return the estimated distances to the goal of a list of states. The relaxed planning graphs of the states are
+     * expanded by batches of 64 states with the bit-sliced expansion of the graph.
+     *
+     * @param states the states from which the distance to the goal must be estimated.
+     * @param goal   the goal expression.
+     * @param values the array in which the distances are stored or <code>Integer.MAX_VALUE</code> if the goal is
+     *               unreachable from a state.
+     */
+    @Override
+    public void estimate(final List<? extends State> states, final Condition goal, final int[] values) {
+        super.setGoal(goal);
+        super.expandRelaxedPlanningGraphs(states, values, true);
+    }
+
+    /**
+     * Return the estimated distance to the goal of a state from the fixpoint of the relaxed planning graph of its
+     * parent. Only the levels of the graph depending on the relevant facts changed between the parent and the state are
+     * repaired and the fixpoint is restored before the method returns. The value returned is the one of
+     * {@link #estimate(State, Condition)}.
+     *
+     * @param state    the state from which the distance to the goal must be estimated.
+     * @param goal     the goal expression.
+     * @param parent   the parent of the state.
+     * @param fixpoint the fixpoint of the relaxed planning graph of the parent.
+     * @return the distance to the goal state from the specified state or <code>Integer.MAX_VALUE</code> if the goal is
+     * unreachable from the specified state.
+     */
+    @Override
+    public int estimate(final State state, final Condition goal, final State parent, final Fixpoint fixpoint) {
+        super.setGoal(goal);
+        super.repairRelaxedPlanningGraph(parent, fixpoint, state);
+        try {
+            return super.isGoalReachable() ? super.getSumValue() : Integer.MAX_VALUE;
+        } finally {
+            super.restoreRelaxedPlanningGraph();
+        }
+    }
+
     /**
      * Return the estimated distance to the goal to reach the specified state. If the return value is
      * <code>DOUBLE.MAX_VALUE</code>, it means that the goal is unreachable from the specified
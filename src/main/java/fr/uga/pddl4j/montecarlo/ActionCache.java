@@ -0,0 +1,423 @@
+package fr.uga.pddl4j.montecarlo;
+
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.util.MemoryAccounting;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a bounded cache that associates arrays of action ids to states. By default the states are not
+ * stored: an entry is keyed by the 64-bit fingerprint of its state, so the cache does not keep the nodes of the walks
+ * alive. When the cache is verified, a copy of the state of each entry is kept and compared on each lookup, so that
+ * two states with the same fingerprint are never confused; the mismatches are counted as collisions. The copies are
+ * either {@link State} objects or, in the state arena mode, a fixed number of words per slot packed in a single
+ * <code>long</code> array whose handles are the slots. The packed array grows with the number of slots used.
+ * The number of entries is bounded. When the cache is full, the entry to evict is chosen with the CLOCK policy, an
+ * approximation of LRU that only needs a reference bit per entry.
+ * <p>
+ * The entries are stored in slots. An open addressing table with linear probing maps the fingerprints to the slots.
+ * The cache counts its hits, misses and evictions. It is not thread safe: each worker uses its own caches.
+ * </p>
+ *
+ * @author Takudzwa Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class ActionCache {
+
+    /**
+     * The value of an empty cell of the index.
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * The maximum number of entries of a cache, so that the length of the index fits in an array.
+     */
+    static final int MAX_CAPACITY = 1 << 29;
+
+    /**
+     * The number of slots of the packed array when it is created.
+     */
+    private static final int INITIAL_PACKED_SLOTS = 1024;
+
+    /**
+     * The fingerprint of the state of each slot.
+     */
+    private final long[] keys;
+
+    /**
+     * The action ids of each slot.
+     */
+    private final int[][] values;
+
+    /**
+     * The copy of the state of each slot or <code>null</code> if the cache is not verified.
+     */
+    private final State[] states;
+
+    /**
+     * The packed words of the state of each slot or <code>null</code> if the cache is not verified in the state arena
+     * mode.
+     */
+    private long[] packed;
+
+    /**
+     * The number of words of a packed state.
+     */
+    private final int words;
+
+    /**
+     * The reference bit of each slot used by the CLOCK policy.
+     */
+    private final boolean[] referenced;
+
+    /**
+     * The open addressing index from the fingerprints to the slots.
+     */
+    private final int[] index;
+
+    /**
+     * The mask used to compute the position of a fingerprint in the index.
+     */
+    private final int mask;
+
+    /**
+     * The number of slots used.
+     */
+    private int size;
+
+    /**
+     * The position of the hand of the clock.
+     */
+    private int hand;
+
+    /**
+     * The number of hits.
+     */
+    private long hits;
+
+    /**
+     * The number of misses.
+     */
+    private long misses;
+
+    /**
+     * The number of evictions.
+     */
+    private long evictions;
+
+    /**
+     * The number of lookups whose fingerprint matched an entry of an other state.
+     */
+    private long collisions;
+
+    /**
+     * The number of bytes of the state copies of a verified cache.
+     */
+    private long stateBytes;
+
+    /**
+     * Creates a new cache with a specified maximum number of entries. The states of the entries are not stored.
+     *
+     * @param capacity the maximum number of entries of the cache.
+     * @throws IllegalArgumentException if <code>capacity &lt;= 0</code> or <code>capacity &gt; MAX_CAPACITY</code>.
+     */
+    ActionCache(final int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * Creates a new cache with a specified maximum number of entries.
+     *
+     * @param capacity the maximum number of entries of the cache.
+     * @param verify   <code>true</code> if the states of the entries are stored and compared on each lookup.
+     * @throws IllegalArgumentException if <code>capacity &lt;= 0</code> or <code>capacity &gt; MAX_CAPACITY</code>.
+     */
+    ActionCache(final int capacity, final boolean verify) {
+        this(capacity, verify, 0);
+    }
+
+    /**
+     * Creates a new cache with a specified maximum number of entries. If the cache is verified and the number of words
+     * per state is strictly positive, the states of the entries are packed in a single array instead of being copied
+     * as {@link State} objects.
+     *
+     * @param capacity the maximum number of entries of the cache.
+     * @param verify   <code>true</code> if the states of the entries are stored and compared on each lookup.
+     * @param words    the number of words of a packed state or 0 to copy the states as {@link State} objects.
+     * @throws IllegalArgumentException if <code>capacity &lt;= 0</code>, <code>capacity &gt; MAX_CAPACITY</code>,
+     *     <code>words &lt; 0</code> or if the packed states of a full cache do not fit in an array.
+     */
+    ActionCache(final int capacity, final boolean verify, final int words) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be strictly positive");
+        }
+        if (capacity > ActionCache.MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be at most " + ActionCache.MAX_CAPACITY);
+        }
+        if (words < 0) {
+            throw new IllegalArgumentException("words must be positive");
+        }
+        final boolean pack = verify && words > 0;
+        if (pack && (long) capacity * words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("the packed states of " + capacity + " entries of " + words
+                + " words do not fit in an array");
+        }
+        this.keys = new long[capacity];
+        this.values = new int[capacity][];
+        this.words = words;
+        this.packed = pack ? new long[Math.min(capacity, ActionCache.INITIAL_PACKED_SLOTS) * words] : null;
+        this.states = verify && words == 0 ? new State[capacity] : null;
+        this.referenced = new boolean[capacity];
+        // The index is at most half full
+        final int length = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 2;
+        this.index = new int[length];
+        Arrays.fill(this.index, ActionCache.EMPTY);
+        this.mask = length - 1;
+        this.size = 0;
+        this.hand = 0;
+        this.stateBytes = 0;
+    }
+
+    /**
+     * Returns the maximum number of entries of the cache.
+     *
+     * @return the maximum number of entries of the cache.
+     */
+    int capacity() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the number of entries of the cache.
+     *
+     * @return the number of entries of the cache.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of hits.
+     *
+     * @return the number of hits.
+     */
+    long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of misses.
+     *
+     * @return the number of misses.
+     */
+    long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns the number of evictions.
+     *
+     * @return the number of evictions.
+     */
+    long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Returns the number of collisions, i.e., the lookups of a verified cache whose fingerprint matched an entry of an
+     * other state.
+     *
+     * @return the number of collisions.
+     */
+    long getCollisions() {
+        return this.collisions;
+    }
+
+    /**
+     * Returns the number of bytes used to store the states of the entries of a verified cache. The bytes of the
+     * {@link State} copies are accounted when they are stored and include the array of references.
+     *
+     * @return the number of bytes used to store the states or 0 if the cache is not verified.
+     */
+    long getStateBytes() {
+        if (this.packed != null) {
+            return (long) this.size * this.words * Long.BYTES;
+        } else if (this.states != null) {
+            return MemoryAccounting.measure(this.stateBytes
+                + MemoryAccounting.arraySize(this.states.length, MemoryAccounting.REFERENCE), (Object) this.states);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the action ids associated to a state.
+     *
+     * @param key   the fingerprint of the state.
+     * @param state the state, only used if the cache is verified.
+     * @return the action ids associated to the state or <code>null</code> if the cache does not contain the state.
+     */
+    int[] get(final long key, final State state) {
+        final int slot = this.find(key);
+        if (slot == ActionCache.EMPTY) {
+            this.misses++;
+            return null;
+        }
+        if (this.packed != null ? !state.equalsWords(this.packed, slot * this.words, this.words)
+            : this.states != null && !this.states[slot].equals(state)) {
+            this.collisions++;
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        this.referenced[slot] = true;
+        return this.values[slot];
+    }
+
+    /**
+     * Associates action ids to a state. If the cache is full, an entry is evicted. If the cache is verified, the state
+     * is copied and replaces the state of an entry with the same fingerprint.
+     *
+     * @param key   the fingerprint of the state.
+     * @param state the state, only used if the cache is verified.
+     * @param value the action ids.
+     */
+    void put(final long key, final State state, final int[] value) {
+        int slot = this.find(key);
+        if (slot == ActionCache.EMPTY) {
+            if (this.size < this.keys.length) {
+                slot = this.size++;
+            } else {
+                slot = this.evict();
+            }
+            this.keys[slot] = key;
+            this.insert(key, slot);
+        }
+        if (this.packed != null) {
+            if ((slot + 1) * this.words > this.packed.length) {
+                this.grow();
+            }
+            state.toWords(this.packed, slot * this.words, this.words);
+        } else if (this.states != null && !state.equals(this.states[slot])) {
+            if (this.states[slot] != null) {
+                this.stateBytes -= State.getMemorySize(this.states[slot].size() / Long.SIZE);
+            }
+            this.states[slot] = new State(state);
+            this.stateBytes += State.getMemorySize(this.states[slot].size() / Long.SIZE);
+        }
+        this.values[slot] = value;
+        this.referenced[slot] = true;
+    }
+
+    /**
+     * Removes all the entries of the cache. The counters are not reset.
+     */
+    void clear() {
+        Arrays.fill(this.index, ActionCache.EMPTY);
+        Arrays.fill(this.values, null);
+        if (this.states != null) {
+            Arrays.fill(this.states, null);
+        }
+        Arrays.fill(this.referenced, false);
+        this.size = 0;
+        this.hand = 0;
+    }
+
+    /**
+     * Grows the packed array by half of its number of slots, up to the capacity of the cache.
+     */
+    private void grow() {
+        final int slots = this.packed.length / this.words;
+        final int capacity = (int) Math.min(this.keys.length, (long) slots + (slots >> 1) + 1);
+        this.packed = Arrays.copyOf(this.packed, capacity * this.words);
+    }
+
+    /**
+     * Chooses a slot with the CLOCK policy and removes its entry: the hand skips and clears the slots recently
+     * referenced and stops on the first slot not referenced.
+     *
+     * @return the slot freed.
+     */
+    private int evict() {
+        while (this.referenced[this.hand]) {
+            this.referenced[this.hand] = false;
+            this.hand = (this.hand + 1) % this.keys.length;
+        }
+        final int victim = this.hand;
+        this.hand = (this.hand + 1) % this.keys.length;
+        this.remove(this.keys[victim]);
+        this.values[victim] = null;
+        this.evictions++;
+        return victim;
+    }
+
+    /**
+     * Returns the position of a fingerprint in the index.
+     *
+     * @param key the fingerprint.
+     * @return the position of the fingerprint in the index.
+     */
+    private int position(final long key) {
+        final long h = key ^ (key >>> 32);
+        return (int) h & this.mask;
+    }
+
+    /**
+     * Returns the slot of a fingerprint.
+     *
+     * @param key the fingerprint.
+     * @return the slot of the fingerprint or <code>EMPTY</code> if the cache does not contain the fingerprint.
+     */
+    private int find(final long key) {
+        int i = this.position(key);
+        int slot;
+        while ((slot = this.index[i]) != ActionCache.EMPTY) {
+            if (this.keys[slot] == key) {
+                return slot;
+            }
+            i = (i + 1) & this.mask;
+        }
+        return ActionCache.EMPTY;
+    }
+
+    /**
+     * Inserts a fingerprint in the index. The fingerprint must not be in the index.
+     *
+     * @param key  the fingerprint.
+     * @param slot the slot of the fingerprint.
+     */
+    private void insert(final long key, final int slot) {
+        int i = this.position(key);
+        while (this.index[i] != ActionCache.EMPTY) {
+            i = (i + 1) & this.mask;
+        }
+        this.index[i] = slot;
+    }
+
+    /**
+     * Removes a fingerprint from the index. The following cells of the cluster are shifted back so that linear probing
+     * remains correct without tombstones.
+     *
+     * @param key the fingerprint.
+     */
+    private void remove(final long key) {
+        int i = this.position(key);
+        while (this.keys[this.index[i]] != key) {
+            i = (i + 1) & this.mask;
+        }
+        int j = i;
+        while (true) {
+            j = (j + 1) & this.mask;
+            final int slot = this.index[j];
+            if (slot == ActionCache.EMPTY) {
+                break;
+            }
+            final int k = this.position(this.keys[slot]);
+            // Move the cell j in the hole i if its home position k is not cyclically in ]i, j]
+            if (i <= j ? (i >= k || k > j) : (i >= k && k > j)) {
+                this.index[i] = slot;
+                i = j;
+            }
+        }
+        this.index[i] = ActionCache.EMPTY;
+    }
+}
@@ -0,0 +1,300 @@
+package fr.uga.pddl4j.montecarlo;
+
+import fr.uga.pddl4j.planners.Statistics;
+
+import java.util.Arrays;
+
+/**
+ * This class implements the statistics of the Monte Carlo planner. In addition to the statistics of all planners, it
+ * records for each worker of the root-parallel search the number of random walks done and the number of restarts, the
+ * worker that reached the goal first and the hits, misses and evictions of the action caches of the workers.
+ *
+ * @author Takudzwa Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public class MonteCarloStatistics extends Statistics {
+
+    /**
+     * The number of random walks done by each worker.
+     */
+    private long[] walks;
+
+    /**
+     * The number of restarts done by each worker.
+     */
+    private int[] restarts;
+
+    /**
+     * The index of the worker that found the solution or -1 if no worker found a solution.
+     */
+    private int winningWorker;
+
+    /**
+     * The number of hits of the action caches of all the workers.
+     */
+    private long cacheHits;
+
+    /**
+     * The number of misses of the action caches of all the workers.
+     */
+    private long cacheMisses;
+
+    /**
+     * The number of evictions of the action caches of all the workers.
+     */
+    private long cacheEvictions;
+
+    /**
+     * The number of fingerprint collisions detected by the action caches of all the workers.
+     */
+    private long cacheCollisions;
+
+    /**
+     * The number of bytes used to store the states of the action caches of all the workers.
+     */
+    private long cacheStateBytes;
+
+    /**
+     * The number of states stored by the action caches of all the workers.
+     */
+    private long cacheStates;
+
+    /**
+     * The number of nodes of the UCT trees of all the workers.
+     */
+    private long treeNodes;
+
+    /**
+     * The number of heuristic evaluations of all the workers.
+     */
+    private long evaluations;
+
+    /**
+     * Creates a new statistics object. The default statistic values are set to 0.
+     */
+    public MonteCarloStatistics() {
+        super();
+        this.walks = new long[0];
+        this.restarts = new int[0];
+        this.winningWorker = -1;
+    }
+
+    /**
+     * Returns the number of workers of the last search.
+     *
+     * @return the number of workers of the last search.
+     */
+    public final int getNumberOfWorkers() {
+        return this.walks.length;
+    }
+
+    /**
+     * Resets the per-worker statistics for a specified number of workers.
+     *
+     * @param workers the number of workers.
+     */
+    public final void reset(final int workers) {
+        this.walks = new long[workers];
+        this.restarts = new int[workers];
+        this.winningWorker = -1;
+        this.cacheHits = 0;
+        this.cacheMisses = 0;
+        this.cacheEvictions = 0;
+        this.cacheCollisions = 0;
+        this.cacheStateBytes = 0;
+        this.cacheStates = 0;
+        this.treeNodes = 0;
+        this.evaluations = 0;
+    }
+
+    /**
+     * Returns the number of random walks done by a specified worker.
+     *
+     * @param worker the index of the worker.
+     * @return the number of random walks done by the worker.
+     */
+    public final long getWalks(final int worker) {
+        return this.walks[worker];
+    }
+
+    /**
+     * Sets the number of random walks done by a specified worker.
+     *
+     * @param worker the index of the worker.
+     * @param walks  the number of random walks done by the worker.
+     */
+    public final void setWalks(final int worker, final long walks) {
+        this.walks[worker] = walks;
+    }
+
+    /**
+     * Returns the total number of random walks done by all the workers.
+     *
+     * @return the total number of random walks done by all the workers.
+     */
+    public final long getTotalWalks() {
+        return Arrays.stream(this.walks).sum();
+    }
+
+    /**
+     * Returns the number of restarts done by a specified worker.
+     *
+     * @param worker the index of the worker.
+     * @return the number of restarts done by the worker.
+     */
+    public final int getRestarts(final int worker) {
+        return this.restarts[worker];
+    }
+
+    /**
+     * Sets the number of restarts done by a specified worker.
+     *
+     * @param worker   the index of the worker.
+     * @param restarts the number of restarts done by the worker.
+     */
+    public final void setRestarts(final int worker, final int restarts) {
+        this.restarts[worker] = restarts;
+    }
+
+    /**
+     * Returns the index of the worker that found the solution.
+     *
+     * @return the index of the worker that found the solution or -1 if no solution was found.
+     */
+    public final int getWinningWorker() {
+        return this.winningWorker;
+    }
+
+    /**
+     * Sets the index of the worker that found the solution.
+     *
+     * @param worker the index of the worker that found the solution or -1 if no solution was found.
+     */
+    public final void setWinningWorker(final int worker) {
+        this.winningWorker = worker;
+    }
+
+    /**
+     * Returns the number of hits of the action caches of all the workers.
+     *
+     * @return the number of hits of the action caches.
+     */
+    public final long getCacheHits() {
+        return this.cacheHits;
+    }
+
+    /**
+     * Returns the number of misses of the action caches of all the workers.
+     *
+     * @return the number of misses of the action caches.
+     */
+    public final long getCacheMisses() {
+        return this.cacheMisses;
+    }
+
+    /**
+     * Returns the number of evictions of the action caches of all the workers.
+     *
+     * @return the number of evictions of the action caches.
+     */
+    public final long getCacheEvictions() {
+        return this.cacheEvictions;
+    }
+
+    /**
+     * Returns the number of fingerprint collisions detected by the action caches of all the workers. Collisions are
+     * only detected when the caches are verified.
+     *
+     * @return the number of fingerprint collisions of the action caches.
+     */
+    public final long getCacheCollisions() {
+        return this.cacheCollisions;
+    }
+
+    /**
+     * Returns the average number of bytes used to store a state in the verified action caches.
+     *
+     * @return the average number of bytes per state or 0 if the action caches do not store the states.
+     */
+    public final double getCacheBytesPerState() {
+        return this.cacheStates == 0 ? 0.0 : (double) this.cacheStateBytes / this.cacheStates;
+    }
+
+    /**
+     * Adds the counters of an action cache to the counters of this statistics.
+     *
+     * @param cache the action cache.
+     */
+    final void addCacheStatistics(final ActionCache cache) {
+        this.cacheHits += cache.getHits();
+        this.cacheMisses += cache.getMisses();
+        this.cacheEvictions += cache.getEvictions();
+        this.cacheCollisions += cache.getCollisions();
+        final long bytes = cache.getStateBytes();
+        if (bytes > 0) {
+            this.cacheStateBytes += bytes;
+            this.cacheStates += cache.size();
+        }
+    }
+
+    /**
+     * Returns the number of nodes of the UCT trees of all the workers.
+     *
+     * @return the number of nodes of the UCT trees.
+     */
+    public final long getTreeNodes() {
+        return this.treeNodes;
+    }
+
+    /**
+     * Adds the number of nodes of the UCT tree of a worker to the number of nodes of this statistics.
+     *
+     * @param nodes the number of nodes of the UCT tree of a worker.
+     */
+    final void addTreeNodes(final int nodes) {
+        this.treeNodes += nodes;
+    }
+
+    /**
+     * Returns the number of heuristic evaluations of all the workers.
+     *
+     * @return the number of heuristic evaluations.
+     */
+    public final long getEvaluations() {
+        return this.evaluations;
+    }
+
+    /**
+     * Adds the number of heuristic evaluations of a worker to the number of evaluations of this statistics.
+     *
+     * @param evaluations the number of heuristic evaluations of a worker.
+     */
+    final void addEvaluations(final long evaluations) {
+        this.evaluations += evaluations;
+    }
+
+    /**
+     * Returns a string representation of this statistics.
+     *
+     * @return a string representation of this statistics.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder strb = new StringBuilder(super.toString());
+        strb.append(String.format("* Monte Carlo search:%n"));
+        strb.append(String.format("%8d workers%n", this.getNumberOfWorkers()));
+        for (int i = 0; i < this.walks.length; i++) {
+            strb.append(String.format("%8d walks, %d restarts by worker %d%s%n", this.walks[i], this.restarts[i], i,
+                i == this.winningWorker ? " (winner)" : ""));
+        }
+        strb.append(String.format("%8d walks total%n", this.getTotalWalks()));
+        strb.append(String.format("%8d UCT tree nodes%n", this.treeNodes));
+        strb.append(String.format("%8d heuristic evaluations%n", this.evaluations));
+        strb.append(String.format("%8d action cache hits%n", this.cacheHits));
+        strb.append(String.format("%8d action cache misses%n", this.cacheMisses));
+        strb.append(String.format("%8d action cache evictions%n", this.cacheEvictions));
+        strb.append(String.format("%8d action cache collisions%n", this.cacheCollisions));
+        strb.append(String.format("%8.1f bytes per cached state%n%n", this.getCacheBytesPerState()));
+        return strb.toString();
+    }
+}
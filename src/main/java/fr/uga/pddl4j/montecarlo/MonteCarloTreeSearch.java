@@ -9,10 +9,11 @@ import fr.uga.pddl4j.planners.AbstractPlanner;
 import fr.uga.pddl4j.planners.Planner;
 import fr.uga.pddl4j.planners.PlannerConfiguration;
 import fr.uga.pddl4j.planners.ProblemNotSupportedException;
+import fr.uga.pddl4j.planners.ProgressMonitor;
+import fr.uga.pddl4j.planners.SearchListener;
 import fr.uga.pddl4j.planners.statespace.HSP;
 import fr.uga.pddl4j.problem.DefaultProblem;
 import fr.uga.pddl4j.problem.Problem;
-import fr.uga.pddl4j.problem.State;
 import fr.uga.pddl4j.problem.operator.Action;
 
 import org.apache.logging.log4j.LogManager;
@@ -27,6 +28,14 @@ import java.util.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 
@@ -98,10 +107,56 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
 
     public static final String MAX_STEPS = "MAX_STEPS";
 
-    /** restarts after 7 steps if no improvement is observed. */
-    private static final int DEFAULT_MAX_STEPS = 7;
+    /** Number of workers of the root-parallel search. */
+    public static final String NUMBER_OF_WORKERS_SETTING = "NUMBER_OF_WORKERS";
 
-    private static final int DEFAULT_MAX_WALKS = 100;
+    /** By default the search runs a single worker in the calling thread. */
+    public static final int DEFAULT_NUMBER_OF_WORKERS = 1;
+
+    /** Maximum number of entries of each failed and helpful action cache of a worker. */
+    public static final String CACHE_SIZE_SETTING = "CACHE_SIZE";
+
+    /** By default each cache holds at most 65536 states. */
+    public static final int DEFAULT_CACHE_SIZE = 65536;
+
+    /** Whether the action caches store the states to detect fingerprint collisions. */
+    public static final String VERIFY_CACHE_SETTING = "VERIFY_CACHE";
+
+    /** By default the action caches only store the fingerprints of the states. */
+    public static final boolean DEFAULT_VERIFY_CACHE = false;
+
+    /** Whether the verified action caches pack their states into a single arena of words. */
+    public static final String STATE_ARENA_SETTING = "STATE_ARENA";
+
+    /** By default the verified action caches copy their states as objects. */
+    public static final boolean DEFAULT_STATE_ARENA = false;
+
+    /** Number of steps between two heuristic evaluations of a random walk. */
+    public static final String EVALUATION_PERIOD_SETTING = "EVALUATION_PERIOD";
+
+    /** By default every node of a random walk is evaluated. */
+    public static final int DEFAULT_EVALUATION_PERIOD = 1;
+
+    /** Search procedure run by each worker. */
+    public static final String SEARCH_SETTING = "SEARCH";
+
+    /** By default the workers run the UCT tree search. */
+    public static final Search DEFAULT_SEARCH = Search.UCT;
+
+    /**
+     * The search procedures of the workers.
+     */
+    public enum Search {
+        /**
+         * The UCT tree search: the tree is descended with UCB1 and the exploration constant, and each new leaf is
+         * evaluated with random walks.
+         */
+        UCT,
+        /**
+         * The restart loop of the pure random walk procedure.
+         */
+        RESTARTS
+    }
 
     /** c is the exploration constant for UCT.*/
     private double c;
@@ -142,12 +197,60 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
         return this.heuristic;
     }
 
-    //This is for the MDA
-    private final Map<State, Set<Integer>> failedActions = new HashMap<>();
+    private int numberOfWorkers;
+
+    /** returns the number of workers of the root-parallel search.
+     * @return the number of workers of the root-parallel search.
+    */
+    public final int getNumberOfWorkers(){
+        return this.numberOfWorkers;
+    }
+
+    private int cacheSize;
+
+    /** returns the maximum number of entries of each action cache of a worker.
+     * @return the maximum number of entries of each action cache of a worker.
+    */
+    public final int getCacheSize(){
+        return this.cacheSize;
+    }
+
+    private Search search;
+
+    private boolean verifyCache;
+
+    /** returns whether the action caches store the states to detect fingerprint collisions.
+     * @return <code>true</code> if the action caches store the states.
+    */
+    public final boolean isCacheVerified(){
+        return this.verifyCache;
+    }
+
+    private boolean stateArena;
+
+    /** returns whether the verified action caches pack their states into a single arena of words.
+     * @return <code>true</code> if the verified action caches pack their states.
+    */
+    public final boolean isStateArena(){
+        return this.stateArena;
+    }
+
+    private int evaluationPeriod;
+
+    /** returns the number of steps between two heuristic evaluations of a random walk, 0 meaning endpoint only.
+     * @return the number of steps between two heuristic evaluations of a random walk.
+    */
+    public final int getEvaluationPeriod(){
+        return this.evaluationPeriod;
+    }
+
+    /** returns the search procedure run by each worker.
+     * @return the search procedure run by each worker.
+    */
+    public final Search getSearch(){
+        return this.search;
+    }
 
-    //This is for MHA
-    private final Map<State, List<Integer>> helpfulActions = new HashMap<>();
-    
     /** 
      * This creates a planner using the default config. 
      */
@@ -162,6 +265,7 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
 
     public MonteCarloTreeSearch(final PlannerConfiguration configuration){
         super();
+        this.setStatistics(new MonteCarloStatistics());
         this.setConfiguration(configuration);
     }
 
@@ -213,6 +317,83 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
         this.lengthOfWalk = lengthOfWalk;
     }
 
+    /**
+     * This option sets the number of workers of the root-parallel search and the number of workers must be greater
+     * than 0.
+     * @param numberOfWorkers the number of workers.
+     * @throws IllegalArgumentException if the number of workers is less than or equal to 0.
+     */
+    @CommandLine.Option(names = {"-nt", "--workers"}, defaultValue = "1", paramLabel = "<numberOfWorkers>", description = "The number of parallel workers is by default set to 1." )
+    public void setNumberOfWorkers(final int numberOfWorkers){
+        if(numberOfWorkers <= 0){
+            throw new IllegalArgumentException("Your number of workers is less than 0. It should be strictly a positive value.");
+        }
+        this.numberOfWorkers = numberOfWorkers;
+    }
+
+    /**
+     * This option sets the maximum number of entries of each failed and helpful action cache of a worker. When a
+     * cache is full, the entries not used recently are evicted.
+     * @param cacheSize the maximum number of entries of each cache.
+     * @throws IllegalArgumentException if the cache size is less than or equal to 0.
+     */
+    @CommandLine.Option(names = {"-cs", "--cache-size"}, defaultValue = "65536", paramLabel = "<cacheSize>", description = "The maximum number of states of each action cache is by default set to 65536." )
+    public void setCacheSize(final int cacheSize){
+        if(cacheSize <= 0){
+            throw new IllegalArgumentException("Your cache size is less than 0. It should be strictly a positive value.");
+        }
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * This option sets the search procedure run by each worker, either UCT or the restart loop of pure random walks.
+     * @param search the search procedure.
+     * @throws IllegalArgumentException if the search procedure is null.
+     */
+    @CommandLine.Option(names = {"-s", "--search"}, defaultValue = "UCT", paramLabel = "<search>", description = "The search procedure (UCT or RESTARTS) is by default set to UCT." )
+    public void setSearch(final Search search){
+        if(search == null){
+            throw new IllegalArgumentException("Your search procedure is null.");
+        }
+        this.search = search;
+    }
+
+    /**
+     * This option sets whether the action caches store a copy of the states to compare them on each lookup. Without
+     * it, two states with the same 64-bit fingerprint share their cache entries.
+     * @param verifyCache <code>true</code> if the action caches store the states.
+     */
+    @CommandLine.Option(names = {"-vc", "--verify-cache"}, defaultValue = "false", description = "The verification of the action caches against fingerprint collisions is by default set to false." )
+    public void setVerifyCache(final boolean verifyCache){
+        this.verifyCache = verifyCache;
+    }
+
+    /**
+     * This option sets whether the verified action caches pack the words of their states into a single array, indexed
+     * by the slots of the caches, instead of keeping a copy of each state as an object. It has no effect without the
+     * verification of the caches.
+     * @param stateArena <code>true</code> if the verified action caches pack their states.
+     */
+    @CommandLine.Option(names = {"-sa", "--state-arena"}, defaultValue = "false", description = "The packing of the states of the verified action caches into a single arena is by default set to false." )
+    public void setStateArena(final boolean stateArena){
+        this.stateArena = stateArena;
+    }
+
+    /**
+     * This option sets the number of steps between two heuristic evaluations of a random walk. With 1, every node of
+     * a walk is evaluated and the walk follows the helpful actions. With 0, a walk is run in place and only its
+     * endpoint is evaluated; with k &gt; 1 it is also evaluated every k steps.
+     * @param evaluationPeriod the number of steps between two evaluations.
+     * @throws IllegalArgumentException if the evaluation period is less than 0.
+     */
+    @CommandLine.Option(names = {"-ep", "--evaluation-period"}, defaultValue = "1", paramLabel = "<evaluationPeriod>", description = "The number of steps between two heuristic evaluations of a walk (0 for the endpoint only) is by default set to 1." )
+    public void setEvaluationPeriod(final int evaluationPeriod){
+        if(evaluationPeriod < 0){
+            throw new IllegalArgumentException("Your evaluation period is less than 0. It should be a positive value.");
+        }
+        this.evaluationPeriod = evaluationPeriod;
+    }
+
     /** 
      * returns planner default arguments.
      * @return planner default arguments.
@@ -223,6 +404,12 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
         configs.setProperty(MonteCarloTreeSearch.EXPLORATION_CONSTANT_SETTING, Double.toString(MonteCarloTreeSearch.DEFAULT_EXPLORATION_CONSTANT_VALUE));
         configs.setProperty(MonteCarloTreeSearch.LENGTH_OF_EACH_WALK_SETTING, Integer.toString(MonteCarloTreeSearch.DEFAULT_LENGTH_OF_EACH_WALK));
         configs.setProperty(MonteCarloTreeSearch.NUMBER_OF_WALKS_SETTING, Integer.toString(MonteCarloTreeSearch.DEFAULT_NUMBER_OF_WALKS));
+        configs.setProperty(MonteCarloTreeSearch.NUMBER_OF_WORKERS_SETTING, Integer.toString(MonteCarloTreeSearch.DEFAULT_NUMBER_OF_WORKERS));
+        configs.setProperty(MonteCarloTreeSearch.CACHE_SIZE_SETTING, Integer.toString(MonteCarloTreeSearch.DEFAULT_CACHE_SIZE));
+        configs.setProperty(MonteCarloTreeSearch.SEARCH_SETTING, MonteCarloTreeSearch.DEFAULT_SEARCH.toString());
+        configs.setProperty(MonteCarloTreeSearch.EVALUATION_PERIOD_SETTING, Integer.toString(MonteCarloTreeSearch.DEFAULT_EVALUATION_PERIOD));
+        configs.setProperty(MonteCarloTreeSearch.VERIFY_CACHE_SETTING, Boolean.toString(MonteCarloTreeSearch.DEFAULT_VERIFY_CACHE));
+        configs.setProperty(MonteCarloTreeSearch.STATE_ARENA_SETTING, Boolean.toString(MonteCarloTreeSearch.DEFAULT_STATE_ARENA));
         return configs;
     }
 
@@ -232,11 +419,17 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
      */
     @Override
     public PlannerConfiguration getConfiguration(){
-        PlannerConfiguration configs = Planner.getDefaultConfiguration();
-        configs.setProperty(MonteCarloTreeSearch.HEURISTIC_STRING, MonteCarloTreeSearch.DEFAULT_HEURISTIC_NAME.toString());
-        configs.setProperty(MonteCarloTreeSearch.EXPLORATION_CONSTANT_SETTING, Double.toString(MonteCarloTreeSearch.DEFAULT_EXPLORATION_CONSTANT_VALUE));
-        configs.setProperty(MonteCarloTreeSearch.LENGTH_OF_EACH_WALK_SETTING, Integer.toString(MonteCarloTreeSearch.DEFAULT_LENGTH_OF_EACH_WALK));
-        configs.setProperty(MonteCarloTreeSearch.NUMBER_OF_WALKS_SETTING, Integer.toString(MonteCarloTreeSearch.DEFAULT_NUMBER_OF_WALKS));
+        PlannerConfiguration configs = super.getConfiguration();
+        configs.setProperty(MonteCarloTreeSearch.HEURISTIC_STRING, this.getHeuristic().toString());
+        configs.setProperty(MonteCarloTreeSearch.EXPLORATION_CONSTANT_SETTING, Double.toString(this.getC()));
+        configs.setProperty(MonteCarloTreeSearch.LENGTH_OF_EACH_WALK_SETTING, Integer.toString(this.getLengthOfEachWalk()));
+        configs.setProperty(MonteCarloTreeSearch.NUMBER_OF_WALKS_SETTING, Integer.toString(this.getNumberOfWalks()));
+        configs.setProperty(MonteCarloTreeSearch.NUMBER_OF_WORKERS_SETTING, Integer.toString(this.getNumberOfWorkers()));
+        configs.setProperty(MonteCarloTreeSearch.CACHE_SIZE_SETTING, Integer.toString(this.getCacheSize()));
+        configs.setProperty(MonteCarloTreeSearch.SEARCH_SETTING, this.getSearch().toString());
+        configs.setProperty(MonteCarloTreeSearch.EVALUATION_PERIOD_SETTING, Integer.toString(this.getEvaluationPeriod()));
+        configs.setProperty(MonteCarloTreeSearch.VERIFY_CACHE_SETTING, Boolean.toString(this.isCacheVerified()));
+        configs.setProperty(MonteCarloTreeSearch.STATE_ARENA_SETTING, Boolean.toString(this.isStateArena()));
         return configs;
     }
 
@@ -274,6 +467,48 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
         else{
             this.setLengthOfWalk(Integer.parseInt(configuration.getProperty(MonteCarloTreeSearch.LENGTH_OF_EACH_WALK_SETTING)));
         }
+
+        if(configuration.getProperty(MonteCarloTreeSearch.NUMBER_OF_WORKERS_SETTING) == null){
+            this.setNumberOfWorkers(MonteCarloTreeSearch.DEFAULT_NUMBER_OF_WORKERS);
+        }
+        else{
+            this.setNumberOfWorkers(Integer.parseInt(configuration.getProperty(MonteCarloTreeSearch.NUMBER_OF_WORKERS_SETTING)));
+        }
+
+        if(configuration.getProperty(MonteCarloTreeSearch.CACHE_SIZE_SETTING) == null){
+            this.setCacheSize(MonteCarloTreeSearch.DEFAULT_CACHE_SIZE);
+        }
+        else{
+            this.setCacheSize(Integer.parseInt(configuration.getProperty(MonteCarloTreeSearch.CACHE_SIZE_SETTING)));
+        }
+
+        if(configuration.getProperty(MonteCarloTreeSearch.SEARCH_SETTING) == null){
+            this.setSearch(MonteCarloTreeSearch.DEFAULT_SEARCH);
+        }
+        else{
+            this.setSearch(Search.valueOf(configuration.getProperty(MonteCarloTreeSearch.SEARCH_SETTING)));
+        }
+
+        if(configuration.getProperty(MonteCarloTreeSearch.EVALUATION_PERIOD_SETTING) == null){
+            this.setEvaluationPeriod(MonteCarloTreeSearch.DEFAULT_EVALUATION_PERIOD);
+        }
+        else{
+            this.setEvaluationPeriod(Integer.parseInt(configuration.getProperty(MonteCarloTreeSearch.EVALUATION_PERIOD_SETTING)));
+        }
+
+        if(configuration.getProperty(MonteCarloTreeSearch.VERIFY_CACHE_SETTING) == null){
+            this.setVerifyCache(MonteCarloTreeSearch.DEFAULT_VERIFY_CACHE);
+        }
+        else{
+            this.setVerifyCache(Boolean.parseBoolean(configuration.getProperty(MonteCarloTreeSearch.VERIFY_CACHE_SETTING)));
+        }
+
+        if(configuration.getProperty(MonteCarloTreeSearch.STATE_ARENA_SETTING) == null){
+            this.setStateArena(MonteCarloTreeSearch.DEFAULT_STATE_ARENA);
+        }
+        else{
+            this.setStateArena(Boolean.parseBoolean(configuration.getProperty(MonteCarloTreeSearch.STATE_ARENA_SETTING)));
+        }
         
     }
 
@@ -282,7 +517,7 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
      * @return <code>true</code> if all arguments are valid else it returns <code>false</code>
      */
     public boolean hasValidConfiguration(){
-        return super.hasValidConfiguration() && this.getC() > 0.0 && this.getHeuristic() != null && this.getNumberOfWalks() > 0 && this.getLengthOfEachWalk() > 0;
+        return super.hasValidConfiguration() && this.getC() > 0.0 && this.getHeuristic() != null && this.getNumberOfWalks() > 0 && this.getLengthOfEachWalk() > 0 && this.getNumberOfWorkers() > 0 && this.getCacheSize() > 0 && this.getSearch() != null && this.getEvaluationPeriod() >= 0;
 
     }
 
@@ -317,54 +552,140 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
         return plan;
     }
 
+    /**
+     * Searches a plan with the root-parallel Monte Carlo procedure. Each worker runs its own UCT tree search or
+     * restart loop from the initial state with its own random stream. The heuristic is shared by the workers when it is thread safe. The
+     * first worker reaching the goal stops the others. With a single worker, the search runs in the calling thread.
+     *
+     * @param problem the problem to solve.
+     * @return the plan found or <code>null</code> if no plan was found.
+     * @throws ProblemNotSupportedException if the problem is not supported by the planner.
+     */
     public Plan montecarlo(Problem problem) throws ProblemNotSupportedException{
-        
         if(!this.isSupported(problem)){
             throw new ProblemNotSupportedException("Problem not supported!");
         }
-        final StateHeuristic heuristic = StateHeuristic.getInstance(this.getHeuristic(), problem);
-
-        State init = new State(problem.getInitialState());
-        Node n = new Node(init, null, -1, 0, 0, heuristic.estimate(init, problem.getGoal()));
-
-        double hMin = n.getHeuristic();
-        int counter = 0;
-        int restarts = 0; //tracks the number of restarts
-        int maxRestarts = 10; //Return null if we exeed the restart limit.
-        while(!n.satisfy(problem.getGoal())){
-            if(counter >= DEFAULT_MAX_STEPS || getActions(problem,n).isEmpty()){
-                restarts++;
-                if(restarts>=maxRestarts){
-                    LOGGER.warn("Too many restars stopping search");
-                    return null;
+        final int n = this.getNumberOfWorkers();
+        final AtomicBoolean stop = new AtomicBoolean(false);
+        final long deadline = System.currentTimeMillis() + this.getTimeout() * 1000L;
+        final SplittableRandom random = new SplittableRandom();
+        final List<Worker> workers = new ArrayList<>(n);
+        final StateHeuristic shared = StateHeuristic.getInstance(this.getHeuristic(), problem);
+        for(int i = 0; i < n; i++){
+            // A thread safe heuristic is built once and shared by all the workers
+            final StateHeuristic heuristic = i == 0 || shared.isThreadSafe()
+                ? shared : StateHeuristic.getInstance(this.getHeuristic(), problem);
+            workers.add(new Worker(i, this, problem, heuristic, random.split(), stop, deadline));
+        }
+        // The first worker emits the progress events with the statistics of all the workers
+        final ProgressMonitor monitor = new ProgressMonitor(MonteCarloTreeSearch.class.getSimpleName());
+        monitor.setPeriod(this.getProgressPeriod());
+        for(SearchListener listener : this.getSearchListeners()){
+            monitor.addSearchListener(listener);
+        }
+        monitor.start();
+        workers.get(0).setProgressMonitor(monitor, workers);
+
+        Node goal = null;
+        int winner = -1;
+        if(n == 1){
+            goal = workers.get(0).call();
+            winner = goal != null ? 0 : -1;
+        }
+        else{
+            final ExecutorService executor = Executors.newFixedThreadPool(n);
+            final CompletionService<Node> completion = new ExecutorCompletionService<>(executor);
+            final Map<Future<Node>, Worker> futures = new HashMap<>();
+            try{
+                for(Worker w : workers){
+                    futures.put(completion.submit(w), w);
+                }
+                for(int done = 0; done < n && goal == null; done++){
+                    final long remaining = deadline - System.currentTimeMillis();
+                    final Future<Node> f = completion.poll(Math.max(remaining, 0), TimeUnit.MILLISECONDS);
+                    if(f == null){
+                        break;
+                    }
+                    try{
+                        goal = f.get();
+                        if(goal != null){
+                            winner = futures.get(f).getIndex();
+                        }
+                    }
+                    catch(ExecutionException e){
+                        LOGGER.error("Worker {} failed: {}", futures.get(f).getIndex(), e.getCause());
+                    }
                 }
-            n = new Node(init, null, -1, 0, 0, heuristic.estimate(init, problem.getGoal()));
-            counter = 0;
-            continue;
             }
-            n = pureRandomWalkAlgo(problem, n, heuristic);
-            if(n.getHeuristic()< hMin){
-                hMin = n.getHeuristic();
-                counter = 0;
+            catch(InterruptedException e){
+                Thread.currentThread().interrupt();
             }
-            else{
-                counter++;
+            finally{
+                stop.set(true);
+                executor.shutdownNow();
+                try{
+                    executor.awaitTermination(1, TimeUnit.SECONDS);
+                }
+                catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                }
             }
         }
-        return extractPlan(n, problem);
 
+        final MonteCarloStatistics statistics = (MonteCarloStatistics) this.getStatistics();
+        statistics.reset(n);
+        for(Worker w : workers){
+            statistics.setWalks(w.getIndex(), w.getWalks());
+            statistics.setRestarts(w.getIndex(), w.getRestarts());
+            statistics.addTreeNodes(w.getTreeSize());
+            statistics.addEvaluations(w.getEvaluations());
+            statistics.addCacheStatistics(w.getFailedActions());
+            statistics.addCacheStatistics(w.getHelpfulActions());
+        }
+        statistics.setWinningWorker(winner);
+        MonteCarloTreeSearch.report(monitor, workers, true);
+        return goal == null ? null : this.extractPlan(goal, problem);
+    }
+
+    /**
+     * Emits a progress event with the statistics of the workers. The expanded nodes are the random walks, the
+     * generated nodes are the heuristic evaluations and the memory is the memory of the UCT trees.
+     *
+     * @param monitor  the monitor that emits the progress events.
+     * @param workers  the workers of the search.
+     * @param finished <code>true</code> if the search is over.
+     */
+    static void report(final ProgressMonitor monitor, final List<Worker> workers, final boolean finished){
+        long walks = 0;
+        long evaluations = 0;
+        long restarts = 0;
+        long memory = 0;
+        int best = Integer.MAX_VALUE;
+        for(Worker w : workers){
+            walks += w.getWalks();
+            evaluations += w.getEvaluations();
+            restarts += w.getRestarts();
+            memory += (long) w.getTreeSize() * UctTree.NODE_BYTES;
+            best = Math.min(best, w.getBestHeuristic());
+        }
+        if(finished){
+            monitor.finish(walks, evaluations, best, -1, restarts, memory);
+        }
+        else{
+            monitor.report(walks, evaluations, best, -1, restarts, memory);
+        }
     }
     
     /**
-     * Returns if a specified problem is supported by the planner. Just ADL problem can be solved by this planner.
+     * Returns if a specified problem is supported by the planner. Just ADL problem, possibly with action costs, can be
+     * solved by this planner.
      *
      * @param problem the problem to test.
      * @return <code>true</code> if the problem is supported <code>false</code> otherwise.
      */
     @Override
     public boolean isSupported(Problem problem){
-        return(problem.getRequirements().contains(RequireKey.ACTION_COSTS)
-        || problem.getRequirements().contains(RequireKey.CONSTRAINTS)
+        return(problem.getRequirements().contains(RequireKey.CONSTRAINTS)
         || problem.getRequirements().contains(RequireKey.CONTINOUS_EFFECTS)
         || problem.getRequirements().contains(RequireKey.DERIVED_PREDICATES)
         || problem.getRequirements().contains(RequireKey.DURATIVE_ACTIONS)
@@ -397,163 +718,6 @@ public class MonteCarloTreeSearch extends AbstractPlanner {
         }
         return plan;
     }
-    /**
-     * Implements the pure random walk algorithm, Algorithm 2 in @see <a href="http://pddl4j.imag.fr/repository/exercices/resources/arvand.pdf"> http://pddl4j.imag.fr/repository/exercices/resources/arvand.pdf </a>
-     * @param p the planning problem.
-     * @param s the node.
-     * @param heuristic the heuristic.
-     * @return A new node.
-     */
-    public Node pureRandomWalkAlgo(Problem p, Node s, StateHeuristic heuristic){
-        double hMin = Double.MAX_VALUE;
-        Node sMin = null;
-        int adaptiveWalks = 0;
-        double hBefore = s.getHeuristic();
-        double hAfter = hBefore;
-
-        while(adaptiveWalks < DEFAULT_MAX_WALKS){
-            Node sPrime = randomWalk(p,s,heuristic);
-            hAfter = sPrime.getHeuristic();
-
-            if(sPrime.satisfy(p.getGoal())){
-                return sPrime;
-            }
-            
-            if(hAfter < hMin){
-                hMin = hAfter;
-                sMin = sPrime;
-            }
-
-            if(hAfter < hBefore){
-                hBefore = hAfter;
-                adaptiveWalks = 0;
-            }
-            else{
-                adaptiveWalks++;
-            }
-        }
-        return sMin == null ? s : sMin;
-
-        /*/
-        for(int i = 0; i < numberOfWalks; i++){
-            Node sPrime = s;
-            for(int j = 1; j < lengthOfWalk; j++){
-                List<Action> A = this.getActions(p,sPrime);
-                if(A.isEmpty())
-                 break;
-                Action a = selectRandomAction(A);
-                sPrime = useAction(p, sPrime, a, heuristic);
-                if(sPrime.satisfy(p.getGoal()))
-                 return sPrime;
-
-            }
-            if(sPrime.getHeuristic() < hMin){
-                hMin =sPrime.getHeuristic();
-                sMin = sPrime;
-            }
-        }
-        return sMin == null ? s : sMin;*/
-    }
-    private Node randomWalk(Problem p, Node start, StateHeuristic heuristic){
-        Node current = start;
-        double hMin = current.getHeuristic();
-        Node sMin = null;
-        int walkLength = 1;
-
-        while(walkLength <= this.lengthOfWalk){
-            final Node currentNode = current;
-            List<Action> actions = getHelpfulActions(p, current, heuristic);
-            actions.removeIf(a -> failedActions.getOrDefault(currentNode, Set.of()).contains(p.getActions().indexOf(a)));
-
-            if(actions.isEmpty()){
-                break;
-            }
-            
-            Action a = selectRandomAction(actions);
-            Node next = useAction(p, current, a, heuristic);
-
-            if(next.satisfy(p.getGoal())){
-                return next;
-            }
-            
-            if(next.getHeuristic() < hMin){
-                hMin = next.getHeuristic();
-                sMin = next;
-            }
-
-            if(getActions(p, next).isEmpty()){
-                failedActions.computeIfAbsent(currentNode, k -> new HashSet<>()).add(p.getActions().indexOf(a));
-            }
-
-            current = next;
-            walkLength++;
-        }
-        return sMin == null ? start : sMin;
-    }
-
-    private List<Action> getActions(Problem p,Node n){
-        List<Action> actions = p.getActions();
-        List<Action> applicableActions = new ArrayList<>();
-        for(Action a : actions){
-            if(a.isApplicable(n)){
-                applicableActions.add(a);
-            }
-        }
-        return applicableActions;
-    }
-
-    private List<Action> getHelpfulActions(Problem p, Node n, StateHeuristic heuristic){
-        if(helpfulActions.containsKey(n)){
-            List<Integer> i = helpfulActions.get(n);
-            List<Action> actions = new ArrayList<>();
-            
-            for(int j : i){
-                actions.add(p.getActions().get(j));
-            }
-            return actions;
-        }
-        List<Action> actions = getActions(p, n);
-        List<Action> helpful = new ArrayList<>();
-        List<Integer> helpfulIndices = new ArrayList<>();
-        double currentHeuristicValue = n.getHeuristic();
-
-        for(Action a : actions){
-            State s = new State(n);
-            s.apply(a.getConditionalEffects());
-            double h = heuristic.estimate(s,p.getGoal());
-
-            if(h < currentHeuristicValue){
-                helpful.add(a);
-                helpfulIndices.add(p.getActions().indexOf(a));
-            }
-        }
-        
-        if(helpful.isEmpty()){
-            return actions;
-        }
-
-        helpfulActions.put(n,helpfulIndices);
-        return helpful;
-    }
-
-    /**
-     * 
-     * @param listActions a list of actions.
-     * @return returns a random action
-     */
-    private Action selectRandomAction(List<Action> listActions){
-        Collections.shuffle(listActions);
-        return listActions.get(0);
-    }
-
-    public Node useAction(Problem p, Node n, Action a, StateHeuristic heuristic){
-        State s = new State(n);
-        s.apply(a.getConditionalEffects());
-        Node child = new Node(s, n, p.getActions().indexOf(a), n.getCost() + 1, n.getDepth() + 1, 0);
-        child.setHeuristic(heuristic.estimate(child, p.getGoal()));
-        
-        return child;
-    }
 
     /**
      * Compares performance of HSP and MCTS
@@ -0,0 +1,331 @@
+package fr.uga.pddl4j.montecarlo;
+
+import java.util.Arrays;
+
+/**
+ * This class implements the tree of the UCT search. The tree is stored in arrays of primitive values indexed by the
+ * nodes of the tree, so that a node costs 40 bytes and millions of nodes can be stored. The states are not stored: the
+ * state of a node is computed by applying the actions of the path from the root to the node. For each node, the tree
+ * records its parent, the action that leads to it, its first child and next sibling, the number of actions applicable
+ * in its state, its number of exhausted children, its number of visits and the sum of the rewards backpropagated
+ * through it. A node is exhausted when it has no applicable action or when all its applicable actions have a child and
+ * all its children are exhausted: the search cannot reach the goal below an exhausted node, so it is never selected.
+ * <p>
+ * The root of the tree is the node 0.
+ * </p>
+ *
+ * @author Takudzwa Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class UctTree {
+
+    /**
+     * The number of bytes of the arrays of the tree per node.
+     */
+    static final int NODE_BYTES = 8 * Integer.BYTES + Double.BYTES;
+
+    /**
+     * The value used for a missing node.
+     */
+    static final int NONE = -1;
+
+    /**
+     * The value used when the number of applicable actions of a node is not yet computed.
+     */
+    static final int UNKNOWN = -1;
+
+    /**
+     * The default initial capacity of the tree.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The parent of each node.
+     */
+    private int[] parent;
+
+    /**
+     * The action that leads to each node.
+     */
+    private int[] action;
+
+    /**
+     * The first child of each node.
+     */
+    private int[] firstChild;
+
+    /**
+     * The next sibling of each node.
+     */
+    private int[] nextSibling;
+
+    /**
+     * The number of children of each node.
+     */
+    private int[] children;
+
+    /**
+     * The number of actions applicable in the state of each node or <code>UNKNOWN</code>.
+     */
+    private int[] applicable;
+
+    /**
+     * The number of exhausted children of each node.
+     */
+    private int[] exhausted;
+
+    /**
+     * The number of visits of each node.
+     */
+    private int[] visits;
+
+    /**
+     * The sum of the rewards backpropagated through each node.
+     */
+    private double[] value;
+
+    /**
+     * The number of nodes of the tree.
+     */
+    private int size;
+
+    /**
+     * Creates a new tree that contains only the root.
+     */
+    UctTree() {
+        this.parent = new int[UctTree.DEFAULT_CAPACITY];
+        this.action = new int[UctTree.DEFAULT_CAPACITY];
+        this.firstChild = new int[UctTree.DEFAULT_CAPACITY];
+        this.nextSibling = new int[UctTree.DEFAULT_CAPACITY];
+        this.children = new int[UctTree.DEFAULT_CAPACITY];
+        this.applicable = new int[UctTree.DEFAULT_CAPACITY];
+        this.exhausted = new int[UctTree.DEFAULT_CAPACITY];
+        this.visits = new int[UctTree.DEFAULT_CAPACITY];
+        this.value = new double[UctTree.DEFAULT_CAPACITY];
+        this.size = 0;
+        this.newNode(UctTree.NONE, -1);
+    }
+
+    /**
+     * Returns the number of nodes of the tree.
+     *
+     * @return the number of nodes of the tree.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the parent of a node.
+     *
+     * @param node the node.
+     * @return the parent of the node or <code>NONE</code> for the root.
+     */
+    int getParent(final int node) {
+        return this.parent[node];
+    }
+
+    /**
+     * Returns the action that leads to a node.
+     *
+     * @param node the node.
+     * @return the id of the action that leads to the node or -1 for the root.
+     */
+    int getAction(final int node) {
+        return this.action[node];
+    }
+
+    /**
+     * Returns the first child of a node.
+     *
+     * @param node the node.
+     * @return the first child of the node or <code>NONE</code> if the node has no child.
+     */
+    int getFirstChild(final int node) {
+        return this.firstChild[node];
+    }
+
+    /**
+     * Returns the next sibling of a node.
+     *
+     * @param node the node.
+     * @return the next sibling of the node or <code>NONE</code> if the node has no next sibling.
+     */
+    int getNextSibling(final int node) {
+        return this.nextSibling[node];
+    }
+
+    /**
+     * Returns the number of children of a node.
+     *
+     * @param node the node.
+     * @return the number of children of the node.
+     */
+    int getChildren(final int node) {
+        return this.children[node];
+    }
+
+    /**
+     * Returns the number of actions applicable in the state of a node.
+     *
+     * @param node the node.
+     * @return the number of actions applicable in the state of the node or <code>UNKNOWN</code>.
+     */
+    int getApplicable(final int node) {
+        return this.applicable[node];
+    }
+
+    /**
+     * Sets the number of actions applicable in the state of a node. A node from which the goal is known to be not
+     * reachable must be given 0 applicable action. A node without applicable action is exhausted and its ancestors
+     * that become exhausted with it are updated.
+     *
+     * @param node       the node.
+     * @param applicable the number of actions applicable in the state of the node.
+     */
+    void setApplicable(final int node, final int applicable) {
+        this.applicable[node] = applicable;
+        if (applicable == 0) {
+            for (int n = this.parent[node]; n != UctTree.NONE; n = this.parent[n]) {
+                this.exhausted[n]++;
+                if (!this.isExhausted(n)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a node is exhausted, i.e., if it has no applicable action or if all its applicable
+     * actions have a child and all its children are exhausted.
+     *
+     * @param node the node.
+     * @return <code>true</code> if the node is exhausted; <code>false</code> otherwise.
+     */
+    boolean isExhausted(final int node) {
+        final int children = this.children[node];
+        return children == this.applicable[node] && this.exhausted[node] == children;
+    }
+
+    /**
+     * Returns the number of visits of a node.
+     *
+     * @param node the node.
+     * @return the number of visits of the node.
+     */
+    int getVisits(final int node) {
+        return this.visits[node];
+    }
+
+    /**
+     * Returns the sum of the rewards backpropagated through a node.
+     *
+     * @param node the node.
+     * @return the sum of the rewards backpropagated through the node.
+     */
+    double getValue(final int node) {
+        return this.value[node];
+    }
+
+    /**
+     * Returns <code>true</code> if a node has an applicable action without child.
+     *
+     * @param node the node.
+     * @return <code>true</code> if the node can be expanded; <code>false</code> otherwise.
+     */
+    boolean isExpandable(final int node) {
+        return this.children[node] < this.applicable[node];
+    }
+
+    /**
+     * Adds a child to a node.
+     *
+     * @param node   the node.
+     * @param action the id of the action that leads to the child.
+     * @return the new child.
+     */
+    int addChild(final int node, final int action) {
+        final int child = this.newNode(node, action);
+        this.nextSibling[child] = this.firstChild[node];
+        this.firstChild[node] = child;
+        this.children[node]++;
+        return child;
+    }
+
+    /**
+     * Returns the child of a node that maximizes the UCB1 value
+     * <code>value(n) / visits(n) + c * sqrt(ln(visits(node)) / visits(n))</code>. A child never visited is selected
+     * first. The exhausted children are never selected.
+     *
+     * @param node the node.
+     * @param c    the exploration constant.
+     * @return the selected child or <code>NONE</code> if the node has no child that is not exhausted.
+     */
+    int select(final int node, final double c) {
+        final double logN = Math.log(Math.max(this.visits[node], 1));
+        int best = UctTree.NONE;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int n = this.firstChild[node]; n != UctTree.NONE; n = this.nextSibling[n]) {
+            if (this.isExhausted(n)) {
+                continue;
+            }
+            final int v = this.visits[n];
+            if (v == 0) {
+                return n;
+            }
+            final double ucb = this.value[n] / v + c * Math.sqrt(logN / v);
+            if (ucb > bestValue) {
+                bestValue = ucb;
+                best = n;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Backpropagates a reward from a node to the root: the visits and the values of the node and of its ancestors are
+     * updated.
+     *
+     * @param node   the node.
+     * @param reward the reward.
+     */
+    void backpropagate(final int node, final double reward) {
+        for (int n = node; n != UctTree.NONE; n = this.parent[n]) {
+            this.visits[n]++;
+            this.value[n] += reward;
+        }
+    }
+
+    /**
+     * Adds a new node to the tree.
+     *
+     * @param parent the parent of the node.
+     * @param action the id of the action that leads to the node.
+     * @return the new node.
+     */
+    private int newNode(final int parent, final int action) {
+        if (this.size == this.parent.length) {
+            final int capacity = this.size + (this.size >> 1);
+            this.parent = Arrays.copyOf(this.parent, capacity);
+            this.action = Arrays.copyOf(this.action, capacity);
+            this.firstChild = Arrays.copyOf(this.firstChild, capacity);
+            this.nextSibling = Arrays.copyOf(this.nextSibling, capacity);
+            this.children = Arrays.copyOf(this.children, capacity);
+            this.applicable = Arrays.copyOf(this.applicable, capacity);
+            this.exhausted = Arrays.copyOf(this.exhausted, capacity);
+            this.visits = Arrays.copyOf(this.visits, capacity);
+            this.value = Arrays.copyOf(this.value, capacity);
+        }
+        final int node = this.size++;
+        this.parent[node] = parent;
+        this.action[node] = action;
+        this.firstChild[node] = UctTree.NONE;
+        this.nextSibling[node] = UctTree.NONE;
+        this.children[node] = 0;
+        this.applicable[node] = UctTree.UNKNOWN;
+        this.exhausted[node] = 0;
+        this.visits[node] = 0;
+        this.value[node] = 0.0;
+        return node;
+    }
+}
@@ -0,0 +1,160 @@
+package fr.uga.pddl4j.montecarlo;
+
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements the undo log of a random walk run in place on a single state. Each step of the walk applies
+ * an action to the state and records the ids of the actions taken together with the index and the previous value of
+ * each word of the state changed by the action. The steps can then be undone in reverse order to bring the state back
+ * to the start of the walk, so that a walk does not allocate any state or node. The arrays of the log only grow
+ * during the first walks.
+ *
+ * @author Takudzwa Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class UndoLog {
+
+    /**
+     * The default capacity of the log in words.
+     */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The indexes of the words changed.
+     */
+    private int[] indexes;
+
+    /**
+     * The previous values of the words changed.
+     */
+    private long[] values;
+
+    /**
+     * The number of words recorded.
+     */
+    private int size;
+
+    /**
+     * The ids of the actions taken.
+     */
+    private int[] actions;
+
+    /**
+     * The number of words recorded before each step.
+     */
+    private int[] marks;
+
+    /**
+     * The number of steps recorded.
+     */
+    private int length;
+
+    /**
+     * The buffer used to collect the conditional effects whose condition holds before a step.
+     */
+    private int[] triggered;
+
+    /**
+     * Creates a new empty undo log.
+     *
+     * @param capacity the initial number of steps of the log.
+     */
+    UndoLog(final int capacity) {
+        this.indexes = new int[UndoLog.DEFAULT_CAPACITY];
+        this.values = new long[UndoLog.DEFAULT_CAPACITY];
+        this.size = 0;
+        this.actions = new int[Math.max(capacity, 1)];
+        this.marks = new int[Math.max(capacity, 1)];
+        this.length = 0;
+        this.triggered = new int[1];
+    }
+
+    /**
+     * Returns the number of steps recorded.
+     *
+     * @return the number of steps recorded.
+     */
+    int length() {
+        return this.length;
+    }
+
+    /**
+     * Returns the id of the action taken at a specified step.
+     *
+     * @param step the step.
+     * @return the id of the action taken at the step.
+     */
+    int getAction(final int step) {
+        return this.actions[step];
+    }
+
+    /**
+     * Applies an action to a state and records the step. The conditions of the conditional effects of the action are
+     * evaluated in the state before the step.
+     *
+     * @param state  the state.
+     * @param id     the id of the action.
+     * @param action the action.
+     */
+    void apply(final State state, final int id, final Action action) {
+        if (this.length == this.actions.length) {
+            this.actions = Arrays.copyOf(this.actions, this.length * 2);
+            this.marks = Arrays.copyOf(this.marks, this.length * 2);
+        }
+        this.actions[this.length] = id;
+        this.marks[this.length] = this.size;
+        this.length++;
+        final List<ConditionalEffect> effects = action.getConditionalEffects();
+        final int n = effects.size();
+        if (n > this.triggered.length) {
+            this.triggered = new int[n];
+        }
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (state.satisfy(effects.get(i).getCondition())) {
+                this.triggered[count++] = i;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            final BitVector negative = effects.get(this.triggered[i]).getEffect().getNegativeFluents();
+            final BitVector positive = effects.get(this.triggered[i]).getEffect().getPositiveFluents();
+            this.ensureCapacity(Math.max(negative.size(), positive.size()) / Long.SIZE);
+            this.size = state.andNotOr(negative, positive, this.indexes, this.values, this.size);
+        }
+    }
+
+    /**
+     * Undoes the last steps of the log until a specified number of steps remains.
+     *
+     * @param state  the state to which the steps were applied.
+     * @param length the number of steps to keep.
+     */
+    void undo(final State state, final int length) {
+        if (length < this.length) {
+            final int mark = this.marks[length];
+            state.undo(this.indexes, this.values, mark, this.size);
+            this.size = mark;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Ensures that the log can record a specified number of additional words.
+     *
+     * @param words the number of additional words.
+     */
+    private void ensureCapacity(final int words) {
+        final int required = this.size + words;
+        if (required > this.indexes.length) {
+            final int capacity = Math.max(required, this.indexes.length * 2);
+            this.indexes = Arrays.copyOf(this.indexes, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+    }
+}
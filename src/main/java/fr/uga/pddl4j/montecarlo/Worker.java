@@ -0,0 +1,863 @@
+package fr.uga.pddl4j.montecarlo;
+
+import fr.uga.pddl4j.heuristics.state.FastForward;
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.ProgressMonitor;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.StateArena;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.BitVector;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class implements one worker of the Monte Carlo planner. A worker searches from the initial state of the problem
+ * either with a UCT tree whose leaves are evaluated by random walks or with the restart loop of the pure random walk
+ * procedure. It has its own random stream and its own bounded failed and helpful action caches. The workers of a
+ * root-parallel search share a stop flag, raised as soon as one of them reaches the goal, and the heuristic when it is
+ * thread safe.
+ *
+ * @author Takudzwa Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class Worker implements Callable<Node> {
+
+    /**
+     * The class logger.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(Worker.class.getName());
+
+    /**
+     * Restarts after this number of steps if no improvement is observed.
+     */
+    private static final int MAX_STEPS = 7;
+
+    /**
+     * The maximum number of restarts before the worker gives up.
+     */
+    private static final int MAX_RESTARTS = 10;
+
+    /**
+     * The empty list of actions, cached for the states without helpful action.
+     */
+    private static final int[] NO_ACTION = new int[0];
+
+    /**
+     * The index of the worker.
+     */
+    private final int index;
+
+    /**
+     * The problem to solve.
+     */
+    private final Problem problem;
+
+    /**
+     * The heuristic of the worker.
+     */
+    private final StateHeuristic heuristic;
+
+    /**
+     * The search procedure of the worker.
+     */
+    private final MonteCarloTreeSearch.Search search;
+
+    /**
+     * The exploration constant of UCT.
+     */
+    private final double c;
+
+    /**
+     * The number of random walks run from each leaf of the UCT tree and the maximum number of walks without
+     * improvement in one step of the restart loop.
+     */
+    private final int numberOfWalks;
+
+    /**
+     * The length of each random walk.
+     */
+    private final int lengthOfWalk;
+
+    /**
+     * The number of steps between two heuristic evaluations of a random walk: 1 evaluates every node of the walk and 0
+     * evaluates only the endpoint of the walk.
+     */
+    private final int evaluationPeriod;
+
+    /**
+     * The reusable state on which the random walks are run in place.
+     */
+    private final State scratch;
+
+    /**
+     * The undo log of the current random walk.
+     */
+    private final UndoLog log;
+
+    /**
+     * The node to which the reusable state is set between two walks.
+     */
+    private State origin;
+
+    /**
+     * The random value used to shuffle the order in which the actions of a node of the UCT tree are expanded.
+     */
+    private final int salt;
+
+    /**
+     * The random stream of the worker.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The flag shared by all the workers to stop the search.
+     */
+    private final AtomicBoolean stop;
+
+    /**
+     * The time in milliseconds after which the worker stops.
+     */
+    private final long deadline;
+
+    /**
+     * The actions that lead to dead-ends from a state (MDA).
+     */
+    private final ActionCache failedActions;
+
+    /**
+     * The helpful actions of a state (MHA).
+     */
+    private final ActionCache helpfulActions;
+
+    /**
+     * The heuristic of the worker when it is the FF heuristic, which gives the helpful actions of a node in the same
+     * call as its heuristic value, or <code>null</code> otherwise.
+     */
+    private final FastForward relaxedPlan;
+
+    /**
+     * The buffer used to collect the helpful actions given by the FF heuristic.
+     */
+    private final BitVector preferred;
+
+    /**
+     * The successor generator of the problem.
+     */
+    private final SuccessorGenerator generator;
+
+    /**
+     * The buffer used to collect the ids of the applicable actions.
+     */
+    private final int[] applicable;
+
+    /**
+     * The buffer used to collect the ids of the actions that can be drawn during a walk.
+     */
+    private final int[] candidates;
+
+    /**
+     * The states of the successors probed at once to find the helpful actions.
+     */
+    private final List<State> probes;
+
+    /**
+     * The buffers of the states of the successors probed, created the first time they are needed.
+     */
+    private final State[] probeBuffers;
+
+    /**
+     * The heuristic values of the successors probed.
+     */
+    private final int[] probeValues;
+
+    /**
+     * The number of random walks done by the worker.
+     */
+    private long walks;
+
+    /**
+     * The number of restarts done by the worker.
+     */
+    private int restarts;
+
+    /**
+     * The number of nodes of the UCT tree of the worker.
+     */
+    private int treeSize;
+
+    /**
+     * The number of heuristic evaluations done by the worker.
+     */
+    private long evaluations;
+
+    /**
+     * The best heuristic value computed by the worker.
+     */
+    private int best;
+
+    /**
+     * The monitor that emits the progress events of the search or null if the worker does not emit them.
+     */
+    private ProgressMonitor monitor;
+
+    /**
+     * The workers whose statistics are reported in the progress events.
+     */
+    private List<Worker> workers;
+
+    /**
+     * Creates a new worker.
+     *
+     * @param index     the index of the worker.
+     * @param planner   the planner that gives the parameters of the search.
+     * @param problem   the problem to solve.
+     * @param heuristic the heuristic of the worker.
+     * @param random    the random stream of the worker.
+     * @param stop      the flag shared by all the workers to stop the search.
+     * @param deadline  the time in milliseconds after which the worker stops.
+     */
+    Worker(final int index, final MonteCarloTreeSearch planner, final Problem problem, final StateHeuristic heuristic,
+           final SplittableRandom random, final AtomicBoolean stop, final long deadline) {
+        this.index = index;
+        this.problem = problem;
+        this.heuristic = heuristic;
+        this.relaxedPlan = heuristic instanceof FastForward ? (FastForward) heuristic : null;
+        this.preferred = new BitVector(problem.getActions().size());
+        this.search = planner.getSearch();
+        this.c = planner.getC();
+        this.numberOfWalks = planner.getNumberOfWalks();
+        this.lengthOfWalk = planner.getLengthOfEachWalk();
+        this.evaluationPeriod = planner.getEvaluationPeriod();
+        this.scratch = new State();
+        this.log = new UndoLog(this.lengthOfWalk);
+        this.origin = null;
+        this.random = random;
+        this.salt = random.nextInt();
+        this.stop = stop;
+        this.deadline = deadline;
+        this.generator = problem.getSuccessorGenerator();
+        this.applicable = new int[this.generator.size()];
+        this.candidates = new int[this.generator.size()];
+        this.probes = new ArrayList<>();
+        this.probeBuffers = new State[this.generator.size()];
+        this.probeValues = new int[this.generator.size()];
+        final int words = planner.isStateArena() ? StateArena.getWordsPerState(problem.getFluents().size()) : 0;
+        this.failedActions = new ActionCache(planner.getCacheSize(), planner.isCacheVerified(), words);
+        this.helpfulActions = new ActionCache(planner.getCacheSize(), planner.isCacheVerified(), words);
+        this.walks = 0;
+        this.restarts = 0;
+        this.treeSize = 0;
+        this.evaluations = 0;
+        this.best = Integer.MAX_VALUE;
+        this.monitor = null;
+        this.workers = null;
+    }
+
+    /**
+     * Makes the worker emit the progress events of the search with the statistics of a list of workers. The
+     * statistics of the other workers are read without synchronization while they run, so the events are
+     * approximations.
+     *
+     * @param monitor the monitor that emits the progress events.
+     * @param workers the workers whose statistics are reported.
+     */
+    void setProgressMonitor(final ProgressMonitor monitor, final List<Worker> workers) {
+        this.monitor = monitor;
+        this.workers = workers;
+    }
+
+    /**
+     * Returns the index of the worker.
+     *
+     * @return the index of the worker.
+     */
+    int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Returns the number of random walks done by the worker.
+     *
+     * @return the number of random walks done by the worker.
+     */
+    long getWalks() {
+        return this.walks;
+    }
+
+    /**
+     * Returns the number of restarts done by the worker.
+     *
+     * @return the number of restarts done by the worker.
+     */
+    int getRestarts() {
+        return this.restarts;
+    }
+
+    /**
+     * Returns the number of nodes of the UCT tree of the worker.
+     *
+     * @return the number of nodes of the UCT tree of the worker.
+     */
+    int getTreeSize() {
+        return this.treeSize;
+    }
+
+    /**
+     * Returns the number of heuristic evaluations done by the worker.
+     *
+     * @return the number of heuristic evaluations done by the worker.
+     */
+    long getEvaluations() {
+        return this.evaluations;
+    }
+
+    /**
+     * Returns the best heuristic value computed by the worker.
+     *
+     * @return the best heuristic value computed by the worker or <code>Integer.MAX_VALUE</code>.
+     */
+    int getBestHeuristic() {
+        return this.best;
+    }
+
+    /**
+     * Returns the cache of the actions that lead to dead-ends.
+     *
+     * @return the cache of the actions that lead to dead-ends.
+     */
+    ActionCache getFailedActions() {
+        return this.failedActions;
+    }
+
+    /**
+     * Returns the cache of the helpful actions.
+     *
+     * @return the cache of the helpful actions.
+     */
+    ActionCache getHelpfulActions() {
+        return this.helpfulActions;
+    }
+
+    /**
+     * Returns <code>true</code> if the worker must stop, i.e., another worker reached the goal, the deadline is
+     * over or the thread of the worker was interrupted.
+     *
+     * @return <code>true</code> if the worker must stop, <code>false</code> otherwise.
+     */
+    private boolean isStopped() {
+        return this.stop.get() || System.currentTimeMillis() >= this.deadline
+            || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Emits a progress event if the worker emits the progress events of the search and the period is over.
+     */
+    private void reportProgress() {
+        if (this.monitor != null && this.monitor.isDue()) {
+            MonteCarloTreeSearch.report(this.monitor, this.workers, false);
+        }
+    }
+
+    /**
+     * Runs the search procedure of the worker from the initial state of the problem. When the goal is reached the
+     * shared stop flag is raised.
+     *
+     * @return the node reaching the goal or <code>null</code> if the worker stopped before reaching the goal.
+     */
+    @Override
+    public Node call() {
+        final Node goal = this.search == MonteCarloTreeSearch.Search.UCT ? this.uct() : this.restartLoop();
+        if (goal != null) {
+            this.stop.set(true);
+        }
+        return goal;
+    }
+
+    /**
+     * Runs the UCT search. Each iteration selects a path in the tree from the root with the UCB1 policy, expands the
+     * last node of the path with one of its untried actions, evaluates the new leaf with <code>numberOfWalks</code>
+     * random walks and backpropagates the reward of the best node reached by the walks. The reward of a node is
+     * <code>1 / (1 + h)</code> where <code>h</code> is its heuristic value, and 0 for a dead-end. The dead-ends, i.e.,
+     * the nodes without applicable action or whose heuristic value is <code>Integer.MAX_VALUE</code>, are not
+     * simulated and exhaust their subtree, so that the search gives up when the whole tree is exhausted. The states of
+     * the nodes of the tree are not stored but computed by applying the actions from the root.
+     *
+     * @return the node reaching the goal or <code>null</code> if the worker stopped or exhausted its tree before
+     *     reaching the goal.
+     */
+    private Node uct() {
+        final Problem p = this.problem;
+        final State init = new State(p.getInitialState());
+        final Node root = new Node(init, null, -1, 0, 0, this.estimate(init));
+        if (root.satisfy(p.getGoal())) {
+            return root;
+        }
+        final UctTree tree = new UctTree();
+        tree.setApplicable(0, this.getNumberOfUsefulActions(root));
+        while (!tree.isExhausted(0)) {
+            if (this.isStopped()) {
+                return null;
+            }
+            this.reportProgress();
+            // Selection: descend while the nodes are fully expanded
+            int t = 0;
+            Node n = root;
+            while (!tree.isExpandable(t)) {
+                t = tree.select(t, this.c);
+                n = this.apply(n, tree.getAction(t));
+            }
+            // Expansion: add one untried action of the node
+            final int count = this.getNumberOfApplicableActions(n);
+            final int a = this.applicable[Math.floorMod(tree.getChildren(t) + this.salt * (t + 1), count)];
+            t = tree.addChild(t, a);
+            n = this.useAction(n, a);
+            if (n.satisfy(p.getGoal())) {
+                this.treeSize = tree.size();
+                return n;
+            }
+            tree.setApplicable(t, this.getNumberOfUsefulActions(n));
+            // Simulation: random walks from the new leaf unless it is a dead-end
+            Node best = n;
+            for (int i = 0; i < this.numberOfWalks && !tree.isExhausted(t) && !this.isStopped(); i++) {
+                final Node sPrime = this.randomWalk(n);
+                this.walks++;
+                if (sPrime.satisfy(p.getGoal())) {
+                    this.treeSize = tree.size();
+                    return sPrime;
+                }
+                if (sPrime.getHeuristic() < best.getHeuristic()) {
+                    best = sPrime;
+                }
+            }
+            // Backpropagation
+            tree.backpropagate(t, tree.isExhausted(t) ? 0.0 : Worker.reward(best));
+            this.treeSize = tree.size();
+        }
+        LOGGER.warn("UCT tree exhausted, worker {} stops searching", this.index);
+        return null;
+    }
+
+    /**
+     * Returns the number of actions applicable in a specified node or 0 if the goal is not reachable from the node
+     * according to the heuristic.
+     *
+     * @param n the node.
+     * @return the number of actions of the node that can lead to the goal.
+     */
+    private int getNumberOfUsefulActions(final Node n) {
+        return n.getHeuristic() >= Integer.MAX_VALUE ? 0 : this.getNumberOfApplicableActions(n);
+    }
+
+    /**
+     * Returns the reward of a node, i.e., <code>1 / (1 + h)</code> where <code>h</code> is the heuristic value of the
+     * node, or 0 if the goal is not reachable from the node.
+     *
+     * @param node the node.
+     * @return the reward of the node.
+     */
+    private static double reward(final Node node) {
+        final double h = node.getHeuristic();
+        return h >= Integer.MAX_VALUE ? 0.0 : 1.0 / (1.0 + h);
+    }
+
+    /**
+     * Runs the restart loop of the pure random walk procedure.
+     *
+     * @return the node reaching the goal or <code>null</code> if the worker stopped before reaching the goal.
+     */
+    private Node restartLoop() {
+        final Problem p = this.problem;
+        final State init = new State(p.getInitialState());
+        Node n = new Node(init, null, -1, 0, 0, this.estimate(init));
+        double hMin = n.getHeuristic();
+        int counter = 0;
+        while (!n.satisfy(p.getGoal())) {
+            if (this.isStopped()) {
+                return null;
+            }
+            if (counter >= Worker.MAX_STEPS || this.getNumberOfApplicableActions(n) == 0) {
+                this.restarts++;
+                if (this.restarts >= Worker.MAX_RESTARTS) {
+                    LOGGER.warn("Too many restarts, worker {} stops searching", this.index);
+                    return null;
+                }
+                n = new Node(init, null, -1, 0, 0, this.estimate(init));
+                counter = 0;
+                continue;
+            }
+            n = this.pureRandomWalkAlgo(n);
+            if (n.getHeuristic() < hMin) {
+                hMin = n.getHeuristic();
+                counter = 0;
+            } else {
+                counter++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Implements the pure random walk algorithm, Algorithm 2 in
+     * @see <a href="http://pddl4j.imag.fr/repository/exercices/resources/arvand.pdf">
+     *     http://pddl4j.imag.fr/repository/exercices/resources/arvand.pdf</a>
+     *
+     * @param s the node.
+     * @return A new node.
+     */
+    Node pureRandomWalkAlgo(final Node s) {
+        double hMin = Double.MAX_VALUE;
+        Node sMin = null;
+        int adaptiveWalks = 0;
+        double hBefore = s.getHeuristic();
+        double hAfter;
+        while (adaptiveWalks < this.numberOfWalks && !this.isStopped()) {
+            this.reportProgress();
+            final Node sPrime = this.randomWalk(s);
+            this.walks++;
+            hAfter = sPrime.getHeuristic();
+            if (sPrime.satisfy(this.problem.getGoal())) {
+                return sPrime;
+            }
+            if (hAfter < hMin) {
+                hMin = hAfter;
+                sMin = sPrime;
+            }
+            if (hAfter < hBefore) {
+                hBefore = hAfter;
+                adaptiveWalks = 0;
+            } else {
+                adaptiveWalks++;
+            }
+        }
+        return sMin == null ? s : sMin;
+    }
+
+    /**
+     * Runs one random walk from a specified node, avoiding the actions known to fail. The walk is run in place: the
+     * actions are applied to the reusable state of the worker and recorded in its undo log, and the state is brought
+     * back to the start node at the end of the walk, so that a step does not create any state or node. When the
+     * evaluation period is 1, the actions are drawn among the helpful actions and every state of the walk is
+     * evaluated. Otherwise, the actions are drawn among all the applicable actions, in the style of Arvand, and the
+     * walk is only evaluated every <code>evaluationPeriod</code> steps, if the period is not 0, and at its endpoint.
+     * The nodes of the walk are only created for the prefix returned.
+     *
+     * @param start the node from which the walk starts.
+     * @return the best node evaluated during the walk or the start node if no node improves the heuristic.
+     */
+    private Node randomWalk(final Node start) {
+        final State current = this.load(start);
+        final UndoLog log = this.log;
+        double h = start.getHeuristic();
+        double hMin = h;
+        int best = 0;
+        int evaluated = 0;
+        // The best and the last evaluated prefixes before the last step, restored when the walk steps back
+        double previousHMin = hMin;
+        int previousBest = best;
+        int previousEvaluated = evaluated;
+        long key = current.fingerprint();
+        long previousKey = 0;
+        while (log.length() < this.lengthOfWalk) {
+            final int[] failed = this.failedActions.get(key, current);
+            final int[] helpful = this.evaluationPeriod == 1 ? this.getHelpfulActions(current, h, key) : null;
+            int size = 0;
+            if (helpful != null) {
+                for (int a : helpful) {
+                    if (failed == null || !Worker.contains(failed, a)) {
+                        this.candidates[size++] = a;
+                    }
+                }
+            } else {
+                final int count = this.getNumberOfApplicableActions(current);
+                if (count == 0) {
+                    // The last action taken leads to a dead-end: the walk steps back and records the failure
+                    if (log.length() > 0) {
+                        final int length = log.length();
+                        if (best == length) {
+                            best = previousBest;
+                            hMin = previousHMin;
+                        }
+                        if (evaluated == length) {
+                            evaluated = previousEvaluated;
+                        }
+                        final int a = log.getAction(length - 1);
+                        log.undo(current, length - 1);
+                        final int[] known = this.failedActions.get(previousKey, current);
+                        this.failedActions.put(previousKey, current, Worker.add(known, a));
+                    }
+                    break;
+                }
+                for (int i = 0; i < count; i++) {
+                    final int a = this.applicable[i];
+                    if (failed == null || !Worker.contains(failed, a)) {
+                        this.candidates[size++] = a;
+                    }
+                }
+            }
+            if (size == 0) {
+                break;
+            }
+            final int a = this.candidates[this.random.nextInt(size)];
+            log.apply(current, a, this.problem.getActions().get(a));
+            previousKey = key;
+            key = current.fingerprint();
+            final int length = log.length();
+            previousHMin = hMin;
+            previousBest = best;
+            previousEvaluated = evaluated;
+            if (current.satisfy(this.problem.getGoal())) {
+                final Node goal = this.materialize(start, length, 0);
+                log.undo(current, 0);
+                return goal;
+            }
+            if (this.evaluationPeriod == 1) {
+                h = this.evaluate(current, key);
+                evaluated = length;
+            } else if (this.evaluationPeriod > 0 && length % this.evaluationPeriod == 0) {
+                h = this.estimate(current);
+                evaluated = length;
+            }
+            if (evaluated == length && h < hMin) {
+                hMin = h;
+                best = length;
+            }
+        }
+        if (evaluated < log.length()) {
+            h = this.estimate(current);
+            if (h < hMin) {
+                hMin = h;
+                best = log.length();
+            }
+        }
+        final Node result = best == 0 ? start : this.materialize(start, best, hMin);
+        log.undo(current, 0);
+        return result;
+    }
+
+    /**
+     * Returns the reusable state of the worker set to a specified node. The state is only copied when the node is not
+     * the start node of the previous walk, since each walk brings the state back to its start node.
+     *
+     * @param start the node from which the next walk starts.
+     * @return the reusable state of the worker.
+     */
+    private State load(final State start) {
+        if (this.origin != start) {
+            this.scratch.clear();
+            this.scratch.or(start);
+            this.origin = start;
+        }
+        return this.scratch;
+    }
+
+    /**
+     * Creates the nodes of a prefix of the current random walk.
+     *
+     * @param start     the node from which the walk started.
+     * @param length    the length of the prefix.
+     * @param heuristic the heuristic value of the last node of the prefix.
+     * @return the last node of the prefix.
+     */
+    private Node materialize(final Node start, final int length, final double heuristic) {
+        Node n = start;
+        for (int i = 0; i < length; i++) {
+            n = this.apply(n, this.log.getAction(i));
+        }
+        n.setHeuristic(heuristic);
+        return n;
+    }
+
+    /**
+     * Returns the heuristic value of a specified state and counts the evaluation.
+     *
+     * @param s the state.
+     * @return the heuristic value of the state.
+     */
+    private int estimate(final State s) {
+        this.evaluations++;
+        final int h = this.heuristic.estimate(s, this.problem.getGoal());
+        this.best = Math.min(this.best, h);
+        return h;
+    }
+
+    /**
+     * Returns the number of actions applicable in a specified state computed with the successor generator of the
+     * problem.
+     *
+     * @param s the state.
+     * @return the number of actions applicable in the state.
+     */
+    private int getNumberOfApplicableActions(final State s) {
+        return this.generator.getApplicableActions(s, this.applicable);
+    }
+
+    /**
+     * Returns the ids of the helpful actions of a specified state. With the FF heuristic, the helpful actions are the
+     * applicable actions achieving a goal of the first level of the relaxed plan of the state. With the other
+     * heuristics, they are the applicable actions that decrease the heuristic; the successors of the state are probed
+     * at once with the batch estimate of the heuristic.
+     *
+     * @param s   the state.
+     * @param h   the heuristic value of the state.
+     * @param key the fingerprint of the state.
+     * @return the ids of the helpful actions of the state or <code>null</code> if no action is helpful.
+     */
+    private int[] getHelpfulActions(final State s, final double h, final long key) {
+        int[] helpful = this.helpfulActions.get(key, s);
+        if (helpful == null) {
+            if (this.relaxedPlan != null) {
+                this.evaluate(s, key);
+                helpful = this.helpfulActions.get(key, s);
+            } else {
+                final int count = this.getNumberOfApplicableActions(s);
+                this.probe(s, count);
+                int size = 0;
+                for (int i = 0; i < count; i++) {
+                    final int a = this.applicable[i];
+                    if (this.probeValues[i] < h) {
+                        // The helpful actions are compacted at the beginning of the buffer
+                        this.applicable[size++] = a;
+                    }
+                }
+                helpful = size == 0 ? Worker.NO_ACTION : Arrays.copyOf(this.applicable, size);
+                this.helpfulActions.put(key, s, helpful);
+            }
+        }
+        return helpful.length == 0 ? null : helpful;
+    }
+
+    /**
+     * Computes the heuristic values of the successors of a state by the applicable actions collected in the buffer of
+     * the worker and counts the evaluations. The values are stored in the same order as the actions.
+     *
+     * @param s     the state.
+     * @param count the number of applicable actions of the state.
+     */
+    private void probe(final State s, final int count) {
+        this.probes.clear();
+        for (int i = 0; i < count; i++) {
+            if (this.probeBuffers[i] == null) {
+                this.probeBuffers[i] = new State();
+            }
+            final State probe = this.probeBuffers[i];
+            probe.clear();
+            probe.or(s);
+            for (ConditionalEffect ce : this.problem.getActions().get(this.applicable[i]).getConditionalEffects()) {
+                if (s.satisfy(ce.getCondition())) {
+                    probe.apply(ce.getEffect());
+                }
+            }
+            this.probes.add(probe);
+        }
+        this.heuristic.estimate(this.probes, this.problem.getGoal(), this.probeValues);
+        this.evaluations += count;
+        for (int i = 0; i < count; i++) {
+            this.best = Math.min(this.best, this.probeValues[i]);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if an array of action ids contains a specified id.
+     *
+     * @param actions the array of action ids.
+     * @param a       the id.
+     * @return <code>true</code> if the array contains the id; <code>false</code> otherwise.
+     */
+    private static boolean contains(final int[] actions, final int a) {
+        for (int b : actions) {
+            if (b == a) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a copy of an array of action ids extended with a specified id.
+     *
+     * @param actions the array of action ids or <code>null</code>.
+     * @param a       the id to add.
+     * @return the extended copy of the array.
+     */
+    private static int[] add(final int[] actions, final int a) {
+        if (actions == null) {
+            return new int[] {a};
+        }
+        if (Worker.contains(actions, a)) {
+            return actions;
+        }
+        final int[] extended = Arrays.copyOf(actions, actions.length + 1);
+        extended[actions.length] = a;
+        return extended;
+    }
+
+    /**
+     * Applies an action to a specified node and returns the resulting child node.
+     *
+     * @param n the node.
+     * @param a the id of the action to apply.
+     * @return the child node.
+     */
+    Node useAction(final Node n, final int a) {
+        final Node child = this.apply(n, a);
+        child.setHeuristic(this.relaxedPlan != null ? this.evaluate(child, child.fingerprint()) : this.estimate(child));
+        return child;
+    }
+
+    /**
+     * Returns the heuristic value of a specified state. With the FF heuristic, the helpful actions of the state come
+     * with its heuristic value and are cached for the next step of a walk.
+     *
+     * @param s   the state.
+     * @param key the fingerprint of the state.
+     * @return the heuristic value of the state.
+     */
+    private int evaluate(final State s, final long key) {
+        if (this.relaxedPlan == null) {
+            return this.estimate(s);
+        }
+        this.evaluations++;
+        final int h = this.relaxedPlan.estimate(s, this.problem.getGoal(), this.preferred);
+        this.best = Math.min(this.best, h);
+        final int size = this.preferred.cardinality();
+        if (size == 0) {
+            this.helpfulActions.put(key, s, Worker.NO_ACTION);
+        } else {
+            final int[] helpful = new int[size];
+            int i = 0;
+            for (int p = this.preferred.nextSetBit(0); p >= 0; p = this.preferred.nextSetBit(p + 1)) {
+                helpful[i++] = p;
+            }
+            this.helpfulActions.put(key, s, helpful);
+        }
+        return h;
+    }
+
+    /**
+     * Applies an action to a specified node and returns the resulting child node without estimating its heuristic
+     * value. The conditions of the conditional effects of the action are evaluated in the node.
+     *
+     * @param n the node.
+     * @param a the id of the action to apply.
+     * @return the child node.
+     */
+    private Node apply(final Node n, final int a) {
+        final State s = new State(n);
+        for (ConditionalEffect ce : this.problem.getActions().get(a).getConditionalEffects()) {
+            if (n.satisfy(ce.getCondition())) {
+                s.apply(ce.getEffect());
+            }
+        }
+        return new Node(s, n, a, n.getCost() + 1, n.getDepth() + 1, 0);
+    }
+}
@@ -20,13 +20,17 @@ import fr.uga.pddl4j.parser.ErrorManager;
 import fr.uga.pddl4j.parser.Message;
 import fr.uga.pddl4j.parser.Parser;
 import fr.uga.pddl4j.plan.Plan;
+import fr.uga.pddl4j.problem.Fluent;
 import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.problem.operator.FluentDescription;
+import fr.uga.pddl4j.util.MemoryAccounting;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 
-import org.openjdk.jol.info.GraphLayout;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
@@ -35,6 +39,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This abstract class defines the main methods to access a planner.
@@ -65,6 +72,21 @@ public abstract class AbstractPlanner implements Planner {
      */
     private int timeout;
 
+    /**
+     * The period between two progress events of the search in milliseconds.
+     */
+    private long progressPeriod;
+
+    /**
+     * The path of the JSON lines file where the progress events of the search are written or null.
+     */
+    private String progressFile;
+
+    /**
+     * The listeners of the progress of the search.
+     */
+    private final List<SearchListener> listeners;
+
     /**
      * The parser of the planner.
      */
@@ -90,6 +112,8 @@ public abstract class AbstractPlanner implements Planner {
      */
     public AbstractPlanner() {
         super();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.progressFile = null;
         this.setConfiguration(Planner.getDefaultConfiguration());
         this.parser = new Parser();
         this.statistics = new Statistics();
@@ -218,6 +242,80 @@ public abstract class AbstractPlanner implements Planner {
         return this.timeout;
     }
 
+    /**
+     * Sets the period between two progress events of the search of the planner.
+     *
+     * @param period the period between two progress events in milliseconds. The period must be greater than 0.
+     * @throws IllegalArgumentException if the period is less than or equal to 0.
+     */
+    @Option(names = { "--progress-period" }, defaultValue = "1000", paramLabel = "<period>",
+        description = "Set the period of the progress events of the search in milliseconds (preset 1000ms).")
+    public final void setProgressPeriod(final long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("progress period must be greater than 0");
+        }
+        this.progressPeriod = period;
+    }
+
+    /**
+     * Returns the period between two progress events of the search of the planner.
+     *
+     * @return the period between two progress events in milliseconds.
+     */
+    public final long getProgressPeriod() {
+        return this.progressPeriod;
+    }
+
+    /**
+     * Sets the path of the JSON lines file where the progress events of the search are written when the planner
+     * solves the problem of its configuration.
+     *
+     * @param file the path of the file or null to write no progress events.
+     * @see JsonLinesSearchListener
+     */
+    @Option(names = { "--progress" }, paramLabel = "<file>",
+        description = "Append the progress events of the search to a JSON lines file.")
+    public final void setProgressFile(final String file) {
+        this.progressFile = file;
+    }
+
+    /**
+     * Returns the path of the JSON lines file where the progress events of the search are written.
+     *
+     * @return the path of the file or null if no progress events are written.
+     */
+    public final String getProgressFile() {
+        return this.progressFile;
+    }
+
+    /**
+     * Adds a listener of the progress of the search of the planner.
+     *
+     * @param listener the listener to add. The listener cannot be null.
+     */
+    public final void addSearchListener(final SearchListener listener) {
+        Objects.requireNonNull(listener);
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener of the progress of the search of the planner.
+     *
+     * @param listener the listener to remove.
+     */
+    public final void removeSearchListener(final SearchListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Returns the listeners of the progress of the search of the planner.
+     *
+     * @return the listeners of the progress of the search of the planner.
+     */
+    public final List<SearchListener> getSearchListeners() {
+        return this.listeners;
+    }
+
     /**
      * Parses the domain and the problem description from the specified parameters.
      *
@@ -296,6 +394,7 @@ public abstract class AbstractPlanner implements Planner {
         config.setProperty(Planner.PROBLEM_SETTING, this.getProblem());
         config.setProperty(Planner.TIME_OUT_SETTING, Integer.toString(this.getTimeout()));
         config.setProperty(Planner.LOG_LEVEL_SETTING, this.getLogLevel().toString());
+        config.setProperty(Planner.PROGRESS_PERIOD_SETTING, Long.toString(this.getProgressPeriod()));
         return config;
     }
 
@@ -326,6 +425,11 @@ public abstract class AbstractPlanner implements Planner {
         } else {
             this.setLogLevel(new LogLevel(configuration.getProperty(Planner.LOG_LEVEL_SETTING)));
         }
+        if (configuration.getProperty(Planner.PROGRESS_PERIOD_SETTING) == null) {
+            this.setProgressPeriod(Planner.DEFAULT_PROGRESS_PERIOD);
+        } else {
+            this.setProgressPeriod(Long.parseLong(configuration.getProperty(Planner.PROGRESS_PERIOD_SETTING)));
+        }
     }
 
     /**
@@ -348,6 +452,18 @@ public abstract class AbstractPlanner implements Planner {
         return this.statistics;
     }
 
+    /**
+     * Sets the statistics of the planner. This method allows planners to record specific statistics by using a
+     * subclass of <code>Statistics</code>.
+     *
+     * @param statistics the statistics of the planner. The statistics cannot be null.
+     * @see Statistics
+     */
+    protected final void setStatistics(final Statistics statistics) {
+        Objects.requireNonNull(statistics);
+        this.statistics = statistics;
+    }
+
     /**
      * Solves the problem as defined by the planner configuration.
      *
@@ -405,7 +521,8 @@ public abstract class AbstractPlanner implements Planner {
 
         Problem pb = this.instantiate(parsedProblem);
         this.getStatistics().setTimeToEncode(System.currentTimeMillis() - begin);
-        this.getStatistics().setMemoryUsedForProblemRepresentation(GraphLayout.parseInstance(pb).totalSize());
+        this.getStatistics().setMemoryUsedForProblemRepresentation(pb == null ? 0
+            : MemoryAccounting.measure(AbstractPlanner.getMemorySize(pb), pb));
 
         if (pb != null) {
 
@@ -427,6 +544,7 @@ public abstract class AbstractPlanner implements Planner {
             }
 
             // Searches for a solution plan
+            final JsonLinesSearchListener progress = this.openProgressFile();
             Plan plan = null;
             try {
                 plan = this.solve(pb);
@@ -435,6 +553,8 @@ public abstract class AbstractPlanner implements Planner {
                     LOGGER.fatal(e.getMessage());
                 }
                 System.exit(1);
+            } finally {
+                this.closeProgressFile(progress);
             }
 
             if (LOGGER.isInfoEnabled()) {
@@ -474,6 +594,88 @@ public abstract class AbstractPlanner implements Planner {
         }
     }
 
+    /**
+     * Opens the JSON lines file of the progress events of the planner, if any, and adds it to the listeners of the
+     * planner. An error is logged and the search runs without the file if it cannot be opened.
+     *
+     * @return the listener writing the file or null if no file is written.
+     */
+    private JsonLinesSearchListener openProgressFile() {
+        if (this.getProgressFile() == null) {
+            return null;
+        }
+        try {
+            final JsonLinesSearchListener listener = new JsonLinesSearchListener(this.getProgressFile());
+            this.addSearchListener(listener);
+            return listener;
+        } catch (IOException e) {
+            LOGGER.error("Cannot open the progress file {}: {}", this.getProgressFile(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Removes the listener writing the JSON lines file of the progress events from the listeners of the planner and
+     * closes the file.
+     *
+     * @param listener the listener writing the file or null if no file is written.
+     */
+    private void closeProgressFile(final JsonLinesSearchListener listener) {
+        if (listener != null) {
+            this.removeSearchListener(listener);
+            try {
+                listener.close();
+            } catch (IOException e) {
+                LOGGER.error("Cannot close the progress file {}: {}", this.getProgressFile(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the analytic estimate of the memory used by the compact representation of a problem, i.e., by its
+     * actions with their preconditions and conditional effects, its fluents, its initial state and its goal. The
+     * estimate is computed in a single pass over the actions and the fluents.
+     *
+     * @param problem the problem.
+     * @return the estimate of the memory used by the problem in bytes.
+     */
+    protected static long getMemorySize(final Problem problem) {
+        // An action has 8 references, a flag and an id, and a cost and a duration with an index and a value
+        final long action = MemoryAccounting.objectSize(8 * MemoryAccounting.REFERENCE + 1 + Integer.BYTES)
+            + 2 * MemoryAccounting.objectSize(2 * MemoryAccounting.REFERENCE + Integer.BYTES + Double.BYTES);
+        final long effect = MemoryAccounting.objectSize(2 * MemoryAccounting.REFERENCE);
+        final long fluent = MemoryAccounting.objectSize(Integer.BYTES + MemoryAccounting.REFERENCE);
+        long memory = MemoryAccounting.listSize(problem.getActions().size())
+            + MemoryAccounting.listSize(problem.getFluents().size());
+        for (Action a : problem.getActions()) {
+            memory += action + 2 * MemoryAccounting.arraySize(a.arity(), Integer.BYTES)
+                + AbstractPlanner.getMemorySize(a.getPrecondition())
+                + MemoryAccounting.listSize(a.getConditionalEffects().size());
+            for (ConditionalEffect ce : a.getConditionalEffects()) {
+                memory += effect + AbstractPlanner.getMemorySize(ce.getCondition())
+                    + AbstractPlanner.getMemorySize(ce.getEffect());
+            }
+        }
+        for (Fluent f : problem.getFluents()) {
+            memory += fluent + MemoryAccounting.arraySize(f.getArguments().length, Integer.BYTES);
+        }
+        return memory + AbstractPlanner.getMemorySize(problem.getInitialState())
+            + AbstractPlanner.getMemorySize(problem.getGoal());
+    }
+
+    /**
+     * Returns the analytic estimate of the memory used by a fluent description: the object and its positive and
+     * negative fluents.
+     *
+     * @param description the fluent description.
+     * @return the estimate of the memory used by the fluent description in bytes.
+     */
+    private static long getMemorySize(final FluentDescription description) {
+        return description == null ? 0 : MemoryAccounting.objectSize(3 * MemoryAccounting.REFERENCE)
+            + MemoryAccounting.bitSetSize(description.getPositiveFluents())
+            + MemoryAccounting.bitSetSize(description.getNegativeFluents());
+    }
+
     /**
      * This method contains the code called by the main method of the planner when planner are launched from
      * command line.
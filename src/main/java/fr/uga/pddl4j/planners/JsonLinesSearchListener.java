@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners;
+
+import org.json.simple.JSONValue;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class implements a search listener that writes the progress events in a file in the JSON lines format, i.e.,
+ * one JSON object per line. Each line is flushed when it is written, so that the file can be followed while the search
+ * runs. The infinite and undefined heuristic values are written as <code>null</code>. For instance:
+ * <pre>
+ * {"source":"AStar","time":1000,"expanded":51234,"generated":401337,"expansionRate":51234.0,
+ *  "generationRate":401337.0,"bestHeuristic":7.0,"open":350103,"restarts":-1,"memory":48234496,"finished":false}
+ * </pre>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class JsonLinesSearchListener implements SearchListener, Closeable {
+
+    /**
+     * The writer of the file.
+     */
+    private final Writer writer;
+
+    /**
+     * The buffer used to build the lines.
+     */
+    private final StringBuilder line;
+
+    /**
+     * Creates a new listener that appends the events to a specified file.
+     *
+     * @param file the path of the file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public JsonLinesSearchListener(final String file) throws IOException {
+        this(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Creates a new listener that writes the events to a specified writer.
+     *
+     * @param writer the writer. The writer cannot be null.
+     */
+    public JsonLinesSearchListener(final Writer writer) {
+        this.writer = writer;
+        this.line = new StringBuilder(256);
+    }
+
+    /**
+     * Writes a progress event as a JSON line.
+     *
+     * @param event the progress of the search.
+     * @throws UncheckedIOException if the line cannot be written.
+     */
+    @Override
+    public synchronized void progress(final SearchProgress event) {
+        final StringBuilder strb = this.line;
+        strb.setLength(0);
+        strb.append("{\"source\":\"").append(JSONValue.escape(String.valueOf(event.getSource()))).append('"');
+        strb.append(",\"time\":").append(event.getTime());
+        strb.append(",\"expanded\":").append(event.getExpandedNodes());
+        strb.append(",\"generated\":").append(event.getGeneratedNodes());
+        strb.append(",\"expansionRate\":");
+        JsonLinesSearchListener.append(strb, event.getExpansionRate());
+        strb.append(",\"generationRate\":");
+        JsonLinesSearchListener.append(strb, event.getGenerationRate());
+        strb.append(",\"bestHeuristic\":");
+        JsonLinesSearchListener.append(strb, event.getBestHeuristic());
+        strb.append(",\"open\":").append(event.getOpenSize());
+        strb.append(",\"restarts\":").append(event.getRestarts());
+        strb.append(",\"memory\":").append(event.getMemoryUsed());
+        strb.append(",\"finished\":").append(event.isFinished());
+        strb.append("}\n");
+        try {
+            this.writer.append(strb);
+            this.writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a number to a JSON line. The infinite and undefined values are not valid JSON numbers and are written as
+     * <code>null</code>.
+     *
+     * @param strb  the line.
+     * @param value the number.
+     */
+    private static void append(final StringBuilder strb, final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            strb.append("null");
+        } else {
+            strb.append(value);
+        }
+    }
+
+    /**
+     * Closes the file of the listener.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        this.writer.close();
+    }
+}
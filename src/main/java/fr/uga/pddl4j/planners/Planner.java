@@ -31,6 +31,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 /**
@@ -82,6 +83,16 @@ public interface Planner extends Serializable, Callable<Integer> {
      */
     static final LogLevel DEFAULT_LOG_LEVEL = new LogLevel(Level.INFO);
 
+    /**
+     * The PROGRESS_PERIOD setting used for planner configuration.
+     */
+    static final String PROGRESS_PERIOD_SETTING = "PROGRESS_PERIOD";
+
+    /**
+     * The default value of the PROGRESS_PERIOD (in milliseconds) setting used for planner configuration.
+     */
+    static final long DEFAULT_PROGRESS_PERIOD = ProgressMonitor.DEFAULT_PERIOD;
+
     /**
      * The enumeration of the planners.
      */
@@ -184,6 +195,41 @@ public interface Planner extends Serializable, Callable<Integer> {
      */
     int getTimeout();
 
+    /**
+     * Sets the period between two progress events of the search of the planner.
+     *
+     * @param period the period between two progress events in milliseconds.
+     */
+    void setProgressPeriod(long period);
+
+    /**
+     * Returns the period between two progress events of the search of the planner.
+     *
+     * @return the period between two progress events in milliseconds.
+     */
+    long getProgressPeriod();
+
+    /**
+     * Adds a listener of the progress of the search of the planner.
+     *
+     * @param listener the listener to add. The listener cannot be null.
+     */
+    void addSearchListener(final SearchListener listener);
+
+    /**
+     * Removes a listener of the progress of the search of the planner.
+     *
+     * @param listener the listener to remove.
+     */
+    void removeSearchListener(final SearchListener listener);
+
+    /**
+     * Returns the listeners of the progress of the search of the planner.
+     *
+     * @return the listeners of the progress of the search of the planner.
+     */
+    List<SearchListener> getSearchListeners();
+
     /**
      * Returns the configuration of the planner.
      *
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * This class implements the rate limited emission of the {@link SearchProgress} events of a search. A search calls
+ * {@link #isDue()} in its main loop and, only when it returns <code>true</code>, gathers its counters and calls
+ * {@link #report}. The check costs an increment and a mask test on most calls: the clock is read once every
+ * <code>CHECK_INTERVAL</code> calls and only when listeners are registered, so the monitor can be left on.
+ * <p>
+ * A monitor is used by a single thread at a time. The listeners can be added and removed from any thread.
+ * </p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class ProgressMonitor {
+
+    /**
+     * The default period between two progress events in milliseconds (1000ms).
+     */
+    public static final long DEFAULT_PERIOD = 1000;
+
+    /**
+     * The number of calls to {@link #isDue()} between two readings of the clock. The value must be a power of 2.
+     */
+    private static final int CHECK_INTERVAL = 16;
+
+    /**
+     * The logger of the class.
+     */
+    private static final Logger LOGGER = LogManager.getLogger(ProgressMonitor.class.getName());
+
+    /**
+     * The listeners of the monitor.
+     */
+    private final List<SearchListener> listeners;
+
+    /**
+     * The name of the search monitored.
+     */
+    private final String source;
+
+    /**
+     * The period between two progress events in milliseconds.
+     */
+    private long period;
+
+    /**
+     * The number of calls to {@link #isDue()} since the start of the search.
+     */
+    private int calls;
+
+    /**
+     * The time of the start of the search in milliseconds.
+     */
+    private long start;
+
+    /**
+     * The time of the previous event in milliseconds.
+     */
+    private long last;
+
+    /**
+     * The number of expanded nodes of the previous event.
+     */
+    private long lastExpanded;
+
+    /**
+     * The number of generated nodes of the previous event.
+     */
+    private long lastGenerated;
+
+    /**
+     * Creates a new monitor without listener.
+     *
+     * @param source the name of the search monitored.
+     */
+    public ProgressMonitor(final String source) {
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.source = source;
+        this.period = ProgressMonitor.DEFAULT_PERIOD;
+        this.start();
+    }
+
+    /**
+     * Adds a listener to the monitor.
+     *
+     * @param listener the listener to add. The listener cannot be null.
+     */
+    public void addSearchListener(final SearchListener listener) {
+        Objects.requireNonNull(listener);
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener from the monitor.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeSearchListener(final SearchListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Returns the listeners of the monitor.
+     *
+     * @return the listeners of the monitor.
+     */
+    public List<SearchListener> getSearchListeners() {
+        return this.listeners;
+    }
+
+    /**
+     * Returns if the monitor has at least one listener.
+     *
+     * @return <code>true</code> if the monitor has at least one listener, <code>false</code> otherwise.
+     */
+    public boolean isEnabled() {
+        return !this.listeners.isEmpty();
+    }
+
+    /**
+     * Returns the period between two progress events in milliseconds.
+     *
+     * @return the period between two progress events in milliseconds.
+     */
+    public long getPeriod() {
+        return this.period;
+    }
+
+    /**
+     * Sets the period between two progress events in milliseconds.
+     *
+     * @param period the period between two progress events in milliseconds. The period must be strictly positive.
+     * @throws IllegalArgumentException if the period is not strictly positive.
+     */
+    public void setPeriod(final long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("progress period must be greater than 0");
+        }
+        this.period = period;
+    }
+
+    /**
+     * Starts the monitoring of a new search.
+     */
+    public void start() {
+        this.calls = 0;
+        this.start = System.currentTimeMillis();
+        this.last = this.start;
+        this.lastExpanded = 0;
+        this.lastGenerated = 0;
+    }
+
+    /**
+     * Returns if a progress event must be emitted, i.e., the monitor has listeners and the period since the previous
+     * event is over.
+     *
+     * @return <code>true</code> if a progress event must be emitted, <code>false</code> otherwise.
+     */
+    public boolean isDue() {
+        return (++this.calls & (ProgressMonitor.CHECK_INTERVAL - 1)) == 0 && !this.listeners.isEmpty()
+            && System.currentTimeMillis() - this.last >= this.period;
+    }
+
+    /**
+     * Emits a progress event to the listeners of the monitor.
+     *
+     * @param expanded      the number of nodes expanded.
+     * @param generated     the number of nodes generated.
+     * @param bestHeuristic the best heuristic value found.
+     * @param openSize      the number of pending nodes or -1.
+     * @param restarts      the number of restarts or -1.
+     * @param memoryUsed    the estimate of the memory used in bytes or -1.
+     */
+    public void report(final long expanded, final long generated, final double bestHeuristic, final long openSize,
+                       final long restarts, final long memoryUsed) {
+        this.fire(expanded, generated, bestHeuristic, openSize, restarts, memoryUsed, false);
+    }
+
+    /**
+     * Emits the last progress event of the search to the listeners of the monitor.
+     *
+     * @param expanded      the number of nodes expanded.
+     * @param generated     the number of nodes generated.
+     * @param bestHeuristic the best heuristic value found.
+     * @param openSize      the number of pending nodes or -1.
+     * @param restarts      the number of restarts or -1.
+     * @param memoryUsed    the estimate of the memory used in bytes or -1.
+     */
+    public void finish(final long expanded, final long generated, final double bestHeuristic, final long openSize,
+                       final long restarts, final long memoryUsed) {
+        if (!this.listeners.isEmpty()) {
+            this.fire(expanded, generated, bestHeuristic, openSize, restarts, memoryUsed, true);
+        }
+    }
+
+    /**
+     * Builds a progress event and sends it to the listeners. The heuristic value <code>Integer.MAX_VALUE</code> of the
+     * dead ends is reported as infinite. An exception thrown by a listener is logged and does not stop the search.
+     *
+     * @param expanded      the number of nodes expanded.
+     * @param generated     the number of nodes generated.
+     * @param bestHeuristic the best heuristic value found.
+     * @param openSize      the number of pending nodes or -1.
+     * @param restarts      the number of restarts or -1.
+     * @param memoryUsed    the estimate of the memory used in bytes or -1.
+     * @param finished      <code>true</code> if the event is the last one of the search.
+     */
+    private void fire(final long expanded, final long generated, final double bestHeuristic, final long openSize,
+                      final long restarts, final long memoryUsed, final boolean finished) {
+        final long now = System.currentTimeMillis();
+        final double seconds = Math.max(now - this.last, 1) / 1000.0;
+        final SearchProgress event = new SearchProgress(this.source, now - this.start, expanded, generated,
+            (expanded - this.lastExpanded) / seconds, (generated - this.lastGenerated) / seconds,
+            bestHeuristic >= Integer.MAX_VALUE ? Double.POSITIVE_INFINITY : bestHeuristic, openSize, restarts,
+            memoryUsed, finished);
+        this.last = now;
+        this.lastExpanded = expanded;
+        this.lastGenerated = generated;
+        for (SearchListener listener : this.listeners) {
+            try {
+                listener.progress(event);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Search listener failed: {}", e.getMessage());
+            }
+        }
+    }
+}
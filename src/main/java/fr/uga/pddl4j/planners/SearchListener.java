@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners;
+
+/**
+ * This interface defines a listener of the progress of a search. The listeners registered on a planner or on a search
+ * strategy receive periodic {@link SearchProgress} events while the search runs and a last event when it ends. The
+ * events are emitted by the thread running the search, or by one of the worker threads of a parallel search, so a
+ * listener must return quickly and must not block.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ * @see ProgressMonitor
+ */
+@FunctionalInterface
+public interface SearchListener {
+
+    /**
+     * Called when the search reports its progress.
+     *
+     * @param event the progress of the search.
+     */
+    void progress(final SearchProgress event);
+
+}
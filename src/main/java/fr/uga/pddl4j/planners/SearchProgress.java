@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners;
+
+import java.io.Serializable;
+
+/**
+ * This class implements an immutable event that describes the progress of a search at a given time. The rates are
+ * computed over the interval since the previous event of the search. The values that a search does not track are
+ * reported as -1. The best heuristic value is infinite until a node is evaluated and undefined (NaN) for the blind
+ * searches.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ * @see SearchListener
+ */
+public final class SearchProgress implements Serializable {
+
+    /**
+     * The serial id of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The name of the search that emits the event.
+     */
+    private final String source;
+
+    /**
+     * The time elapsed since the start of the search in milliseconds.
+     */
+    private final long time;
+
+    /**
+     * The number of nodes expanded since the start of the search.
+     */
+    private final long expandedNodes;
+
+    /**
+     * The number of nodes generated since the start of the search.
+     */
+    private final long generatedNodes;
+
+    /**
+     * The number of nodes expanded per second.
+     */
+    private final double expansionRate;
+
+    /**
+     * The number of nodes generated per second.
+     */
+    private final double generationRate;
+
+    /**
+     * The best heuristic value found since the start of the search.
+     */
+    private final double bestHeuristic;
+
+    /**
+     * The number of pending nodes.
+     */
+    private final long openSize;
+
+    /**
+     * The number of restarts.
+     */
+    private final long restarts;
+
+    /**
+     * The estimate of the memory used by the search in bytes.
+     */
+    private final long memoryUsed;
+
+    /**
+     * The flag that indicates if the event is the last one of the search.
+     */
+    private final boolean finished;
+
+    /**
+     * Creates a new progress event.
+     *
+     * @param source         the name of the search that emits the event.
+     * @param time           the time elapsed since the start of the search in milliseconds.
+     * @param expandedNodes  the number of nodes expanded.
+     * @param generatedNodes the number of nodes generated.
+     * @param expansionRate  the number of nodes expanded per second.
+     * @param generationRate the number of nodes generated per second.
+     * @param bestHeuristic  the best heuristic value found.
+     * @param openSize       the number of pending nodes or -1.
+     * @param restarts       the number of restarts or -1.
+     * @param memoryUsed     the estimate of the memory used in bytes or -1.
+     * @param finished       <code>true</code> if the event is the last one of the search.
+     */
+    public SearchProgress(final String source, final long time, final long expandedNodes, final long generatedNodes,
+                          final double expansionRate, final double generationRate, final double bestHeuristic,
+                          final long openSize, final long restarts, final long memoryUsed, final boolean finished) {
+        this.source = source;
+        this.time = time;
+        this.expandedNodes = expandedNodes;
+        this.generatedNodes = generatedNodes;
+        this.expansionRate = expansionRate;
+        this.generationRate = generationRate;
+        this.bestHeuristic = bestHeuristic;
+        this.openSize = openSize;
+        this.restarts = restarts;
+        this.memoryUsed = memoryUsed;
+        this.finished = finished;
+    }
+
+    /**
+     * Returns the name of the search that emits the event.
+     *
+     * @return the name of the search that emits the event.
+     */
+    public String getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the time elapsed since the start of the search in milliseconds.
+     *
+     * @return the time elapsed since the start of the search in milliseconds.
+     */
+    public long getTime() {
+        return this.time;
+    }
+
+    /**
+     * Returns the number of nodes expanded since the start of the search.
+     *
+     * @return the number of nodes expanded since the start of the search.
+     */
+    public long getExpandedNodes() {
+        return this.expandedNodes;
+    }
+
+    /**
+     * Returns the number of nodes generated since the start of the search.
+     *
+     * @return the number of nodes generated since the start of the search.
+     */
+    public long getGeneratedNodes() {
+        return this.generatedNodes;
+    }
+
+    /**
+     * Returns the number of nodes expanded per second since the previous event.
+     *
+     * @return the number of nodes expanded per second.
+     */
+    public double getExpansionRate() {
+        return this.expansionRate;
+    }
+
+    /**
+     * Returns the number of nodes generated per second since the previous event.
+     *
+     * @return the number of nodes generated per second.
+     */
+    public double getGenerationRate() {
+        return this.generationRate;
+    }
+
+    /**
+     * Returns the best heuristic value found since the start of the search.
+     *
+     * @return the best heuristic value, <code>Double.POSITIVE_INFINITY</code> if no node was evaluated or
+     *     <code>Double.NaN</code> if the search does not use a heuristic.
+     */
+    public double getBestHeuristic() {
+        return this.bestHeuristic;
+    }
+
+    /**
+     * Returns the number of pending nodes of the search.
+     *
+     * @return the number of pending nodes or -1 if the search has no open list.
+     */
+    public long getOpenSize() {
+        return this.openSize;
+    }
+
+    /**
+     * Returns the number of restarts of the search.
+     *
+     * @return the number of restarts or -1 if the search does not restart.
+     */
+    public long getRestarts() {
+        return this.restarts;
+    }
+
+    /**
+     * Returns the estimate of the memory used by the search in bytes.
+     *
+     * @return the estimate of the memory used by the search in bytes or -1 if it is unknown.
+     */
+    public long getMemoryUsed() {
+        return this.memoryUsed;
+    }
+
+    /**
+     * Returns if the event is the last one of the search.
+     *
+     * @return <code>true</code> if the event is the last one of the search, <code>false</code> otherwise.
+     */
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+    /**
+     * Returns a string representation of the event.
+     *
+     * @return a string representation of the event.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s %dms: %d expanded (%.0f/s), %d generated (%.0f/s), best h %s, %d pending, "
+                + "%d restarts, %d bytes%s", this.source, this.time, this.expandedNodes, this.expansionRate,
+            this.generatedNodes, this.generationRate, this.bestHeuristic, this.openSize, this.restarts,
+            this.memoryUsed, this.finished ? " (finished)" : "");
+    }
+}
@@ -57,6 +57,26 @@ public interface SearchStrategy extends Serializable {
          * The hill climbing first search strategy.
          */
         HILL_CLIMBING,
+        /**
+         * The hash distributed A* search strategy.
+         */
+        HASH_DISTRIBUTED_ASTAR,
+        /**
+         * The lazy greedy best first search strategy, i.e., with deferred heuristic evaluation.
+         */
+        LAZY_GREEDY_BEST_FIRST,
+        /**
+         * The iterated width search strategy IW(1).
+         */
+        ITERATED_WIDTH_1,
+        /**
+         * The iterated width search strategy IW(2).
+         */
+        ITERATED_WIDTH_2,
+        /**
+         * The best first width search strategy.
+         */
+        BEST_FIRST_WIDTH,
     }
 
     /**
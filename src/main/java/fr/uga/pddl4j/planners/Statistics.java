@@ -61,6 +61,21 @@ public class Statistics implements Serializable {
      */
     private int numberOfRelevantFacts;
 
+    /**
+     * The number of heuristic evaluations of the search.
+     */
+    private long heuristicEvaluations;
+
+    /**
+     * The number of heuristic evaluations saved by a lazy search compared to an eager search.
+     */
+    private long savedHeuristicEvaluations;
+
+    /**
+     * The average percentage of the facts touched per incremental heuristic evaluation.
+     */
+    private double touchedFacts;
+
     /**
      * The  to the problem solved.
      */
@@ -78,6 +93,9 @@ public class Statistics implements Serializable {
         this.memoryUsedToSearch = 0;
         this.numberOfActions = 0;
         this.numberOfRelevantFacts = 0;
+        this.heuristicEvaluations = 0;
+        this.savedHeuristicEvaluations = 0;
+        this.touchedFacts = 0;
         this.problem = null;
     }
 
@@ -229,6 +247,62 @@ public class Statistics implements Serializable {
         this.timeToParse = time;
     }
 
+    /**
+     * Returns the number of heuristic evaluations of the search.
+     *
+     * @return the number of heuristic evaluations of the search.
+     */
+    public final long getHeuristicEvaluations() {
+        return this.heuristicEvaluations;
+    }
+
+    /**
+     * Sets the number of heuristic evaluations of the search.
+     *
+     * @param evaluations the number of heuristic evaluations of the search.
+     */
+    public final void setHeuristicEvaluations(final long evaluations) {
+        this.heuristicEvaluations = evaluations;
+    }
+
+    /**
+     * Returns the number of heuristic evaluations saved by a lazy search compared to an eager search, i.e., the number
+     * of nodes generated and never evaluated.
+     *
+     * @return the number of heuristic evaluations saved.
+     */
+    public final long getSavedHeuristicEvaluations() {
+        return this.savedHeuristicEvaluations;
+    }
+
+    /**
+     * Sets the number of heuristic evaluations saved by a lazy search compared to an eager search.
+     *
+     * @param evaluations the number of heuristic evaluations saved.
+     */
+    public final void setSavedHeuristicEvaluations(final long evaluations) {
+        this.savedHeuristicEvaluations = evaluations;
+    }
+
+    /**
+     * Returns the average percentage of the facts, i.e., of the relevant facts and of their negations, touched per
+     * incremental heuristic evaluation.
+     *
+     * @return the average percentage of the facts touched per incremental heuristic evaluation.
+     */
+    public final double getTouchedFacts() {
+        return this.touchedFacts;
+    }
+
+    /**
+     * Sets the average percentage of the facts touched per incremental heuristic evaluation.
+     *
+     * @param touchedFacts the average percentage of the facts touched per incremental heuristic evaluation.
+     */
+    public final void setTouchedFacts(final double touchedFacts) {
+        this.touchedFacts = touchedFacts;
+    }
+
     /**
      * Returns a string representation of this statistics.
      *
@@ -254,6 +328,15 @@ public class Statistics implements Serializable {
         strb.append(String.format("%8.2f seconds encoding %n", timeToEncodeInSeconds));
         strb.append(String.format("%8.2f seconds searching%n", timeToSearchInSeconds));
         strb.append(String.format("%8.2f seconds total time%n", totalTimeInSeconds));
+        if (this.heuristicEvaluations > 0) {
+            strb.append(String.format("%n* Heuristic evaluations:%n"));
+            strb.append(String.format("%8d evaluations%n", this.heuristicEvaluations));
+            strb.append(String.format("%8d evaluations saved by lazy evaluation%n", this.savedHeuristicEvaluations));
+            if (this.touchedFacts > 0) {
+                strb.append(String.format("%8.2f %% of the facts touched per incremental evaluation%n",
+                    this.touchedFacts));
+            }
+        }
         strb.append(String.format("%n* Memory used:%n"));
         strb.append(String.format("%8.2f MBytes for problem representation%n", memoryForProblemInMBytes));
         strb.append(String.format("%8.2f MBytes for searching%n", memoryUsedToSearchInMBytes));
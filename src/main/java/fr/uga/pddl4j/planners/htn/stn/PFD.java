@@ -27,9 +27,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import picocli.CommandLine;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * This class implement a simple task network planner enable to deal with partial ordered htn representation. The
@@ -122,17 +120,15 @@ public final class  PFD extends AbstractSTNPlanner {
             throw new ProblemNotSupportedException("Problem not supported");
         }
         // Create the list of pending nodes to explore
-        final PriorityQueue<PFDNode> open = new PriorityQueue<>(1000, new Comparator<PFDNode>() {
-            public int compare(PFDNode n1, PFDNode n2) {
-                return n1.getTaskNetwork().getTasks().size() - n2.getTaskNetwork().getTasks().size();
-            }
-        });
+        // The pending nodes are ordered by their number of tasks; the nodes with the same number of tasks are explored
+        // in last in first out order
+        final PendingNodes<PFDNode> open = new PendingNodes<>();
         // Create the root node of the search space
         final State init = new State(problem.getInitialState());
         final PFDNode root = new PFDNode(init, problem.getInitialTaskNetwork());
 
         // Add the root node to the list of the pending nodes to explore.
-        open.add(root);
+        this.push(open, root);
 
         // Declare the plan used to store the result of the exploration
         Plan plan = null;
@@ -145,7 +141,7 @@ public final class  PFD extends AbstractSTNPlanner {
         // Start exploring the search space
         while (!open.isEmpty() && plan == null && elapsedTime < timeout) {
             // Get and remove the first node of the pending list of nodes.
-            final PFDNode currentNode = open.poll();
+            final PFDNode currentNode = open.pop();
 
             if (this.isInteractive()) {
                 LOGGER.info("=========> Pop a new node <=========\n");
@@ -196,7 +192,7 @@ public final class  PFD extends AbstractSTNPlanner {
                                 childNode.getState().apply(action.getConditionalEffects());
                                 childNode.getTaskNetwork().removeTask(task);
                                 childNode.setTask(taskIndex);
-                                open.add(childNode);
+                                this.push(open, childNode);
                                 if (this.isInteractive()) {
                                     LOGGER.info("=====> Decomposition succeeded push node:");
                                     LOGGER.info(problem.toString(childNode.getState()));
@@ -230,7 +226,7 @@ public final class  PFD extends AbstractSTNPlanner {
                                 childNode.setOperator(problem.getActions().size() + operator);
                                 childNode.getTaskNetwork().decompose(task, method);
                                 childNode.setTask(taskIndex);
-                                open.add(childNode);
+                                this.push(open, childNode);
                                 if (this.isInteractive()) {
                                     LOGGER.info("=====> Decomposition succeeded push node:");
                                     LOGGER.info(problem.toString(childNode.getTaskNetwork()));
@@ -253,6 +249,16 @@ public final class  PFD extends AbstractSTNPlanner {
         return plan;
     }
 
+    /**
+     * Pushes a node in the pending nodes.
+     *
+     * @param open the pending nodes.
+     * @param node the node to push.
+     */
+    private void push(final PendingNodes<PFDNode> open, final PFDNode node) {
+        open.push(node, node.getTaskNetwork().getTasks().size());
+    }
+
     /**
      * The main method of the <code>PFD</code> planner.
      *
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.htn.stn;
+
+import fr.uga.pddl4j.util.BucketQueue;
+
+import java.util.Arrays;
+
+/**
+ * This class implements the pending nodes of the forward decomposition planners. The nodes are ordered by their
+ * number of tasks and the nodes with the same number of tasks are explored in last in first out order. The nodes are
+ * kept in slots whose indexes are queued in a {@link BucketQueue}: the slot of a node popped is released and reused
+ * by the next node pushed, so that the slots only grow with the number of nodes pending at the same time and not with
+ * the number of nodes pushed during the search.
+ *
+ * @param <N> the type of the nodes.
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class PendingNodes<N> {
+
+    /**
+     * The initial number of slots.
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The bucket queue of the slots of the pending nodes keyed by the number of tasks of the nodes.
+     */
+    private final BucketQueue queue;
+
+    /**
+     * The slots of the pending nodes. The slots released are null.
+     */
+    private Object[] slots;
+
+    /**
+     * The number of slots used since the creation of the pending nodes.
+     */
+    private int used;
+
+    /**
+     * The stack of the slots released.
+     */
+    private int[] released;
+
+    /**
+     * The number of slots released.
+     */
+    private int nbReleased;
+
+    /**
+     * Creates new empty pending nodes.
+     */
+    PendingNodes() {
+        this.queue = new BucketQueue(true);
+        this.slots = new Object[PendingNodes.DEFAULT_CAPACITY];
+        this.used = 0;
+        this.released = new int[PendingNodes.DEFAULT_CAPACITY];
+        this.nbReleased = 0;
+    }
+
+    /**
+     * Returns <code>true</code> if there is no pending node.
+     *
+     * @return <code>true</code> if there is no pending node; <code>false</code> otherwise.
+     */
+    boolean isEmpty() {
+        return this.queue.isEmpty();
+    }
+
+    /**
+     * Pushes a node in a free slot.
+     *
+     * @param node  the node to push.
+     * @param tasks the number of tasks of the node.
+     */
+    void push(final N node, final int tasks) {
+        final int slot;
+        if (this.nbReleased > 0) {
+            slot = this.released[--this.nbReleased];
+        } else {
+            slot = this.used++;
+            if (slot == this.slots.length) {
+                this.slots = Arrays.copyOf(this.slots, slot * 2);
+            }
+        }
+        this.slots[slot] = node;
+        this.queue.add(slot, tasks, 0);
+    }
+
+    /**
+     * Removes and returns the pending node with the lowest number of tasks and releases its slot.
+     *
+     * @return the pending node with the lowest number of tasks.
+     */
+    @SuppressWarnings("unchecked")
+    N pop() {
+        final int slot = this.queue.poll();
+        final N node = (N) this.slots[slot];
+        this.slots[slot] = null;
+        if (this.nbReleased == this.released.length) {
+            this.released = Arrays.copyOf(this.released, this.nbReleased * 2);
+        }
+        this.released[this.nbReleased++] = slot;
+        return node;
+    }
+}
@@ -27,9 +27,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import picocli.CommandLine;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * This class implements the code of a Total-order Forward Decomposition Planner. The search method is an
@@ -130,17 +128,15 @@ public final class TFD extends AbstractSTNPlanner {
         }
 
         // Create the list of pending nodes to explore
-        final PriorityQueue<TFDNode> open = new PriorityQueue<>(1000, new Comparator<TFDNode>() {
-            public int compare(TFDNode n1, TFDNode n2) {
-                return n1.getTasks().size() - n2.getTasks().size();
-            }
-        });
+        // The pending nodes are ordered by their number of tasks; the nodes with the same number of tasks are explored
+        // in last in first out order
+        final PendingNodes<TFDNode> open = new PendingNodes<>();
         // Create the root node of the search space
         final State init = new State(problem.getInitialState());
         final TFDNode root = new TFDNode(init, problem.getInitialTaskNetwork().getTasks());
 
         // Add the root node to the list of the pending nodes to explore.
-        open.add(root);
+        this.push(open, root);
 
         // Declare the plan used to store the result of the exploration
         Plan plan = null;
@@ -153,7 +149,7 @@ public final class TFD extends AbstractSTNPlanner {
         // Start exploring the search space
         while (!open.isEmpty() && plan == null && elapsedTime < timeout) {
             // Get and remove the first node of the pending list of nodes.
-            final TFDNode currentNode = open.poll();
+            final TFDNode currentNode = open.pop();
 
             if (this.isInteractive()) {
                 LOGGER.info("=========> Pop a new node <=========\n");
@@ -197,7 +193,7 @@ public final class TFD extends AbstractSTNPlanner {
                             childNode.setOperator(operator);
                             childNode.getState().apply(action.getConditionalEffects());
                             childNode.setTask(task);
-                            open.add(childNode);
+                            this.push(open, childNode);
                             if (this.isInteractive()) {
                                 LOGGER.info("=====> Decomposition succeeded push node:");
                                 LOGGER.info(problem.toString(childNode.getState()));
@@ -228,7 +224,7 @@ public final class TFD extends AbstractSTNPlanner {
                             childNode.setOperator(problem.getActions().size() + operator);
                             childNode.pushAllTasks(method.getSubTasks());
                             childNode.setTask(task);
-                            open.add(childNode);
+                            this.push(open, childNode);
                             if (this.isInteractive()) {
                                 LOGGER.info("=====> Decomposition succeeded push node:");
                                 LOGGER.info("=====>\n" + problem.toString(childNode.getState()));
@@ -253,6 +249,16 @@ public final class TFD extends AbstractSTNPlanner {
         return plan;
     }
 
+    /**
+     * Pushes a node in the pending nodes.
+     *
+     * @param open the pending nodes.
+     * @param node the node to push.
+     */
+    private void push(final PendingNodes<TFDNode> open, final TFDNode node) {
+        open.push(node, node.getTasks().size());
+    }
+
     /**
      * The main method of the <code>TFD</code> planner.
      *
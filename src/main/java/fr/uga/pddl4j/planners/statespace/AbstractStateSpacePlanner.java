@@ -24,6 +24,7 @@ import fr.uga.pddl4j.planners.InvalidConfigurationException;
 import fr.uga.pddl4j.planners.Planner;
 import fr.uga.pddl4j.planners.PlannerConfiguration;
 import fr.uga.pddl4j.planners.ProblemNotSupportedException;
+import fr.uga.pddl4j.planners.SearchListener;
 import fr.uga.pddl4j.planners.SearchStrategy;
 import fr.uga.pddl4j.planners.statespace.search.Node;
 import fr.uga.pddl4j.planners.statespace.search.StateSpaceSearch;
@@ -65,6 +66,31 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
      */
     private StateHeuristic.Name heuristic;
 
+    /**
+     * The state arena mode of the search strategies.
+     */
+    private boolean stateArena;
+
+    /**
+     * The implementation of the open list of the search strategies.
+     */
+    private StateSpaceSearch.OpenList openList;
+
+    /**
+     * The number of threads of the parallel search strategies.
+     */
+    private int threads;
+
+    /**
+     * The number of threads used to evaluate the successors of a node.
+     */
+    private int evaluationThreads;
+
+    /**
+     * The number of fixpoints cached by each evaluation thread to evaluate the successors of a node incrementally.
+     */
+    private int incrementalCache;
+
     /**
      * Creates a new planner.
      */
@@ -151,11 +177,108 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
         return this.heuristicWeight;
     }
 
+    /**
+     * Sets the state arena mode of the search strategies. In this mode, the states reached by the search strategies
+     * A*, greedy best first search and breadth first search are stored in a {@link fr.uga.pddl4j.problem.StateArena}
+     * and the search nodes are referenced by the handles of their states.
+     *
+     * @param stateArena <code>true</code> to store the states of the search in a state arena.
+     */
+    public void setStateArena(final boolean stateArena) {
+        this.stateArena = stateArena;
+    }
+
+    /**
+     * Returns <code>true</code> if the states of the search strategies are stored in a state arena.
+     *
+     * @return <code>true</code> if the states of the search strategies are stored in a state arena.
+     */
+    public final boolean isStateArena() {
+        return this.stateArena;
+    }
+
+    /**
+     * Sets the implementation of the open list of the A* and greedy best first search strategies.
+     *
+     * @param openList the implementation of the open list.
+     */
+    public void setOpenList(final StateSpaceSearch.OpenList openList) {
+        this.openList = openList;
+    }
+
+    /**
+     * Returns the implementation of the open list of the A* and greedy best first search strategies.
+     *
+     * @return the implementation of the open list.
+     */
+    public final StateSpaceSearch.OpenList getOpenList() {
+        return this.openList;
+    }
+
+    /**
+     * Sets the number of threads of the parallel search strategies, i.e., the hash distributed A*.
+     *
+     * @param threads the number of threads.
+     */
+    public void setNumberOfThreads(final int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the number of threads of the parallel search strategies.
+     *
+     * @return the number of threads of the parallel search strategies.
+     */
+    public final int getNumberOfThreads() {
+        return this.threads;
+    }
+
+    /**
+     * Sets the number of threads used by the A* and greedy best first search strategies to evaluate the successors of
+     * a node.
+     *
+     * @param threads the number of threads.
+     */
+    public void setEvaluationThreads(final int threads) {
+        this.evaluationThreads = threads;
+    }
+
+    /**
+     * Returns the number of threads used to evaluate the successors of a node.
+     *
+     * @return the number of threads used to evaluate the successors of a node.
+     */
+    public final int getEvaluationThreads() {
+        return this.evaluationThreads;
+    }
+
+    /**
+     * Sets the number of fixpoints of relaxed planning graphs cached by each evaluation thread of the A* and greedy
+     * best first search strategies to evaluate the successors of a node incrementally with the FAST_FORWARD, SUM and
+     * MAX heuristics.
+     *
+     * @param size the number of fixpoints cached or 0 to evaluate the successors from scratch.
+     */
+    public void setIncrementalCache(final int size) {
+        this.incrementalCache = size;
+    }
+
+    /**
+     * Returns the number of fixpoints cached by each evaluation thread to evaluate the successors of a node
+     * incrementally.
+     *
+     * @return the number of fixpoints cached or 0 if the successors are evaluated from scratch.
+     */
+    public final int getIncrementalCache() {
+        return this.incrementalCache;
+    }
+
     /**
      * Checks the planner configuration and returns if the configuration is valid. A configuration is valid if (1) the
      * domain and the problem files exist and can be read, (2) the timeout is greater than 0, (3) the weight of the
-     * heuristic is greater than 0, (4) the heuristic is a not null and (5) the list of search strategies to use to
-     * solve a planning problem is not empty.
+     * heuristic is greater than 0, (4) the heuristic is a not null, (5) the list of search strategies to use to
+     * solve a planning problem is not empty, (6) the numbers of threads are greater than 0 and (7) the size of the
+     * incremental cache is positive.
      *
      * @return <code>true</code> if the configuration is valid <code>false</code> otherwise.
      */
@@ -163,7 +286,11 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
         return super.hasValidConfiguration()
             && this.getHeuristicWeight() > 0.0
             && this.getHeuristic() != null
-            && !this.getSearchStrategies().isEmpty();
+            && this.getOpenList() != null
+            && !this.getSearchStrategies().isEmpty()
+            && this.getNumberOfThreads() > 0
+            && this.getEvaluationThreads() > 0
+            && this.getIncrementalCache() >= 0;
     }
 
     /**
@@ -178,6 +305,12 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
             throw new InvalidConfigurationException("Undefined heuristic");
         } else if (this.getSearchStrategies().isEmpty()) {
             throw new InvalidConfigurationException("Undefined search strategies");
+        } else if (this.getNumberOfThreads() <= 0) {
+            throw new InvalidConfigurationException("Invalid number of threads");
+        } else if (this.getEvaluationThreads() <= 0) {
+            throw new InvalidConfigurationException("Invalid number of evaluation threads");
+        } else if (this.getIncrementalCache() < 0) {
+            throw new InvalidConfigurationException("Invalid size of incremental cache");
         }
     }
 
@@ -194,6 +327,15 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
         config.setProperty(StateSpacePlanner.HEURISTIC_SETTING, StateSpacePlanner.DEFAULT_HEURISTIC.toString());
         config.setProperty(StateSpacePlanner.WEIGHT_HEURISTIC_SETTING,
             Double.toString(StateSpacePlanner.DEFAULT_WEIGHT_HEURISTIC));
+        config.setProperty(StateSpacePlanner.STATE_ARENA_SETTING,
+            Boolean.toString(StateSpacePlanner.DEFAULT_STATE_ARENA));
+        config.setProperty(StateSpacePlanner.OPEN_LIST_SETTING, StateSpacePlanner.DEFAULT_OPEN_LIST.toString());
+        config.setProperty(StateSpacePlanner.NUMBER_OF_THREADS_SETTING,
+            Integer.toString(StateSpacePlanner.DEFAULT_NUMBER_OF_THREADS));
+        config.setProperty(StateSpacePlanner.EVALUATION_THREADS_SETTING,
+            Integer.toString(StateSpacePlanner.DEFAULT_EVALUATION_THREADS));
+        config.setProperty(StateSpacePlanner.INCREMENTAL_CACHE_SETTING,
+            Integer.toString(StateSpacePlanner.DEFAULT_INCREMENTAL_CACHE));
         return config;
     }
 
@@ -208,6 +350,12 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
         config.setProperty(StateSpacePlanner.SEARCH_STRATEGIES_SETTING, this.getSearchStrategies().toString());
         config.setProperty(StateSpacePlanner.HEURISTIC_SETTING, this.getHeuristic().toString());
         config.setProperty(StateSpacePlanner.WEIGHT_HEURISTIC_SETTING, Double.toString(this.getHeuristicWeight()));
+        config.setProperty(StateSpacePlanner.STATE_ARENA_SETTING, Boolean.toString(this.isStateArena()));
+        config.setProperty(StateSpacePlanner.OPEN_LIST_SETTING, this.getOpenList().toString());
+        config.setProperty(StateSpacePlanner.NUMBER_OF_THREADS_SETTING, Integer.toString(this.getNumberOfThreads()));
+        config.setProperty(StateSpacePlanner.EVALUATION_THREADS_SETTING,
+            Integer.toString(this.getEvaluationThreads()));
+        config.setProperty(StateSpacePlanner.INCREMENTAL_CACHE_SETTING, Integer.toString(this.getIncrementalCache()));
         return config;
     }
 
@@ -238,6 +386,36 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
             this.setHeuristic(StateHeuristic.Name.valueOf(configuration.getProperty(
                 StateSpacePlanner.HEURISTIC_SETTING)));
         }
+        if (configuration.getProperty(StateSpacePlanner.STATE_ARENA_SETTING) == null) {
+            this.setStateArena(StateSpacePlanner.DEFAULT_STATE_ARENA);
+        } else {
+            this.setStateArena(Boolean.parseBoolean(configuration.getProperty(
+                StateSpacePlanner.STATE_ARENA_SETTING)));
+        }
+        if (configuration.getProperty(StateSpacePlanner.OPEN_LIST_SETTING) == null) {
+            this.setOpenList(StateSpacePlanner.DEFAULT_OPEN_LIST);
+        } else {
+            this.setOpenList(StateSpaceSearch.OpenList.valueOf(configuration.getProperty(
+                StateSpacePlanner.OPEN_LIST_SETTING)));
+        }
+        if (configuration.getProperty(StateSpacePlanner.NUMBER_OF_THREADS_SETTING) == null) {
+            this.setNumberOfThreads(StateSpacePlanner.DEFAULT_NUMBER_OF_THREADS);
+        } else {
+            this.setNumberOfThreads(Integer.parseInt(configuration.getProperty(
+                StateSpacePlanner.NUMBER_OF_THREADS_SETTING)));
+        }
+        if (configuration.getProperty(StateSpacePlanner.EVALUATION_THREADS_SETTING) == null) {
+            this.setEvaluationThreads(StateSpacePlanner.DEFAULT_EVALUATION_THREADS);
+        } else {
+            this.setEvaluationThreads(Integer.parseInt(configuration.getProperty(
+                StateSpacePlanner.EVALUATION_THREADS_SETTING)));
+        }
+        if (configuration.getProperty(StateSpacePlanner.INCREMENTAL_CACHE_SETTING) == null) {
+            this.setIncrementalCache(StateSpacePlanner.DEFAULT_INCREMENTAL_CACHE);
+        } else {
+            this.setIncrementalCache(Integer.parseInt(configuration.getProperty(
+                StateSpacePlanner.INCREMENTAL_CACHE_SETTING)));
+        }
     }
 
     /**
@@ -263,6 +441,15 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
                 + this.getConfiguration().getProperty(AbstractStateSpacePlanner.HEURISTIC_SETTING) + " heuristic \n");
             StateSpaceSearch search = StateSpaceSearch.getInstance(strategy, this.getHeuristic(),
                 this.getHeuristicWeight(), timeout);
+            search.setStateArena(this.isStateArena());
+            search.setOpenList(this.getOpenList());
+            search.setNumberOfThreads(this.getNumberOfThreads());
+            search.setEvaluationThreads(this.getEvaluationThreads());
+            search.setIncrementalCache(this.getIncrementalCache());
+            search.setProgressPeriod(this.getProgressPeriod());
+            for (SearchListener listener : this.getSearchListeners()) {
+                search.addSearchListener(listener);
+            }
             final Node solution = search.searchSolutionNode(problem);
             plan = (SequentialPlan) search.extractPlan(solution, problem);
             if (solution != null) {
@@ -274,21 +461,25 @@ public abstract class AbstractStateSpacePlanner extends AbstractPlanner implemen
             }
             final long end = System.currentTimeMillis();
             this.getStatistics().setMemoryUsedToSearch(search.getMemoryUsed());
+            this.getStatistics().setHeuristicEvaluations(search.getEvaluatedNodes());
+            this.getStatistics().setSavedHeuristicEvaluations(search.getSavedEvaluations());
+            this.getStatistics().setTouchedFacts(search.getTouchedFacts());
+            LOGGER.info(String.format("* %.1f bytes per state%n", search.getBytesPerState()));
             timeout -= ((end - begin) / 1000);
         }
         return plan;
     }
 
     /**
-     * Returns if a specified problem is supported by the planner.
+     * Returns if a specified problem is supported by the planner. The problems with action costs are supported: the
+     * cost of an action is the constant by which it increases the total cost.
      *
      * @param problem the problem to test.
      * @return <code>true</code> if the problem is supported <code>false</code> otherwise.
      */
     @Override
     public boolean isSupported(Problem problem) {
-        return (problem.getRequirements().contains(RequireKey.ACTION_COSTS)
-            || problem.getRequirements().contains(RequireKey.CONSTRAINTS)
+        return (problem.getRequirements().contains(RequireKey.CONSTRAINTS)
             || problem.getRequirements().contains(RequireKey.CONTINOUS_EFFECTS)
             || problem.getRequirements().contains(RequireKey.DERIVED_PREDICATES)
             || problem.getRequirements().contains(RequireKey.DURATIVE_ACTIONS)
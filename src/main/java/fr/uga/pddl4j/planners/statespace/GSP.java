@@ -24,6 +24,7 @@ import fr.uga.pddl4j.parser.DefaultParsedProblem;
 import fr.uga.pddl4j.planners.PlannerConfiguration;
 import fr.uga.pddl4j.planners.SearchStrategy;
 
+import fr.uga.pddl4j.planners.statespace.search.StateSpaceSearch;
 import fr.uga.pddl4j.problem.DefaultProblem;
 import fr.uga.pddl4j.problem.Problem;
 import org.apache.logging.log4j.LogManager;
@@ -40,8 +41,11 @@ import java.util.List;
  *
  * <pre>
  * {@code
- * GSP [-hV] [-e="<heuristic>] [-l=<logLevel>]
- *                                [-t=<timeout>] [-w=<weight>] [-s
+ * GSP [-ahV] [-e="<heuristic>] [-l=<logLevel>]
+ *                                [-n=<threads>] [-et=<threads>] [-o=<openList>]
+ *                                [-t=<timeout>]
+ *                                [--progress=<file>] [--progress-period=<period>]
+ *                                [-w=<weight>] [-s
  *                                [=<strategies>...]]... <domain> <problem>
  *
  * Description:
@@ -62,12 +66,41 @@ import java.util.List;
  *   -e, --heuristic=<heuristic>
  *                             Set the heuristics: AJUSTED_SUM, AJUSTED_SUM2,
  *                               AJUSTED_SUM2M, COMBO, MAX, FAST_FORWARD,
- *                               SET_LEVEL, SUM, SUM_MUTEX (preset: FAST_FORWARD)
+ *                               SET_LEVEL, SUM, SUM_MUTEX, COST_FAST_FORWARD,
+ *                               COST_MAX, COST_SUM, LANDMARK_COUNT (preset:
+ *                               FAST_FORWARD)
  *   -s, --search-strategies[=<strategies>...]
  *                             Set the search strategies: ASTAR,
  *                               ENFORCED_HILL_CLIMBING, BREADTH_FIRST,
- *                               GREEDY_BEST_FIRST, DEPTH_FIRST, HILL_CLIMBING
- *                               (preset: ASTAR)
+ *                               GREEDY_BEST_FIRST, DEPTH_FIRST, HILL_CLIMBING,
+ *                               HASH_DISTRIBUTED_ASTAR, LAZY_GREEDY_BEST_FIRST,
+ *                               ITERATED_WIDTH_1, ITERATED_WIDTH_2,
+ *                               BEST_FIRST_WIDTH (preset: ASTAR)
+ *   -a, --state-arena         Store the states of the ASTAR, BREADTH_FIRST and
+ *                               GREEDY_BEST_FIRST searches in a packed state
+ *                               arena (preset: false)
+ *   -o, --open-list=<openList>
+ *                             Set the open list of the ASTAR and
+ *                               GREEDY_BEST_FIRST searches: HEAP, BUCKET_LIFO,
+ *                               BUCKET_FIFO (preset: HEAP)
+ *   -n, --threads=<threads>   Set the number of threads of the
+ *                               HASH_DISTRIBUTED_ASTAR search (preset: 1)
+ *   -et, --evaluation-threads=<threads>
+ *                             Set the number of threads evaluating the
+ *                               successors of a node in the ASTAR and
+ *                               GREEDY_BEST_FIRST searches (preset: 1)
+ *   -ic, --incremental-cache=<size>
+ *                             Set the number of relaxed planning graphs
+ *                               cached per evaluation thread to evaluate the
+ *                               successors incrementally with the
+ *                               FAST_FORWARD, SUM and MAX heuristics in the
+ *                               ASTAR and GREEDY_BEST_FIRST searches; 0
+ *                               evaluates them from scratch (preset: 0)
+ *       --progress=<file>     Append the progress events of the search to a
+ *                               JSON lines file.
+ *       --progress-period=<period>
+ *                             Set the period of the progress events of the
+ *                               search in milliseconds (preset 1000ms).
  *   -h, --help                Show this help message and exit.
  *   -V, --version             Print version information and exit.
  * }
@@ -146,7 +179,8 @@ public final class GSP extends AbstractStateSpacePlanner {
      */
     @CommandLine.Option(names = { "-e", "--heuristic" }, defaultValue = "FAST_FORWARD",
         description = "Set the heuristics: AJUSTED_SUM, AJUSTED_SUM2, AJUSTED_SUM2M, COMBO, MAX, FAST_FORWARD, "
-            +  "SET_LEVEL, SUM, SUM_MUTEX (preset: FAST_FORWARD)")
+            +  "SET_LEVEL, SUM, SUM_MUTEX, COST_FAST_FORWARD, COST_MAX, COST_SUM, LANDMARK_COUNT "
+            + "(preset: FAST_FORWARD)")
     @Override
     public final void setHeuristic(StateHeuristic.Name heuristic)  {
         super.setHeuristic(heuristic);
@@ -159,11 +193,82 @@ public final class GSP extends AbstractStateSpacePlanner {
      */
     @CommandLine.Option(names = { "-s", "--search-strategies" }, paramLabel = "<strategies>", arity = "0..*",
         defaultValue = "ASTAR", description = "Set the search strategies: ASTAR, ENFORCED_HILL_CLIMBING, "
-        + "BREADTH_FIRST, GREEDY_BEST_FIRST, DEPTH_FIRST, HILL_CLIMBING (preset: ASTAR)")
+        + "BREADTH_FIRST, GREEDY_BEST_FIRST, DEPTH_FIRST, HILL_CLIMBING, HASH_DISTRIBUTED_ASTAR, "
+        + "LAZY_GREEDY_BEST_FIRST, ITERATED_WIDTH_1, ITERATED_WIDTH_2, BEST_FIRST_WIDTH (preset: ASTAR)")
     public final void setSearchStrategies(List<SearchStrategy.Name> strategies)  {
         super.setSearchStrategies(strategies);
     }
 
+    /**
+     * Sets the state arena mode of the search strategies. This method is overrided to add the command line option of
+     * the planner.
+     *
+     * @param stateArena <code>true</code> to store the states of the search in a state arena.
+     */
+    @CommandLine.Option(names = { "-a", "--state-arena" }, defaultValue = "false",
+        description = "Store the states of the ASTAR, BREADTH_FIRST and GREEDY_BEST_FIRST searches in a packed "
+            + "state arena (preset: false)")
+    @Override
+    public final void setStateArena(final boolean stateArena) {
+        super.setStateArena(stateArena);
+    }
+
+    /**
+     * Sets the implementation of the open list of the search strategies. This method is overrided to add the command
+     * line option of the planner.
+     *
+     * @param openList the implementation of the open list.
+     */
+    @CommandLine.Option(names = { "-o", "--open-list" }, defaultValue = "HEAP", paramLabel = "<openList>",
+        description = "Set the open list of the ASTAR and GREEDY_BEST_FIRST searches: HEAP, BUCKET_LIFO, BUCKET_FIFO "
+            + "(preset: HEAP)")
+    @Override
+    public final void setOpenList(final StateSpaceSearch.OpenList openList) {
+        super.setOpenList(openList);
+    }
+
+    /**
+     * Sets the number of threads of the parallel search strategies. This method is overrided to add the command line
+     * option of the planner.
+     *
+     * @param threads the number of threads.
+     */
+    @CommandLine.Option(names = { "-n", "--threads" }, defaultValue = "1", paramLabel = "<threads>",
+        description = "Set the number of threads of the HASH_DISTRIBUTED_ASTAR search (preset: 1)")
+    @Override
+    public final void setNumberOfThreads(final int threads) {
+        super.setNumberOfThreads(threads);
+    }
+
+    /**
+     * Sets the number of threads used to evaluate the successors of a node. This method is overrided to add the
+     * command line option of the planner.
+     *
+     * @param threads the number of threads.
+     */
+    @CommandLine.Option(names = { "-et", "--evaluation-threads" }, defaultValue = "1", paramLabel = "<threads>",
+        description = "Set the number of threads evaluating the successors of a node in the ASTAR and "
+            + "GREEDY_BEST_FIRST searches (preset: 1)")
+    @Override
+    public final void setEvaluationThreads(final int threads) {
+        super.setEvaluationThreads(threads);
+    }
+
+    /**
+     * Sets the number of fixpoints cached by each evaluation thread to evaluate the successors of a node
+     * incrementally. This method is overrided to add the command line option of the planner.
+     *
+     * @param size the number of fixpoints cached or 0 to evaluate the successors from scratch.
+     */
+    @CommandLine.Option(names = { "-ic", "--incremental-cache" }, defaultValue = "0", paramLabel = "<size>",
+        description = "Set the number of relaxed planning graphs cached per evaluation thread to evaluate the "
+            + "successors incrementally with the FAST_FORWARD, SUM and MAX heuristics in the ASTAR and "
+            + "GREEDY_BEST_FIRST searches; 0 evaluates them from scratch (preset: 0)")
+    @Override
+    public final void setIncrementalCache(final int size) {
+        super.setIncrementalCache(size);
+    }
+
     /**
      * Instantiates the planning problem from a parsed problem.
      *
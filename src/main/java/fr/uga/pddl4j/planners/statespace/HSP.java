@@ -58,7 +58,9 @@ import picocli.CommandLine;
  *   -e, --heuristic=<heuristic>
  *                             Set the heuristic : AJUSTED_SUM, AJUSTED_SUM2,
  *                               AJUSTED_SUM2M, COMBO, MAX, FAST_FORWARD,
- *                               SET_LEVEL, SUM, SUM_MUTEX (preset: FAST_FORWARD)
+ *                               SET_LEVEL, SUM, SUM_MUTEX, COST_FAST_FORWARD,
+ *                               COST_MAX, COST_SUM, LANDMARK_COUNT (preset:
+ *                               FAST_FORWARD)
  *   -h, --help                Show this help message and exit.
  *   -V, --version             Print version information and exit.
  *  }
@@ -132,7 +134,8 @@ public final class HSP extends AbstractStateSpacePlanner  {
      */
     @CommandLine.Option(names = { "-e", "--heuristic" }, defaultValue = "FAST_FORWARD",
         description = "Set the heuristic : AJUSTED_SUM, AJUSTED_SUM2, AJUSTED_SUM2M, COMBO, MAX, FAST_FORWARD, "
-            + "SET_LEVEL, SUM, SUM_MUTEX (preset: FAST_FORWARD)")
+            + "SET_LEVEL, SUM, SUM_MUTEX, COST_FAST_FORWARD, COST_MAX, COST_SUM, LANDMARK_COUNT "
+            + "(preset: FAST_FORWARD)")
     public final void setHeuristic(StateHeuristic.Name heuristic)  {
         super.setHeuristic(heuristic);
     }
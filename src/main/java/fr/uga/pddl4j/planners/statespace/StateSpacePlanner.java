@@ -19,6 +19,7 @@ import fr.uga.pddl4j.heuristics.state.StateHeuristic;
 import fr.uga.pddl4j.planners.Planner;
 
 import fr.uga.pddl4j.planners.SearchStrategy;
+import fr.uga.pddl4j.planners.statespace.search.StateSpaceSearch;
 import fr.uga.pddl4j.problem.Problem;
 
 import java.util.Arrays;
@@ -63,4 +64,54 @@ public interface StateSpacePlanner extends Planner {
      */
     static final double DEFAULT_WEIGHT_HEURISTIC = 1.0;
 
+    /**
+     * The STATE_ARENA property used for planner configuration.
+     */
+    static final String STATE_ARENA_SETTING = "STATE_ARENA";
+
+    /**
+     * The default value of the STATE_ARENA property used for planner configuration.
+     */
+    static final boolean DEFAULT_STATE_ARENA = false;
+
+    /**
+     * The OPEN_LIST property used for planner configuration.
+     */
+    static final String OPEN_LIST_SETTING = "OPEN_LIST";
+
+    /**
+     * The default value of the OPEN_LIST property used for planner configuration.
+     */
+    static final StateSpaceSearch.OpenList DEFAULT_OPEN_LIST = StateSpaceSearch.OpenList.HEAP;
+
+    /**
+     * The NUMBER_OF_THREADS property used for planner configuration.
+     */
+    static final String NUMBER_OF_THREADS_SETTING = "NUMBER_OF_THREADS";
+
+    /**
+     * The default value of the NUMBER_OF_THREADS property used for planner configuration.
+     */
+    static final int DEFAULT_NUMBER_OF_THREADS = 1;
+
+    /**
+     * The EVALUATION_THREADS property used for planner configuration.
+     */
+    static final String EVALUATION_THREADS_SETTING = "EVALUATION_THREADS";
+
+    /**
+     * The default value of the EVALUATION_THREADS property used for planner configuration.
+     */
+    static final int DEFAULT_EVALUATION_THREADS = 1;
+
+    /**
+     * The INCREMENTAL_CACHE property used for planner configuration.
+     */
+    static final String INCREMENTAL_CACHE_SETTING = "INCREMENTAL_CACHE";
+
+    /**
+     * The default value of the INCREMENTAL_CACHE property used for planner configuration.
+     */
+    static final int DEFAULT_INCREMENTAL_CACHE = 0;
+
 }
@@ -16,15 +16,14 @@
 package fr.uga.pddl4j.planners.statespace.search;
 
 import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.ProgressMonitor;
 import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
 import fr.uga.pddl4j.problem.operator.Action;
-import org.openjdk.jol.info.GraphLayout;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
 
 /**
  * This class implements A* search strategy.
@@ -54,7 +53,12 @@ public final class AStar extends AbstractStateSpaceSearch {
     }
 
     /**
-     * Solves the planning problem and returns the first solution search found.
+     * Solves the planning problem and returns the first solution search found. The nodes are stored in a node table
+     * keyed by the fingerprints of their states, or in a state arena if the state arena mode is set. A successor is
+     * looked up once: the status of its node tells if it is new, pending or explored, and a node reached with a lower
+     * cost is moved up in the open list in place or reopened. The new successors of an expansion are evaluated
+     * together, in parallel if several evaluation threads are set, before they are pushed in the order they were
+     * reached.
      *
      * @param codedProblem the problem to be solved. The problem cannot be null.
      * @return a solution search or null if it does not exist.
@@ -63,94 +67,97 @@ public final class AStar extends AbstractStateSpaceSearch {
         Objects.requireNonNull(codedProblem);
         final long begin = System.currentTimeMillis();
         final StateHeuristic heuristic = StateHeuristic.getInstance(this.getHeuristic(), codedProblem);
-        // Get the initial state from the planning problem
+        // The successor generator used to compute the actions applicable in a state
+        final SuccessorGenerator generator = codedProblem.getSuccessorGenerator();
+        final int[] applicable = new int[generator.size()];
+        // The open and closed lists: the list of pending nodes is ordered according to the A* (g + weight * h) function
+        final OpenList list = this.getOpenList(codedProblem, false);
+        final AbstractNodeTable space = this.isStateArena()
+            ? new NodeArena(codedProblem.getFluents().size(), this.getWeight(), false, list)
+            : new NodeTable(this.getWeight(), false, list);
+        // Creates the root node of the tree search and adds it to the list of pending nodes
         final State init = new State(codedProblem.getInitialState());
-        // Initialize the closed list of nodes (store the nodes explored)
-        final Map<State, Node> closeSet = new HashMap<>();
-        final Map<State, Node> openSet = new HashMap<>();
-        // Initialize the opened list (store the pending node)
-        final double currWeight = getWeight();
-        // The list stores the node ordered according to the A* (getFValue = g + h) function
-        final PriorityQueue<Node> open = new PriorityQueue<>(100, new NodeComparator(currWeight));
-        // Creates the root node of the tree search
-        final Node root = new Node(init, null, -1, 0, heuristic.estimate(init, codedProblem.getGoal()));
-        // Adds the root to the list of pending nodes
-        open.add(root);
-        openSet.put(init, root);
+        final int root = space.intern(init);
+        space.set(root, 0, -1, -1);
+        space.setHeuristic(root, heuristic.estimate(init, codedProblem.getGoal()));
+        space.push(root);
+        // The buffers of the states of the nodes explored and of their successors when the states are copied
+        final State buffer = new State();
+        State successor = new State();
+        // The evaluator of the new successors of an expansion
+        final SuccessorEvaluator evaluator = new SuccessorEvaluator(heuristic, this.getHeuristic(), codedProblem,
+            this.getEvaluationThreads(), this.getIncrementalCache());
 
         this.resetNodesStatistics();
-        Node solution = null;
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        double best = space.getHeuristic(root);
+        int solution = -1;
         final long timeout = this.getTimeout() * 1000;
         long time = 0;
         // Start of the search
-        while (!open.isEmpty() && solution == null && time < timeout) {
+        while (space.getOpenSize() > 0 && solution == -1 && time < timeout) {
             // Pop the first node in the pending list open
-            final Node current = open.poll();
-            openSet.remove(current);
-            closeSet.put(current, current);
+            final int node = space.pop();
+            best = Math.min(best, space.getHeuristic(node));
+            final State current = space.getState(node, buffer);
             // If the goal is satisfy in the current node then extract the search and return it
             if (current.satisfy(codedProblem.getGoal())) {
-                solution = current;
+                solution = node;
             } else {
                 // Try to apply the operators of the problem to this node
-                int index = 0;
-                for (Action op : codedProblem.getActions()) {
-
-                    // Test if a specified operator is applicable in the current state
-                    if (op.isApplicable(current)) {
-                        //System.out.println("IS APPLICABLE");
-                        Node state = new Node(current);
-                        this.setCreatedNodes(this.getCreatedNodes() + 1);
-
-                        // Apply the effect of the applicable operator
-                        // Test if the condition of the effect is satisfied in the current state
-                        // Apply the effect to the successor node
-                        op.getConditionalEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
-                            .forEach(ce -> state.apply(ce.getEffect()));
-                        final double g = current.getCost() + op.getCost().getValue();
-                        Node result = openSet.get(state);
-                        if (result == null) {
-                            result = closeSet.get(state);
-                            if (result != null) {
-                                if (g < result.getCost()) {
-                                    result.setCost(g);
-                                    result.setParent(current);
-                                    result.setAction(index);
-                                    result.setDepth(current.getDepth() + 1);
-                                    open.add(result);
-                                    openSet.put(result, result);
-                                    closeSet.remove(result);
-                                }
-                            } else {
-                                state.setCost(g);
-                                state.setParent(current);
-                                state.setAction(index);
-                                state.setHeuristic(heuristic.estimate(state, codedProblem.getGoal()));
-                                state.setDepth(current.getDepth() + 1);
-                                open.add(state);
-                                openSet.put(state, state);
-                            }
-                        } else if (g < result.getCost()) {
-                            result.setCost(g);
-                            result.setParent(current);
-                            result.setAction(index);
-                            result.setDepth(current.getDepth() + 1);
+                final int count = generator.getApplicableActions(current, applicable);
+                for (int i = 0; i < count; i++) {
+                    final int index = applicable[i];
+                    final Action op = codedProblem.getActions().get(index);
+                    // Apply the effects of the operator whose condition is satisfied in the current state
+                    successor.copy(current);
+                    for (ConditionalEffect ce : op.getConditionalEffects()) {
+                        if (current.satisfy(ce.getCondition())) {
+                            successor.apply(ce.getEffect());
+                        }
+                    }
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    final double g = space.getCost(node) + op.getCost().getValue();
+                    final int size = space.size();
+                    final int next = space.intern(successor);
+                    if (space.size() > size) {
+                        space.set(next, g, node, index);
+                        evaluator.add(next);
+                        if (!space.isCopyingStates()) {
+                            successor = new State();
+                        }
+                    } else if (g < space.getCost(next)) {
+                        space.set(next, g, node, index);
+                        // A successor created by this expansion is pushed once it is evaluated
+                        if (space.getStatus(next) != AbstractNodeTable.CREATED) {
+                            evaluator.push(next);
                         }
                     }
-                    index++;
                 }
+                // The new successors are evaluated and all the successors are pushed in the order they were reached
+                evaluator.flush(space);
+            }
+            if (monitor.isDue()) {
+                monitor.report(space.size() - space.getOpenSize(), this.getCreatedNodes(), best, space.getOpenSize(),
+                    -1, space.getMemoryUsed());
             }
             // Compute the searching time
             time = System.currentTimeMillis() - begin;
         }
 
-        this.setExploredNodes(closeSet.size());
-        this.setPendingNodes(openSet.size());
-        this.setMemoryUsed(GraphLayout.parseInstance(closeSet).totalSize()
-            + GraphLayout.parseInstance(openSet).totalSize());
+        evaluator.close();
+        this.setExploredNodes(space.size() - space.getOpenSize());
+        this.setPendingNodes(space.getOpenSize());
+        this.setEvaluatedNodes(space.size());
+        this.setMemoryUsed(space.getMemoryUsed());
+        this.setBytesPerState(space.getBytesPerState());
+        this.setTouchedFacts(evaluator.getTouchedFacts());
         this.setSearchingTime(time);
+        monitor.finish(this.getExploredNodes(), this.getCreatedNodes(), best, this.getPendingNodes(), -1,
+            this.getMemoryUsed());
 
         // return the search computed or null if no search was found
-        return solution;
+        return space.toNode(solution);
     }
 }
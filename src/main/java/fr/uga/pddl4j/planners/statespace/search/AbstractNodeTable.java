@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.util.BucketQueue;
+
+import java.util.Arrays;
+
+/**
+ * This abstract class implements the search space of the best first search strategies. A search node is an int, the
+ * handle of its state in the store of states of the search space: each state is stored once and the cost, the heuristic
+ * value, the parent, the action, the depth and the status of the nodes are packed in arrays indexed by the handles.
+ * The open list is either an indexed binary heap of handles, so that the cost of a pending node can be decreased in
+ * place, or a {@link BucketQueue} indexed by the integer <code>f</code> and <code>h</code> values of the nodes, where a
+ * node whose cost decreases is added again and its old entry skipped. The status of a node replaces the open and
+ * closed sets, so that a successor is looked up once. The {@link Node} objects are only created for the nodes of the
+ * solution.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+abstract class AbstractNodeTable {
+
+    /**
+     * The status of a node created and not yet pushed in the open list.
+     */
+    static final byte CREATED = 0;
+
+    /**
+     * The status of a node in the open list.
+     */
+    static final byte OPENED = 1;
+
+    /**
+     * The status of a node explored.
+     */
+    static final byte CLOSED = 2;
+
+    /**
+     * The initial number of nodes of the search space.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The weight of the heuristic used to order the open list.
+     */
+    private final double weight;
+
+    /**
+     * <code>true</code> if the open list is ordered by the heuristic values only.
+     */
+    private final boolean greedy;
+
+    /**
+     * The cost of the nodes.
+     */
+    private double[] cost;
+
+    /**
+     * The heuristic value of the nodes.
+     */
+    private double[] heuristic;
+
+    /**
+     * The parent of the nodes.
+     */
+    private int[] parent;
+
+    /**
+     * The action applied to reach the nodes.
+     */
+    private int[] action;
+
+    /**
+     * The depth of the nodes.
+     */
+    private int[] depth;
+
+    /**
+     * The status of the nodes.
+     */
+    private byte[] status;
+
+    /**
+     * The position of the nodes in the heap.
+     */
+    private int[] position;
+
+    /**
+     * The heap of the open list or <code>null</code> if the open list is a bucket queue.
+     */
+    private int[] heap;
+
+    /**
+     * The bucket queue of the open list or <code>null</code> if the open list is a heap.
+     */
+    private final BucketQueue buckets;
+
+    /**
+     * The number of nodes in the open list.
+     */
+    private int open;
+
+    /**
+     * Creates a new empty search space.
+     *
+     * @param weight the weight of the heuristic.
+     * @param greedy <code>true</code> to order the open list by the heuristic values only, <code>false</code> to
+     *               order it by <code>g + weight * h</code>.
+     * @param list   the implementation of the open list. A bucket queue requires integer <code>g + weight * h</code>
+     *               values.
+     */
+    protected AbstractNodeTable(final double weight, final boolean greedy, final StateSpaceSearch.OpenList list) {
+        this.weight = weight;
+        this.greedy = greedy;
+        this.cost = new double[AbstractNodeTable.DEFAULT_CAPACITY];
+        this.heuristic = new double[AbstractNodeTable.DEFAULT_CAPACITY];
+        this.parent = new int[AbstractNodeTable.DEFAULT_CAPACITY];
+        this.action = new int[AbstractNodeTable.DEFAULT_CAPACITY];
+        this.depth = new int[AbstractNodeTable.DEFAULT_CAPACITY];
+        this.status = new byte[AbstractNodeTable.DEFAULT_CAPACITY];
+        this.position = new int[AbstractNodeTable.DEFAULT_CAPACITY];
+        if (list == StateSpaceSearch.OpenList.HEAP) {
+            this.heap = new int[AbstractNodeTable.DEFAULT_CAPACITY];
+            this.buckets = null;
+        } else {
+            this.heap = null;
+            this.buckets = new BucketQueue(list == StateSpaceSearch.OpenList.BUCKET_LIFO);
+        }
+        this.open = 0;
+    }
+
+    /**
+     * Returns the number of nodes of the search space, i.e., the number of states stored.
+     *
+     * @return the number of nodes of the search space.
+     */
+    abstract int size();
+
+    /**
+     * Returns the handle of a state, storing the state if it is not already stored. The handles are given in the
+     * order the states are stored, starting from 0.
+     *
+     * @param state the state.
+     * @return the handle of the state.
+     */
+    protected abstract int store(State state);
+
+    /**
+     * Returns the state of a node. The state is either the state stored by the search space or a copy of it in a
+     * specified state.
+     *
+     * @param node  the node.
+     * @param state the state in which the state of the node can be copied.
+     * @return the state of the node. The state returned must not be modified.
+     */
+    abstract State getState(int node, State state);
+
+    /**
+     * Returns <code>true</code> if the search space stores a copy of the states, so that a state passed to
+     * {@link #intern(State)} can be reused by the caller afterwards.
+     *
+     * @return <code>true</code> if the search space stores a copy of the states.
+     */
+    abstract boolean isCopyingStates();
+
+    /**
+     * Returns the number of bytes used to store the states.
+     *
+     * @return the number of bytes used to store the states.
+     */
+    protected abstract long getStateMemoryUsed();
+
+    /**
+     * Returns the number of nodes in the open list.
+     *
+     * @return the number of nodes in the open list.
+     */
+    int getOpenSize() {
+        return this.open;
+    }
+
+    /**
+     * Returns the node of a state. A new node with the status {@link #CREATED} is added to the search space if the
+     * state was never reached.
+     *
+     * @param state the state.
+     * @return the node of the state.
+     */
+    final int intern(final State state) {
+        final int size = this.size();
+        final int node = this.store(state);
+        if (node == size) {
+            this.ensureCapacity(size + 1);
+            this.parent[node] = -1;
+            this.action[node] = -1;
+            this.position[node] = -1;
+            this.status[node] = AbstractNodeTable.CREATED;
+        }
+        return node;
+    }
+
+    /**
+     * Sets the cost, the parent, the action and the depth of a node.
+     *
+     * @param node   the node.
+     * @param cost   the cost to reach the node.
+     * @param parent the parent node or -1 for the root node.
+     * @param action the action applied to reach the node or -1 for the root node.
+     */
+    void set(final int node, final double cost, final int parent, final int action) {
+        this.set(node, cost, parent, action, parent == -1 ? 0 : this.depth[parent] + 1);
+    }
+
+    /**
+     * Sets the cost, the parent, the action and the depth of a node. The parent is not read, so that it can be the
+     * identifier of a node of an other search space.
+     *
+     * @param node   the node.
+     * @param cost   the cost to reach the node.
+     * @param parent the parent node or -1 for the root node.
+     * @param action the action applied to reach the node or -1 for the root node.
+     * @param depth  the depth of the node.
+     */
+    void set(final int node, final double cost, final int parent, final int action, final int depth) {
+        this.cost[node] = cost;
+        this.parent[node] = parent;
+        this.action[node] = action;
+        this.depth[node] = depth;
+    }
+
+    /**
+     * Returns the parent of a node.
+     *
+     * @param node the node.
+     * @return the parent of the node or -1 for the root node.
+     */
+    int getParent(final int node) {
+        return this.parent[node];
+    }
+
+    /**
+     * Returns the action applied to reach a node.
+     *
+     * @param node the node.
+     * @return the action applied to reach the node or -1 for the root node.
+     */
+    int getAction(final int node) {
+        return this.action[node];
+    }
+
+    /**
+     * Returns the depth of a node.
+     *
+     * @param node the node.
+     * @return the depth of the node.
+     */
+    int getDepth(final int node) {
+        return this.depth[node];
+    }
+
+    /**
+     * Returns the cost of a node.
+     *
+     * @param node the node.
+     * @return the cost of the node.
+     */
+    double getCost(final int node) {
+        return this.cost[node];
+    }
+
+    /**
+     * Returns the heuristic value of a node.
+     *
+     * @param node the node.
+     * @return the heuristic value of the node.
+     */
+    double getHeuristic(final int node) {
+        return this.heuristic[node];
+    }
+
+    /**
+     * Sets the heuristic value of a node.
+     *
+     * @param node      the node.
+     * @param heuristic the heuristic value of the node.
+     */
+    void setHeuristic(final int node, final double heuristic) {
+        this.heuristic[node] = heuristic;
+    }
+
+    /**
+     * Returns the status of a node: {@link #CREATED}, {@link #OPENED} or {@link #CLOSED}.
+     *
+     * @param node the node.
+     * @return the status of the node.
+     */
+    byte getStatus(final int node) {
+        return this.status[node];
+    }
+
+    /**
+     * Closes a node that is not in the open list. This method is used by the search strategies that keep their own
+     * open lists and only use the search space to store the nodes.
+     *
+     * @param node the node.
+     */
+    void close(final int node) {
+        this.status[node] = AbstractNodeTable.CLOSED;
+    }
+
+    /**
+     * Pushes a node in the open list or restores the order of the open list if the node is already in it. With a
+     * bucket queue, a node whose heuristic value is infinite is a dead end: it is closed instead of being pushed.
+     *
+     * @param node the node.
+     */
+    void push(final int node) {
+        if (this.buckets != null) {
+            if (this.heuristic[node] >= Integer.MAX_VALUE) {
+                if (this.status[node] == AbstractNodeTable.OPENED) {
+                    this.open--;
+                }
+                this.status[node] = AbstractNodeTable.CLOSED;
+            } else {
+                if (this.status[node] != AbstractNodeTable.OPENED) {
+                    this.status[node] = AbstractNodeTable.OPENED;
+                    this.open++;
+                }
+                this.buckets.add(node, this.getPrimaryKey(node), (int) this.heuristic[node]);
+            }
+        } else if (this.status[node] == AbstractNodeTable.OPENED) {
+            this.up(this.position[node]);
+        } else {
+            this.status[node] = AbstractNodeTable.OPENED;
+            this.heap[this.open] = node;
+            this.position[node] = this.open;
+            this.up(this.open++);
+        }
+    }
+
+    /**
+     * Removes the first node of the open list and closes it.
+     *
+     * @return the first node of the open list or -1 if the open list is empty.
+     */
+    int pop() {
+        if (this.open == 0) {
+            return -1;
+        }
+        if (this.buckets != null) {
+            int node = this.buckets.poll();
+            // Skips the entries of the nodes closed or pushed again with lower keys
+            while (this.status[node] != AbstractNodeTable.OPENED
+                    || this.buckets.getPolledPrimaryKey() != this.getPrimaryKey(node)
+                    || this.buckets.getPolledSecondaryKey() != (int) this.heuristic[node]) {
+                node = this.buckets.poll();
+            }
+            this.open--;
+            this.status[node] = AbstractNodeTable.CLOSED;
+            return node;
+        }
+        final int first = this.heap[0];
+        this.open--;
+        if (this.open > 0) {
+            this.heap[0] = this.heap[this.open];
+            this.position[this.heap[0]] = 0;
+            this.down(0);
+        }
+        this.position[first] = -1;
+        this.status[first] = AbstractNodeTable.CLOSED;
+        return first;
+    }
+
+    /**
+     * Returns the solution node of a node, i.e., the chain of {@link Node} objects from the root node to the node.
+     *
+     * @param node the node.
+     * @return the node with its chain of parents.
+     */
+    Node toNode(final int node) {
+        Node solution = null;
+        if (node != -1) {
+            int length = 0;
+            for (int n = node; n != -1; n = this.parent[n]) {
+                length++;
+            }
+            final int[] chain = new int[length];
+            for (int n = node, i = length - 1; i >= 0; n = this.parent[n], i--) {
+                chain[i] = n;
+            }
+            for (int i = 0; i < length; i++) {
+                final int n = chain[i];
+                solution = new Node(this.getState(n, new State()), solution, this.action[n], this.cost[n], i,
+                    this.heuristic[n]);
+            }
+        }
+        return solution;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the search space.
+     *
+     * @return the number of bytes allocated by the search space.
+     */
+    long getMemoryUsed() {
+        final long records = (long) this.cost.length * (2 * Double.BYTES + 4 * Integer.BYTES + Byte.BYTES);
+        final long list = this.heap != null ? this.heap.length : this.buckets.size();
+        return this.getStateMemoryUsed() + records + list * Integer.BYTES;
+    }
+
+    /**
+     * Returns the primary key of a node in the bucket queue, i.e., its heuristic value for a greedy search and its
+     * <code>g + weight * h</code> value otherwise.
+     *
+     * @param node the node.
+     * @return the primary key of the node.
+     */
+    private int getPrimaryKey(final int node) {
+        return (int) (this.greedy ? this.heuristic[node] : this.cost[node] + this.weight * this.heuristic[node]);
+    }
+
+    /**
+     * Returns the average number of bytes allocated by the search space per node.
+     *
+     * @return the average number of bytes allocated per node.
+     */
+    double getBytesPerState() {
+        return this.size() == 0 ? 0.0 : (double) this.getMemoryUsed() / this.size();
+    }
+
+    /**
+     * Returns <code>true</code> if a node must be popped before an other node from the open list.
+     *
+     * @param n1 the first node.
+     * @param n2 the second node.
+     * @return <code>true</code> if the first node must be popped before the second node.
+     */
+    private boolean before(final int n1, final int n2) {
+        if (!this.greedy) {
+            final double f1 = this.cost[n1] + this.weight * this.heuristic[n1];
+            final double f2 = this.cost[n2] + this.weight * this.heuristic[n2];
+            if (f1 != f2) {
+                return f1 < f2;
+            }
+        }
+        return this.heuristic[n1] < this.heuristic[n2];
+    }
+
+    /**
+     * Moves up a node in the heap.
+     *
+     * @param index the index of the node in the heap.
+     */
+    private void up(int index) {
+        final int node = this.heap[index];
+        while (index > 0) {
+            final int p = (index - 1) >>> 1;
+            if (!this.before(node, this.heap[p])) {
+                break;
+            }
+            this.heap[index] = this.heap[p];
+            this.position[this.heap[index]] = index;
+            index = p;
+        }
+        this.heap[index] = node;
+        this.position[node] = index;
+    }
+
+    /**
+     * Moves down a node in the heap.
+     *
+     * @param index the index of the node in the heap.
+     */
+    private void down(int index) {
+        final int node = this.heap[index];
+        final int half = this.open >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < this.open && this.before(this.heap[child + 1], this.heap[child])) {
+                child++;
+            }
+            if (!this.before(this.heap[child], node)) {
+                break;
+            }
+            this.heap[index] = this.heap[child];
+            this.position[this.heap[index]] = index;
+            index = child;
+        }
+        this.heap[index] = node;
+        this.position[node] = index;
+    }
+
+    /**
+     * Ensures that the search space can store a specified number of nodes.
+     *
+     * @param capacity the number of nodes.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.cost.length) {
+            final int length = Math.max(capacity, this.cost.length + (this.cost.length >> 1));
+            this.cost = Arrays.copyOf(this.cost, length);
+            this.heuristic = Arrays.copyOf(this.heuristic, length);
+            this.parent = Arrays.copyOf(this.parent, length);
+            this.action = Arrays.copyOf(this.action, length);
+            this.depth = Arrays.copyOf(this.depth, length);
+            this.status = Arrays.copyOf(this.status, length);
+            this.position = Arrays.copyOf(this.position, length);
+            if (this.heap != null) {
+                this.heap = Arrays.copyOf(this.heap, length);
+            }
+        }
+    }
+}
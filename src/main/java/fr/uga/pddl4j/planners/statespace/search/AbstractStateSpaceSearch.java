@@ -18,6 +18,8 @@ package fr.uga.pddl4j.planners.statespace.search;
 import fr.uga.pddl4j.heuristics.state.StateHeuristic;
 import fr.uga.pddl4j.plan.Plan;
 import fr.uga.pddl4j.plan.SequentialPlan;
+import fr.uga.pddl4j.planners.ProgressMonitor;
+import fr.uga.pddl4j.planners.SearchListener;
 import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.operator.Action;
 
@@ -57,6 +59,41 @@ public abstract class AbstractStateSpaceSearch implements StateSpaceSearch {
      */
     private long memoryUsed;
 
+    /**
+     * The average number of bytes used per state stored during the search.
+     */
+    private double bytesPerState;
+
+    /**
+     * The average percentage of the facts touched per incremental evaluation of a successor.
+     */
+    private double touchedFacts;
+
+    /**
+     * The state arena mode of the search.
+     */
+    private boolean stateArena;
+
+    /**
+     * The implementation of the open list.
+     */
+    private OpenList openList;
+
+    /**
+     * The number of threads used by the parallel search strategies.
+     */
+    private int threads;
+
+    /**
+     * The number of threads used to evaluate the successors of a node.
+     */
+    private int evaluationThreads;
+
+    /**
+     * The number of fixpoints cached by each evaluation thread to evaluate the successors incrementally.
+     */
+    private int incrementalCache;
+
     /**
      * The number of explored nodes.
      */
@@ -72,6 +109,21 @@ public abstract class AbstractStateSpaceSearch implements StateSpaceSearch {
      */
     private int createdNodes;
 
+    /**
+     * The number of heuristic evaluations.
+     */
+    private int evaluatedNodes;
+
+    /**
+     * The number of heuristic evaluations saved compared to an eager search.
+     */
+    private int savedEvaluations;
+
+    /**
+     * The monitor that emits the progress events of the search.
+     */
+    private final ProgressMonitor monitor;
+
     /**
      * Returns the heuristic to use to solve the planning problem.
      *
@@ -173,6 +225,180 @@ public abstract class AbstractStateSpaceSearch implements StateSpaceSearch {
         this.memoryUsed = memoryUsed;
     }
 
+    /**
+     * Returns the average number of bytes used per state stored during the search.
+     *
+     * @return the average number of bytes used per state stored during the search.
+     */
+    @Override
+    public double getBytesPerState() {
+        return this.bytesPerState;
+    }
+
+    /**
+     * Sets the average number of bytes used per state stored during the search.
+     *
+     * @param bytesPerState the average number of bytes used per state stored during the search.
+     */
+    @Override
+    public void setBytesPerState(final double bytesPerState) {
+        this.bytesPerState = bytesPerState;
+    }
+
+    /**
+     * Returns the average percentage of the facts, i.e., of the relevant facts and of their negations, whose level
+     * was touched by an incremental evaluation of a successor during the search.
+     *
+     * @return the average percentage of the facts touched per incremental evaluation or 0 if no successor was
+     * evaluated incrementally.
+     */
+    @Override
+    public double getTouchedFacts() {
+        return this.touchedFacts;
+    }
+
+    /**
+     * Sets the average percentage of the facts touched per incremental evaluation of a successor during the search.
+     *
+     * @param touchedFacts the average percentage of the facts touched per incremental evaluation.
+     */
+    @Override
+    public void setTouchedFacts(final double touchedFacts) {
+        this.touchedFacts = touchedFacts;
+    }
+
+    /**
+     * Returns <code>true</code> if the states of the search are stored in a {@link fr.uga.pddl4j.problem.StateArena}
+     * and the search nodes are referenced by the handles of their states.
+     *
+     * @return <code>true</code> if the states of the search are stored in a state arena.
+     */
+    @Override
+    public boolean isStateArena() {
+        return this.stateArena;
+    }
+
+    /**
+     * Sets the state arena mode of the search. This mode is used by the A*, the greedy best first search and the
+     * breadth first search strategies; the other strategies ignore it.
+     *
+     * @param stateArena <code>true</code> to store the states of the search in a state arena.
+     */
+    @Override
+    public void setStateArena(final boolean stateArena) {
+        this.stateArena = stateArena;
+    }
+
+    /**
+     * Returns the implementation of the open list used by the A* and the greedy best first search strategies.
+     *
+     * @return the implementation of the open list.
+     */
+    @Override
+    public OpenList getOpenList() {
+        return this.openList;
+    }
+
+    /**
+     * Sets the implementation of the open list used by the A* and the greedy best first search strategies; the other
+     * strategies ignore it.
+     *
+     * @param openList the implementation of the open list. The implementation cannot be null.
+     */
+    @Override
+    public void setOpenList(final OpenList openList) {
+        Objects.requireNonNull(openList);
+        this.openList = openList;
+    }
+
+    /**
+     * Returns the implementation of the open list to use to solve a specified problem: the implementation set, unless
+     * it is a bucket queue and the <code>f</code> values of the nodes are not integers, in which case the heap is used.
+     * The <code>f</code> values are integers if the heuristic is only used, as in a greedy search, or if the weight of
+     * the heuristic and the costs of the actions are integers.
+     *
+     * @param problem the problem.
+     * @param greedy  <code>true</code> if the open list is ordered by the heuristic values only.
+     * @return the implementation of the open list to use.
+     */
+    protected OpenList getOpenList(final Problem problem, final boolean greedy) {
+        if (this.openList == OpenList.HEAP || greedy) {
+            return this.openList;
+        }
+        boolean integral = this.weight == Math.rint(this.weight);
+        for (int i = 0; i < problem.getActions().size() && integral; i++) {
+            final double cost = problem.getActions().get(i).getCost().getValue();
+            integral = cost == Math.rint(cost) && cost >= 0;
+        }
+        return integral ? this.openList : OpenList.HEAP;
+    }
+
+    /**
+     * Returns the number of threads used by the parallel search strategies.
+     *
+     * @return the number of threads used by the parallel search strategies.
+     */
+    @Override
+    public int getNumberOfThreads() {
+        return this.threads;
+    }
+
+    /**
+     * Sets the number of threads used by the parallel search strategies, i.e., the hash distributed A*; the other
+     * strategies ignore it.
+     *
+     * @param threads the number of threads. The number of threads must be strictly positive.
+     */
+    @Override
+    public void setNumberOfThreads(final int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the number of threads used to evaluate the successors of a node.
+     *
+     * @return the number of threads used to evaluate the successors of a node.
+     */
+    @Override
+    public int getEvaluationThreads() {
+        return this.evaluationThreads;
+    }
+
+    /**
+     * Sets the number of threads used to evaluate the successors of a node, i.e., by the A* and the greedy best first
+     * search strategies; the other strategies ignore it.
+     *
+     * @param threads the number of threads. The number of threads must be strictly positive.
+     */
+    @Override
+    public void setEvaluationThreads(final int threads) {
+        this.evaluationThreads = threads;
+    }
+
+    /**
+     * Returns the number of fixpoints of relaxed planning graphs cached by each evaluation thread to evaluate the
+     * successors of a node incrementally.
+     *
+     * @return the number of fixpoints cached or 0 if the successors are evaluated from scratch.
+     */
+    @Override
+    public int getIncrementalCache() {
+        return this.incrementalCache;
+    }
+
+    /**
+     * Sets the number of fixpoints of relaxed planning graphs cached by each evaluation thread to evaluate the
+     * successors of a node incrementally, i.e., by the A* and the greedy best first search strategies with the FAST
+     * FORWARD, SUM and MAX heuristics; the other strategies and heuristics ignore it.
+     *
+     * @param size the number of fixpoints cached or 0 to evaluate the successors from scratch. The number must be
+     *             positive.
+     */
+    @Override
+    public void setIncrementalCache(final int size) {
+        this.incrementalCache = size;
+    }
+
     /**
      * Returns the number of explored nodes.
      *
@@ -233,6 +459,97 @@ public abstract class AbstractStateSpaceSearch implements StateSpaceSearch {
         this.createdNodes = createdNodes;
     }
 
+    /**
+     * Returns the number of heuristic evaluations of the search.
+     *
+     * @return the number of heuristic evaluations of the search.
+     */
+    @Override
+    public int getEvaluatedNodes() {
+        return this.evaluatedNodes;
+    }
+
+    /**
+     * Sets the number of heuristic evaluations of the search.
+     *
+     * @param evaluatedNodes the number of heuristic evaluations of the search.
+     */
+    @Override
+    public void setEvaluatedNodes(final int evaluatedNodes) {
+        this.evaluatedNodes = evaluatedNodes;
+    }
+
+    /**
+     * Returns the number of heuristic evaluations saved by the search compared to an eager search that evaluates
+     * every new node, i.e., the number of nodes stored and never evaluated.
+     *
+     * @return the number of heuristic evaluations saved.
+     */
+    @Override
+    public int getSavedEvaluations() {
+        return this.savedEvaluations;
+    }
+
+    /**
+     * Sets the number of heuristic evaluations saved by the search compared to an eager search.
+     *
+     * @param savedEvaluations the number of heuristic evaluations saved.
+     */
+    @Override
+    public void setSavedEvaluations(final int savedEvaluations) {
+        this.savedEvaluations = savedEvaluations;
+    }
+
+    /**
+     * Adds a listener of the progress of the search. The listener receives periodic events while the search runs and
+     * a last event when it ends.
+     *
+     * @param listener the listener to add. The listener cannot be null.
+     */
+    @Override
+    public void addSearchListener(final SearchListener listener) {
+        this.monitor.addSearchListener(listener);
+    }
+
+    /**
+     * Removes a listener of the progress of the search.
+     *
+     * @param listener the listener to remove.
+     */
+    @Override
+    public void removeSearchListener(final SearchListener listener) {
+        this.monitor.removeSearchListener(listener);
+    }
+
+    /**
+     * Returns the period between two progress events of the search in milliseconds.
+     *
+     * @return the period between two progress events in milliseconds.
+     */
+    @Override
+    public long getProgressPeriod() {
+        return this.monitor.getPeriod();
+    }
+
+    /**
+     * Sets the period between two progress events of the search in milliseconds.
+     *
+     * @param period the period between two progress events in milliseconds. The period must be strictly positive.
+     */
+    @Override
+    public void setProgressPeriod(final long period) {
+        this.monitor.setPeriod(period);
+    }
+
+    /**
+     * Returns the monitor that emits the progress events of the search.
+     *
+     * @return the monitor that emits the progress events of the search.
+     */
+    protected final ProgressMonitor getProgressMonitor() {
+        return this.monitor;
+    }
+
     /**
      * Create a new search strategy.
      */
@@ -264,6 +581,14 @@ public abstract class AbstractStateSpaceSearch implements StateSpaceSearch {
         this.weight = weight;
         this.searchingTime = 0;
         this.memoryUsed = 0;
+        this.bytesPerState = 0;
+        this.touchedFacts = 0;
+        this.stateArena = StateSpaceSearch.DEFAULT_STATE_ARENA;
+        this.openList = StateSpaceSearch.DEFAULT_OPEN_LIST;
+        this.threads = StateSpaceSearch.DEFAULT_NUMBER_OF_THREADS;
+        this.evaluationThreads = StateSpaceSearch.DEFAULT_EVALUATION_THREADS;
+        this.incrementalCache = StateSpaceSearch.DEFAULT_INCREMENTAL_CACHE;
+        this.monitor = new ProgressMonitor(this.getClass().getSimpleName());
         resetNodesStatistics();
     }
 
@@ -326,6 +651,8 @@ public abstract class AbstractStateSpaceSearch implements StateSpaceSearch {
         this.exploredNodes = 0;
         this.pendingNodes = 0;
         this.createdNodes = 0;
+        this.evaluatedNodes = 0;
+        this.savedEvaluations = 0;
     }
 
 }
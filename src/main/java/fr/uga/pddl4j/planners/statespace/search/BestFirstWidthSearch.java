@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.ProgressMonitor;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.BucketQueue;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class implements the best first width search strategy BFWS(w, h). The nodes are ordered by their novelty and
+ * then by their heuristic value, where the novelty of a node is computed among the nodes with the same heuristic
+ * value: each heuristic value has its own novelty table of width 2. A node whose heuristic value improves on its
+ * parent is thus novel in its partition, and among the nodes with the same heuristic value the ones making true new
+ * fluents or pairs of fluents are explored first. Unlike IW(k), no node is pruned, so the search is complete.
+ *
+ * <p>A novelty table of width 2 needs <code>n * (n - 1) / 2</code> bits for a problem of <code>n</code> fluents and a
+ * table is created for each heuristic value reached.</p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class BestFirstWidthSearch extends AbstractStateSpaceSearch {
+
+    /**
+     * The width of the novelty tables.
+     */
+    private static final int WIDTH = 2;
+
+    /**
+     * Creates a new best first width search strategy with default parameters.
+     */
+    public BestFirstWidthSearch() {
+        super();
+    }
+
+    /**
+     * Creates a new best first width search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristic to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public BestFirstWidthSearch(int timeout, StateHeuristic.Name heuristic, double weight) {
+        super(timeout, heuristic, weight);
+    }
+
+    /**
+     * The best first width search algorithm. Solves the planning problem and returns the first solution plan found.
+     * The nodes are stored in a node table keyed by the fingerprints of their states, or in a state arena if the state
+     * arena mode is set, and a state already reached is not pushed again. The open list is a bucket queue keyed by the
+     * novelty and the heuristic value of the nodes; the open list setting of the search is not used.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution plan or null if it does not exist.
+     */
+    public Node search(final Problem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+
+        final StateHeuristic heuristic = StateHeuristic.getInstance(this.getHeuristic(), codedProblem);
+        final int fluents = codedProblem.getFluents().size();
+        final AbstractNodeTable space = this.isStateArena()
+            ? new NodeArena(fluents, this.getWeight(), true, OpenList.HEAP)
+            : new NodeTable(this.getWeight(), true, OpenList.HEAP);
+        final BucketQueue open = new BucketQueue(false);
+        // The novelty tables of the heuristic values reached
+        NoveltyTable[] partitions = new NoveltyTable[0];
+        final long timeout = this.getTimeout() * 1000;
+
+        // The successor generator used to compute the actions applicable in a state
+        final SuccessorGenerator generator = codedProblem.getSuccessorGenerator();
+        final int[] applicable = new int[generator.size()];
+
+        final State init = new State(codedProblem.getInitialState());
+        final int root = space.intern(init);
+        final int h0 = heuristic.estimate(init, codedProblem.getGoal());
+        space.set(root, 0, -1, -1);
+        space.setHeuristic(root, h0);
+        if (h0 != Integer.MAX_VALUE) {
+            partitions = Arrays.copyOf(partitions, h0 + 1);
+            partitions[h0] = new NoveltyTable(fluents, BestFirstWidthSearch.WIDTH);
+            open.add(root, partitions[h0].update(init), h0);
+        }
+        // The buffers of the states of the nodes explored and of their successors when the states are copied
+        final State buffer = new State();
+        State successor = new State();
+
+        this.resetNodesStatistics();
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        double best = h0;
+        int solution = -1;
+        int explored = 0;
+        long searchingTime = 0;
+        while (!open.isEmpty() && solution == -1 && searchingTime < timeout) {
+            final int node = open.poll();
+            explored++;
+            best = Math.min(best, space.getHeuristic(node));
+            final State current = space.getState(node, buffer);
+            if (current.satisfy(codedProblem.getGoal())) {
+                solution = node;
+            } else {
+                final int hp = (int) space.getHeuristic(node);
+                final int count = generator.getApplicableActions(current, applicable);
+                for (int i = 0; i < count; i++) {
+                    final int index = applicable[i];
+                    final Action op = codedProblem.getActions().get(index);
+                    // Apply the effects of the operator whose condition is satisfied in the current state
+                    successor.copy(current);
+                    for (ConditionalEffect ce : op.getConditionalEffects()) {
+                        if (current.satisfy(ce.getCondition())) {
+                            successor.apply(ce.getEffect());
+                        }
+                    }
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    final int size = space.size();
+                    final int next = space.intern(successor);
+                    if (space.size() > size) {
+                        final int h = heuristic.estimate(successor, codedProblem.getGoal());
+                        space.set(next, space.getCost(node) + op.getCost().getValue(), node, index);
+                        space.setHeuristic(next, h);
+                        // The dead ends are stored but never explored
+                        if (h != Integer.MAX_VALUE) {
+                            if (h >= partitions.length) {
+                                partitions = Arrays.copyOf(partitions, Math.max(h + 1, partitions.length * 2));
+                            }
+                            if (partitions[h] == null) {
+                                partitions[h] = new NoveltyTable(fluents, BestFirstWidthSearch.WIDTH);
+                            }
+                            // The parent is recorded in the same table only if it has the same heuristic value
+                            final int w = h == hp
+                                ? partitions[h].update(successor, current, op)
+                                : partitions[h].update(successor);
+                            open.add(next, w, h);
+                        }
+                        if (!space.isCopyingStates()) {
+                            successor = new State();
+                        }
+                    }
+                }
+            }
+            if (monitor.isDue()) {
+                monitor.report(explored, this.getCreatedNodes(), best, open.size(), -1,
+                    BestFirstWidthSearch.getMemoryUsed(space, partitions));
+            }
+            // Take time to compute the searching time
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        final long memory = BestFirstWidthSearch.getMemoryUsed(space, partitions);
+        this.setExploredNodes(explored);
+        this.setPendingNodes(open.size());
+        this.setEvaluatedNodes(space.size());
+        this.setMemoryUsed(memory);
+        this.setBytesPerState((double) memory / space.size());
+        this.setSearchingTime(searchingTime);
+        monitor.finish(explored, this.getCreatedNodes(), best, open.size(), -1, memory);
+
+        return space.toNode(solution);
+    }
+
+    /**
+     * Returns the number of bytes used by the search space and the novelty tables of the search.
+     *
+     * @param space      the search space.
+     * @param partitions the novelty tables of the heuristic values reached.
+     * @return the number of bytes used by the search space and the novelty tables.
+     */
+    private static long getMemoryUsed(final AbstractNodeTable space, final NoveltyTable[] partitions) {
+        long memory = space.getMemoryUsed();
+        for (NoveltyTable table : partitions) {
+            memory += table == null ? 0 : table.getMemoryUsed();
+        }
+        return memory;
+    }
+}
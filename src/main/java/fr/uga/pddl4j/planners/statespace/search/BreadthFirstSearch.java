@@ -15,10 +15,14 @@
 
 package fr.uga.pddl4j.planners.statespace.search;
 
+import fr.uga.pddl4j.planners.ProgressMonitor;
 import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.StateArena;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
 import fr.uga.pddl4j.problem.operator.Action;
-import org.openjdk.jol.info.GraphLayout;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.MemoryAccounting;
 
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -57,6 +61,9 @@ public final class BreadthFirstSearch extends AbstractStateSpaceSearch {
      */
     public Node search(final Problem codedProblem) {
         Objects.requireNonNull(codedProblem);
+        if (this.isStateArena()) {
+            return this.searchInArena(codedProblem);
+        }
         final long begin = System.currentTimeMillis();
 
         final HashSet<Node> closeSet = new HashSet<>();
@@ -64,11 +71,20 @@ public final class BreadthFirstSearch extends AbstractStateSpaceSearch {
         final int timeout = this.getTimeout() * 1000;
 
         State init = new State(codedProblem.getInitialState());
+
+        // The successor generator used to compute the actions applicable in a state
+
+        final SuccessorGenerator generator = codedProblem.getSuccessorGenerator();
+
+        final int[] applicable = new int[generator.size()];
         Node root = new Node(init, null, 0, 0, 0);
         root.setDepth(0);
         openSet.add(root);
 
         this.resetNodesStatistics();
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        final long nodeSize = Node.getMemorySize(StateArena.getWordsPerState(codedProblem.getFluents().size()));
         Node solution = null;
         long searchingTime = 0;
         while (!openSet.isEmpty() && solution == null && searchingTime < timeout) {
@@ -79,37 +95,39 @@ public final class BreadthFirstSearch extends AbstractStateSpaceSearch {
                 solution = current;
             } else {
                 closeSet.add(current);
-                int index = 0;
-                for (Action op : codedProblem.getActions()) {
-
-                    // Test if a specified operator is applicable in the current state
-                    if (op.isApplicable(current)) {
-                        final State nextState = new State(current);
-                        //nextState.or(op.getConditionalEffects().get(0).getEffect().getPositive());
-                        //nextState.andNot(op.getConditionalEffects().get(0).getEffect().getNegative());
-
-                        // Apply the effect of the applicable operator
-                        // Test if the condition of the effect is satisfied in the current state
-                        // Apply the effect to the successor node
-                        op.getConditionalEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
-                            .forEach(ce -> nextState.apply(ce.getEffect()));
-
-                        // Apply the effect of the applicable operator
-                        final Node successor = new Node(nextState);
-                        this.setCreatedNodes(this.getCreatedNodes() + 1);
-                        successor.setCost(current.getCost() + op.getCost().getValue());
-                        successor.setHeuristic(0);
-                        successor.setParent(current);
-                        successor.setAction(index);
-                        successor.setDepth(current.getDepth() + 1);
-
-                        if (!closeSet.contains(successor) && !openSet.contains(successor)) {
-                            openSet.addLast(successor);
-                        }
+                final int count = generator.getApplicableActions(current, applicable);
+                for (int i = 0; i < count; i++) {
+                    final int index = applicable[i];
+                    final Action op = codedProblem.getActions().get(index);
+                    final State nextState = new State(current);
+                    //nextState.or(op.getConditionalEffects().get(0).getEffect().getPositive());
+                    //nextState.andNot(op.getConditionalEffects().get(0).getEffect().getNegative());
+
+                    // Apply the effect of the applicable operator
+                    // Test if the condition of the effect is satisfied in the current state
+                    // Apply the effect to the successor node
+                    op.getConditionalEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
+                        .forEach(ce -> nextState.apply(ce.getEffect()));
+
+                    // Apply the effect of the applicable operator
+                    final Node successor = new Node(nextState);
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    successor.setCost(current.getCost() + op.getCost().getValue());
+                    successor.setHeuristic(0);
+                    successor.setParent(current);
+                    successor.setAction(index);
+                    successor.setDepth(current.getDepth() + 1);
+
+                    if (!closeSet.contains(successor) && !openSet.contains(successor)) {
+                        openSet.addLast(successor);
                     }
-                    index++;
                 }
             }
+            if (monitor.isDue()) {
+                monitor.report(closeSet.size(), this.getCreatedNodes(), Double.NaN, openSet.size(), -1,
+                    (closeSet.size() + openSet.size()) * nodeSize + MemoryAccounting.hashEntriesSize(closeSet.size())
+                        + MemoryAccounting.linkedEntriesSize(openSet.size()));
+            }
             // Take time to compute the searching time
             long end = System.currentTimeMillis();
             searchingTime = end - begin;
@@ -117,10 +135,83 @@ public final class BreadthFirstSearch extends AbstractStateSpaceSearch {
 
         this.setExploredNodes(closeSet.size());
         this.setPendingNodes(openSet.size());
-        this.setMemoryUsed(GraphLayout.parseInstance(closeSet).totalSize()
-            + GraphLayout.parseInstance(openSet).totalSize());
+        final int nodes = closeSet.size() + openSet.size();
+        this.setMemoryUsed(MemoryAccounting.measure(nodes * nodeSize + MemoryAccounting.hashEntriesSize(closeSet.size())
+            + MemoryAccounting.linkedEntriesSize(openSet.size()), closeSet, openSet));
+        this.setBytesPerState(closeSet.size() + openSet.size() == 0 ? 0.0
+            : (double) this.getMemoryUsed() / (closeSet.size() + openSet.size()));
         this.setSearchingTime(searchingTime);
+        monitor.finish(this.getExploredNodes(), this.getCreatedNodes(), Double.NaN, this.getPendingNodes(), -1,
+            this.getMemoryUsed());
 
         return solution;
     }
+
+    /**
+     * Solves the planning problem with the states of the search stored in a state arena. The handles of the states
+     * are given in the order the states are reached, which is the breadth first order: the open list is the range of
+     * the handles not yet explored and the arena replaces both the open and the closed lists.
+     *
+     * @param problem the problem to be solved.
+     * @return a solution plan or null if it does not exist.
+     */
+    private Node searchInArena(final Problem problem) {
+        final long begin = System.currentTimeMillis();
+        final SuccessorGenerator generator = problem.getSuccessorGenerator();
+        final int[] applicable = new int[generator.size()];
+        final NodeArena space = new NodeArena(problem.getFluents().size(), 0.0, true, OpenList.HEAP);
+        final int root = space.intern(new State(problem.getInitialState()));
+        space.set(root, 0, -1, -1);
+        // The state of the node explored and the state of its successors are reused for all the nodes
+        final State current = new State();
+        final State successor = new State();
+        final int timeout = this.getTimeout() * 1000;
+
+        this.resetNodesStatistics();
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        int solution = -1;
+        int explored = 0;
+        long searchingTime = 0;
+        while (explored < space.size() && solution == -1 && searchingTime < timeout) {
+            final int node = explored++;
+            space.getState(node, current);
+            if (current.satisfy(problem.getGoal())) {
+                solution = node;
+            } else {
+                final int count = generator.getApplicableActions(current, applicable);
+                for (int i = 0; i < count; i++) {
+                    final int index = applicable[i];
+                    final Action op = problem.getActions().get(index);
+                    successor.copy(current);
+                    for (ConditionalEffect ce : op.getConditionalEffects()) {
+                        if (current.satisfy(ce.getCondition())) {
+                            successor.apply(ce.getEffect());
+                        }
+                    }
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    final int reached = space.size();
+                    final int next = space.intern(successor);
+                    if (next == reached) {
+                        space.set(next, space.getCost(node) + op.getCost().getValue(), node, index);
+                    }
+                }
+            }
+            if (monitor.isDue()) {
+                monitor.report(explored, this.getCreatedNodes(), Double.NaN, space.size() - explored, -1,
+                    space.getMemoryUsed());
+            }
+            // Take time to compute the searching time
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setExploredNodes(explored);
+        this.setPendingNodes(space.size() - explored);
+        this.setMemoryUsed(space.getMemoryUsed());
+        this.setBytesPerState(space.getBytesPerState());
+        this.setSearchingTime(searchingTime);
+        monitor.finish(explored, this.getCreatedNodes(), Double.NaN, this.getPendingNodes(), -1,
+            this.getMemoryUsed());
+        return space.toNode(solution);
+    }
 }
@@ -15,10 +15,13 @@
 
 package fr.uga.pddl4j.planners.statespace.search;
 
+import fr.uga.pddl4j.planners.ProgressMonitor;
 import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.StateArena;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
 import fr.uga.pddl4j.problem.operator.Action;
-import org.openjdk.jol.info.GraphLayout;
+import fr.uga.pddl4j.util.MemoryAccounting;
 
 import java.util.LinkedList;
 import java.util.Objects;
@@ -63,11 +66,20 @@ public final class DepthFirstSearch extends AbstractStateSpaceSearch {
         final long timeout = this.getTimeout() * 1000;
 
         State init = new State(codedProblem.getInitialState());
+
+        // The successor generator used to compute the actions applicable in a state
+
+        final SuccessorGenerator generator = codedProblem.getSuccessorGenerator();
+
+        final int[] applicable = new int[generator.size()];
         Node root = new Node(init, null, 0, 0, 0);
         root.setDepth(0);
         openSet.add(root);
 
         this.resetNodesStatistics();
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        final long nodeSize = Node.getMemorySize(StateArena.getWordsPerState(codedProblem.getFluents().size()));
         Node solution = null;
         long searchingTime = 0;
         while (!openSet.isEmpty() && solution == null && searchingTime < timeout) {
@@ -78,34 +90,35 @@ public final class DepthFirstSearch extends AbstractStateSpaceSearch {
                 solution = current;
             } else {
                 closeSet.add(current);
-                int index = 0;
-                for (Action op : codedProblem.getActions()) {
-
-                    // Test if a specified operator is applicable in the current state
-                    if (op.isApplicable(current)) {
-                        final State nextState = new State(current);
-                        //nextState.or(op.getConditionalEffects().get(0).getEffect().getPositive());
-                        //nextState.andNot(op.getConditionalEffects().get(0).getEffect().getNegative());
-
-                        op.getConditionalEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
-                            .forEach(ce -> nextState.apply(ce.getEffect()));
-
-                        // Apply the effect of the applicable operator
-                        final Node successor = new Node(nextState);
-                        this.setCreatedNodes(this.getCreatedNodes() + 1);
-                        successor.setCost(current.getCost() + op.getCost().getValue());
-                        successor.setHeuristic(0);
-                        successor.setParent(current);
-                        successor.setAction(index);
-                        successor.setDepth(current.getDepth() + 1);
-
-                        if (!closeSet.contains(successor) && !openSet.contains(successor)) {
-                            openSet.addFirst(successor);
-                        }
+                final int count = generator.getApplicableActions(current, applicable);
+                for (int i = 0; i < count; i++) {
+                    final int index = applicable[i];
+                    final Action op = codedProblem.getActions().get(index);
+                    final State nextState = new State(current);
+                    //nextState.or(op.getConditionalEffects().get(0).getEffect().getPositive());
+                    //nextState.andNot(op.getConditionalEffects().get(0).getEffect().getNegative());
+
+                    op.getConditionalEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
+                        .forEach(ce -> nextState.apply(ce.getEffect()));
+
+                    // Apply the effect of the applicable operator
+                    final Node successor = new Node(nextState);
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    successor.setCost(current.getCost() + op.getCost().getValue());
+                    successor.setHeuristic(0);
+                    successor.setParent(current);
+                    successor.setAction(index);
+                    successor.setDepth(current.getDepth() + 1);
+
+                    if (!closeSet.contains(successor) && !openSet.contains(successor)) {
+                        openSet.addFirst(successor);
                     }
-                    index++;
                 }
             }
+            if (monitor.isDue()) {
+                monitor.report(closeSet.size(), this.getCreatedNodes(), Double.NaN, openSet.size(), -1,
+                    (closeSet.size() + openSet.size()) * (nodeSize + MemoryAccounting.linkedEntriesSize(1)));
+            }
             // Take time to compute the searching time
             long end = System.currentTimeMillis();
             searchingTime = end - begin;
@@ -113,9 +126,12 @@ public final class DepthFirstSearch extends AbstractStateSpaceSearch {
 
         this.setExploredNodes(closeSet.size());
         this.setPendingNodes(openSet.size());
-        this.setMemoryUsed(GraphLayout.parseInstance(closeSet).totalSize()
-            + GraphLayout.parseInstance(openSet).totalSize());
+        final int nodes = closeSet.size() + openSet.size();
+        this.setMemoryUsed(MemoryAccounting.measure(nodes * (nodeSize + MemoryAccounting.linkedEntriesSize(1)),
+            closeSet, openSet));
         this.setSearchingTime(searchingTime);
+        monitor.finish(this.getExploredNodes(), this.getCreatedNodes(), Double.NaN, this.getPendingNodes(), -1,
+            this.getMemoryUsed());
 
         return solution;
     }
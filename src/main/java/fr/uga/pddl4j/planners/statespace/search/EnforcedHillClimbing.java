@@ -20,12 +20,16 @@
 package fr.uga.pddl4j.planners.statespace.search;
 
 import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.ProgressMonitor;
 import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.StateArena;
 import fr.uga.pddl4j.problem.operator.Action;
-import org.openjdk.jol.info.GraphLayout;
+import fr.uga.pddl4j.util.MemoryAccounting;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -80,6 +84,9 @@ public final class EnforcedHillClimbing extends AbstractStateSpaceSearch {
         boolean deadEndFree = true;
 
         this.resetNodesStatistics();
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        final long nodeSize = Node.getMemorySize(StateArena.getWordsPerState(codedProblem.getFluents().size()));
         long searchingTime = 0;
         while (!openList.isEmpty() && solution == null && deadEndFree && searchingTime < timeout) {
             final Node currentState = openList.pop();
@@ -100,20 +107,39 @@ public final class EnforcedHillClimbing extends AbstractStateSpaceSearch {
                 }
                 openList.addLast(successor);
             }
+            if (monitor.isDue()) {
+                monitor.report(this.getExploredNodes(), this.getCreatedNodes(), bestHeuristic, openList.size(), -1,
+                    EnforcedHillClimbing.getMemorySize(openList, nodeSize));
+            }
 
             // Take time to compute the searching time
             long end = System.currentTimeMillis();
             searchingTime = end - begin;
         }
 
-        this.setMemoryUsed(GraphLayout.parseInstance(openList).totalSize());
+        this.setMemoryUsed(MemoryAccounting.measure(EnforcedHillClimbing.getMemorySize(openList, nodeSize), openList));
         this.setSearchingTime(searchingTime);
+        monitor.finish(this.getExploredNodes(), this.getCreatedNodes(), bestHeuristic, openList.size(), -1,
+            this.getMemoryUsed());
 
         return solution;
     }
 
     /**
-     * Get the successors from a node.
+     * Returns the estimate of the number of bytes used by the search. The open list retains its nodes and the path from
+     * the root node to them.
+     *
+     * @param openList the open list of the search.
+     * @param nodeSize the number of bytes of a node.
+     * @return the estimate of the number of bytes used by the search.
+     */
+    private static long getMemorySize(final LinkedList<Node> openList, final long nodeSize) {
+        final int nodes = openList.size() + (openList.isEmpty() ? 0 : Math.max(0, openList.peek().getDepth()));
+        return nodes * nodeSize + MemoryAccounting.linkedEntriesSize(openList.size());
+    }
+
+    /**
+     * Get the successors from a node. The successors are estimated at once with the batch estimate of the heuristic.
      *
      * @param parent    the parent node.
      * @param problem   the coded problem to solve.
@@ -121,30 +147,31 @@ public final class EnforcedHillClimbing extends AbstractStateSpaceSearch {
      * @return the list of successors from the parent node.
      */
     private LinkedList<Node> getSuccessors(Node parent, Problem problem, StateHeuristic heuristic) {
-        final LinkedList<Node> successors = new LinkedList<>();
-
-        int index = 0;
-        for (Action op : problem.getActions()) {
-            // Test if a specified operator is applicable in the current state
-            if (op.isApplicable(parent)) {
-                final State nextState = new State(parent);
-                op.getConditionalEffects().stream().filter(ce -> parent.satisfy(ce.getCondition())).forEach(ce ->
-                        // Apply the effect to the successor node
-                        nextState.apply(ce.getEffect())
-                );
-                // Apply the effect of the applicable operator
-                final Node successor = new Node(nextState);
-                this.setCreatedNodes(this.getCreatedNodes() + 1);
-                successor.setCost(parent.getCost() + op.getCost().getValue());
-                successor.setHeuristic(heuristic.estimate(nextState, problem.getGoal()));
-                successor.setParent(parent);
-                successor.setAction(index);
-                successor.setDepth(parent.getDepth() + 1);
-                successors.add(successor);
-            }
-            index++;
+        final List<Node> successors = new ArrayList<>();
+
+        for (int index : problem.getSuccessorGenerator().getApplicableActions(parent)) {
+            final Action op = problem.getActions().get(index);
+            final State nextState = new State(parent);
+            op.getConditionalEffects().stream().filter(ce -> parent.satisfy(ce.getCondition())).forEach(ce ->
+                    // Apply the effect to the successor node
+                    nextState.apply(ce.getEffect())
+            );
+            // Apply the effect of the applicable operator
+            final Node successor = new Node(nextState);
+            this.setCreatedNodes(this.getCreatedNodes() + 1);
+            successor.setCost(parent.getCost() + op.getCost().getValue());
+            successor.setParent(parent);
+            successor.setAction(index);
+            successor.setDepth(parent.getDepth() + 1);
+            successors.add(successor);
+        }
+        final int[] values = new int[successors.size()];
+        heuristic.estimate(successors, problem.getGoal(), values);
+        int i = 0;
+        for (Node successor : successors) {
+            successor.setHeuristic(values[i++]);
         }
 
-        return successors;
+        return new LinkedList<>(successors);
     }
 }
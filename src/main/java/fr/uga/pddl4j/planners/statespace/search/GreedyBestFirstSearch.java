@@ -16,16 +16,14 @@
 package fr.uga.pddl4j.planners.statespace.search;
 
 import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.ProgressMonitor;
 import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
 import fr.uga.pddl4j.problem.operator.Action;
-import org.openjdk.jol.info.GraphLayout;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Objects;
-import java.util.Set;
 
 /**
  * This class implements Greedy Best First Search strategy.
@@ -56,7 +54,10 @@ public final class GreedyBestFirstSearch extends AbstractStateSpaceSearch {
 
     /**
      * The greedy best first search algorithm. Solves the planning problem and returns the first solution plan found.
-     * This method must be completed.
+     * The nodes are stored in a node table keyed by the fingerprints of their states, or in a state arena if the state
+     * arena mode is set, and the pending nodes are ordered by their heuristic values. A state already reached is not
+     * pushed again in the list of pending nodes. The new successors of an expansion are evaluated together, in
+     * parallel if several evaluation threads are set, before they are pushed in the order they were reached.
      *
      * @param codedProblem the problem to be solved. The problem cannot be null.
      * @return a solution plan or null if it does not exist.
@@ -66,80 +67,86 @@ public final class GreedyBestFirstSearch extends AbstractStateSpaceSearch {
         final long begin = System.currentTimeMillis();
 
         final StateHeuristic heuristic = StateHeuristic.getInstance(this.getHeuristic(), codedProblem);
-        final Set<Node> closeSet = new HashSet<>();
-        final Set<Node> openSet = new HashSet<>();
+        final OpenList list = this.getOpenList(codedProblem, true);
+        final AbstractNodeTable space = this.isStateArena()
+            ? new NodeArena(codedProblem.getFluents().size(), this.getWeight(), true, list)
+            : new NodeTable(this.getWeight(), true, list);
         final long timeout = this.getTimeout() * 1000;
 
-        State init = new State(codedProblem.getInitialState());
-        Node root = new Node(init, null, 0, 0, heuristic.estimate(init, codedProblem.getGoal()));
-        root.setDepth(0);
-        openSet.add(root);
+        // The successor generator used to compute the actions applicable in a state
+        final SuccessorGenerator generator = codedProblem.getSuccessorGenerator();
+        final int[] applicable = new int[generator.size()];
+
+        final State init = new State(codedProblem.getInitialState());
+        final int root = space.intern(init);
+        space.set(root, 0, -1, -1);
+        space.setHeuristic(root, heuristic.estimate(init, codedProblem.getGoal()));
+        space.push(root);
+        // The buffers of the states of the nodes explored and of their successors when the states are copied
+        final State buffer = new State();
+        State successor = new State();
+        // The evaluator of the new successors of an expansion
+        final SuccessorEvaluator evaluator = new SuccessorEvaluator(heuristic, this.getHeuristic(), codedProblem,
+            this.getEvaluationThreads(), this.getIncrementalCache());
 
         this.resetNodesStatistics();
-        Node solution = null;
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        double best = space.getHeuristic(root);
+        int solution = -1;
         long searchingTime = 0;
-        while (!openSet.isEmpty() && solution == null && searchingTime < timeout) {
+        while (space.getOpenSize() > 0 && solution == -1 && searchingTime < timeout) {
             // Pop the first node in the pending list open
-            final Node current = popPriorityNode(openSet);
-
+            final int node = space.pop();
+            best = Math.min(best, space.getHeuristic(node));
+            final State current = space.getState(node, buffer);
             if (current.satisfy(codedProblem.getGoal())) {
-                solution = current;
+                solution = node;
             } else {
-                closeSet.add(current);
-                int index = 0;
-                for (Action op : codedProblem.getActions()) {
-
-                    // Test if a specified operator is applicable in the current state
-                    if (op.isApplicable(current)) {
-                        final State nextState = new State(current);
-                        op.getConditionalEffects().stream().filter(ce -> current.satisfy(ce.getCondition()))
-                            .forEach(ce -> nextState.apply(ce.getEffect()));
-                        // Apply the effect of the applicable operator
-                        final Node successor = new Node(nextState);
-                        this.setCreatedNodes(this.getCreatedNodes() + 1);
-                        successor.setCost(current.getCost() + op.getCost().getValue());
-                        successor.setHeuristic(heuristic.estimate(nextState, codedProblem.getGoal()));
-                        successor.setParent(current);
-                        successor.setAction(index);
-                        successor.setDepth(current.getDepth() + 1);
-                        openSet.add(successor);
+                final int count = generator.getApplicableActions(current, applicable);
+                for (int i = 0; i < count; i++) {
+                    final int index = applicable[i];
+                    final Action op = codedProblem.getActions().get(index);
+                    // Apply the effects of the operator whose condition is satisfied in the current state
+                    successor.copy(current);
+                    for (ConditionalEffect ce : op.getConditionalEffects()) {
+                        if (current.satisfy(ce.getCondition())) {
+                            successor.apply(ce.getEffect());
+                        }
+                    }
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    final int size = space.size();
+                    final int next = space.intern(successor);
+                    if (space.size() > size) {
+                        space.set(next, space.getCost(node) + op.getCost().getValue(), node, index);
+                        evaluator.add(next);
+                        if (!space.isCopyingStates()) {
+                            successor = new State();
+                        }
                     }
-                    index++;
                 }
+                // The new successors are evaluated and pushed in the order they were reached
+                evaluator.flush(space);
+            }
+            if (monitor.isDue()) {
+                monitor.report(space.size() - space.getOpenSize(), this.getCreatedNodes(), best, space.getOpenSize(),
+                    -1, space.getMemoryUsed());
             }
             // Take time to compute the searching time
-            long end = System.currentTimeMillis();
-            searchingTime = end - begin;
+            searchingTime = System.currentTimeMillis() - begin;
         }
 
-        this.setExploredNodes(closeSet.size());
-        this.setPendingNodes(openSet.size());
-        this.setMemoryUsed(GraphLayout.parseInstance(closeSet).totalSize()
-            + GraphLayout.parseInstance(openSet).totalSize());
+        evaluator.close();
+        this.setExploredNodes(space.size() - space.getOpenSize());
+        this.setPendingNodes(space.getOpenSize());
+        this.setEvaluatedNodes(space.size());
+        this.setMemoryUsed(space.getMemoryUsed());
+        this.setBytesPerState(space.getBytesPerState());
+        this.setTouchedFacts(evaluator.getTouchedFacts());
         this.setSearchingTime(searchingTime);
+        monitor.finish(this.getExploredNodes(), this.getCreatedNodes(), best, this.getPendingNodes(), -1,
+            this.getMemoryUsed());
 
-        return solution;
-    }
-
-    /**
-     * Get a node from a list of nodes.
-     *
-     * @param states the list of nodes (successors).
-     * @return the node from the list.
-     */
-    private Node popPriorityNode(Collection<Node> states) {
-        Node state = null;
-        if (!states.isEmpty()) {
-            final Iterator<Node> i = states.iterator();
-            state = i.next();
-            while (i.hasNext()) {
-                final Node next = i.next();
-                if (next.getHeuristic() < state.getHeuristic()) {
-                    state = next;
-                }
-            }
-            states.remove(state);
-        }
-        return state;
+        return space.toNode(solution);
     }
 }
@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.ProgressMonitor;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class implements the hash distributed A* search strategy (HDA*). The search space is partitioned between a
+ * number of workers by the fingerprints of the states: each worker owns the nodes of the states hashed to it, in its
+ * own node table, and runs A* on them. The successors owned by an other worker are sent to the lock free mailbox of
+ * their owner, which looks them up in its table and opens or reopens them. A goal found sets the cost bound of the
+ * incumbent solution and the nodes whose <code>g + h</code> value exceeds the bound are pruned.
+ *
+ * <p>The search ends when all the workers are idle and no message is in flight: a single counter holds the number of
+ * active workers plus the number of messages sent and not yet processed, so that it reaches zero only when the open
+ * lists and the mailboxes are all empty. The incumbent solution is then optimal if the heuristic is admissible, e.g.,
+ * MAX, and the weight is 1.</p>
+ *
+ * <p>A node is identified across the workers by <code>handle * n + owner</code>, where <code>n</code> is the number
+ * of workers, so the number of nodes of each worker must stay below <code>2^31 / n</code>.</p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class HDAStar extends AbstractStateSpaceSearch {
+
+    /**
+     * The node tables of the workers.
+     */
+    private AbstractNodeTable[] tables;
+
+    /**
+     * The mailboxes of the workers.
+     */
+    private List<ConcurrentLinkedQueue<Message>> mailboxes;
+
+    /**
+     * The workers of the search.
+     */
+    private List<Worker> workers;
+
+    /**
+     * The number of active workers plus the number of messages in flight.
+     */
+    private AtomicLong work;
+
+    /**
+     * The flag used to stop the workers on timeout or failure.
+     */
+    private AtomicBoolean stop;
+
+    /**
+     * The cost of the incumbent solution.
+     */
+    private volatile double bound;
+
+    /**
+     * The global identifier of the incumbent solution node or -1.
+     */
+    private int solution;
+
+    /**
+     * Creates a new hash distributed A* search strategy with default parameters.
+     */
+    public HDAStar() {
+        super();
+    }
+
+    /**
+     * Creates a new hash distributed A* search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristic to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public HDAStar(int timeout, StateHeuristic.Name heuristic, double weight) {
+        super(timeout, heuristic, weight);
+    }
+
+    /**
+     * Solves the planning problem and returns the first solution search found. The workers run in a fixed thread pool,
+     * or in the calling thread if the number of threads is 1.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution search or null if it does not exist.
+     */
+    public Node search(final Problem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        final int n = this.getNumberOfThreads();
+        if (n <= 0) {
+            throw new IllegalArgumentException("Invalid number of threads");
+        }
+        final OpenList list = this.getOpenList(codedProblem, false);
+        this.tables = new AbstractNodeTable[n];
+        this.mailboxes = new ArrayList<>(n);
+        final List<Worker> workers = new ArrayList<>(n);
+        final StateHeuristic shared = StateHeuristic.getInstance(this.getHeuristic(), codedProblem);
+        for (int i = 0; i < n; i++) {
+            this.tables[i] = this.isStateArena()
+                ? new NodeArena(codedProblem.getFluents().size(), this.getWeight(), false, list)
+                : new NodeTable(this.getWeight(), false, list);
+            this.mailboxes.add(new ConcurrentLinkedQueue<>());
+            // A thread safe heuristic is built once and shared by all the workers
+            final StateHeuristic heuristic = i == 0 || shared.isThreadSafe()
+                ? shared : StateHeuristic.getInstance(this.getHeuristic(), codedProblem);
+            workers.add(new Worker(i, codedProblem, heuristic));
+        }
+        this.bound = Double.POSITIVE_INFINITY;
+        this.solution = -1;
+        this.stop = new AtomicBoolean(false);
+        // All the workers are active and the root node is sent to its owner
+        this.work = new AtomicLong(n + 1);
+        final State init = new State(codedProblem.getInitialState());
+        this.mailboxes.get(this.getOwner(init)).add(new Message(init, 0, -1, -1, 0));
+
+        this.resetNodesStatistics();
+        this.workers = workers;
+        this.getProgressMonitor().start();
+        final long deadline = begin + this.getTimeout() * 1000L;
+        if (n == 1) {
+            workers.get(0).search(deadline);
+        } else {
+            final ExecutorService executor = Executors.newFixedThreadPool(n);
+            try {
+                final List<Future<?>> futures = new ArrayList<>(n);
+                for (Worker w : workers) {
+                    futures.add(executor.submit(() -> w.search(deadline)));
+                }
+                for (Future<?> f : futures) {
+                    f.get();
+                }
+            } catch (InterruptedException e) {
+                this.stop.set(true);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("HDA* worker failed", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        this.report(true);
+        this.setSearchingTime(System.currentTimeMillis() - begin);
+
+        // return the search computed or null if no search was found
+        final Node node = this.toNode(this.solution);
+        this.tables = null;
+        this.mailboxes = null;
+        this.workers = null;
+        return node;
+    }
+
+    /**
+     * Sums the statistics of the workers into the statistics of the search and emits a progress event. While the
+     * search runs, the statistics of the other workers are read without synchronization, so the periodic events are
+     * approximations; the last event is exact.
+     *
+     * @param finished <code>true</code> if the search is over.
+     */
+    private void report(final boolean finished) {
+        int created = 0;
+        int size = 0;
+        int opened = 0;
+        long memory = 0;
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < this.tables.length; i++) {
+            created += this.workers.get(i).getCreatedNodes();
+            best = Math.min(best, this.workers.get(i).getBestHeuristic());
+            size += this.tables[i].size();
+            opened += this.tables[i].getOpenSize();
+            memory += this.tables[i].getMemoryUsed();
+        }
+        if (finished) {
+            this.setCreatedNodes(created);
+            this.setExploredNodes(size - opened);
+            this.setPendingNodes(opened);
+            this.setEvaluatedNodes(size);
+            this.setMemoryUsed(memory);
+            this.setBytesPerState(size == 0 ? 0.0 : (double) memory / size);
+            this.getProgressMonitor().finish(size - opened, created, best, opened, -1, memory);
+        } else {
+            this.getProgressMonitor().report(size - opened, created, best, opened, -1, memory);
+        }
+    }
+
+    /**
+     * Returns the worker owning a state.
+     *
+     * @param state the state.
+     * @return the index of the worker owning the state.
+     */
+    private int getOwner(final State state) {
+        return Math.floorMod((int) (state.fingerprint() >>> 32), this.tables.length);
+    }
+
+    /**
+     * Updates the incumbent solution if a goal node is cheaper.
+     *
+     * @param node the global identifier of the goal node.
+     * @param cost the cost of the goal node.
+     */
+    private synchronized void setSolution(final int node, final double cost) {
+        if (cost < this.bound) {
+            this.bound = cost;
+            this.solution = node;
+        }
+    }
+
+    /**
+     * Returns the solution node of a node given by its global identifier, i.e., the chain of {@link Node} objects from
+     * the root node to the node, across the node tables of the workers.
+     *
+     * @param node the global identifier of the node.
+     * @return the node with its chain of parents or null if the identifier is -1.
+     */
+    private Node toNode(final int node) {
+        final int n = this.tables.length;
+        int length = 0;
+        for (int id = node; id != -1; id = this.tables[id % n].getParent(id / n)) {
+            length++;
+        }
+        final int[] chain = new int[length];
+        for (int id = node, i = length - 1; i >= 0; id = this.tables[id % n].getParent(id / n), i--) {
+            chain[i] = id;
+        }
+        Node solution = null;
+        for (int i = 0; i < length; i++) {
+            final AbstractNodeTable table = this.tables[chain[i] % n];
+            final int handle = chain[i] / n;
+            solution = new Node(table.getState(handle, new State()), solution, table.getAction(handle),
+                table.getCost(handle), i, table.getHeuristic(handle));
+        }
+        return solution;
+    }
+
+    /**
+     * This class implements the message sent to the owner of a successor state.
+     */
+    private static final class Message {
+
+        /**
+         * The successor state.
+         */
+        private final State state;
+
+        /**
+         * The cost to reach the state.
+         */
+        private final double cost;
+
+        /**
+         * The global identifier of the parent node or -1 for the root node.
+         */
+        private final int parent;
+
+        /**
+         * The action applied to reach the state or -1 for the root node.
+         */
+        private final int action;
+
+        /**
+         * The depth of the state.
+         */
+        private final int depth;
+
+        /**
+         * Creates a new message.
+         *
+         * @param state  the successor state.
+         * @param cost   the cost to reach the state.
+         * @param parent the global identifier of the parent node or -1 for the root node.
+         * @param action the action applied to reach the state or -1 for the root node.
+         * @param depth  the depth of the state.
+         */
+        Message(final State state, final double cost, final int parent, final int action, final int depth) {
+            this.state = state;
+            this.cost = cost;
+            this.parent = parent;
+            this.action = action;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * This class implements a worker of the search, i.e., the A* search of the nodes owned by the worker.
+     */
+    private final class Worker {
+
+        /**
+         * The index of the worker.
+         */
+        private final int index;
+
+        /**
+         * The problem to solve.
+         */
+        private final Problem problem;
+
+        /**
+         * The heuristic of the worker.
+         */
+        private final StateHeuristic heuristic;
+
+        /**
+         * The number of successors generated by the worker.
+         */
+        private int created;
+
+        /**
+         * The best heuristic value of the nodes expanded by the worker.
+         */
+        private double best;
+
+        /**
+         * Creates a new worker.
+         *
+         * @param index     the index of the worker.
+         * @param problem   the problem to solve.
+         * @param heuristic the heuristic of the worker.
+         */
+        Worker(final int index, final Problem problem, final StateHeuristic heuristic) {
+            this.index = index;
+            this.problem = problem;
+            this.heuristic = heuristic;
+            this.created = 0;
+            this.best = Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Returns the number of successors generated by the worker.
+         *
+         * @return the number of successors generated by the worker.
+         */
+        int getCreatedNodes() {
+            return this.created;
+        }
+
+        /**
+         * Returns the best heuristic value of the nodes expanded by the worker.
+         *
+         * @return the best heuristic value of the nodes expanded by the worker.
+         */
+        double getBestHeuristic() {
+            return this.best;
+        }
+
+        /**
+         * Runs the search of the worker until the termination of the search, the timeout or the failure of an other
+         * worker.
+         *
+         * @param deadline the time at which the search is stopped.
+         */
+        void search(final long deadline) {
+            try {
+                this.loop(deadline);
+            } catch (RuntimeException | Error e) {
+                HDAStar.this.stop.set(true);
+                throw e;
+            }
+        }
+
+        /**
+         * Runs the main loop of the worker. The messages received are processed first, then the first node of the open
+         * list is expanded. A worker with no message and no node to expand becomes idle until it receives a message
+         * or all the workers are idle. The first worker emits the progress events of the search.
+         *
+         * @param deadline the time at which the search is stopped.
+         */
+        private void loop(final long deadline) {
+            final AbstractNodeTable space = HDAStar.this.tables[this.index];
+            final ConcurrentLinkedQueue<Message> mailbox = HDAStar.this.mailboxes.get(this.index);
+            final AtomicLong work = HDAStar.this.work;
+            final AtomicBoolean stop = HDAStar.this.stop;
+            final SuccessorGenerator generator = this.problem.getSuccessorGenerator();
+            final int[] applicable = new int[generator.size()];
+            final int n = HDAStar.this.tables.length;
+            final State buffer = new State();
+            State successor = new State();
+            final ProgressMonitor monitor = this.index == 0 ? HDAStar.this.getProgressMonitor() : null;
+            boolean active = true;
+            while (!stop.get()) {
+                if (monitor != null && monitor.isDue()) {
+                    HDAStar.this.report(false);
+                }
+                // Process the messages received; the worker is activated before the message is discounted
+                Message message = mailbox.poll();
+                while (message != null) {
+                    if (!active) {
+                        work.incrementAndGet();
+                        active = true;
+                    }
+                    this.receive(space, message.state, message.cost, message.parent, message.action, message.depth);
+                    work.decrementAndGet();
+                    message = mailbox.poll();
+                }
+                if (space.getOpenSize() == 0) {
+                    if (active) {
+                        active = false;
+                        work.decrementAndGet();
+                    }
+                    if (work.get() == 0) {
+                        break;
+                    }
+                    Thread.yield();
+                    continue;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    stop.set(true);
+                    break;
+                }
+                final int node = space.pop();
+                final double cost = space.getCost(node);
+                this.best = Math.min(this.best, space.getHeuristic(node));
+                // Prune the nodes that cannot improve the incumbent solution
+                if (cost + space.getHeuristic(node) >= HDAStar.this.bound) {
+                    continue;
+                }
+                final State current = space.getState(node, buffer);
+                if (current.satisfy(this.problem.getGoal())) {
+                    HDAStar.this.setSolution(node * n + this.index, cost);
+                    continue;
+                }
+                final int count = generator.getApplicableActions(current, applicable);
+                for (int i = 0; i < count; i++) {
+                    final int id = applicable[i];
+                    final Action op = this.problem.getActions().get(id);
+                    // Apply the effects of the operator whose condition is satisfied in the current state
+                    successor.copy(current);
+                    for (ConditionalEffect ce : op.getConditionalEffects()) {
+                        if (current.satisfy(ce.getCondition())) {
+                            successor.apply(ce.getEffect());
+                        }
+                    }
+                    this.created++;
+                    final double g = cost + op.getCost().getValue();
+                    final int owner = HDAStar.this.getOwner(successor);
+                    if (owner == this.index) {
+                        if (this.receive(space, successor, g, node * n + this.index, id, space.getDepth(node) + 1)
+                            && !space.isCopyingStates()) {
+                            successor = new State();
+                        }
+                    } else {
+                        // The message is counted before it is sent so that the counter cannot reach zero meanwhile
+                        work.incrementAndGet();
+                        HDAStar.this.mailboxes.get(owner).add(new Message(successor, g, node * n + this.index, id,
+                            space.getDepth(node) + 1));
+                        successor = new State();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Receives a state owned by the worker: the state is added to the open list if it is new or if it is reached
+         * with a lower cost.
+         *
+         * @param space  the node table of the worker.
+         * @param state  the state.
+         * @param cost   the cost to reach the state.
+         * @param parent the global identifier of the parent node or -1 for the root node.
+         * @param action the action applied to reach the state or -1 for the root node.
+         * @param depth  the depth of the state.
+         * @return <code>true</code> if the state was stored as a new node.
+         */
+        private boolean receive(final AbstractNodeTable space, final State state, final double cost, final int parent,
+                                final int action, final int depth) {
+            final int node = space.intern(state);
+            if (space.getStatus(node) == AbstractNodeTable.CREATED) {
+                space.set(node, cost, parent, action, depth);
+                space.setHeuristic(node, this.heuristic.estimate(state, this.problem.getGoal()));
+                space.push(node);
+                return true;
+            } else if (cost < space.getCost(node)) {
+                space.set(node, cost, parent, action, depth);
+                space.push(node);
+            }
+            return false;
+        }
+    }
+}
@@ -16,10 +16,12 @@
 package fr.uga.pddl4j.planners.statespace.search;
 
 import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.ProgressMonitor;
 import fr.uga.pddl4j.problem.Problem;
 import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.StateArena;
 import fr.uga.pddl4j.problem.operator.Action;
-import org.openjdk.jol.info.GraphLayout;
+import fr.uga.pddl4j.util.MemoryAccounting;
 
 import java.util.Collection;
 import java.util.Iterator;
@@ -72,6 +74,10 @@ public final class HillClimbing extends AbstractStateSpaceSearch {
         boolean deadEndFree = true;
 
         this.resetNodesStatistics();
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        final long nodeSize = Node.getMemorySize(StateArena.getWordsPerState(codedProblem.getFluents().size()));
+        double best = root.getHeuristic();
         final long timeout = this.getTimeout() * 1000;
         final long begin = System.currentTimeMillis();
         long searchingTime = 0;
@@ -85,6 +91,7 @@ public final class HillClimbing extends AbstractStateSpaceSearch {
             if (deadEndFree) {
                 final Node successor = popBestNode(successors);
                 this.setExploredNodes(this.getExploredNodes() + 1);
+                best = Math.min(best, successor.getHeuristic());
                 if (successor.satisfy(codedProblem.getGoal())) {
                     solution = successor;
                 } else {
@@ -93,17 +100,36 @@ public final class HillClimbing extends AbstractStateSpaceSearch {
                     openList.addLast(successor);
                 }
             }
+            if (monitor.isDue()) {
+                monitor.report(this.getExploredNodes(), this.getCreatedNodes(), best, openList.size(), -1,
+                    HillClimbing.getMemorySize(openList, nodeSize));
+            }
 
             long end = System.currentTimeMillis();
             searchingTime = end - begin;
         }
 
-        this.setMemoryUsed(GraphLayout.parseInstance(openList).totalSize());
+        this.setMemoryUsed(MemoryAccounting.measure(HillClimbing.getMemorySize(openList, nodeSize), openList));
         this.setSearchingTime(searchingTime);
+        monitor.finish(this.getExploredNodes(), this.getCreatedNodes(), best, openList.size(), -1,
+            this.getMemoryUsed());
 
         return solution;
     }
 
+    /**
+     * Returns the estimate of the number of bytes used by the search. The open list retains its nodes and the path from
+     * the root node to them.
+     *
+     * @param openList the open list of the search.
+     * @param nodeSize the number of bytes of a node.
+     * @return the estimate of the number of bytes used by the search.
+     */
+    private static long getMemorySize(final LinkedList<Node> openList, final long nodeSize) {
+        final int nodes = openList.size() + (openList.isEmpty() ? 0 : Math.max(0, openList.peek().getDepth()));
+        return nodes * nodeSize + MemoryAccounting.linkedEntriesSize(openList.size());
+    }
+
     /**
      * Get the successors from a node.
      *
@@ -116,23 +142,20 @@ public final class HillClimbing extends AbstractStateSpaceSearch {
                                            final StateHeuristic heuristic) {
         final LinkedList<Node> successors = new LinkedList<>();
 
-        int index = 0;
-        for (Action op : problem.getActions()) {
-            if (op.isApplicable(parent)) {
-                final State nextState = new State(parent);
-                op.getConditionalEffects().stream().filter(ce -> parent.satisfy(ce.getCondition()))
-                    .forEach(ce -> nextState.apply(ce.getEffect()));
-                // Apply the effect of the applicable operator
-                final Node successor = new Node(nextState);
-                this.setCreatedNodes(this.getCreatedNodes() + 1);
-                successor.setCost(parent.getCost() + op.getCost().getValue());
-                successor.setHeuristic(heuristic.estimate(nextState, problem.getGoal()));
-                successor.setParent(parent);
-                successor.setAction(index);
-                successor.setDepth(parent.getDepth() + 1);
-                successors.add(successor);
-            }
-            index++;
+        for (int index : problem.getSuccessorGenerator().getApplicableActions(parent)) {
+            final Action op = problem.getActions().get(index);
+            final State nextState = new State(parent);
+            op.getConditionalEffects().stream().filter(ce -> parent.satisfy(ce.getCondition()))
+                .forEach(ce -> nextState.apply(ce.getEffect()));
+            // Apply the effect of the applicable operator
+            final Node successor = new Node(nextState);
+            this.setCreatedNodes(this.getCreatedNodes() + 1);
+            successor.setCost(parent.getCost() + op.getCost().getValue());
+            successor.setHeuristic(heuristic.estimate(nextState, problem.getGoal()));
+            successor.setParent(parent);
+            successor.setAction(index);
+            successor.setDepth(parent.getDepth() + 1);
+            successors.add(successor);
         }
 
         return successors;
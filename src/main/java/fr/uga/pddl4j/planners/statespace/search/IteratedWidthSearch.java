@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.planners.ProgressMonitor;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+
+import java.util.Objects;
+
+/**
+ * This class implements the iterated width search strategy IW(k): a breadth first search that prunes the successors
+ * whose novelty is greater than <code>k</code>, i.e., the successors that do not make true a tuple of at most
+ * <code>k</code> fluents never seen before. The number of nodes expanded is then polynomial in the number of fluents,
+ * <code>O(n^k)</code>, and the search is complete for the problems of width at most <code>k</code>. The widths
+ * supported are 1 and 2.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class IteratedWidthSearch extends AbstractStateSpaceSearch {
+
+    /**
+     * The default width of the search.
+     */
+    public static final int DEFAULT_WIDTH = 1;
+
+    /**
+     * The width of the search.
+     */
+    private final int width;
+
+    /**
+     * Creates a new IW(1) search strategy with default parameters.
+     */
+    public IteratedWidthSearch() {
+        this(StateSpaceSearch.DEFAULT_TIMEOUT, IteratedWidthSearch.DEFAULT_WIDTH);
+    }
+
+    /**
+     * Creates a new IW(k) search strategy.
+     *
+     * @param timeout the time out of the planner.
+     * @param width   the width of the search: 1 or 2.
+     * @throws IllegalArgumentException if the width is not 1 or 2.
+     */
+    public IteratedWidthSearch(int timeout, int width) {
+        super(timeout);
+        if (width < 1 || width > 2) {
+            throw new IllegalArgumentException("Unsupported width " + width);
+        }
+        this.width = width;
+    }
+
+    /**
+     * Returns the width of the search.
+     *
+     * @return the width of the search.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * The iterated width search algorithm. Solves the planning problem and returns the first solution plan found. The
+     * handles of the nodes are given in the order the nodes are reached, which is the breadth first order, so that the
+     * open list is the range of the handles not yet explored. A successor is stored only if it is novel, and a novel
+     * state is never a state already reached, so the novelty table also replaces the duplicate detection.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution plan or null if it does not exist.
+     */
+    public Node search(final Problem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+        final SuccessorGenerator generator = codedProblem.getSuccessorGenerator();
+        final int[] applicable = new int[generator.size()];
+        final int fluents = codedProblem.getFluents().size();
+        final NoveltyTable novelty = new NoveltyTable(fluents, this.width);
+        final AbstractNodeTable space = this.isStateArena()
+            ? new NodeArena(fluents, 0.0, true, OpenList.HEAP)
+            : new NodeTable(0.0, true, OpenList.HEAP);
+        final State init = new State(codedProblem.getInitialState());
+        novelty.update(init);
+        final int root = space.intern(init);
+        space.set(root, 0, -1, -1);
+        // The buffers of the states of the nodes explored and of their successors when the states are copied
+        final State buffer = new State();
+        State successor = new State();
+        final long timeout = this.getTimeout() * 1000;
+
+        this.resetNodesStatistics();
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        int solution = -1;
+        int explored = 0;
+        long searchingTime = 0;
+        while (explored < space.size() && solution == -1 && searchingTime < timeout) {
+            final int node = explored++;
+            final State current = space.getState(node, buffer);
+            if (current.satisfy(codedProblem.getGoal())) {
+                solution = node;
+            } else {
+                final int count = generator.getApplicableActions(current, applicable);
+                for (int i = 0; i < count; i++) {
+                    final int index = applicable[i];
+                    final Action op = codedProblem.getActions().get(index);
+                    successor.copy(current);
+                    for (ConditionalEffect ce : op.getConditionalEffects()) {
+                        if (current.satisfy(ce.getCondition())) {
+                            successor.apply(ce.getEffect());
+                        }
+                    }
+                    this.setCreatedNodes(this.getCreatedNodes() + 1);
+                    // Prune the successors that are not novel
+                    if (novelty.update(successor, current, op) <= this.width) {
+                        final int next = space.intern(successor);
+                        space.set(next, space.getCost(node) + op.getCost().getValue(), node, index);
+                        if (!space.isCopyingStates()) {
+                            successor = new State();
+                        }
+                    }
+                }
+            }
+            if (monitor.isDue()) {
+                monitor.report(explored, this.getCreatedNodes(), Double.NaN, space.size() - explored, -1,
+                    space.getMemoryUsed() + novelty.getMemoryUsed());
+            }
+            // Take time to compute the searching time
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setExploredNodes(explored);
+        this.setPendingNodes(space.size() - explored);
+        this.setMemoryUsed(space.getMemoryUsed() + novelty.getMemoryUsed());
+        this.setBytesPerState((double) this.getMemoryUsed() / space.size());
+        this.setSearchingTime(searchingTime);
+        monitor.finish(explored, this.getCreatedNodes(), Double.NaN, this.getPendingNodes(), -1,
+            this.getMemoryUsed());
+        return space.toNode(solution);
+    }
+}
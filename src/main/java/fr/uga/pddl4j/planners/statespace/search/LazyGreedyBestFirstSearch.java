@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.heuristics.state.FastForward;
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.ProgressMonitor;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.BucketQueue;
+
+import java.util.Objects;
+
+/**
+ * This class implements the lazy greedy best first search strategy, also known as greedy best first search with
+ * deferred evaluation. The successors of a node are queued with the heuristic value of their parent and are evaluated
+ * only when they are popped, so that the successors never expanded are never evaluated.
+ *
+ * <p>If the heuristic computes helpful actions, as the {@link FastForward} heuristic, the successors reached by a
+ * helpful action are also queued in a preferred open list. The search alternates between the two open lists and pops
+ * only the preferred open list for a number of expansions each time the best heuristic value is improved.</p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class LazyGreedyBestFirstSearch extends AbstractStateSpaceSearch {
+
+    /**
+     * The number of expansions for which the preferred open list is popped after the best heuristic value is improved.
+     */
+    private static final int BOOST = 1000;
+
+    /**
+     * Creates a new lazy greedy best first search strategy with default parameters.
+     */
+    public LazyGreedyBestFirstSearch() {
+        super();
+    }
+
+    /**
+     * Creates a new lazy greedy best first search strategy.
+     *
+     * @param timeout   the time out of the planner.
+     * @param heuristic the heuristic to use to solve the planning problem.
+     * @param weight    the weight set to the heuristic.
+     */
+    public LazyGreedyBestFirstSearch(int timeout, StateHeuristic.Name heuristic, double weight) {
+        super(timeout, heuristic, weight);
+    }
+
+    /**
+     * The lazy greedy best first search algorithm. Solves the planning problem and returns the first solution plan
+     * found. The nodes are stored in a node table keyed by the fingerprints of their states, or in a state arena if the
+     * state arena mode is set, and are queued once, when they are reached for the first time. The open lists are
+     * bucket queues because the heuristic values are integers; the open list setting of the search is not used.
+     *
+     * @param codedProblem the problem to be solved. The problem cannot be null.
+     * @return a solution plan or null if it does not exist.
+     */
+    public Node search(final Problem codedProblem) {
+        Objects.requireNonNull(codedProblem);
+        final long begin = System.currentTimeMillis();
+
+        final StateHeuristic heuristic = StateHeuristic.getInstance(this.getHeuristic(), codedProblem);
+        // The helpful actions are only available with the FastForward heuristic
+        final FastForward ff = heuristic instanceof FastForward ? (FastForward) heuristic : null;
+        final BitVector helpful = new BitVector();
+        final AbstractNodeTable space = this.isStateArena()
+            ? new NodeArena(codedProblem.getFluents().size(), this.getWeight(), true, OpenList.HEAP)
+            : new NodeTable(this.getWeight(), true, OpenList.HEAP);
+        // The open lists ordered by the heuristic values of the parents of the nodes
+        final BucketQueue open = new BucketQueue(false);
+        final BucketQueue preferred = new BucketQueue(false);
+        final long timeout = this.getTimeout() * 1000;
+
+        // The successor generator used to compute the actions applicable in a state
+        final SuccessorGenerator generator = codedProblem.getSuccessorGenerator();
+        final int[] applicable = new int[generator.size()];
+
+        final State init = new State(codedProblem.getInitialState());
+        final int root = space.intern(init);
+        space.set(root, 0, -1, -1);
+        open.add(root, 0, 0);
+        // The buffers of the states of the nodes explored and of their successors when the states are copied
+        final State buffer = new State();
+        State successor = new State();
+
+        this.resetNodesStatistics();
+        final ProgressMonitor monitor = this.getProgressMonitor();
+        monitor.start();
+        int solution = -1;
+        int explored = 0;
+        int evaluated = 0;
+        int best = Integer.MAX_VALUE;
+        int boost = 0;
+        boolean alternate = false;
+        long searchingTime = 0;
+        while ((!open.isEmpty() || !preferred.isEmpty()) && solution == -1 && searchingTime < timeout) {
+            // Pop the preferred open list while it is boosted and every other time otherwise
+            final int node;
+            if (!preferred.isEmpty() && (open.isEmpty() || boost > 0 || alternate)) {
+                node = preferred.poll();
+            } else {
+                node = open.poll();
+            }
+            alternate = !alternate;
+            boost = Math.max(boost - 1, 0);
+            // A node queued in both open lists is expanded once
+            if (space.getStatus(node) != AbstractNodeTable.CLOSED) {
+                space.close(node);
+                explored++;
+                final State current = space.getState(node, buffer);
+                if (current.satisfy(codedProblem.getGoal())) {
+                    solution = node;
+                } else {
+                    // The evaluation of the node is deferred until it is popped
+                    final int h = ff != null
+                        ? ff.estimate(current, codedProblem.getGoal(), helpful)
+                        : heuristic.estimate(current, codedProblem.getGoal());
+                    evaluated++;
+                    space.setHeuristic(node, h);
+                    if (h < best) {
+                        best = h;
+                        boost += LazyGreedyBestFirstSearch.BOOST;
+                    }
+                    final int count = h == Integer.MAX_VALUE ? 0 : generator.getApplicableActions(current, applicable);
+                    for (int i = 0; i < count; i++) {
+                        final int index = applicable[i];
+                        final Action op = codedProblem.getActions().get(index);
+                        // Apply the effects of the operator whose condition is satisfied in the current state
+                        successor.copy(current);
+                        for (ConditionalEffect ce : op.getConditionalEffects()) {
+                            if (current.satisfy(ce.getCondition())) {
+                                successor.apply(ce.getEffect());
+                            }
+                        }
+                        this.setCreatedNodes(this.getCreatedNodes() + 1);
+                        final int size = space.size();
+                        final int next = space.intern(successor);
+                        final boolean isHelpful = ff != null && helpful.get(index);
+                        if (space.size() > size) {
+                            // The successor is queued with the heuristic value of its parent
+                            space.set(next, space.getCost(node) + op.getCost().getValue(), node, index);
+                            space.setHeuristic(next, h);
+                            open.add(next, h, 0);
+                            if (isHelpful) {
+                                preferred.add(next, h, 0);
+                            }
+                            if (!space.isCopyingStates()) {
+                                successor = new State();
+                            }
+                        } else if (isHelpful && space.getStatus(next) != AbstractNodeTable.CLOSED) {
+                            preferred.add(next, h, 0);
+                        }
+                    }
+                }
+            }
+            if (monitor.isDue()) {
+                monitor.report(explored, this.getCreatedNodes(), best, open.size() + preferred.size(), -1,
+                    space.getMemoryUsed());
+            }
+            // Take time to compute the searching time
+            searchingTime = System.currentTimeMillis() - begin;
+        }
+
+        this.setExploredNodes(explored);
+        this.setPendingNodes(space.size() - explored);
+        this.setEvaluatedNodes(evaluated);
+        this.setSavedEvaluations(space.size() - evaluated);
+        this.setMemoryUsed(space.getMemoryUsed());
+        this.setBytesPerState(space.getBytesPerState());
+        this.setSearchingTime(searchingTime);
+        monitor.finish(explored, this.getCreatedNodes(), best, open.size() + preferred.size(), -1,
+            this.getMemoryUsed());
+
+        return space.toNode(solution);
+    }
+}
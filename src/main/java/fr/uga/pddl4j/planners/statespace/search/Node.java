@@ -20,6 +20,7 @@
 package fr.uga.pddl4j.planners.statespace.search;
 
 import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.util.MemoryAccounting;
 
 /**
  * This class implements a node of the tree search.
@@ -54,6 +55,18 @@ public final class Node extends State {
      */
     private int depth;
 
+    /**
+     * Returns the size of a node: the node object with the fields of its state and its array of words.
+     *
+     * @param words the number of words of the state of the node.
+     * @return the size of the node in bytes.
+     */
+    public static long getMemorySize(final int words) {
+        return MemoryAccounting.objectSize(MemoryAccounting.BIT_SET_FIELDS + Long.BYTES + 1
+            + MemoryAccounting.REFERENCE + 2 * Integer.BYTES + 2 * Double.BYTES)
+            + MemoryAccounting.arraySize(words, Long.BYTES);
+    }
+
     /**
      * Creates a new node from a specified state.
      *
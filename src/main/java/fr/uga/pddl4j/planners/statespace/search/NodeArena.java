@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.StateArena;
+
+/**
+ * This class implements the search space of the search strategies running on a {@link StateArena}: the states of the
+ * nodes are packed in the arena and a node is the handle of its state in the arena.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class NodeArena extends AbstractNodeTable {
+
+    /**
+     * The arena of the states of the nodes.
+     */
+    private final StateArena states;
+
+    /**
+     * Creates a new search space for the states of a specified number of fluents.
+     *
+     * @param fluents the number of fluents of the states.
+     * @param weight  the weight of the heuristic.
+     * @param greedy  <code>true</code> to order the open list by the heuristic values only, <code>false</code> to
+     *                order it by <code>g + weight * h</code>.
+     * @param list    the implementation of the open list.
+     */
+    NodeArena(final int fluents, final double weight, final boolean greedy, final StateSpaceSearch.OpenList list) {
+        super(weight, greedy, list);
+        this.states = new StateArena(fluents);
+    }
+
+    /**
+     * Returns the number of nodes of the search space, i.e., the number of states stored.
+     *
+     * @return the number of nodes of the search space.
+     */
+    @Override
+    int size() {
+        return this.states.size();
+    }
+
+    /**
+     * Returns the handle of a state, interning the state in the arena if it is not already stored.
+     *
+     * @param state the state.
+     * @return the handle of the state.
+     */
+    @Override
+    protected int store(final State state) {
+        return this.states.intern(state);
+    }
+
+    /**
+     * Copies the state of a node into a specified state and returns it.
+     *
+     * @param node  the node.
+     * @param state the state in which the state of the node is copied.
+     * @return the state of the node.
+     */
+    @Override
+    State getState(final int node, final State state) {
+        this.states.get(node, state);
+        return state;
+    }
+
+    /**
+     * Returns <code>true</code>: the arena stores a copy of the words of the states.
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    boolean isCopyingStates() {
+        return true;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the arena.
+     *
+     * @return the number of bytes allocated by the arena.
+     */
+    @Override
+    protected long getStateMemoryUsed() {
+        return this.states.getMemoryUsed();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.util.FingerprintIndex;
+import fr.uga.pddl4j.util.MemoryAccounting;
+
+import java.util.Arrays;
+
+/**
+ * This class implements the default search space of A*. The states of the nodes are kept as {@link State} objects
+ * and a {@link FingerprintIndex} maps their fingerprints to their handles, so that the duplicate
+ * detection of a successor is a single lookup that only compares the states sharing its fingerprint. A node costs the
+ * state, a cell of the table and its packed record, instead of a {@link Node} and the entries of an open and a closed
+ * hash map.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class NodeTable extends AbstractNodeTable {
+
+    /**
+     * The initial number of states of the table.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The states of the nodes.
+     */
+    private State[] states;
+
+    /**
+     * The index from the fingerprints of the states to their handles.
+     */
+    private final FingerprintIndex<State> index;
+
+    /**
+     * The number of bytes of the states stored.
+     */
+    private long stateBytes;
+
+    /**
+     * Creates a new empty search space.
+     *
+     * @param weight the weight of the heuristic.
+     * @param greedy <code>true</code> to order the open list by the heuristic values only, <code>false</code> to
+     *               order it by <code>g + weight * h</code>.
+     * @param list   the implementation of the open list.
+     */
+    NodeTable(final double weight, final boolean greedy, final StateSpaceSearch.OpenList list) {
+        super(weight, greedy, list);
+        this.states = new State[NodeTable.DEFAULT_CAPACITY];
+        this.index = new FingerprintIndex<>(NodeTable.DEFAULT_CAPACITY,
+            (handle, state) -> this.states[handle].equals(state));
+        this.stateBytes = 0;
+    }
+
+    /**
+     * Returns the number of nodes of the search space, i.e., the number of states stored.
+     *
+     * @return the number of nodes of the search space.
+     */
+    @Override
+    int size() {
+        return this.index.size();
+    }
+
+    /**
+     * Returns the handle of a state, storing the state itself if it is not already stored.
+     *
+     * @param state the state.
+     * @return the handle of the state.
+     */
+    @Override
+    protected int store(final State state) {
+        int handle = this.index.add(state.fingerprint(), state);
+        if (handle >= 0) {
+            return handle;
+        }
+        handle = -(handle + 1);
+        if (handle == this.states.length) {
+            this.states = Arrays.copyOf(this.states, handle * 2);
+        }
+        this.states[handle] = state;
+        this.stateBytes += State.getMemorySize(state.size() / Long.SIZE);
+        return handle;
+    }
+
+    /**
+     * Returns the state stored for a node.
+     *
+     * @param node  the node.
+     * @param state not used.
+     * @return the state of the node.
+     */
+    @Override
+    State getState(final int node, final State state) {
+        return this.states[node];
+    }
+
+    /**
+     * Returns <code>false</code>: the table stores the states themselves.
+     *
+     * @return <code>false</code>.
+     */
+    @Override
+    boolean isCopyingStates() {
+        return false;
+    }
+
+    /**
+     * Returns the number of bytes used by the states, accounted when they are stored, and by the table.
+     *
+     * @return the number of bytes used to store the states.
+     */
+    @Override
+    protected long getStateMemoryUsed() {
+        final long states = this.stateBytes
+            + MemoryAccounting.arraySize(this.states.length, MemoryAccounting.REFERENCE);
+        return MemoryAccounting.measure(states, (Object) this.states) + this.index.getMemoryUsed();
+    }
+}
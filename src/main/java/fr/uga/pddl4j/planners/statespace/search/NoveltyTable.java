@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.util.BitVector;
+
+/**
+ * This class implements the novelty table of the width based search strategies. The table records the fluents and,
+ * for a width of 2, the pairs of fluents already seen in a state, in bit arrays sized from the number of fluents of
+ * the problem: <code>n</code> bits for the fluents and <code>n * (n - 1) / 2</code> bits for the pairs. The novelty of
+ * a state is the size of the smallest tuple of fluents true in the state and not seen before, or the width of the table
+ * plus one if all the tuples up to the width of the table were already seen.
+ *
+ * <p>The novelty of a successor whose parent was recorded in the same table is computed from the fluents added by the
+ * action only, since every other tuple of the successor is a tuple of its parent.</p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class NoveltyTable {
+
+    /**
+     * The number of fluents of the problem.
+     */
+    private final int fluents;
+
+    /**
+     * The width of the table, i.e., the size of the largest tuples recorded.
+     */
+    private final int width;
+
+    /**
+     * The bits of the fluents seen.
+     */
+    private final long[] singles;
+
+    /**
+     * The bits of the pairs of fluents seen or <code>null</code> if the width of the table is 1.
+     */
+    private final long[] pairs;
+
+    /**
+     * Creates a new empty novelty table.
+     *
+     * @param fluents the number of fluents of the problem.
+     * @param width   the width of the table: 1 or 2.
+     * @throws IllegalArgumentException if the width is not 1 or 2 or if the pairs of fluents cannot be indexed.
+     */
+    NoveltyTable(final int fluents, final int width) {
+        if (width < 1 || width > 2) {
+            throw new IllegalArgumentException("Unsupported width " + width);
+        }
+        this.fluents = fluents;
+        this.width = width;
+        this.singles = new long[(fluents + Long.SIZE - 1) / Long.SIZE];
+        if (width == 2) {
+            final long words = ((long) fluents * (fluents - 1) / 2 + Long.SIZE - 1) / Long.SIZE;
+            if (words > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many fluents for a novelty table of width 2: " + fluents);
+            }
+            this.pairs = new long[(int) words];
+        } else {
+            this.pairs = null;
+        }
+    }
+
+    /**
+     * Returns the width of the table.
+     *
+     * @return the width of the table.
+     */
+    int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Records the tuples of a state and returns its novelty. All the tuples of the state are checked.
+     *
+     * @param state the state.
+     * @return the novelty of the state: 1, 2 or the width of the table plus one.
+     */
+    int update(final State state) {
+        int novelty = this.width + 1;
+        for (int p = state.nextSetBit(0); p >= 0; p = state.nextSetBit(p + 1)) {
+            if (this.markSingle(p)) {
+                novelty = 1;
+            }
+            if (this.pairs != null) {
+                for (int q = state.nextSetBit(p + 1); q >= 0; q = state.nextSetBit(q + 1)) {
+                    if (this.markPair(p, q)) {
+                        novelty = Math.min(novelty, 2);
+                    }
+                }
+            }
+        }
+        return novelty;
+    }
+
+    /**
+     * Records the tuples of a successor state and returns its novelty. The parent of the successor must have been
+     * recorded in this table: only the tuples containing a fluent added by the action are checked.
+     *
+     * @param state  the successor state.
+     * @param parent the parent state.
+     * @param action the action applied to the parent state to reach the successor state.
+     * @return the novelty of the successor state: 1, 2 or the width of the table plus one.
+     */
+    int update(final State state, final State parent, final Action action) {
+        int novelty = this.width + 1;
+        for (ConditionalEffect ce : action.getConditionalEffects()) {
+            if (parent.satisfy(ce.getCondition())) {
+                final BitVector positive = ce.getEffect().getPositiveFluents();
+                for (int p = positive.nextSetBit(0); p >= 0; p = positive.nextSetBit(p + 1)) {
+                    if (!parent.get(p) && state.get(p)) {
+                        novelty = Math.min(novelty, this.updateAdded(state, p));
+                    }
+                }
+            }
+        }
+        return novelty;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the table.
+     *
+     * @return the number of bytes allocated by the table.
+     */
+    long getMemoryUsed() {
+        return ((long) this.singles.length + (this.pairs == null ? 0 : this.pairs.length)) * Long.BYTES;
+    }
+
+    /**
+     * Records the tuples of a state containing a fluent added to the state and returns their novelty.
+     *
+     * @param state the state.
+     * @param p     the fluent added.
+     * @return the novelty of the tuples: 1, 2 or the width of the table plus one.
+     */
+    private int updateAdded(final State state, final int p) {
+        int novelty = this.markSingle(p) ? 1 : this.width + 1;
+        if (this.pairs != null) {
+            for (int q = state.nextSetBit(0); q >= 0; q = state.nextSetBit(q + 1)) {
+                if (q != p && this.markPair(Math.min(p, q), Math.max(p, q))) {
+                    novelty = Math.min(novelty, 2);
+                }
+            }
+        }
+        return novelty;
+    }
+
+    /**
+     * Marks a fluent as seen.
+     *
+     * @param p the fluent.
+     * @return <code>true</code> if the fluent was not seen before.
+     */
+    private boolean markSingle(final int p) {
+        final long mask = 1L << p;
+        final boolean novel = (this.singles[p >>> 6] & mask) == 0;
+        this.singles[p >>> 6] |= mask;
+        return novel;
+    }
+
+    /**
+     * Marks a pair of fluents as seen.
+     *
+     * @param p the first fluent.
+     * @param q the second fluent, greater than the first one.
+     * @return <code>true</code> if the pair was not seen before.
+     */
+    private boolean markPair(final int p, final int q) {
+        final long index = (long) p * this.fluents - (long) p * (p + 1) / 2 + (q - p - 1);
+        final int word = (int) (index >>> 6);
+        final long mask = 1L << index;
+        final boolean novel = (this.pairs[word] & mask) == 0;
+        this.pairs[word] |= mask;
+        return novel;
+    }
+}
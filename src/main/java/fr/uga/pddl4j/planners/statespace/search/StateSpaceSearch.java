@@ -17,6 +17,7 @@ package fr.uga.pddl4j.planners.statespace.search;
 
 import fr.uga.pddl4j.heuristics.state.StateHeuristic;
 import fr.uga.pddl4j.plan.Plan;
+import fr.uga.pddl4j.planners.SearchListener;
 import fr.uga.pddl4j.planners.SearchStrategy;
 import fr.uga.pddl4j.problem.Problem;
 
@@ -29,6 +30,26 @@ import fr.uga.pddl4j.problem.Problem;
  */
 public interface StateSpaceSearch extends SearchStrategy {
 
+    /**
+     * The implementation of the open list of the best first search strategies.
+     */
+    enum OpenList {
+        /**
+         * A binary heap ordered by <code>f = g + weight * h</code>, or by <code>h</code> for a greedy search.
+         */
+        HEAP,
+        /**
+         * Buckets indexed by the integer <code>f</code> and <code>h</code> values where the nodes with the same values
+         * are explored in last in first out order. The heap is used if the <code>f</code> values are not integers.
+         */
+        BUCKET_LIFO,
+        /**
+         * Buckets indexed by the integer <code>f</code> and <code>h</code> values where the nodes with the same values
+         * are explored in first in first out order. The heap is used if the <code>f</code> values are not integers.
+         */
+        BUCKET_FIFO,
+    }
+
     /**
      * The default heuristic used (FAST_FORWARD).
      */
@@ -44,6 +65,32 @@ public interface StateSpaceSearch extends SearchStrategy {
      */
     static final int DEFAULT_TIMEOUT = 600;
 
+    /**
+     * The default state arena mode (false).
+     */
+    static final boolean DEFAULT_STATE_ARENA = false;
+
+    /**
+     * The default implementation of the open list (HEAP).
+     */
+    static final OpenList DEFAULT_OPEN_LIST = OpenList.HEAP;
+
+    /**
+     * The default number of threads used by the parallel search strategies.
+     */
+    static final int DEFAULT_NUMBER_OF_THREADS = 1;
+
+    /**
+     * The default number of threads used to evaluate the successors of a node.
+     */
+    static final int DEFAULT_EVALUATION_THREADS = 1;
+
+    /**
+     * The default number of fixpoints cached to evaluate the successors of a node incrementally (0, i.e., the
+     * successors are evaluated from scratch).
+     */
+    static final int DEFAULT_INCREMENTAL_CACHE = 0;
+
     /**
      * Returns the heuristic to use to solve the planning problem.
      *
@@ -114,6 +161,115 @@ public interface StateSpaceSearch extends SearchStrategy {
      */
     void setMemoryUsed(final long memoryUsed);
 
+    /**
+     * Returns the average number of bytes used per state stored during the search.
+     *
+     * @return the average number of bytes used per state stored during the search.
+     */
+    double getBytesPerState();
+
+    /**
+     * Sets the average number of bytes used per state stored during the search.
+     *
+     * @param bytesPerState the average number of bytes used per state stored during the search.
+     */
+    void setBytesPerState(final double bytesPerState);
+
+    /**
+     * Returns the average percentage of the facts, i.e., of the relevant facts and of their negations, whose level
+     * was touched by an incremental evaluation of a successor during the search.
+     *
+     * @return the average percentage of the facts touched per incremental evaluation or 0 if no successor was
+     * evaluated incrementally.
+     */
+    double getTouchedFacts();
+
+    /**
+     * Sets the average percentage of the facts touched per incremental evaluation of a successor during the search.
+     *
+     * @param touchedFacts the average percentage of the facts touched per incremental evaluation.
+     */
+    void setTouchedFacts(final double touchedFacts);
+
+    /**
+     * Returns <code>true</code> if the states of the search are stored in a {@link fr.uga.pddl4j.problem.StateArena}
+     * and the search nodes are referenced by the handles of their states.
+     *
+     * @return <code>true</code> if the states of the search are stored in a state arena.
+     */
+    boolean isStateArena();
+
+    /**
+     * Sets the state arena mode of the search. This mode is used by the A*, the greedy best first search and the
+     * breadth first search strategies; the other strategies ignore it.
+     *
+     * @param stateArena <code>true</code> to store the states of the search in a state arena.
+     */
+    void setStateArena(final boolean stateArena);
+
+    /**
+     * Returns the implementation of the open list used by the A* and the greedy best first search strategies.
+     *
+     * @return the implementation of the open list.
+     */
+    OpenList getOpenList();
+
+    /**
+     * Sets the implementation of the open list used by the A* and the greedy best first search strategies; the other
+     * strategies ignore it.
+     *
+     * @param openList the implementation of the open list. The implementation cannot be null.
+     */
+    void setOpenList(final OpenList openList);
+
+    /**
+     * Returns the number of threads used by the parallel search strategies.
+     *
+     * @return the number of threads used by the parallel search strategies.
+     */
+    int getNumberOfThreads();
+
+    /**
+     * Sets the number of threads used by the parallel search strategies, i.e., the hash distributed A*; the other
+     * strategies ignore it.
+     *
+     * @param threads the number of threads. The number of threads must be strictly positive.
+     */
+    void setNumberOfThreads(final int threads);
+
+    /**
+     * Returns the number of threads used to evaluate the successors of a node.
+     *
+     * @return the number of threads used to evaluate the successors of a node.
+     */
+    int getEvaluationThreads();
+
+    /**
+     * Sets the number of threads used to evaluate the successors of a node, i.e., by the A* and the greedy best first
+     * search strategies; the other strategies ignore it.
+     *
+     * @param threads the number of threads. The number of threads must be strictly positive.
+     */
+    void setEvaluationThreads(final int threads);
+
+    /**
+     * Returns the number of fixpoints of relaxed planning graphs cached by each evaluation thread to evaluate the
+     * successors of a node incrementally.
+     *
+     * @return the number of fixpoints cached or 0 if the successors are evaluated from scratch.
+     */
+    int getIncrementalCache();
+
+    /**
+     * Sets the number of fixpoints of relaxed planning graphs cached by each evaluation thread to evaluate the
+     * successors of a node incrementally, i.e., by the A* and the greedy best first search strategies with the FAST
+     * FORWARD, SUM and MAX heuristics; the other strategies and heuristics ignore it.
+     *
+     * @param size the number of fixpoints cached or 0 to evaluate the successors from scratch. The number must be
+     *             positive.
+     */
+    void setIncrementalCache(final int size);
+
     /**
      * Returns the number of explored nodes.
      *
@@ -156,6 +312,64 @@ public interface StateSpaceSearch extends SearchStrategy {
      */
     void setCreatedNodes(final int createdNodes);
 
+    /**
+     * Returns the number of heuristic evaluations of the search.
+     *
+     * @return the number of heuristic evaluations of the search.
+     */
+    int getEvaluatedNodes();
+
+    /**
+     * Sets the number of heuristic evaluations of the search.
+     *
+     * @param evaluatedNodes the number of heuristic evaluations of the search.
+     */
+    void setEvaluatedNodes(final int evaluatedNodes);
+
+    /**
+     * Returns the number of heuristic evaluations saved by the search compared to an eager search that evaluates
+     * every new node, i.e., the number of nodes stored and never evaluated.
+     *
+     * @return the number of heuristic evaluations saved.
+     */
+    int getSavedEvaluations();
+
+    /**
+     * Sets the number of heuristic evaluations saved by the search compared to an eager search.
+     *
+     * @param savedEvaluations the number of heuristic evaluations saved.
+     */
+    void setSavedEvaluations(final int savedEvaluations);
+
+    /**
+     * Adds a listener of the progress of the search. The listener receives periodic events while the search runs and
+     * a last event when it ends.
+     *
+     * @param listener the listener to add. The listener cannot be null.
+     */
+    void addSearchListener(final SearchListener listener);
+
+    /**
+     * Removes a listener of the progress of the search.
+     *
+     * @param listener the listener to remove.
+     */
+    void removeSearchListener(final SearchListener listener);
+
+    /**
+     * Returns the period between two progress events of the search in milliseconds.
+     *
+     * @return the period between two progress events in milliseconds.
+     */
+    long getProgressPeriod();
+
+    /**
+     * Sets the period between two progress events of the search in milliseconds.
+     *
+     * @param period the period between two progress events in milliseconds. The period must be strictly positive.
+     */
+    void setProgressPeriod(final long period);
+
     /**
      * Solves the planning problem and returns the first solution node found.
      *
@@ -247,6 +461,16 @@ public interface StateSpaceSearch extends SearchStrategy {
                 return new GreedyBestFirstSearch(timeout, heuristic, weight);
             case HILL_CLIMBING:
                 return new HillClimbing(timeout, heuristic, weight);
+            case HASH_DISTRIBUTED_ASTAR:
+                return new HDAStar(timeout, heuristic, weight);
+            case LAZY_GREEDY_BEST_FIRST:
+                return new LazyGreedyBestFirstSearch(timeout, heuristic, weight);
+            case ITERATED_WIDTH_1:
+                return new IteratedWidthSearch(timeout, 1);
+            case ITERATED_WIDTH_2:
+                return new IteratedWidthSearch(timeout, 2);
+            case BEST_FIRST_WIDTH:
+                return new BestFirstWidthSearch(timeout, heuristic, weight);
             default:
                 return null;
         }
@@ -0,0 +1,490 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.heuristics.state.IncrementalStateHeuristic;
+import fr.uga.pddl4j.heuristics.state.LandmarkCount;
+import fr.uga.pddl4j.heuristics.state.RelaxedGraphHeuristic;
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements the evaluation of the successors of one expansion of the best first search strategies. The
+ * search adds the new successors and the successors to push again in the order it generates them, then flushes the
+ * evaluator: the heuristic values of the new successors are computed, in parallel on a fork-join pool if several
+ * threads are set, and all the successors are pushed in the order they were added. The open list thus receives the
+ * same nodes in the same order whatever the number of threads, and the plans found do not depend on it.
+ *
+ * <p>Each thread evaluates the successors with its own heuristic, unless the heuristic of the search is thread safe,
+ * and its own state buffers. The successors are given to the heuristic by batches of at most 64 successors (see
+ * {@link StateHeuristic#estimate(List, Condition, int[])}), so that the heuristics able to evaluate several states at
+ * once share the computation of the estimates of a batch. The node table is only read while the successors are
+ * evaluated.</p>
+ *
+ * <p>When the heuristic is a {@link LandmarkCount} heuristic, the evaluator keeps the accepted landmarks of each node
+ * evaluated and computes the accepted landmarks of a new successor from the ones of its parent and the effects of the
+ * action applied to the parent, without visiting all the landmarks. The accepted landmarks of a node are the ones of
+ * the path that first reached it.</p>
+ *
+ * <p>When an incremental cache is set and the heuristic is an {@link IncrementalStateHeuristic}, the successors are
+ * evaluated one by one from the fixpoint of the relaxed planning graph of their parent. Each thread keeps the fixpoints
+ * of the last parents in a direct-mapped cache indexed by node: the fixpoint of a parent missing from the cache is
+ * repaired from the one of its own parent when it is cached, or computed from scratch otherwise. The repair pays off
+ * when the actions change a small part of the relaxed planning graph; otherwise the batches are usually faster.</p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+final class SuccessorEvaluator {
+
+    /**
+     * The default capacity of the buffers of the evaluator.
+     */
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The maximum number of successors given at once to the heuristic.
+     */
+    private static final int BATCH_SIZE = Long.SIZE;
+
+    /**
+     * The goal of the problem.
+     */
+    private final Condition goal;
+
+    /**
+     * The fork-join pool of the evaluator or null if the successors are evaluated by the calling thread.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The heuristic and the state buffer of each thread.
+     */
+    private final ThreadLocal<Context> contexts;
+
+    /**
+     * The successors to push in the order they were added.
+     */
+    private int[] order;
+
+    /**
+     * The number of successors to push.
+     */
+    private int size;
+
+    /**
+     * The new successors to evaluate in the order they were added.
+     */
+    private int[] pending;
+
+    /**
+     * The heuristic values of the new successors.
+     */
+    private int[] values;
+
+    /**
+     * The number of new successors to evaluate.
+     */
+    private int count;
+
+    /**
+     * The node table of the successors being evaluated.
+     */
+    private AbstractNodeTable space;
+
+    /**
+     * The number of successors below which a range of successors is evaluated by a single thread.
+     */
+    private int grain;
+
+    /**
+     * The landmark count heuristic of the search or null if the heuristic of the search is not a landmark count
+     * heuristic.
+     */
+    private final LandmarkCount landmarks;
+
+    /**
+     * The accepted landmarks of the nodes indexed by node or null if the heuristic of the search is not a landmark
+     * count heuristic.
+     */
+    private LandmarkCount.AcceptedLandmarks[] accepted;
+
+    /**
+     * The actions of the problem.
+     */
+    private final List<Action> actions;
+
+    /**
+     * The flag used to indicate if the successors are evaluated incrementally from the fixpoint of their parent.
+     */
+    private final boolean incremental;
+
+    /**
+     * The number of literals of the problem, i.e., twice the number of relevant facts.
+     */
+    private final int nbLiterals;
+
+    /**
+     * The number of literals touched by the incremental evaluations.
+     */
+    private final LongAdder touched;
+
+    /**
+     * The number of incremental evaluations.
+     */
+    private final LongAdder evaluations;
+
+    /**
+     * Creates a new evaluator.
+     *
+     * @param heuristic the heuristic of the search used by the calling thread.
+     * @param name      the name of the heuristic of the search.
+     * @param problem   the problem to solve.
+     * @param threads   the number of threads. The number of threads must be strictly positive.
+     * @param cacheSize the number of fixpoints cached by each thread to evaluate the successors incrementally or 0 to
+     *                  evaluate them from scratch. The cache is ignored if the heuristic is not incremental.
+     * @throws IllegalArgumentException if the number of threads is not strictly positive or the size of the cache is
+     *                                  negative.
+     */
+    SuccessorEvaluator(final StateHeuristic heuristic, final StateHeuristic.Name name, final Problem problem,
+                       final int threads, final int cacheSize) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Invalid number of evaluation threads");
+        }
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Invalid size of incremental cache");
+        }
+        this.goal = problem.getGoal();
+        this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        this.incremental = cacheSize > 0 && heuristic instanceof IncrementalStateHeuristic;
+        final int cache = this.incremental ? cacheSize : 0;
+        // A thread safe heuristic is shared by all the threads
+        this.contexts = ThreadLocal.withInitial(() -> new Context(heuristic.isThreadSafe()
+            ? heuristic : StateHeuristic.getInstance(name, problem), cache));
+        this.contexts.set(new Context(heuristic, cache));
+        this.nbLiterals = 2 * problem.getFluents().size();
+        this.touched = new LongAdder();
+        this.evaluations = new LongAdder();
+        this.order = new int[SuccessorEvaluator.DEFAULT_CAPACITY];
+        this.pending = new int[SuccessorEvaluator.DEFAULT_CAPACITY];
+        this.values = new int[SuccessorEvaluator.DEFAULT_CAPACITY];
+        this.size = 0;
+        this.count = 0;
+        this.landmarks = heuristic instanceof LandmarkCount ? (LandmarkCount) heuristic : null;
+        this.accepted = this.landmarks != null
+            ? new LandmarkCount.AcceptedLandmarks[SuccessorEvaluator.DEFAULT_CAPACITY] : null;
+        this.actions = problem.getActions();
+    }
+
+    /**
+     * Adds a new successor: the successor is evaluated and pushed when the evaluator is flushed.
+     *
+     * @param node the new successor.
+     */
+    void add(final int node) {
+        if (this.count == this.pending.length) {
+            this.pending = Arrays.copyOf(this.pending, this.count * 2);
+            this.values = Arrays.copyOf(this.values, this.count * 2);
+        }
+        this.pending[this.count++] = node;
+        this.push(node);
+    }
+
+    /**
+     * Adds a successor already evaluated: the successor is pushed when the evaluator is flushed.
+     *
+     * @param node the successor.
+     */
+    void push(final int node) {
+        if (this.size == this.order.length) {
+            this.order = Arrays.copyOf(this.order, this.size * 2);
+        }
+        this.order[this.size++] = node;
+    }
+
+    /**
+     * Evaluates the new successors added since the last flush and pushes all the successors added in the order they
+     * were added.
+     *
+     * @param space the node table of the successors.
+     */
+    void flush(final AbstractNodeTable space) {
+        this.space = space;
+        if (this.landmarks != null) {
+            this.prepare();
+        }
+        if (this.pool != null && this.count > 1) {
+            // The successors are split in as many ranges as threads, unless the ranges exceed a batch
+            final int parallelism = this.pool.getParallelism();
+            this.grain = Math.min(SuccessorEvaluator.BATCH_SIZE, (this.count + parallelism - 1) / parallelism);
+            this.pool.invoke(new Evaluation(0, this.count));
+        } else {
+            for (int i = 0; i < this.count; i += SuccessorEvaluator.BATCH_SIZE) {
+                this.evaluate(i, Math.min(this.count, i + SuccessorEvaluator.BATCH_SIZE));
+            }
+        }
+        for (int i = 0; i < this.count; i++) {
+            space.setHeuristic(this.pending[i], this.values[i]);
+        }
+        for (int i = 0; i < this.size; i++) {
+            space.push(this.order[i]);
+        }
+        this.space = null;
+        this.count = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Makes sure that the accepted landmarks of the parents of the new successors are known before the successors are
+     * evaluated. The accepted landmarks of a parent not evaluated by the evaluator, e.g., the root node, are computed
+     * from its state only.
+     */
+    private void prepare() {
+        final State buffer = this.contexts.get().buffers[0];
+        for (int i = 0; i < this.count; i++) {
+            final int node = this.pending[i];
+            if (node >= this.accepted.length) {
+                this.accepted = Arrays.copyOf(this.accepted, Math.max(node + 1, this.accepted.length * 2));
+            }
+            final int parent = this.space.getParent(node);
+            if (this.accepted[parent] == null) {
+                this.accepted[parent] = this.landmarks.createAcceptedLandmarks();
+                this.landmarks.accept(this.space.getState(parent, buffer), this.accepted[parent]);
+            }
+        }
+    }
+
+    /**
+     * Returns the average percentage of the literals of the problem, i.e., of the relevant facts and of their
+     * negations, whose level was touched by an incremental evaluation.
+     *
+     * @return the average percentage of the literals touched per incremental evaluation or 0 if no successor was
+     * evaluated incrementally.
+     */
+    double getTouchedFacts() {
+        final long count = this.evaluations.sum();
+        return count == 0 || this.nbLiterals == 0 ? 0.0 : 100.0 * this.touched.sum() / (count * this.nbLiterals);
+    }
+
+    /**
+     * Shuts the fork-join pool of the evaluator down.
+     */
+    void close() {
+        if (this.pool != null) {
+            this.pool.shutdown();
+        }
+    }
+
+    /**
+     * Evaluates a range of new successors with the heuristic of the current thread.
+     *
+     * @param from the index of the first successor of the range.
+     * @param to   the index after the last successor of the range. The range holds at most one batch of successors.
+     */
+    private void evaluate(final int from, final int to) {
+        final Context context = this.contexts.get();
+        if (this.landmarks != null) {
+            for (int i = from; i < to; i++) {
+                // The shared landmark count heuristic is thread safe and each node is written by a single thread
+                final int node = this.pending[i];
+                final int parent = this.space.getParent(node);
+                final State state = this.space.getState(node, context.buffers[0]);
+                final State parentState = this.space.getState(parent, context.buffers[1]);
+                final Action action = this.actions.get(this.space.getAction(node));
+                final LandmarkCount.AcceptedLandmarks accepted = this.landmarks.createAcceptedLandmarks();
+                this.values[i] = this.landmarks.estimate(state, this.goal, parentState, action, this.accepted[parent],
+                    accepted);
+                this.accepted[node] = accepted;
+            }
+        } else if (this.incremental) {
+            final IncrementalStateHeuristic heuristic = (IncrementalStateHeuristic) context.heuristic;
+            long literals = 0;
+            for (int i = from; i < to; i++) {
+                final int node = this.pending[i];
+                final int parent = this.space.getParent(node);
+                final State state = this.space.getState(node, context.buffers[0]);
+                final State parentState = this.space.getState(parent, context.buffers[1]);
+                final RelaxedGraphHeuristic.Fixpoint fixpoint = context.getFixpoint(heuristic, this.space, parent,
+                    parentState);
+                this.values[i] = heuristic.estimate(state, this.goal, parentState, fixpoint);
+                literals += heuristic.getTouchedLiterals();
+            }
+            this.touched.add(literals);
+            this.evaluations.add(to - from);
+        } else {
+            context.states.clear();
+            for (int i = from; i < to; i++) {
+                context.states.add(this.space.getState(this.pending[i], context.buffers[i - from]));
+            }
+            context.heuristic.estimate(context.states, this.goal, context.values);
+            System.arraycopy(context.values, 0, this.values, from, to - from);
+        }
+    }
+
+    /**
+     * This class implements the heuristic, the state buffers and the cache of fixpoints of a thread.
+     */
+    private static final class Context {
+
+        /**
+         * The heuristic of the thread.
+         */
+        private final StateHeuristic heuristic;
+
+        /**
+         * The buffers of the states of a batch of successors when the states are copied.
+         */
+        private final State[] buffers;
+
+        /**
+         * The states of the batch of successors being evaluated.
+         */
+        private final List<State> states;
+
+        /**
+         * The heuristic values of the batch of successors being evaluated.
+         */
+        private final int[] values;
+
+        /**
+         * The fixpoints cached by the thread. The fixpoint of a node is stored in the slot of index the node modulo
+         * the size of the cache.
+         */
+        private final RelaxedGraphHeuristic.Fixpoint[] fixpoints;
+
+        /**
+         * The node of the fixpoint stored in each slot of the cache or -1 if the slot is empty.
+         */
+        private final int[] keys;
+
+        /**
+         * The buffer of the state of the parent of a node when the states are copied.
+         */
+        private final State ancestor;
+
+        /**
+         * Creates a new context.
+         *
+         * @param heuristic the heuristic of the thread.
+         * @param cacheSize the number of fixpoints cached by the thread.
+         */
+        Context(final StateHeuristic heuristic, final int cacheSize) {
+            this.heuristic = heuristic;
+            this.buffers = new State[SuccessorEvaluator.BATCH_SIZE];
+            for (int i = 0; i < this.buffers.length; i++) {
+                this.buffers[i] = new State();
+            }
+            this.states = new ArrayList<>(SuccessorEvaluator.BATCH_SIZE);
+            this.values = new int[SuccessorEvaluator.BATCH_SIZE];
+            this.fixpoints = new RelaxedGraphHeuristic.Fixpoint[cacheSize];
+            this.keys = new int[cacheSize];
+            Arrays.fill(this.keys, -1);
+            this.ancestor = new State();
+        }
+
+        /**
+         * Returns the fixpoint of the relaxed planning graph of a node. If the fixpoint is not cached, it is repaired
+         * from the fixpoint of the parent of the node when this one is cached, or computed from scratch otherwise, and
+         * stored in the slot of the node.
+         *
+         * @param heuristic the incremental heuristic of the thread.
+         * @param space     the node table.
+         * @param node      the node.
+         * @param state     the state of the node.
+         * @return the fixpoint of the relaxed planning graph of the node.
+         */
+        RelaxedGraphHeuristic.Fixpoint getFixpoint(final IncrementalStateHeuristic heuristic,
+                                                   final AbstractNodeTable space, final int node, final State state) {
+            final int slot = node % this.keys.length;
+            if (this.keys[slot] != node) {
+                if (this.fixpoints[slot] == null) {
+                    this.fixpoints[slot] = heuristic.createFixpoint();
+                }
+                final RelaxedGraphHeuristic.Fixpoint fixpoint = this.fixpoints[slot];
+                final int parent = space.getParent(node);
+                final int parentSlot = parent == -1 ? slot : parent % this.keys.length;
+                if (parentSlot != slot && this.keys[parentSlot] == parent) {
+                    fixpoint.copy(this.fixpoints[parentSlot]);
+                    heuristic.repairFixpoint(space.getState(parent, this.ancestor), fixpoint, state);
+                } else {
+                    heuristic.computeFixpoint(state, fixpoint);
+                }
+                this.keys[slot] = node;
+            }
+            return this.fixpoints[slot];
+        }
+    }
+
+    /**
+     * This class implements the evaluation of a range of new successors, split in halves until the range does not
+     * exceed the grain of the evaluation.
+     */
+    private final class Evaluation extends RecursiveAction {
+
+        /**
+         * The serial id of the class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The index of the first successor of the range.
+         */
+        private final int from;
+
+        /**
+         * The index after the last successor of the range.
+         */
+        private final int to;
+
+        /**
+         * Creates a new evaluation of a range of new successors.
+         *
+         * @param from the index of the first successor of the range.
+         * @param to   the index after the last successor of the range.
+         */
+        Evaluation(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Evaluates the successors of the range.
+         */
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= SuccessorEvaluator.this.grain) {
+                SuccessorEvaluator.this.evaluate(this.from, this.to);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                ForkJoinTask.invokeAll(new Evaluation(this.from, middle), new Evaluation(middle, this.to));
+            }
+        }
+    }
+}
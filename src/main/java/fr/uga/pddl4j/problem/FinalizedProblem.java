@@ -19,6 +19,7 @@ import fr.uga.pddl4j.parser.Connector;
 import fr.uga.pddl4j.parser.DefaultParsedProblem;
 import fr.uga.pddl4j.parser.Expression;
 import fr.uga.pddl4j.parser.Message;
+import fr.uga.pddl4j.parser.Parser;
 import fr.uga.pddl4j.parser.Symbol;
 import fr.uga.pddl4j.parser.SymbolType;
 import fr.uga.pddl4j.parser.UnexpectedExpressionException;
@@ -84,6 +85,11 @@ public abstract class FinalizedProblem extends PostInstantiatedProblem {
      */
     private List<DurativeAction> durativeActions;
 
+    /**
+     * The successor generator of the problem built from the list of actions.
+     */
+    private transient volatile SuccessorGenerator successorGenerator;
+
     /**
      * The list of relevant fluents.
      */
@@ -172,6 +178,26 @@ public abstract class FinalizedProblem extends PostInstantiatedProblem {
         return this.actions;
     }
 
+    /**
+     * Returns the successor generator of the problem. The generator is built the first time it is requested, i.e.,
+     * after the finalization of the actions.
+     *
+     * @return the successor generator of the problem.
+     */
+    public final SuccessorGenerator getSuccessorGenerator() {
+        SuccessorGenerator generator = this.successorGenerator;
+        if (generator == null) {
+            synchronized (this) {
+                generator = this.successorGenerator;
+                if (generator == null) {
+                    generator = new SuccessorGenerator(this.getActions());
+                    this.successorGenerator = generator;
+                }
+            }
+        }
+        return generator;
+    }
+
     /**
      * Returns the list of instantiated durative actions of the problem.
      *
@@ -597,7 +623,9 @@ public abstract class FinalizedProblem extends PostInstantiatedProblem {
                     if (this.taskResolvers != null) {
                         this.getTaskResolvers().get(task).add(this.actions.size());
                     }
-                    this.actions.add(this.finalizeAction(normalizedAction));
+                    final Action finalized = this.finalizeAction(normalizedAction);
+                    finalized.setId(this.actions.size());
+                    this.actions.add(finalized);
                 } else {
                     // update the resolvers of the primitive task only for hierarchical problem
                     if (this.taskResolvers != null) {
@@ -893,6 +921,24 @@ public abstract class FinalizedProblem extends PostInstantiatedProblem {
         return assignment;
     }
 
+    /**
+     * Returns <code>true</code> if a specified numeric effect increases the total cost of the plan by a constant, i.e.,
+     * if the effect is of the form <code>(increase (total-cost) n)</code> once the numeric inertia are simplified.
+     *
+     * @param exp the numeric effect.
+     * @return <code>true</code> if the effect increases the total cost by a constant; <code>false</code> otherwise.
+     */
+    private boolean isTotalCostIncrease(final Expression<Integer> exp) {
+        if (!exp.getConnector().equals(Connector.INCREASE)) {
+            return false;
+        }
+        final Expression<Integer> fluent = exp.getChildren().get(0);
+        return fluent.getConnector().equals(Connector.FN_HEAD)
+            && fluent.getSymbol() != null
+            && Parser.TOTAL_COST.getValue().equals(this.getFunctions().get(fluent.getSymbol().getValue()))
+            && exp.getChildren().get(1).getConnector().equals(Connector.NUMBER);
+    }
+
     /**
      * Encodes a specified action.
      *
@@ -930,6 +976,7 @@ public abstract class FinalizedProblem extends PostInstantiatedProblem {
         //System.out.println(this.toString(action));
         final ConditionalEffect unCondEffects = new ConditionalEffect();
         boolean hasUnConditionalEffects = false;
+        double cost = -1;
         while (!effects.isEmpty()) { //for (Expression ei : effects) {
             Expression<Integer> ei = effects.poll();
             final Connector connective = ei.getConnector();
@@ -969,6 +1016,9 @@ public abstract class FinalizedProblem extends PostInstantiatedProblem {
                 case DECREASE:
                     NumericAssignment assignment = this.finalizeNumericAssignment(ei);
                     unCondEffects.getEffect().addNumericAssignment(assignment);
+                    if (this.isTotalCostIncrease(ei)) {
+                        cost = (cost < 0 ? 0 : cost) + ei.getChildren().get(1).getValue();
+                    }
                     break;
                 case AND:
                     effects.addAll(ei.getChildren());
@@ -980,6 +1030,10 @@ public abstract class FinalizedProblem extends PostInstantiatedProblem {
         if (hasUnConditionalEffects) {
             encoded.getConditionalEffects().add(unCondEffects);
         }
+        // The cost of the action is the constant increase of the total cost if any
+        if (cost >= 0) {
+            encoded.getCost().setValue(cost);
+        }
         /*try {
             System.in.read();
         } catch (IOException e) {
@@ -1055,6 +1109,7 @@ public abstract class FinalizedProblem extends PostInstantiatedProblem {
                     op.setDummy(true);
                     op.setPrecondition(dis);
                     op.getConditionalEffects().add(condEffect);
+                    op.setId(this.getActions().size());
                     this.getActions().add(op);
                 }
             } else {
@@ -114,6 +114,15 @@ public interface Problem extends Serializable, AtomicFormulaSimplifier<Integer>
      */
     List<Action> getActions();
 
+    /**
+     * Returns the successor generator of the problem, i.e., the index used to compute the actions applicable in a
+     * state without testing all the actions of the problem. The ids returned by the generator are the indexes of the
+     * actions in the list returned by {@link #getActions()}.
+     *
+     * @return the successor generator of the problem.
+     */
+    SuccessorGenerator getSuccessorGenerator();
+
     /**
      * Returns the list of instantiated durative actions of the problem.
      *
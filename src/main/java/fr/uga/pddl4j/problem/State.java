@@ -22,18 +22,36 @@ package fr.uga.pddl4j.problem;
 import fr.uga.pddl4j.problem.operator.Condition;
 import fr.uga.pddl4j.problem.operator.ConditionalEffect;
 import fr.uga.pddl4j.problem.operator.Effect;
+import fr.uga.pddl4j.util.BitSet;
 import fr.uga.pddl4j.util.BitVector;
+import fr.uga.pddl4j.util.MemoryAccounting;
 
 import java.util.List;
 
 /**
  * This class implements a logical state.
+ * <p>
+ * A state caches its 64-bit Zobrist fingerprint (see {@link BitSet#zobrist()}). The fingerprint is computed once and
+ * then updated incrementally in O(changed fluents) when an effect is applied, so that {@link #hashCode()} and
+ * {@link #fingerprint()} do not scan the whole state. The other bulk operations inherited from {@link BitSet}
+ * invalidate the cached fingerprint; the shift operations of {@link BitVector} must not be used on states.
+ * </p>
  *
  * @author D. Pellier
- * @version 1.1 - 13.04.2010
+ * @version 1.2 - 17.10.2026
  */
 public class State extends BitVector {
 
+    /**
+     * The cached Zobrist fingerprint of the state.
+     */
+    private transient long zobrist;
+
+    /**
+     * The flag used to indicate if the cached Zobrist fingerprint is up to date.
+     */
+    private transient boolean hashed;
+
     /**
      * Creates a new state.
      */
@@ -71,6 +89,19 @@ public class State extends BitVector {
     public State(final State state) {
         this();
         this.or(state);
+        this.zobrist = state.zobrist;
+        this.hashed = state.hashed;
+    }
+
+    /**
+     * Returns the size of a state: the state object with its cached fingerprint and its array of words.
+     *
+     * @param words the number of words of the state.
+     * @return the size of the state in bytes.
+     */
+    public static long getMemorySize(final int words) {
+        return MemoryAccounting.objectSize(MemoryAccounting.BIT_SET_FIELDS + Long.BYTES + 1)
+            + MemoryAccounting.arraySize(words, Long.BYTES);
     }
 
     /**
@@ -80,8 +111,7 @@ public class State extends BitVector {
      * @param state the state to apply.
      */
     public final void apply(final Effect state) {
-        this.andNot(state.getNegativeFluents());
-        this.or(state.getPositiveFluents());
+        this.andNotOr(state.getNegativeFluents(), state.getPositiveFluents());
     }
 
     /**
@@ -113,8 +143,313 @@ public class State extends BitVector {
      * @return <code>true</code> if this state satisfy a specified state; <code>false</code> otherwise.
      */
     public final boolean satisfy(final Condition state) {
-        return this.include(state.getPositiveFluents()) && this.exclude(state.getNegativeFluents());
+        return this.containsAndExcludes(state.getPositiveFluents(), state.getNegativeFluents());
+    }
+
+    /**
+     * Returns the Zobrist fingerprint of this state. The fingerprint is computed on the first call and then maintained
+     * incrementally.
+     *
+     * @return the Zobrist fingerprint of this state.
+     */
+    @Override
+    public final long fingerprint() {
+        if (!this.hashed) {
+            this.zobrist = this.zobrist();
+            this.hashed = true;
+        }
+        return this.zobrist;
+    }
+
+    /**
+     * Returns the hash code of this state computed from its Zobrist fingerprint. Two states with the same fluents have
+     * the same hash code.
+     *
+     * @return the hash code of this state.
+     */
+    @Override
+    public int hashCode() {
+        final long h = this.fingerprint();
+        return (int) ((h >> 32) ^ h);
+    }
+
+    /**
+     * Returns <code>true</code> if this state is equal to an other object. A state is only equal to an other state,
+     * since the hash code of a state and the hash code of a {@link BitSet} are not computed the same way. Two states
+     * are compared word by word, after a comparison of their cached fingerprints when both are up to date.
+     *
+     * @param obj the other object.
+     * @return <code>true</code> if this state is equal to the other object; <code>false</code> otherwise.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (!(obj instanceof State)) {
+            return false;
+        }
+        final State other = (State) obj;
+        if (this.hashed && other.hashed && this.zobrist != other.zobrist) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Sets the bit at the specified index to <code>true</code> and updates the cached fingerprint.
+     *
+     * @param bitIndex the bit index.
+     */
+    @Override
+    public void set(final int bitIndex) {
+        if (this.hashed && !this.get(bitIndex)) {
+            this.zobrist ^= BitSet.zobrist(bitIndex);
+        }
+        super.set(bitIndex);
+    }
+
+    /**
+     * Sets the bit at the specified index to <code>false</code> and updates the cached fingerprint.
+     *
+     * @param bitIndex the bit index.
+     */
+    @Override
+    public void clear(final int bitIndex) {
+        if (this.hashed && this.get(bitIndex)) {
+            this.zobrist ^= BitSet.zobrist(bitIndex);
+        }
+        super.clear(bitIndex);
+    }
+
+    /**
+     * Sets the bit at the specified index to the complement of its current value and updates the cached fingerprint.
+     *
+     * @param bitIndex the bit index.
+     */
+    @Override
+    public void flip(final int bitIndex) {
+        if (this.hashed) {
+            this.zobrist ^= BitSet.zobrist(bitIndex);
+        }
+        super.flip(bitIndex);
+    }
+
+    /**
+     * Sets the bit at the specified index to a specified value and updates the cached fingerprint.
+     *
+     * @param bitIndex the bit index.
+     * @param value    the value to set.
+     */
+    @Override
+    public void set(final int bitIndex, final boolean value) {
+        if (value) {
+            this.set(bitIndex);
+        } else {
+            this.clear(bitIndex);
+        }
+    }
+
+    /**
+     * Sets the bits of a range to <code>true</code> and invalidates the cached fingerprint.
+     *
+     * @param fromIndex the index of the first bit to be set.
+     * @param toIndex   the index after the last bit to be set.
+     */
+    @Override
+    public void set(final int fromIndex, final int toIndex) {
+        this.hashed = false;
+        super.set(fromIndex, toIndex);
+    }
+
+    /**
+     * Sets the bits of a range to a specified value and invalidates the cached fingerprint.
+     *
+     * @param fromIndex the index of the first bit to be set.
+     * @param toIndex   the index after the last bit to be set.
+     * @param value     the value to set.
+     */
+    @Override
+    public void set(final int fromIndex, final int toIndex, final boolean value) {
+        this.hashed = false;
+        super.set(fromIndex, toIndex, value);
+    }
 
+    /**
+     * Sets the bits of a range to <code>false</code> and invalidates the cached fingerprint.
+     *
+     * @param fromIndex the index of the first bit to be cleared.
+     * @param toIndex   the index after the last bit to be cleared.
+     */
+    @Override
+    public void clear(final int fromIndex, final int toIndex) {
+        this.hashed = false;
+        super.clear(fromIndex, toIndex);
+    }
+
+    /**
+     * Sets all of the bits of this state to <code>false</code>. The cached fingerprint of the empty state is 0.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.zobrist = 0L;
+        this.hashed = true;
+    }
+
+    /**
+     * Sets the bits of a range to the complement of their current value and invalidates the cached fingerprint.
+     *
+     * @param fromIndex the index of the first bit to flip.
+     * @param toIndex   the index after the last bit to flip.
+     */
+    @Override
+    public void flip(final int fromIndex, final int toIndex) {
+        this.hashed = false;
+        super.flip(fromIndex, toIndex);
+    }
+
+    /**
+     * Performs a logical <b>AND</b> of this state with a bit set and invalidates the cached fingerprint.
+     *
+     * @param set the bit set.
+     */
+    @Override
+    public void and(final BitSet set) {
+        this.hashed = false;
+        super.and(set);
+    }
+
+    /**
+     * Performs a logical <b>OR</b> of this state with a bit set and invalidates the cached fingerprint.
+     *
+     * @param set the bit set.
+     */
+    @Override
+    public void or(final BitSet set) {
+        this.hashed = false;
+        super.or(set);
+    }
+
+    /**
+     * Performs a logical <b>XOR</b> of this state with a bit set and invalidates the cached fingerprint.
+     *
+     * @param set the bit set.
+     */
+    @Override
+    public void xor(final BitSet set) {
+        this.hashed = false;
+        super.xor(set);
+    }
+
+    /**
+     * Clears the bits of this state set in a bit set and invalidates the cached fingerprint.
+     *
+     * @param set the bit set.
+     */
+    @Override
+    public void andNot(final BitSet set) {
+        this.hashed = false;
+        super.andNot(set);
+    }
+
+    /**
+     * Sets the content of this state to the content of an other state and copies the cached fingerprint of the other
+     * state. Unlike a {@link #clear()} followed by an {@link #or(BitSet)}, the fingerprint stays up to date, so that a
+     * successor built from a copy of its parent is not hashed from scratch.
+     *
+     * @param state the state to copy.
+     */
+    public final void copy(final State state) {
+        super.clear();
+        super.or(state);
+        this.zobrist = state.zobrist;
+        this.hashed = state.hashed;
+    }
+
+    /**
+     * Sets the content of this state to words of an array and invalidates the cached fingerprint.
+     *
+     * @param src    the source array.
+     * @param offset the offset of the first word in the source array.
+     * @param length the number of words to copy.
+     */
+    @Override
+    public void fromWords(final long[] src, final int offset, final int length) {
+        this.hashed = false;
+        super.fromWords(src, offset, length);
+    }
+
+    /**
+     * Sets the cached fingerprint of this state to a value known to be its Zobrist fingerprint, for instance the
+     * fingerprint of a state copied from a {@link StateArena}.
+     *
+     * @param fingerprint the Zobrist fingerprint of the state.
+     */
+    final void setFingerprint(final long fingerprint) {
+        this.zobrist = fingerprint;
+        this.hashed = true;
+    }
+
+    /**
+     * Clears and then sets bits of this state and updates the cached fingerprint.
+     *
+     * @param cleared the bits to clear.
+     * @param set     the bits to set.
+     * @return the Zobrist key of the bits changed.
+     * @see BitSet#andNotOr(BitSet, BitSet)
+     */
+    @Override
+    public long andNotOr(final BitSet cleared, final BitSet set) {
+        final long key = super.andNotOr(cleared, set);
+        if (this.hashed) {
+            this.zobrist ^= key;
+        }
+        return key;
+    }
+
+    /**
+     * Clears and sets bits of this state, records the words changed in an undo log and updates the cached fingerprint.
+     *
+     * @param cleared the bits to clear.
+     * @param set     the bits to set.
+     * @param indexes the indexes of the words of the undo log.
+     * @param values  the previous values of the words of the undo log.
+     * @param size    the number of entries of the undo log.
+     * @return the new number of entries of the undo log.
+     * @see BitSet#andNotOr(BitSet, BitSet, int[], long[], int)
+     */
+    @Override
+    public int andNotOr(final BitSet cleared, final BitSet set, final int[] indexes, final long[] values,
+                        final int size) {
+        final int log = super.andNotOr(cleared, set, indexes, values, size);
+        if (this.hashed) {
+            for (int i = size; i < log; i++) {
+                this.zobrist ^= BitSet.zobrist(indexes[i], this.words[indexes[i]] ^ values[i]);
+            }
+        }
+        return log;
+    }
+
+    /**
+     * Reverts the changes recorded in a range of an undo log and updates the cached fingerprint.
+     *
+     * @param indexes the indexes of the words of the undo log.
+     * @param values  the previous values of the words of the undo log.
+     * @param from    the first entry to undo.
+     * @param to      the entry following the last entry to undo.
+     * @see BitSet#undo(int[], long[], int, int)
+     */
+    @Override
+    public void undo(final int[] indexes, final long[] values, final int from, final int to) {
+        if (!this.hashed) {
+            super.undo(indexes, values, from, to);
+            return;
+        }
+        // The entries are undone one by one since a word can be recorded several times
+        for (int i = to - 1; i >= from; i--) {
+            final int index = indexes[i];
+            final long word = index < this.words.length ? this.words[index] : 0L;
+            this.zobrist ^= BitSet.zobrist(index, word ^ values[i]);
+            super.undo(indexes, values, i, i + 1);
+        }
     }
 
 }
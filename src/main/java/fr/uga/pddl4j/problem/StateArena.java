@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.problem;
+
+import fr.uga.pddl4j.util.FingerprintIndex;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a store of interned states. The states are packed with a fixed number of words per state into
+ * chunks of a large <code>long</code> arena, so that a state costs its words plus a fingerprint and an index cell,
+ * instead of a {@link State} object with its own array. A state is referenced by an <code>int</code> handle, the
+ * order in which it was interned. A state is interned only once: the store keeps a {@link FingerprintIndex} from the
+ * Zobrist fingerprints of the states (see {@link State#fingerprint()}) to their handles and compares the words of the
+ * states sharing a fingerprint.
+ * <p>
+ * The store is not thread safe.
+ * </p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class StateArena {
+
+    /**
+     * The handle returned when a state is not in the store.
+     */
+    public static final int NONE = FingerprintIndex.NONE;
+
+    /**
+     * The binary logarithm of the number of states of a chunk.
+     */
+    private static final int CHUNK_BITS = 14;
+
+    /**
+     * The number of states of a chunk.
+     */
+    private static final int CHUNK_SIZE = 1 << StateArena.CHUNK_BITS;
+
+    /**
+     * The mask used to compute the position of a state in its chunk.
+     */
+    private static final int CHUNK_MASK = StateArena.CHUNK_SIZE - 1;
+
+    /**
+     * The number of words of a state.
+     */
+    private final int words;
+
+    /**
+     * The chunks of the arena.
+     */
+    private long[][] chunks;
+
+    /**
+     * The index from the fingerprints of the states to their handles.
+     */
+    private final FingerprintIndex<State> index;
+
+    /**
+     * Creates a new empty store for the states of a specified number of fluents.
+     *
+     * @param fluents the number of fluents of the states.
+     */
+    public StateArena(final int fluents) {
+        this.words = StateArena.getWordsPerState(fluents);
+        this.chunks = new long[1][];
+        this.index = new FingerprintIndex<>(1024, this::equals);
+    }
+
+    /**
+     * Creates a new empty store for the states of a specified problem.
+     *
+     * @param problem the problem.
+     */
+    public StateArena(final Problem problem) {
+        this(problem.getFluents().size());
+    }
+
+    /**
+     * Returns the number of states of the store.
+     *
+     * @return the number of states of the store.
+     */
+    public int size() {
+        return this.index.size();
+    }
+
+    /**
+     * Returns the number of words used to store a state.
+     *
+     * @return the number of words used to store a state.
+     */
+    public int getWordsPerState() {
+        return this.words;
+    }
+
+    /**
+     * Returns the number of words used to store a state of a specified number of fluents.
+     *
+     * @param fluents the number of fluents of the state.
+     * @return the number of words used to store the state.
+     */
+    public static int getWordsPerState(final int fluents) {
+        return Math.max(1, (fluents + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the store: the chunks, the fingerprints and the index.
+     *
+     * @return the number of bytes allocated by the store.
+     */
+    public long getMemoryUsed() {
+        long bytes = 0;
+        for (long[] chunk : this.chunks) {
+            if (chunk != null) {
+                bytes += (long) chunk.length * Long.BYTES;
+            }
+        }
+        return bytes + this.index.getMemoryUsed();
+    }
+
+    /**
+     * Returns the average number of bytes allocated by the store per state.
+     *
+     * @return the average number of bytes allocated per state or 0 if the store is empty.
+     */
+    public double getBytesPerState() {
+        return this.size() == 0 ? 0.0 : (double) this.getMemoryUsed() / this.size();
+    }
+
+    /**
+     * Returns the handle of a state, interning the state if it is not already in the store.
+     *
+     * @param state the state.
+     * @return the handle of the state.
+     */
+    public int intern(final State state) {
+        int handle = this.index.add(state.fingerprint(), state);
+        if (handle >= 0) {
+            return handle;
+        }
+        handle = -(handle + 1);
+        this.add(state, handle);
+        return handle;
+    }
+
+    /**
+     * Returns the handle of a state or {@link #NONE} if the state is not in the store.
+     *
+     * @param state the state.
+     * @return the handle of the state or {@link #NONE}.
+     */
+    public int find(final State state) {
+        return this.index.find(state.fingerprint(), state);
+    }
+
+    /**
+     * Returns a new state equal to the state of a specified handle.
+     *
+     * @param handle the handle.
+     * @return the state of the handle.
+     */
+    public State get(final int handle) {
+        final State state = new State();
+        this.get(handle, state);
+        return state;
+    }
+
+    /**
+     * Copies the state of a specified handle into a state.
+     *
+     * @param handle the handle.
+     * @param state  the state in which the state of the handle is copied.
+     */
+    public void get(final int handle, final State state) {
+        state.fromWords(this.chunks[handle >>> StateArena.CHUNK_BITS], (handle & StateArena.CHUNK_MASK) * this.words,
+            this.words);
+        state.setFingerprint(this.index.getFingerprint(handle));
+    }
+
+    /**
+     * Returns the fingerprint of the state of a specified handle.
+     *
+     * @param handle the handle.
+     * @return the fingerprint of the state of the handle.
+     */
+    public long getFingerprint(final int handle) {
+        return this.index.getFingerprint(handle);
+    }
+
+    /**
+     * Returns <code>true</code> if the state of a specified handle is equal to a state.
+     *
+     * @param handle the handle.
+     * @param state  the state.
+     * @return <code>true</code> if the state of the handle is equal to the state; <code>false</code> otherwise.
+     */
+    private boolean equals(final int handle, final State state) {
+        return state.equalsWords(this.chunks[handle >>> StateArena.CHUNK_BITS],
+            (handle & StateArena.CHUNK_MASK) * this.words, this.words);
+    }
+
+    /**
+     * Copies the words of a state into the arena at the position of a new handle.
+     *
+     * @param state  the state.
+     * @param handle the new handle of the state.
+     */
+    private void add(final State state, final int handle) {
+        final int chunk = handle >>> StateArena.CHUNK_BITS;
+        if (chunk == this.chunks.length) {
+            this.chunks = Arrays.copyOf(this.chunks, chunk * 2);
+        }
+        if (this.chunks[chunk] == null) {
+            this.chunks[chunk] = new long[StateArena.CHUNK_SIZE * this.words];
+        }
+        state.toWords(this.chunks[chunk], (handle & StateArena.CHUNK_MASK) * this.words, this.words);
+    }
+}
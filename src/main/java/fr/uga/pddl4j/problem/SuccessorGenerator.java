@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.problem;
+
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.util.BitVector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * This class implements a successor generator, i.e., an index over the preconditions of the actions of a problem
+ * that returns the actions applicable in a state without testing every action. The index is a decision tree in the
+ * spirit of the successor generator of Fast Downward. Each internal node of the tree tests a fluent and has three
+ * children: the actions that require the fluent to be true, the actions that require the fluent to be false and the
+ * actions that do not care about the fluent. Each node also stores the actions whose preconditions are fully tested
+ * when the node is reached. The fluents are tested in increasing order of their index.
+ * <p>
+ * Only the positive and negative fluents of the preconditions are indexed. This is exactly the test done by
+ * {@link Action#isApplicable(State)}. Once built, the generator is never modified and can be used by several threads
+ * at the same time.
+ * </p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class SuccessorGenerator {
+
+    /**
+     * The value used for a node without child or without fluent to test.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The fluent tested by each node of the tree or <code>NONE</code> for a leaf.
+     */
+    private final int[] fluent;
+
+    /**
+     * The child of each node for the actions requiring the fluent to be true.
+     */
+    private final int[] trueChild;
+
+    /**
+     * The child of each node for the actions requiring the fluent to be false.
+     */
+    private final int[] falseChild;
+
+    /**
+     * The child of each node for the actions that do not care about the fluent.
+     */
+    private final int[] dontCareChild;
+
+    /**
+     * The index in the array <code>immediates</code> of the first action applicable when a node is reached. The
+     * actions of the node <code>n</code> are stored between <code>start[n]</code> and <code>start[n + 1]</code>.
+     */
+    private final int[] start;
+
+    /**
+     * The actions applicable when the nodes of the tree are reached.
+     */
+    private final int[] immediates;
+
+    /**
+     * The number of actions indexed.
+     */
+    private final int size;
+
+    /**
+     * The buffer of each thread used to collect the applicable actions.
+     */
+    private final ThreadLocal<int[]> buffer;
+
+    /**
+     * Creates a new successor generator for a list of actions. The index of an action in the list is the id returned
+     * by the generator.
+     *
+     * @param actions the actions to index.
+     */
+    public SuccessorGenerator(final List<Action> actions) {
+        this.size = actions.size();
+        // The preconditions of each action coded as sorted arrays of 2 * fluent for positive fluents and
+        // 2 * fluent + 1 for negative fluents
+        final int[][] conditions = new int[this.size][];
+        for (int a = 0; a < this.size; a++) {
+            conditions[a] = SuccessorGenerator.encode(actions.get(a).getPrecondition());
+        }
+        // The position of the next condition to test for each action
+        final int[] cursor = new int[this.size];
+
+        final IntList fluents = new IntList();
+        final IntList trueChildren = new IntList();
+        final IntList falseChildren = new IntList();
+        final IntList dontCareChildren = new IntList();
+        final List<int[]> nodeImmediates = new ArrayList<>();
+
+        final Deque<Task> pending = new ArrayDeque<>();
+        final int[] all = new int[this.size];
+        for (int a = 0; a < this.size; a++) {
+            all[a] = a;
+        }
+        SuccessorGenerator.newNode(fluents, trueChildren, falseChildren, dontCareChildren, nodeImmediates);
+        pending.push(new Task(0, all));
+        // The tree is built with an explicit stack: a chain of don't care nodes can be as long as the number of
+        // fluents used in the preconditions
+        while (!pending.isEmpty()) {
+            final Task task = pending.pop();
+            final IntList immediate = new IntList();
+            int var = Integer.MAX_VALUE;
+            for (int a : task.actions) {
+                if (cursor[a] == conditions[a].length) {
+                    immediate.add(a);
+                } else {
+                    var = Math.min(var, conditions[a][cursor[a]] >> 1);
+                }
+            }
+            nodeImmediates.set(task.node, immediate.toArray());
+            if (var == Integer.MAX_VALUE) {
+                continue;
+            }
+            final IntList positives = new IntList();
+            final IntList negatives = new IntList();
+            final IntList others = new IntList();
+            for (int a : task.actions) {
+                if (cursor[a] < conditions[a].length) {
+                    final int code = conditions[a][cursor[a]];
+                    if (code >> 1 != var) {
+                        others.add(a);
+                    } else if ((code & 1) == 0) {
+                        positives.add(a);
+                        cursor[a]++;
+                    } else {
+                        negatives.add(a);
+                        cursor[a]++;
+                    }
+                }
+            }
+            fluents.set(task.node, var);
+            if (!positives.isEmpty()) {
+                final int child = SuccessorGenerator.newNode(fluents, trueChildren, falseChildren, dontCareChildren,
+                    nodeImmediates);
+                trueChildren.set(task.node, child);
+                pending.push(new Task(child, positives.toArray()));
+            }
+            if (!negatives.isEmpty()) {
+                final int child = SuccessorGenerator.newNode(fluents, trueChildren, falseChildren, dontCareChildren,
+                    nodeImmediates);
+                falseChildren.set(task.node, child);
+                pending.push(new Task(child, negatives.toArray()));
+            }
+            if (!others.isEmpty()) {
+                final int child = SuccessorGenerator.newNode(fluents, trueChildren, falseChildren, dontCareChildren,
+                    nodeImmediates);
+                dontCareChildren.set(task.node, child);
+                pending.push(new Task(child, others.toArray()));
+            }
+        }
+
+        // Flatten the tree
+        final int nodes = fluents.size();
+        this.fluent = fluents.toArray();
+        this.trueChild = trueChildren.toArray();
+        this.falseChild = falseChildren.toArray();
+        this.dontCareChild = dontCareChildren.toArray();
+        this.start = new int[nodes + 1];
+        this.immediates = new int[this.size];
+        int index = 0;
+        for (int n = 0; n < nodes; n++) {
+            this.start[n] = index;
+            final int[] immediate = nodeImmediates.get(n);
+            System.arraycopy(immediate, 0, this.immediates, index, immediate.length);
+            index += immediate.length;
+        }
+        this.start[nodes] = index;
+        this.buffer = ThreadLocal.withInitial(() -> new int[this.size]);
+    }
+
+    /**
+     * Returns the number of actions indexed by this generator.
+     *
+     * @return the number of actions indexed by this generator.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of nodes of the decision tree.
+     *
+     * @return the number of nodes of the decision tree.
+     */
+    public int getNumberOfNodes() {
+        return this.fluent.length;
+    }
+
+    /**
+     * Computes the ids of the actions applicable in a specified state. The ids are written in increasing order in the
+     * specified array, i.e., in the order of a linear scan of the actions. The array must be able to store all the
+     * actions indexed by the generator. No object is allocated by this method.
+     *
+     * @param state   the state.
+     * @param actions the array where the ids of the applicable actions are written.
+     * @return the number of applicable actions.
+     * @throws ArrayIndexOutOfBoundsException if the array is too small.
+     */
+    public int getApplicableActions(final State state, final int[] actions) {
+        final int count = this.collect(0, state, actions, 0);
+        Arrays.sort(actions, 0, count);
+        return count;
+    }
+
+    /**
+     * Returns the ids of the actions applicable in a specified state in increasing order. Only the returned array is
+     * allocated.
+     *
+     * @param state the state.
+     * @return the ids of the actions applicable in the state.
+     */
+    public int[] getApplicableActions(final State state) {
+        final int[] actions = this.buffer.get();
+        return Arrays.copyOf(actions, this.getApplicableActions(state, actions));
+    }
+
+    /**
+     * Collects the actions applicable in a specified state from a specified node of the tree. The chain of don't care
+     * children is followed iteratively and only the true or false children are explored recursively. The depth of the
+     * recursion is thus bounded by the size of the largest precondition.
+     *
+     * @param node    the node.
+     * @param state   the state.
+     * @param actions the array where the ids of the applicable actions are written.
+     * @param count   the number of actions already written.
+     * @return the number of actions written.
+     */
+    private int collect(final int node, final State state, final int[] actions, final int count) {
+        int n = node;
+        int size = count;
+        while (n != SuccessorGenerator.NONE) {
+            final int from = this.start[n];
+            final int length = this.start[n + 1] - from;
+            System.arraycopy(this.immediates, from, actions, size, length);
+            size += length;
+            final int var = this.fluent[n];
+            if (var != SuccessorGenerator.NONE) {
+                final int child = state.get(var) ? this.trueChild[n] : this.falseChild[n];
+                if (child != SuccessorGenerator.NONE) {
+                    size = this.collect(child, state, actions, size);
+                }
+            }
+            n = this.dontCareChild[n];
+        }
+        return size;
+    }
+
+    /**
+     * Encodes the precondition of an action as a sorted array where a positive fluent <code>f</code> is coded as
+     * <code>2 * f</code> and a negative fluent as <code>2 * f + 1</code>.
+     *
+     * @param precondition the precondition.
+     * @return the encoded precondition.
+     */
+    private static int[] encode(final Condition precondition) {
+        final BitVector positive = precondition.getPositiveFluents();
+        final BitVector negative = precondition.getNegativeFluents();
+        final int[] codes = new int[positive.cardinality() + negative.cardinality()];
+        int i = 0;
+        for (int p = positive.nextSetBit(0); p >= 0; p = positive.nextSetBit(p + 1)) {
+            codes[i++] = p << 1;
+        }
+        for (int p = negative.nextSetBit(0); p >= 0; p = negative.nextSetBit(p + 1)) {
+            codes[i++] = (p << 1) | 1;
+        }
+        Arrays.sort(codes);
+        return codes;
+    }
+
+    /**
+     * Adds a new node without fluent, children and actions to the tree under construction.
+     *
+     * @param fluents          the fluent tested by each node.
+     * @param trueChildren     the true child of each node.
+     * @param falseChildren    the false child of each node.
+     * @param dontCareChildren the don't care child of each node.
+     * @param nodeImmediates   the actions applicable when each node is reached.
+     * @return the index of the new node.
+     */
+    private static int newNode(final IntList fluents, final IntList trueChildren, final IntList falseChildren,
+                               final IntList dontCareChildren, final List<int[]> nodeImmediates) {
+        fluents.add(SuccessorGenerator.NONE);
+        trueChildren.add(SuccessorGenerator.NONE);
+        falseChildren.add(SuccessorGenerator.NONE);
+        dontCareChildren.add(SuccessorGenerator.NONE);
+        nodeImmediates.add(null);
+        return fluents.size() - 1;
+    }
+
+    /**
+     * A node of the tree under construction with the actions it must index.
+     */
+    private static final class Task {
+
+        /**
+         * The index of the node.
+         */
+        private final int node;
+
+        /**
+         * The actions to index under the node.
+         */
+        private final int[] actions;
+
+        /**
+         * Creates a new task.
+         *
+         * @param node    the index of the node.
+         * @param actions the actions to index under the node.
+         */
+        private Task(final int node, final int[] actions) {
+            this.node = node;
+            this.actions = actions;
+        }
+    }
+
+    /**
+     * A growable list of primitive integers used during the construction of the tree.
+     */
+    private static final class IntList {
+
+        /**
+         * The elements of the list.
+         */
+        private int[] elements = new int[16];
+
+        /**
+         * The number of elements of the list.
+         */
+        private int size = 0;
+
+        /**
+         * Adds an element at the end of the list.
+         *
+         * @param element the element to add.
+         */
+        private void add(final int element) {
+            if (this.size == this.elements.length) {
+                this.elements = Arrays.copyOf(this.elements, this.size << 1);
+            }
+            this.elements[this.size++] = element;
+        }
+
+        /**
+         * Sets the element at a specified index.
+         *
+         * @param index   the index.
+         * @param element the element.
+         */
+        private void set(final int index, final int element) {
+            this.elements[index] = element;
+        }
+
+        /**
+         * Returns the number of elements of the list.
+         *
+         * @return the number of elements of the list.
+         */
+        private int size() {
+            return this.size;
+        }
+
+        /**
+         * Returns <code>true</code> if the list is empty.
+         *
+         * @return <code>true</code> if the list is empty; <code>false</code> otherwise.
+         */
+        private boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        /**
+         * Returns a copy of the elements of the list.
+         *
+         * @return a copy of the elements of the list.
+         */
+        private int[] toArray() {
+            return Arrays.copyOf(this.elements, this.size);
+        }
+    }
+}
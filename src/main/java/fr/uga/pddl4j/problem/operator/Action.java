@@ -33,6 +33,7 @@ import java.util.stream.Collectors;
  * <p>Revisions:
  * <ul>
  * <li>21.10.2020: change the duration attribute to encode temporal problem.</li>
+ * <li>17.10.2026: add the id of the action in the list of actions of the problem.</li>
  * </ul>
  *
  * @author D. Pellier
@@ -60,6 +61,12 @@ public class Action extends AbstractOperator {
      */
     private List<NumericConstraint> durationConstraints;
 
+    /**
+     * The id of the action, i.e., its index in the list of actions of the problem or -1 if the action is not yet
+     * finalized.
+     */
+    private int id;
+
     /**
      * Creates a new action from an other. This constructor is the copy constructor.
      *
@@ -75,6 +82,7 @@ public class Action extends AbstractOperator {
                 .collect(Collectors.toList()));
         }
         this.cost = new NumericVariable(other.cost);
+        this.id = other.id;
         if (this.duration != null) {
             this.duration = new NumericVariable(other.duration);
         }
@@ -94,6 +102,7 @@ public class Action extends AbstractOperator {
         this.duration = new NumericVariable(-2);
         this.duration.setValue(0.0);
         this.durationConstraints = null;
+        this.id = -1;
     }
 
     /**
@@ -115,6 +124,25 @@ public class Action extends AbstractOperator {
         this.durationConstraints = null;
     }
 
+    /**
+     * Returns the id of the action, i.e., its index in the list returned by <code>Problem.getActions()</code>. The id
+     * is set when the problem is finalized and allows to retrieve the index of an action in constant time.
+     *
+     * @return the id of the action or -1 if the action is not yet finalized.
+     */
+    public final int getId() {
+        return this.id;
+    }
+
+    /**
+     * Sets the id of the action.
+     *
+     * @param id the id of the action.
+     */
+    public final void setId(final int id) {
+        this.id = id;
+    }
+
     /**
      * Returns the effects of the action.
      *
@@ -911,6 +911,54 @@ public class BitSet implements Cloneable, java.io.Serializable {
         return false;
     }
 
+    /**
+     * Returns true if all the bits set to {@code true} in the specified {@code BitSet} are also set to {@code true}
+     * in this {@code BitSet}. The test is done word by word and does not allocate any object.
+     *
+     * @param set {@code BitSet} to test for inclusion.
+     * @return boolean indicating whether this {@code BitSet} contains the specified {@code BitSet}.
+     */
+    public boolean contains(BitSet set) {
+        if (set.wordsInUse > wordsInUse) {
+            return false;
+        }
+        for (int i = set.wordsInUse - 1; i >= 0; i--) {
+            if ((set.words[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this {@code BitSet} contains all the bits of {@code included} and none of the bits of
+     * {@code excluded}. This method is the single pass equivalent of
+     * {@code contains(included) && !intersects(excluded)}. It is used to test the satisfaction of a condition by a
+     * state and does not allocate any object.
+     *
+     * @param included the bits that must be set to {@code true} in this {@code BitSet}.
+     * @param excluded the bits that must be set to {@code false} in this {@code BitSet}.
+     * @return boolean indicating whether this {@code BitSet} contains {@code included} and is disjoint of
+     *      {@code excluded}.
+     */
+    public boolean containsAndExcludes(BitSet included, BitSet excluded) {
+        if (included.wordsInUse > wordsInUse) {
+            return false;
+        }
+        final int common = Math.min(wordsInUse, excluded.wordsInUse);
+        final int max = Math.max(included.wordsInUse, common);
+        for (int i = 0; i < max; i++) {
+            final long w = words[i];
+            if (i < included.wordsInUse && (included.words[i] & ~w) != 0) {
+                return false;
+            }
+            if (i < common && (excluded.words[i] & w) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the number of bits set to {@code true} in this {@code BitSet}.
      *
@@ -1045,6 +1093,204 @@ public class BitSet implements Cloneable, java.io.Serializable {
         checkInvariants();
     }
 
+    /**
+     * Clears all of the bits of {@code cleared} and then sets all of the bits of {@code set} in this {@code BitSet},
+     * i.e., applies in place the effect whose negative and positive bits are {@code cleared} and {@code set}. The
+     * index and the previous value of each word modified are appended to an undo log so that the change can be
+     * reverted with {@link #undo(int[], long[], int, int)}. The log arrays must have room for at least
+     * {@code Math.max(cleared.size(), set.size()) / 64} more entries. The method does not allocate any object unless
+     * this {@code BitSet} must grow.
+     *
+     * @param cleared the bits to clear.
+     * @param set     the bits to set.
+     * @param indexes the indexes of the words of the undo log.
+     * @param values  the previous values of the words of the undo log.
+     * @param size    the number of entries of the undo log.
+     * @return the new number of entries of the undo log.
+     */
+    public int andNotOr(BitSet cleared, BitSet set, int[] indexes, long[] values, int size) {
+        final int n = Math.max(Math.min(wordsInUse, cleared.wordsInUse), set.wordsInUse);
+        if (set.wordsInUse > 0) {
+            expandTo(set.wordsInUse - 1);
+        }
+        int log = size;
+        for (int i = 0; i < n; i++) {
+            final long old = words[i];
+            long w = old;
+            if (i < cleared.wordsInUse) {
+                w &= ~cleared.words[i];
+            }
+            if (i < set.wordsInUse) {
+                w |= set.words[i];
+            }
+            if (w != old) {
+                indexes[log] = i;
+                values[log] = old;
+                log++;
+                words[i] = w;
+            }
+        }
+        recalculateWordsInUse();
+        checkInvariants();
+        return log;
+    }
+
+    /**
+     * Reverts the changes recorded in the entries {@code from} (inclusive) to {@code to} (exclusive) of an undo log
+     * filled by {@link #andNotOr(BitSet, BitSet, int[], long[], int)}. The entries are undone in reverse order.
+     *
+     * @param indexes the indexes of the words of the undo log.
+     * @param values  the previous values of the words of the undo log.
+     * @param from    the first entry to undo.
+     * @param to      the entry following the last entry to undo.
+     */
+    public void undo(int[] indexes, long[] values, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            final int index = indexes[i];
+            expandTo(index);
+            words[index] = values[i];
+        }
+        recalculateWordsInUse();
+        checkInvariants();
+    }
+
+    /**
+     * Clears all of the bits of {@code cleared} and then sets all of the bits of {@code set} in this {@code BitSet}
+     * and returns the Zobrist key of the bits changed, i.e., the exclusive or of the {@link #zobrist(int)} keys of
+     * the bits whose value changed. The Zobrist fingerprint of this {@code BitSet} after the call is the exclusive or
+     * of its fingerprint before the call and the returned key. The method does not allocate any object unless this
+     * {@code BitSet} must grow.
+     *
+     * @param cleared the bits to clear.
+     * @param set     the bits to set.
+     * @return the Zobrist key of the bits changed.
+     */
+    public long andNotOr(BitSet cleared, BitSet set) {
+        final int n = Math.max(Math.min(wordsInUse, cleared.wordsInUse), set.wordsInUse);
+        if (set.wordsInUse > 0) {
+            expandTo(set.wordsInUse - 1);
+        }
+        long key = 0L;
+        for (int i = 0; i < n; i++) {
+            final long old = words[i];
+            long w = old;
+            if (i < cleared.wordsInUse) {
+                w &= ~cleared.words[i];
+            }
+            if (i < set.wordsInUse) {
+                w |= set.words[i];
+            }
+            if (w != old) {
+                key ^= zobrist(i, w ^ old);
+                words[i] = w;
+            }
+        }
+        recalculateWordsInUse();
+        checkInvariants();
+        return key;
+    }
+
+    /**
+     * Copies the first {@code length} words of this {@code BitSet} into an array starting at a specified offset. The
+     * words beyond the logical size of this {@code BitSet} are copied as 0. The bits beyond the {@code length} first
+     * words are ignored.
+     *
+     * @param dest   the destination array.
+     * @param offset the offset of the first word in the destination array.
+     * @param length the number of words to copy.
+     */
+    public void toWords(long[] dest, int offset, int length) {
+        final int n = Math.min(wordsInUse, length);
+        System.arraycopy(words, 0, dest, offset, n);
+        Arrays.fill(dest, offset + n, offset + length, 0L);
+    }
+
+    /**
+     * Sets the content of this {@code BitSet} to {@code length} words of an array starting at a specified offset. All
+     * the bits beyond these words are cleared.
+     *
+     * @param src    the source array.
+     * @param offset the offset of the first word in the source array.
+     * @param length the number of words to copy.
+     */
+    public void fromWords(long[] src, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(src, offset, words, 0, length);
+        if (wordsInUse > length) {
+            Arrays.fill(words, length, wordsInUse, 0L);
+        }
+        wordsInUse = length;
+        recalculateWordsInUse();
+        checkInvariants();
+    }
+
+    /**
+     * Returns true if this {@code BitSet} is equal to the bit set stored in {@code length} words of an array starting
+     * at a specified offset. The comparison does not allocate any object.
+     *
+     * @param src    the array.
+     * @param offset the offset of the first word in the array.
+     * @param length the number of words of the bit set stored.
+     * @return boolean indicating whether this {@code BitSet} is equal to the bit set stored.
+     */
+    public boolean equalsWords(long[] src, int offset, int length) {
+        if (wordsInUse > length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if ((i < wordsInUse ? words[i] : 0L) != src[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the Zobrist fingerprint of this {@code BitSet}, i.e., the exclusive or of the {@link #zobrist(int)}
+     * keys of the bits set to {@code true}. Unlike {@link #fingerprint()}, the Zobrist fingerprint can be updated
+     * incrementally when bits are set or cleared.
+     *
+     * @return the Zobrist fingerprint of this {@code BitSet}.
+     */
+    public long zobrist() {
+        long key = 0L;
+        for (int i = 0; i < wordsInUse; i++) {
+            key ^= zobrist(i, words[i]);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the Zobrist key of the bits of a specified word of a {@code BitSet}, i.e., the exclusive or of the
+     * {@link #zobrist(int)} keys of the bits set to {@code true} in the word.
+     *
+     * @param wordIndex the index of the word.
+     * @param word      the value of the word.
+     * @return the Zobrist key of the bits of the word.
+     */
+    protected static long zobrist(int wordIndex, long word) {
+        long key = 0L;
+        final int base = wordIndex << ADDRESS_BITS_PER_WORD;
+        for (long w = word; w != 0; w &= w - 1) {
+            key ^= zobrist(base + Long.numberOfTrailingZeros(w));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the 64-bit Zobrist key of a specified bit index. The keys are pseudo random values computed with the
+     * finalizer of the SplitMix64 generator, so that they do not need to be stored and are the same for every run.
+     *
+     * @param bitIndex the bit index.
+     * @return the Zobrist key of the bit index.
+     */
+    public static long zobrist(int bitIndex) {
+        long z = 0x9E3779B97F4A7C15L * (bitIndex + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
     /**
      * Returns the hash code value for this bit set. The hash code depends
      * only on which bits are set within this {@code BitSet}.
@@ -1072,6 +1318,25 @@ public class BitSet implements Cloneable, java.io.Serializable {
         return (int) ((h >> 32) ^ h);
     }
 
+    /**
+     * Returns a 64-bit fingerprint of this bit set. As the hash code, the fingerprint depends only on which bits are
+     * set within this {@code BitSet}, but each word is mixed with a finalizer of the SplitMix64 generator so that two
+     * different bit sets have the same fingerprint with a probability close to 2<sup>-64</sup>. The fingerprint is
+     * intended for caches that do not store the bit sets themselves.
+     *
+     * @return the 64-bit fingerprint of this bit set.
+     */
+    public long fingerprint() {
+        long h = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < wordsInUse; i++) {
+            long z = (h ^ words[i]) + 0x9E3779B97F4A7C15L * (i + 1);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            h = z ^ (z >>> 31);
+        }
+        return h;
+    }
+
     /**
      * Returns the number of bits of space actually in use by this
      * {@code BitSet} to represent bit values.
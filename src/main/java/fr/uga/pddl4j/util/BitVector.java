@@ -29,6 +29,7 @@ import java.util.Arrays;
  * Revisions:
  * <ul>
  * <li>26.06.2020: Add shift methods.</li>
+ * <li>17.10.2026: Inclusion test without copy of the bit vector.</li>
  * </ul>
  *
  * @author D. Pellier
@@ -82,11 +83,10 @@ public class BitVector extends BitSet {
      * @param vector the other bit vector.
      * @return <code>true</code> if this bit vector includes an other specified
      * <code>BitVector</code>; <code>false</code> otherwise.
+     * @see BitSet#contains(BitSet)
      */
     public final boolean include(final BitVector vector) {
-        final BitVector copy = new BitVector(this);
-        copy.or(vector);
-        return copy.equals(this);
+        return this.contains(vector);
     }
 
     /**
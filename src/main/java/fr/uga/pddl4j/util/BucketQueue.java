@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * This class implements a priority queue of integers with small positive integer keys. The values are stored in
+ * buckets indexed by a primary key <code>f</code> and a secondary key <code>h</code>: the value polled is taken from
+ * the non-empty bucket with the lowest <code>f</code> and then the lowest <code>h</code>. The values of a bucket are
+ * polled in last in first out or first in first out order. Adding a value is done in constant time and polling a value
+ * in constant amortized time when the keys polled do not decrease, which is the case for the <code>f = g + h</code>
+ * values of a best first search with a consistent heuristic.
+ * <p>
+ * The queue does not support the change of the key of a value: the value must be added again with its new key and the
+ * old entry skipped when it is polled.
+ * </p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class BucketQueue implements Serializable {
+
+    /**
+     * The initial capacity of a bucket.
+     */
+    private static final int DEFAULT_BUCKET_CAPACITY = 8;
+
+    /**
+     * <code>true</code> if the values of a bucket are polled in last in first out order.
+     */
+    private final boolean lifo;
+
+    /**
+     * The buckets of the values indexed by the primary and the secondary keys.
+     */
+    private Bucket[][] buckets;
+
+    /**
+     * The number of values of each primary key.
+     */
+    private int[] sizes;
+
+    /**
+     * The lowest secondary key of the non-empty buckets of each primary key, or a lower bound of it.
+     */
+    private int[] first;
+
+    /**
+     * The lowest primary key of the non-empty buckets, or a lower bound of it.
+     */
+    private int min;
+
+    /**
+     * The number of values of the queue.
+     */
+    private int size;
+
+    /**
+     * The primary key of the last value polled.
+     */
+    private int polledPrimaryKey;
+
+    /**
+     * The secondary key of the last value polled.
+     */
+    private int polledSecondaryKey;
+
+    /**
+     * Creates a new empty queue.
+     *
+     * @param lifo <code>true</code> to poll the values with the same keys in last in first out order,
+     *             <code>false</code> to poll them in first in first out order.
+     */
+    public BucketQueue(final boolean lifo) {
+        this.lifo = lifo;
+        this.buckets = new Bucket[16][];
+        this.sizes = new int[16];
+        this.first = new int[16];
+        Arrays.fill(this.first, Integer.MAX_VALUE);
+        this.min = Integer.MAX_VALUE;
+        this.size = 0;
+        this.polledPrimaryKey = -1;
+        this.polledSecondaryKey = -1;
+    }
+
+    /**
+     * Returns the number of values of the queue.
+     *
+     * @return the number of values of the queue.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns <code>true</code> if the queue is empty.
+     *
+     * @return <code>true</code> if the queue is empty.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Adds a value to the queue.
+     *
+     * @param value the value.
+     * @param f     the primary key of the value.
+     * @param h     the secondary key of the value.
+     * @throws IllegalArgumentException if one of the keys is negative.
+     */
+    public void add(final int value, final int f, final int h) {
+        if (f < 0 || h < 0) {
+            throw new IllegalArgumentException("keys must be positive");
+        }
+        if (f >= this.buckets.length) {
+            final int length = Math.max(f + 1, this.buckets.length * 2);
+            this.buckets = Arrays.copyOf(this.buckets, length);
+            this.sizes = Arrays.copyOf(this.sizes, length);
+            final int old = this.first.length;
+            this.first = Arrays.copyOf(this.first, length);
+            Arrays.fill(this.first, old, length, Integer.MAX_VALUE);
+        }
+        Bucket[] level = this.buckets[f];
+        if (level == null) {
+            level = new Bucket[Math.max(h + 1, 16)];
+            this.buckets[f] = level;
+        } else if (h >= level.length) {
+            level = Arrays.copyOf(level, Math.max(h + 1, level.length * 2));
+            this.buckets[f] = level;
+        }
+        Bucket bucket = level[h];
+        if (bucket == null) {
+            bucket = new Bucket();
+            level[h] = bucket;
+        }
+        bucket.add(value);
+        this.sizes[f]++;
+        this.size++;
+        if (h < this.first[f]) {
+            this.first[f] = h;
+        }
+        if (f < this.min) {
+            this.min = f;
+        }
+    }
+
+    /**
+     * Removes and returns a value with the lowest keys.
+     *
+     * @return the value polled or -1 if the queue is empty.
+     */
+    public int poll() {
+        if (this.size == 0) {
+            return -1;
+        }
+        int f = this.min;
+        while (this.sizes[f] == 0) {
+            f++;
+        }
+        this.min = f;
+        final Bucket[] level = this.buckets[f];
+        int h = this.first[f];
+        while (level[h] == null || level[h].size == 0) {
+            h++;
+        }
+        final int value = this.lifo ? level[h].pollLast() : level[h].pollFirst();
+        this.size--;
+        if (--this.sizes[f] == 0) {
+            this.first[f] = Integer.MAX_VALUE;
+        } else {
+            this.first[f] = h;
+        }
+        if (this.size == 0) {
+            this.min = Integer.MAX_VALUE;
+        }
+        this.polledPrimaryKey = f;
+        this.polledSecondaryKey = h;
+        return value;
+    }
+
+    /**
+     * Returns the primary key of the last value polled.
+     *
+     * @return the primary key of the last value polled or -1 if no value was polled.
+     */
+    public int getPolledPrimaryKey() {
+        return this.polledPrimaryKey;
+    }
+
+    /**
+     * Returns the secondary key of the last value polled.
+     *
+     * @return the secondary key of the last value polled or -1 if no value was polled.
+     */
+    public int getPolledSecondaryKey() {
+        return this.polledSecondaryKey;
+    }
+
+    /**
+     * Removes all the values of the queue. The buckets are kept to be reused.
+     */
+    public void clear() {
+        for (Bucket[] level : this.buckets) {
+            if (level != null) {
+                for (Bucket bucket : level) {
+                    if (bucket != null) {
+                        bucket.head = 0;
+                        bucket.size = 0;
+                    }
+                }
+            }
+        }
+        Arrays.fill(this.sizes, 0);
+        Arrays.fill(this.first, Integer.MAX_VALUE);
+        this.min = Integer.MAX_VALUE;
+        this.size = 0;
+    }
+
+    /**
+     * This class implements a bucket, i.e., a circular array of values that can be polled at both ends.
+     */
+    private static final class Bucket implements Serializable {
+
+        /**
+         * The values of the bucket. The length of the array is a power of two.
+         */
+        private int[] values;
+
+        /**
+         * The index of the first value.
+         */
+        private int head;
+
+        /**
+         * The number of values.
+         */
+        private int size;
+
+        /**
+         * Creates a new empty bucket.
+         */
+        private Bucket() {
+            this.values = new int[BucketQueue.DEFAULT_BUCKET_CAPACITY];
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Adds a value at the end of the bucket.
+         *
+         * @param value the value.
+         */
+        private void add(final int value) {
+            if (this.size == this.values.length) {
+                final int[] array = new int[this.values.length * 2];
+                for (int i = 0; i < this.size; i++) {
+                    array[i] = this.values[(this.head + i) & (this.values.length - 1)];
+                }
+                this.values = array;
+                this.head = 0;
+            }
+            this.values[(this.head + this.size) & (this.values.length - 1)] = value;
+            this.size++;
+        }
+
+        /**
+         * Removes and returns the first value of the bucket. The bucket must not be empty.
+         *
+         * @return the first value of the bucket.
+         */
+        private int pollFirst() {
+            final int value = this.values[this.head];
+            this.head = (this.head + 1) & (this.values.length - 1);
+            this.size--;
+            return value;
+        }
+
+        /**
+         * Removes and returns the last value of the bucket. The bucket must not be empty.
+         *
+         * @return the last value of the bucket.
+         */
+        private int pollLast() {
+            this.size--;
+            return this.values[(this.head + this.size) & (this.values.length - 1)];
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.util;
+
+import java.util.Arrays;
+
+/**
+ * This class implements an open addressing index with linear probing from the 64-bit fingerprints of keys to their
+ * handles. The handles are numbered from 0 in the order in which the keys are added and the index keeps the
+ * fingerprint of each handle. The keys themselves are stored by the owner of the index: the index only compares the
+ * keys whose fingerprints are equal, with the matcher given at its creation. The index is rehashed when it is half
+ * full, so that a lookup probes a few cells on average.
+ * <p>
+ * The index is not thread safe.
+ * </p>
+ *
+ * @param <T> the type of the keys.
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class FingerprintIndex<T> {
+
+    /**
+     * The handle returned when a key is not in the index. It is also the value of the empty cells of the index.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * This interface defines the comparison of a key with the key of a handle, used when their fingerprints are equal.
+     *
+     * @param <T> the type of the keys.
+     */
+    @FunctionalInterface
+    public interface Matcher<T> {
+
+        /**
+         * Returns <code>true</code> if the key of a specified handle is equal to a key.
+         *
+         * @param handle the handle.
+         * @param key    the key.
+         * @return <code>true</code> if the key of the handle is equal to the key; <code>false</code> otherwise.
+         */
+        boolean matches(int handle, T key);
+    }
+
+    /**
+     * The matcher used to compare the keys.
+     */
+    private final Matcher<T> matcher;
+
+    /**
+     * The fingerprint of each handle.
+     */
+    private long[] fingerprints;
+
+    /**
+     * The cells of the index. A cell holds a handle or {@link #NONE}.
+     */
+    private int[] cells;
+
+    /**
+     * The number of handles of the index.
+     */
+    private int size;
+
+    /**
+     * Creates a new empty index.
+     *
+     * @param capacity the initial number of handles of the index. The capacity must be a strictly positive power of
+     *                 two.
+     * @param matcher  the matcher used to compare the keys whose fingerprints are equal.
+     * @throws IllegalArgumentException if the capacity is not a strictly positive power of two.
+     */
+    public FingerprintIndex(final int capacity, final Matcher<T> matcher) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Invalid capacity of fingerprint index");
+        }
+        this.matcher = matcher;
+        this.fingerprints = new long[capacity];
+        this.cells = new int[2 * capacity];
+        Arrays.fill(this.cells, FingerprintIndex.NONE);
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of handles of the index.
+     *
+     * @return the number of handles of the index.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the fingerprint of a specified handle.
+     *
+     * @param handle the handle.
+     * @return the fingerprint of the handle.
+     */
+    public long getFingerprint(final int handle) {
+        return this.fingerprints[handle];
+    }
+
+    /**
+     * Returns the number of bytes allocated by the index: the fingerprints and the cells.
+     *
+     * @return the number of bytes allocated by the index.
+     */
+    public long getMemoryUsed() {
+        return (long) this.fingerprints.length * Long.BYTES + (long) this.cells.length * Integer.BYTES;
+    }
+
+    /**
+     * Returns the handle of a key or {@link #NONE} if the key is not in the index.
+     *
+     * @param fingerprint the fingerprint of the key.
+     * @param key         the key.
+     * @return the handle of the key or {@link #NONE}.
+     */
+    public int find(final long fingerprint, final T key) {
+        final int mask = this.cells.length - 1;
+        int i = FingerprintIndex.position(fingerprint, mask);
+        int handle;
+        while ((handle = this.cells[i]) != FingerprintIndex.NONE) {
+            if (this.fingerprints[handle] == fingerprint && this.matcher.matches(handle, key)) {
+                return handle;
+            }
+            i = (i + 1) & mask;
+        }
+        return FingerprintIndex.NONE;
+    }
+
+    /**
+     * Adds a key to the index if it is not already in the index. The key is looked up and added with a single probe
+     * sequence. As for {@link Arrays#binarySearch(int[], int)}, the result tells whether the key was added: it is the
+     * handle of the key if the key was already in the index and <code>-(handle + 1)</code> otherwise, where
+     * <code>handle</code> is the new handle of the key, i.e., the size of the index before the key was added. The
+     * owner of the index must store the key of the new handle.
+     *
+     * @param fingerprint the fingerprint of the key.
+     * @param key         the key.
+     * @return the handle of the key if the key was already in the index and <code>-(handle + 1)</code> otherwise.
+     */
+    public int add(final long fingerprint, final T key) {
+        final int mask = this.cells.length - 1;
+        int i = FingerprintIndex.position(fingerprint, mask);
+        int handle;
+        while ((handle = this.cells[i]) != FingerprintIndex.NONE) {
+            if (this.fingerprints[handle] == fingerprint && this.matcher.matches(handle, key)) {
+                return handle;
+            }
+            i = (i + 1) & mask;
+        }
+        handle = this.size++;
+        if (handle == this.fingerprints.length) {
+            this.fingerprints = Arrays.copyOf(this.fingerprints, handle * 2);
+        }
+        this.fingerprints[handle] = fingerprint;
+        this.cells[i] = handle;
+        if (this.size << 1 > this.cells.length) {
+            this.rehash();
+        }
+        return -(handle + 1);
+    }
+
+    /**
+     * Doubles the number of cells of the index.
+     */
+    private void rehash() {
+        final int[] table = new int[this.cells.length * 2];
+        Arrays.fill(table, FingerprintIndex.NONE);
+        final int mask = table.length - 1;
+        for (int handle = 0; handle < this.size; handle++) {
+            int i = FingerprintIndex.position(this.fingerprints[handle], mask);
+            while (table[i] != FingerprintIndex.NONE) {
+                i = (i + 1) & mask;
+            }
+            table[i] = handle;
+        }
+        this.cells = table;
+    }
+
+    /**
+     * Returns the position of a fingerprint in the cells of the index.
+     *
+     * @param fingerprint the fingerprint.
+     * @param mask        the mask of the cells of the index.
+     * @return the position of the fingerprint in the cells of the index.
+     */
+    private static int position(final long fingerprint, final int mask) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+}
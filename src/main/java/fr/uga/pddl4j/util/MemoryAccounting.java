@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDDL4J.  If not, see <http://www.gnu.org/licenses/>
+ */
+package fr.uga.pddl4j.util;
+
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * This class implements the analytic memory accounting of the planners. The sizes of the objects are computed from
+ * the number of their fields and the lengths of their arrays with the layout of a 64-bit JVM with compressed ordinary
+ * object pointers: a 12 bytes object header, a 16 bytes array header, 4 bytes references and a 8 bytes alignment. The
+ * memory used by a structure is then the number of its records times the size of a record, which is computed in
+ * constant time, instead of a reflective walk of the whole object graph.
+ * <p>
+ * The exact measure of JOL can still be used to check the accounting by setting the system property
+ * {@value #JOL_PROPERTY} to <code>true</code>, e.g., <code>-Dpddl4j.memory.jol=true</code>.
+ * </p>
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+public final class MemoryAccounting {
+
+    /**
+     * The system property used to measure the memory with JOL instead of the analytic accounting.
+     */
+    public static final String JOL_PROPERTY = "pddl4j.memory.jol";
+
+    /**
+     * The size in bytes of the header of an object.
+     */
+    public static final int OBJECT_HEADER = 12;
+
+    /**
+     * The size in bytes of the header of an array.
+     */
+    public static final int ARRAY_HEADER = 16;
+
+    /**
+     * The size in bytes of a reference.
+     */
+    public static final int REFERENCE = 4;
+
+    /**
+     * The alignment in bytes of the objects.
+     */
+    public static final int ALIGNMENT = 8;
+
+    /**
+     * The size in bytes of the fields of a {@link BitSet}: the reference to its words, the number of words in use and
+     * the sticky size flag.
+     */
+    public static final int BIT_SET_FIELDS = MemoryAccounting.REFERENCE + Integer.BYTES + 1;
+
+    /**
+     * Creates a new memory accounting. This class cannot be instantiated.
+     */
+    private MemoryAccounting() {
+    }
+
+    /**
+     * Returns <code>true</code> if the memory is measured with JOL, i.e., if the system property
+     * {@value #JOL_PROPERTY} is set to <code>true</code>.
+     *
+     * @return <code>true</code> if the memory is measured with JOL.
+     */
+    public static boolean isJolEnabled() {
+        return Boolean.getBoolean(MemoryAccounting.JOL_PROPERTY);
+    }
+
+    /**
+     * Returns the memory used by an object graph: the measure of JOL if it is enabled and the analytic estimate
+     * otherwise.
+     *
+     * @param estimate the analytic estimate of the memory used by the object graph in bytes.
+     * @param roots    the roots of the object graph.
+     * @return the memory used by the object graph in bytes.
+     */
+    public static long measure(final long estimate, final Object... roots) {
+        return MemoryAccounting.isJolEnabled() ? GraphLayout.parseInstance(roots).totalSize() : estimate;
+    }
+
+    /**
+     * Aligns a size in bytes on the alignment of the objects.
+     *
+     * @param size the size in bytes.
+     * @return the aligned size in bytes.
+     */
+    public static long align(final long size) {
+        return (size + MemoryAccounting.ALIGNMENT - 1) & -MemoryAccounting.ALIGNMENT;
+    }
+
+    /**
+     * Returns the size of an object from the size of its fields.
+     *
+     * @param fields the size in bytes of the fields of the object.
+     * @return the size of the object in bytes.
+     */
+    public static long objectSize(final long fields) {
+        return MemoryAccounting.align(MemoryAccounting.OBJECT_HEADER + fields);
+    }
+
+    /**
+     * Returns the size of an array.
+     *
+     * @param length  the length of the array.
+     * @param element the size in bytes of an element of the array.
+     * @return the size of the array in bytes.
+     */
+    public static long arraySize(final long length, final int element) {
+        return MemoryAccounting.align(MemoryAccounting.ARRAY_HEADER + length * element);
+    }
+
+    /**
+     * Returns the size of a bit set, i.e., the size of the object and of its array of words.
+     *
+     * @param words the number of words of the bit set.
+     * @return the size of the bit set in bytes.
+     */
+    public static long bitSetSize(final int words) {
+        return MemoryAccounting.objectSize(MemoryAccounting.BIT_SET_FIELDS) + MemoryAccounting.arraySize(words,
+            Long.BYTES);
+    }
+
+    /**
+     * Returns the size of a bit set.
+     *
+     * @param set the bit set.
+     * @return the size of the bit set in bytes.
+     */
+    public static long bitSetSize(final BitSet set) {
+        return MemoryAccounting.bitSetSize(set.size() / Long.SIZE);
+    }
+
+    /**
+     * Returns the size of an <code>ArrayList</code> without its elements: the list object and its array of
+     * references.
+     *
+     * @param size the number of elements of the list.
+     * @return the size of the list in bytes.
+     */
+    public static long listSize(final int size) {
+        return MemoryAccounting.objectSize(2 * Integer.BYTES + MemoryAccounting.REFERENCE)
+            + MemoryAccounting.arraySize(size, MemoryAccounting.REFERENCE);
+    }
+
+    /**
+     * Returns the size of the entries of a <code>HashMap</code> or a <code>HashSet</code> without its keys and
+     * values: the entry objects and the table with the default load factor.
+     *
+     * @param size the number of entries of the map.
+     * @return the size of the entries of the map in bytes.
+     */
+    public static long hashEntriesSize(final int size) {
+        final long entry = MemoryAccounting.objectSize(Integer.BYTES + 3 * MemoryAccounting.REFERENCE);
+        final long table = Math.max(16, Long.highestOneBit(Math.max(1, (long) (size / 0.75f)) * 2 - 1));
+        return size * entry + MemoryAccounting.arraySize(table, MemoryAccounting.REFERENCE);
+    }
+
+    /**
+     * Returns the size of the entries of a <code>LinkedList</code> without its elements.
+     *
+     * @param size the number of elements of the list.
+     * @return the size of the entries of the list in bytes.
+     */
+    public static long linkedEntriesSize(final int size) {
+        return size * MemoryAccounting.objectSize(3 * MemoryAccounting.REFERENCE);
+    }
+}
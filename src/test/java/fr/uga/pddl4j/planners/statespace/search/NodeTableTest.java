@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.planners.statespace.search;
+
+import fr.uga.pddl4j.problem.State;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Implements the tests of the search spaces of the best first search strategies, {@link NodeTable} and
+ * {@link NodeArena}, with each implementation of the open list. The tests are in the package of the search spaces
+ * since the search spaces are not public.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class NodeTableTest {
+
+    /**
+     * The number of fluents of the states.
+     */
+    private static final int FLUENTS = 64;
+
+    /**
+     * The number of nodes of the random tests.
+     */
+    private static final int NODES = 3000;
+
+    /**
+     * The seed of the random tests.
+     */
+    private static final long SEED = 0;
+
+    /**
+     * Returns a search space of each kind for each implementation of the open list.
+     *
+     * @param weight the weight of the heuristic.
+     * @param greedy <code>true</code> to order the open list by the heuristic values only.
+     * @return the search spaces.
+     */
+    private static List<AbstractNodeTable> tables(final double weight, final boolean greedy) {
+        final List<AbstractNodeTable> tables = new ArrayList<>();
+        for (StateSpaceSearch.OpenList list : StateSpaceSearch.OpenList.values()) {
+            tables.add(new NodeTable(weight, greedy, list));
+            tables.add(new NodeArena(NodeTableTest.FLUENTS, weight, greedy, list));
+        }
+        return tables;
+    }
+
+    /**
+     * Returns a distinct state for each index.
+     *
+     * @param index the index of the state.
+     * @return the state of the index.
+     */
+    private static State state(final int index) {
+        final State state = new State();
+        for (int i = index, f = 0; i != 0; i >>>= 1, f++) {
+            if ((i & 1) != 0) {
+                state.set(f);
+            }
+        }
+        state.set(NodeTableTest.FLUENTS - 1);
+        return state;
+    }
+
+    /**
+     * Returns a message describing a search space.
+     *
+     * @param table the search space.
+     * @return the message describing the search space.
+     */
+    private static String name(final AbstractNodeTable table) {
+        return table.getClass().getSimpleName();
+    }
+
+    /**
+     * Checks that the nodes are created in order, once per state, with the status created and without parent.
+     */
+    @Test
+    public void testIntern() {
+        for (AbstractNodeTable table : NodeTableTest.tables(1.0, false)) {
+            for (int i = 0; i < 100; i++) {
+                final int node = table.intern(NodeTableTest.state(i));
+                Assert.assertEquals(NodeTableTest.name(table), i, node);
+                Assert.assertEquals(AbstractNodeTable.CREATED, table.getStatus(node));
+                Assert.assertEquals(-1, table.getParent(node));
+                Assert.assertEquals(-1, table.getAction(node));
+            }
+            for (int i = 0; i < 100; i++) {
+                Assert.assertEquals(NodeTableTest.name(table), i, table.intern(NodeTableTest.state(i)));
+                Assert.assertEquals(NodeTableTest.state(i), table.getState(i, new State()));
+            }
+            Assert.assertEquals(100, table.size());
+            Assert.assertEquals(0, table.getOpenSize());
+        }
+    }
+
+    /**
+     * Checks that the nodes are popped by increasing <code>f</code> and then <code>h</code> values after random
+     * pushes and decreases of the cost of the pending nodes.
+     */
+    @Test
+    public void testPopOrder() {
+        for (AbstractNodeTable table : NodeTableTest.tables(1.0, false)) {
+            final Random random = new Random(NodeTableTest.SEED);
+            for (int i = 0; i < NodeTableTest.NODES; i++) {
+                final int node = table.intern(NodeTableTest.state(i));
+                table.set(node, random.nextInt(100), -1, -1);
+                table.setHeuristic(node, random.nextInt(50));
+                table.push(node);
+            }
+            for (int node = 0; node < NodeTableTest.NODES; node += 3) {
+                table.set(node, Math.max(0, table.getCost(node) - random.nextInt(50)), -1, -1);
+                table.push(node);
+            }
+            Assert.assertEquals(NodeTableTest.name(table), NodeTableTest.NODES, table.getOpenSize());
+            final boolean[] popped = new boolean[NodeTableTest.NODES];
+            double f = Double.NEGATIVE_INFINITY;
+            double h = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < NodeTableTest.NODES; i++) {
+                final int node = table.pop();
+                Assert.assertFalse(NodeTableTest.name(table), popped[node]);
+                popped[node] = true;
+                Assert.assertEquals(AbstractNodeTable.CLOSED, table.getStatus(node));
+                final double nf = table.getCost(node) + table.getHeuristic(node);
+                final double nh = table.getHeuristic(node);
+                Assert.assertTrue(NodeTableTest.name(table), nf > f || nf == f && nh >= h);
+                f = nf;
+                h = nh;
+            }
+            Assert.assertEquals(-1, table.pop());
+            Assert.assertEquals(0, table.getOpenSize());
+        }
+    }
+
+    /**
+     * Checks that the open list is ordered by the heuristic values only in a greedy search.
+     */
+    @Test
+    public void testPopOrderGreedy() {
+        for (AbstractNodeTable table : NodeTableTest.tables(1.0, true)) {
+            final Random random = new Random(NodeTableTest.SEED);
+            for (int i = 0; i < NodeTableTest.NODES; i++) {
+                final int node = table.intern(NodeTableTest.state(i));
+                table.set(node, random.nextInt(100), -1, -1);
+                table.setHeuristic(node, random.nextInt(50));
+                table.push(node);
+            }
+            double h = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < NodeTableTest.NODES; i++) {
+                final int node = table.pop();
+                Assert.assertTrue(NodeTableTest.name(table), table.getHeuristic(node) >= h);
+                h = table.getHeuristic(node);
+            }
+            Assert.assertEquals(-1, table.pop());
+        }
+    }
+
+    /**
+     * Checks that a closed node pushed again with a lower cost is reopened and popped again.
+     */
+    @Test
+    public void testReopen() {
+        for (AbstractNodeTable table : NodeTableTest.tables(1.0, false)) {
+            final int a = table.intern(NodeTableTest.state(0));
+            final int b = table.intern(NodeTableTest.state(1));
+            table.set(a, 5, -1, -1);
+            table.setHeuristic(a, 0);
+            table.push(a);
+            table.set(b, 6, -1, -1);
+            table.setHeuristic(b, 0);
+            table.push(b);
+            Assert.assertEquals(NodeTableTest.name(table), a, table.pop());
+            table.set(a, 2, b, 0);
+            table.push(a);
+            Assert.assertEquals(AbstractNodeTable.OPENED, table.getStatus(a));
+            Assert.assertEquals(2, table.getOpenSize());
+            Assert.assertEquals(NodeTableTest.name(table), a, table.pop());
+            Assert.assertEquals(2.0, table.getCost(a), 0.0);
+            Assert.assertEquals(b, table.getParent(a));
+            Assert.assertEquals(NodeTableTest.name(table), b, table.pop());
+            Assert.assertEquals(-1, table.pop());
+        }
+    }
+
+    /**
+     * Checks that a node closed without being pushed is never popped and that the bucket queues close the dead ends
+     * instead of pushing them.
+     */
+    @Test
+    public void testClose() {
+        for (AbstractNodeTable table : NodeTableTest.tables(1.0, false)) {
+            final int a = table.intern(NodeTableTest.state(0));
+            final int b = table.intern(NodeTableTest.state(1));
+            table.close(a);
+            Assert.assertEquals(AbstractNodeTable.CLOSED, table.getStatus(a));
+            table.set(b, 0, -1, -1);
+            table.setHeuristic(b, 1);
+            table.push(b);
+            Assert.assertEquals(NodeTableTest.name(table), b, table.pop());
+            Assert.assertEquals(-1, table.pop());
+        }
+        for (StateSpaceSearch.OpenList list : StateSpaceSearch.OpenList.values()) {
+            if (list != StateSpaceSearch.OpenList.HEAP) {
+                final AbstractNodeTable table = new NodeTable(1.0, false, list);
+                final int a = table.intern(NodeTableTest.state(0));
+                table.set(a, 0, -1, -1);
+                table.setHeuristic(a, Integer.MAX_VALUE);
+                table.push(a);
+                Assert.assertEquals(list.toString(), AbstractNodeTable.CLOSED, table.getStatus(a));
+                Assert.assertEquals(0, table.getOpenSize());
+                Assert.assertEquals(-1, table.pop());
+            }
+        }
+    }
+
+    /**
+     * Checks that the solution node of a node has the chain of states, actions, costs and depths of its ancestors.
+     */
+    @Test
+    public void testToNode() {
+        for (AbstractNodeTable table : NodeTableTest.tables(1.0, false)) {
+            final int length = 10;
+            int parent = -1;
+            for (int i = 0; i < length; i++) {
+                final int node = table.intern(NodeTableTest.state(i));
+                table.set(node, 2 * i, parent, parent == -1 ? -1 : i);
+                table.setHeuristic(node, length - i);
+                parent = node;
+            }
+            Assert.assertEquals(length - 1, table.getDepth(parent));
+            Node solution = table.toNode(parent);
+            for (int i = length - 1; i >= 0; i--) {
+                Assert.assertNotNull(NodeTableTest.name(table), solution);
+                Assert.assertEquals(NodeTableTest.state(i), solution);
+                Assert.assertEquals(i == 0 ? -1 : i, solution.getAction());
+                Assert.assertEquals(2.0 * i, solution.getCost(), 0.0);
+                Assert.assertEquals(length - i, solution.getHeuristic(), 0.0);
+                Assert.assertEquals(i, solution.getDepth());
+                solution = solution.getParent();
+            }
+            Assert.assertNull(solution);
+            Assert.assertNull(table.toNode(-1));
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -284,6 +285,119 @@ public abstract class Tools {
         }
     }
 
+    /**
+     * Solves the first problems of a specified directory with a specified planner configuration. Unlike
+     * {@link #solve(String, String, Planner.Name, PlannerConfiguration)}, the test fails if no plan is found for one of
+     * the problems. The plans found are checked with the validator.
+     *
+     * @param path the current sub dir to test
+     * @param extension the file extension .pddl ou .hddl
+     * @param name the name of the planner to used.
+     * @param config the planner configuration to use to solve problems.
+     * @param problems the number of problems to solve.
+     * @return the costs of the plans found.
+     * @throws Exception if something went wrong.
+     */
+    public static double[] solve(String path, String extension, Planner.Name name, PlannerConfiguration config,
+                                 int problems) throws Exception {
+        return Tools.solve(path, extension, name, config, problems, false);
+    }
+
+    /**
+     * Solves the first problems of a specified directory with a specified planner configuration. The test fails if no
+     * plan is found for one of the problems. The plans found are checked with the validator and, if requested, the
+     * cost of each PDDL plan must be equal to the value of the metric of the problem computed by the validator.
+     *
+     * @param path the current sub dir to test
+     * @param extension the file extension .pddl ou .hddl
+     * @param name the name of the planner to used.
+     * @param config the planner configuration to use to solve problems.
+     * @param problems the number of problems to solve.
+     * @param checkCosts <code>true</code> to check the costs of the plans with the validator.
+     * @return the costs of the plans found.
+     * @throws Exception if something went wrong.
+     */
+    public static double[] solve(String path, String extension, Planner.Name name, PlannerConfiguration config,
+                                 int problems, boolean checkCosts) throws Exception {
+        Tools.cleanValPlan(path);
+        final String domain = path + "domain" + extension;
+        final File[] files = new File(path)
+            .listFiles((dir, pb) -> pb.startsWith("p") && pb.endsWith(extension) && !pb.contains("dom"));
+        Assert.assertNotNull(files);
+        Arrays.sort(files);
+        final double[] costs = new double[Math.min(files.length, problems)];
+        for (int i = 0; i < costs.length; i++) {
+            final String problem = files[i].getPath();
+            config.setProperty(Planner.DOMAIN_SETTING, domain);
+            config.setProperty(Planner.PROBLEM_SETTING, problem);
+            final Planner planner = Planner.getInstance(name, config);
+            final Problem pb = planner.instantiate(planner.parse(domain, problem));
+            final Plan plan = planner.solve(pb);
+            Assert.assertNotNull("no plan found for " + problem, plan);
+            costs[i] = plan.cost();
+            final String valfile = problem.substring(0, problem.length() - extension.length()) + Tools.VAL_EXT;
+            try (BufferedWriter bw = Files.newBufferedWriter(Paths.get(valfile))) {
+                if (extension.equals(Tools.PDDL_EXT)) {
+                    bw.write(pb.toString(plan));
+                } else {
+                    bw.write(pb.toString(plan.getHierarchy()));
+                }
+            }
+            if (checkCosts && extension.equals(Tools.PDDL_EXT)) {
+                Assert.assertEquals("cost of the plan of " + problem, costs[i],
+                    Tools.getValidatedPlanValue(domain, problem, valfile), 1e-9);
+            }
+        }
+        Tools.checkPlanValidity(path, extension);
+        return costs;
+    }
+
+    /**
+     * Returns the command line used to run a validator on a plan.
+     *
+     * @param validator the path of the validator without the suffix of the operating system.
+     * @param domain the domain file.
+     * @param problem the problem file.
+     * @param plan the plan file.
+     * @return the command line used to run the validator.
+     */
+    private static String getValidatorCommand(String validator, String domain, String problem, String plan) {
+        final String suffix;
+        if (isWindows()) {
+            suffix = "-win.exe";
+        } else if (isMac()) {
+            suffix = "-osx";
+        } else {
+            suffix = "-nux";
+        }
+        return validator + suffix + " -v " + domain + " " + problem + " " + plan;
+    }
+
+    /**
+     * Returns the value of the metric of a PDDL problem computed by the validator for a valid plan.
+     *
+     * @param domain the domain file.
+     * @param problem the problem file.
+     * @param plan the plan file.
+     * @return the value of the metric or <code>Double.NaN</code> if the plan is not valid.
+     * @throws Exception if something went wrong.
+     */
+    public static double getValidatedPlanValue(String domain, String problem, String plan) throws Exception {
+        final Process proc = Runtime.getRuntime().exec(Tools.getValidatorCommand(Tools.PDDL_VAL, domain, problem,
+            plan));
+        final StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(proc.getInputStream(),
+            StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append("\n");
+            }
+        }
+        proc.waitFor();
+        final Matcher m = Pattern.compile("Plan valid\\s+Final value: (\\S+)").matcher(output);
+        return m.find() ? Double.parseDouble(m.group(1)) : Double.NaN;
+    }
+
     /**
      * Check plan validity.
      *
@@ -308,14 +422,7 @@ public abstract class Tools {
             int number = 0;
             for (File valfile : files) {
                 final String problem = currentTestPath + Tools.removeExtension(valfile.getName()) + extension;
-                String target;
-                if (isWindows()) {
-                    target = validator + "-win.exe -v " + domain + " " + problem + " " + valfile;
-                } else if (isMac()) {
-                    target = validator + "-osx -v " + domain + " " + problem + " " + valfile;
-                } else {
-                    target = validator + "-nux -v " + domain + " " + problem + " " + valfile;
-                }
+                final String target = Tools.getValidatorCommand(validator, domain, problem, valfile.getPath());
                 final Runtime rt = Runtime.getRuntime();
                 final Process proc = rt.exec(target);
                 proc.waitFor();
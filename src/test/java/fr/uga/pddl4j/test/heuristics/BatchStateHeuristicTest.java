@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.heuristics;
+
+import fr.uga.pddl4j.heuristics.state.Max;
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.heuristics.state.Sum;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.test.Tools;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Implements the tests of the evaluation of the heuristics by batches of states. The values of the states of random
+ * walks from the initial state of IPC problems computed with the bit-sliced expansion of the relaxed planning graph
+ * must be equal to the values computed state by state. The batches tested contain 1, 63, 64 and more than 64 states,
+ * so that the last word of the bit-sliced expansion is tested full and partially filled. The IPC benchmarks used for
+ * testing are available in <code>test/ressources/benchmarks</code> directory.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BatchStateHeuristicTest {
+
+    /**
+     * The number of problems tested in each benchmark directory.
+     */
+    private static final int NUMBER_OF_PROBLEMS = 3;
+
+    /**
+     * The number of random walks done from the initial state of each problem.
+     */
+    private static final int NUMBER_OF_WALKS = 10;
+
+    /**
+     * The length of the random walks.
+     */
+    private static final int LENGTH_OF_WALKS = 30;
+
+    /**
+     * The sizes of the batches tested.
+     */
+    private static final int[] BATCH_SIZES = {1, 63, 64, 65, 130, 200};
+
+    /**
+     * The seed of the random walks.
+     */
+    private static final long SEED = 0;
+
+    /**
+     * Compares the batch and the scalar evaluations of the Sum and Max heuristics in the states of random walks for
+     * the first problems of a benchmark directory.
+     *
+     * @param path the path of the benchmark directory.
+     */
+    private static void compare(final String path) {
+        Assert.assertTrue("missing benchmark [directory: " + path + "] test skipped !", Tools.isBenchmarkExist(path));
+        final File[] files = new File(path).listFiles((dir, name) -> name.startsWith("p")
+            && name.endsWith(Tools.PDDL_EXT));
+        Assert.assertNotNull(files);
+        Arrays.sort(files);
+        for (int i = 0; i < Math.min(files.length, BatchStateHeuristicTest.NUMBER_OF_PROBLEMS); i++) {
+            final Problem problem = Tools.generateCodedProblem(path + Tools.PDDL_DOMAIN, files[i].getPath());
+            Assert.assertNotNull("problem not parsed: " + files[i], problem);
+            problem.instantiate();
+            final List<State> states = BatchStateHeuristicTest.walk(problem);
+            final StateHeuristic[] heuristics = {new Sum(problem), new Max(problem)};
+            for (StateHeuristic heuristic : heuristics) {
+                BatchStateHeuristicTest.compare(states, problem.getGoal(), heuristic,
+                    files[i].getName() + " " + heuristic.getClass().getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * Compares the batch and the scalar evaluations of a heuristic for batches of several sizes taken from a list of
+     * states. The states are taken in turn from the list so that each batch is made of different states.
+     *
+     * @param states    the states.
+     * @param goal      the goal.
+     * @param heuristic the heuristic.
+     * @param message   the message printed if the test fails.
+     */
+    private static void compare(final List<State> states, final Condition goal, final StateHeuristic heuristic,
+                                final String message) {
+        final int[] expected = new int[states.size()];
+        for (int s = 0; s < states.size(); s++) {
+            expected[s] = heuristic.estimate(states.get(s), goal);
+        }
+        int next = 0;
+        for (int size : BatchStateHeuristicTest.BATCH_SIZES) {
+            final List<State> batch = new ArrayList<>(size);
+            final int[] indexes = new int[size];
+            for (int s = 0; s < size; s++) {
+                indexes[s] = next;
+                batch.add(states.get(next));
+                next = (next + 1) % states.size();
+            }
+            final int[] values = new int[size];
+            heuristic.estimate(batch, goal, values);
+            for (int s = 0; s < size; s++) {
+                Assert.assertEquals(message + " batch " + size + " state " + indexes[s], expected[indexes[s]],
+                    values[s]);
+            }
+        }
+    }
+
+    /**
+     * Returns the states of random walks from the initial state of a problem.
+     *
+     * @param problem the problem.
+     * @return the states of the random walks.
+     */
+    private static List<State> walk(final Problem problem) {
+        final Random random = new Random(BatchStateHeuristicTest.SEED);
+        final List<State> states = new ArrayList<>();
+        for (int w = 0; w < BatchStateHeuristicTest.NUMBER_OF_WALKS; w++) {
+            State state = new State(problem.getInitialState());
+            states.add(state);
+            for (int l = 0; l < BatchStateHeuristicTest.LENGTH_OF_WALKS; l++) {
+                final int[] applicable = problem.getSuccessorGenerator().getApplicableActions(state);
+                if (applicable.length == 0) {
+                    break;
+                }
+                final Action action = problem.getActions().get(applicable[random.nextInt(applicable.length)]);
+                final State next = new State(state);
+                for (ConditionalEffect ce : action.getConditionalEffects()) {
+                    if (state.satisfy(ce.getCondition())) {
+                        next.apply(ce.getEffect());
+                    }
+                }
+                state = next;
+                states.add(state);
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Method that executes tests using IPC 1998 gripper ADL benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_BatchStateHeuristic_IPC1998_Gripper_ADL() throws Exception {
+        BatchStateHeuristicTest.compare(Tools.PDDL_BENCH_DIR + "ipc1998/gripper/adl" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Blocks STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_BatchStateHeuristic_IPC2000_Blocks_STRIPS_Typed() throws Exception {
+        BatchStateHeuristicTest.compare(Tools.PDDL_BENCH_DIR + "ipc2000/blocks/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Logistics STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_BatchStateHeuristic_IPC2000_Logistics_STRIPS_Typed() throws Exception {
+        BatchStateHeuristicTest.compare(Tools.PDDL_BENCH_DIR + "ipc2000/logistics/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2002 Depots STRIPS automatic benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_BatchStateHeuristic_IPC2002_Depots_STRIPS_Automatic() throws Exception {
+        BatchStateHeuristicTest.compare(Tools.PDDL_BENCH_DIR + "ipc2002/depots/strips-automatic" + File.separator);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.heuristics;
+
+import fr.uga.pddl4j.heuristics.state.FastForward;
+import fr.uga.pddl4j.heuristics.state.IncrementalStateHeuristic;
+import fr.uga.pddl4j.heuristics.state.Max;
+import fr.uga.pddl4j.heuristics.state.RelaxedGraphHeuristic;
+import fr.uga.pddl4j.heuristics.state.Sum;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.Condition;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.test.Tools;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Implements the tests of the incremental evaluation of the heuristics. In the states of random walks from the initial
+ * state of IPC problems, the value of every successor computed from the fixpoint of the relaxed planning graph of its
+ * parent must be equal to the value computed from scratch, and the fixpoint must be restored after each evaluation.
+ * The IPC benchmarks used for testing are available in <code>test/ressources/benchmarks</code> directory.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IncrementalStateHeuristicTest {
+
+    /**
+     * The number of problems tested in each benchmark directory.
+     */
+    private static final int NUMBER_OF_PROBLEMS = 3;
+
+    /**
+     * The number of random walks done from the initial state of each problem.
+     */
+    private static final int NUMBER_OF_WALKS = 10;
+
+    /**
+     * The length of the random walks.
+     */
+    private static final int LENGTH_OF_WALKS = 30;
+
+    /**
+     * The seed of the random walks.
+     */
+    private static final long SEED = 0;
+
+    /**
+     * Compares the incremental and the scalar evaluations of the Sum, Max and FastForward heuristics in the states of
+     * random walks for the first problems of a benchmark directory.
+     *
+     * @param path the path of the benchmark directory.
+     */
+    private static void compare(final String path) {
+        Assert.assertTrue("missing benchmark [directory: " + path + "] test skipped !", Tools.isBenchmarkExist(path));
+        final File[] files = new File(path).listFiles((dir, name) -> name.startsWith("p")
+            && name.endsWith(Tools.PDDL_EXT));
+        Assert.assertNotNull(files);
+        Arrays.sort(files);
+        for (int i = 0; i < Math.min(files.length, IncrementalStateHeuristicTest.NUMBER_OF_PROBLEMS); i++) {
+            final Problem problem = Tools.generateCodedProblem(path + Tools.PDDL_DOMAIN, files[i].getPath());
+            Assert.assertNotNull("problem not parsed: " + files[i], problem);
+            problem.instantiate();
+            final IncrementalStateHeuristic[] heuristics = {
+                new Sum(problem),
+                new Max(problem),
+                new FastForward(problem)
+            };
+            for (IncrementalStateHeuristic heuristic : heuristics) {
+                IncrementalStateHeuristicTest.compare(problem, heuristic,
+                    files[i].getName() + " " + heuristic.getClass().getSimpleName());
+            }
+        }
+    }
+
+    /**
+     * Compares the incremental and the scalar evaluations of a heuristic in the states of random walks of a problem.
+     * At each step of a walk, all the successors of the current state are evaluated from the same fixpoint, then the
+     * fixpoint is repaired for the successor randomly chosen.
+     *
+     * @param problem   the problem.
+     * @param heuristic the heuristic.
+     * @param message   the message printed if the test fails.
+     */
+    private static void compare(final Problem problem, final IncrementalStateHeuristic heuristic,
+                                final String message) {
+        final Random random = new Random(IncrementalStateHeuristicTest.SEED);
+        final Condition goal = problem.getGoal();
+        final RelaxedGraphHeuristic.Fixpoint fixpoint = heuristic.createFixpoint();
+        for (int w = 0; w < IncrementalStateHeuristicTest.NUMBER_OF_WALKS; w++) {
+            State parent = new State(problem.getInitialState());
+            heuristic.computeFixpoint(parent, fixpoint);
+            for (int l = 0; l < IncrementalStateHeuristicTest.LENGTH_OF_WALKS; l++) {
+                final String step = message + " walk " + w + " step " + l;
+                final int[] applicable = problem.getSuccessorGenerator().getApplicableActions(parent);
+                if (applicable.length == 0) {
+                    break;
+                }
+                for (int a : applicable) {
+                    final State child = IncrementalStateHeuristicTest.apply(parent, problem.getActions().get(a));
+                    Assert.assertEquals(step + " action " + a, heuristic.estimate(child, goal),
+                        heuristic.estimate(child, goal, parent, fixpoint));
+                }
+                // The fixpoint must still be the one of the parent once all its successors are evaluated
+                Assert.assertEquals(step + " fixpoint not restored", heuristic.estimate(parent, goal),
+                    heuristic.estimate(parent, goal, parent, fixpoint));
+                final State next = IncrementalStateHeuristicTest.apply(parent,
+                    problem.getActions().get(applicable[random.nextInt(applicable.length)]));
+                heuristic.repairFixpoint(parent, fixpoint, next);
+                parent = next;
+            }
+        }
+    }
+
+    /**
+     * Returns the state reached by applying an action in a state.
+     *
+     * @param state  the state.
+     * @param action the action.
+     * @return the successor state.
+     */
+    private static State apply(final State state, final Action action) {
+        final State next = new State(state);
+        for (ConditionalEffect ce : action.getConditionalEffects()) {
+            if (state.satisfy(ce.getCondition())) {
+                next.apply(ce.getEffect());
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Method that executes tests using IPC 1998 gripper ADL benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_IncrementalStateHeuristic_IPC1998_Gripper_ADL() throws Exception {
+        IncrementalStateHeuristicTest.compare(Tools.PDDL_BENCH_DIR + "ipc1998/gripper/adl" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Blocks STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_IncrementalStateHeuristic_IPC2000_Blocks_STRIPS_Typed() throws Exception {
+        IncrementalStateHeuristicTest.compare(Tools.PDDL_BENCH_DIR + "ipc2000/blocks/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Logistics STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_IncrementalStateHeuristic_IPC2000_Logistics_STRIPS_Typed() throws Exception {
+        IncrementalStateHeuristicTest.compare(Tools.PDDL_BENCH_DIR + "ipc2000/logistics/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2002 Depots STRIPS automatic benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_IncrementalStateHeuristic_IPC2002_Depots_STRIPS_Automatic() throws Exception {
+        final String path = Tools.PDDL_BENCH_DIR + "ipc2002/depots/strips-automatic" + File.separator;
+        IncrementalStateHeuristicTest.compare(path);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.heuristics;
+
+import fr.uga.pddl4j.heuristics.state.LandmarkCount;
+import fr.uga.pddl4j.heuristics.state.LandmarkGraph;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.test.Tools;
+import fr.uga.pddl4j.util.BitVector;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+
+/**
+ * Implements the tests of the extraction of the landmarks and of the landmark count heuristic. The benchmark used is a
+ * small keys domain in which a robot must pick up a key and unlock a room before entering it: the landmarks and their
+ * orderings are known and checked exactly. The estimates computed incrementally from the parent of each state along a
+ * plan must be equal to the estimates computed from scratch, and the estimates of a problem whose goal is unreachable
+ * must be <code>Integer.MAX_VALUE</code>.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class LandmarkGraphTest {
+
+    /**
+     * The path of the benchmark.
+     */
+    private static final String PATH = Tools.PDDL_BENCH_DIR + "landmarks/keys" + File.separator;
+
+    /**
+     * The landmarks of the first problem of the benchmark.
+     */
+    private static final String[] LANDMARKS = {"(at r2)", "(holding k)", "(unlocked r3)", "(at r3)"};
+
+    /**
+     * The landmarks ordered before each landmark of the first problem of the benchmark, indexed as the landmarks.
+     */
+    private static final int[][] ORDERINGS = {{}, {0}, {0, 1}, {0, 1, 2}};
+
+    /**
+     * The plan of the first problem of the benchmark.
+     */
+    private static final String[] PLAN = {"move r1 r2", "pick k r2", "unlock r2 r3 k", "move r2 r3"};
+
+    /**
+     * Returns the instantiated problem of a specified problem file of the benchmark.
+     *
+     * @param name the name of the problem file.
+     * @return the instantiated problem.
+     */
+    private static Problem instantiate(final String name) {
+        Assert.assertTrue("missing benchmark [directory: " + LandmarkGraphTest.PATH + "] test skipped !",
+            Tools.isBenchmarkExist(LandmarkGraphTest.PATH));
+        final Problem problem = Tools.generateCodedProblem(LandmarkGraphTest.PATH + Tools.PDDL_DOMAIN,
+            LandmarkGraphTest.PATH + name);
+        Assert.assertNotNull("problem not parsed: " + name, problem);
+        problem.instantiate();
+        return problem;
+    }
+
+    /**
+     * Returns the literal of a positive relevant fact of a problem.
+     *
+     * @param problem the problem.
+     * @param fluent  the string representation of the relevant fact.
+     * @return the literal of the relevant fact.
+     */
+    private static int getLiteral(final Problem problem, final String fluent) {
+        for (int p = 0; p < problem.getFluents().size(); p++) {
+            if (problem.toString(problem.getFluents().get(p)).equals(fluent)) {
+                return p;
+            }
+        }
+        Assert.fail("missing relevant fact: " + fluent);
+        return -1;
+    }
+
+    /**
+     * Returns the action of a problem with a specified name and parameters.
+     *
+     * @param problem the problem.
+     * @param action  the name and the parameters of the action.
+     * @return the action.
+     */
+    private static Action getAction(final Problem problem, final String action) {
+        for (Action a : problem.getActions()) {
+            if (problem.toShortString(a).equals(action)) {
+                return a;
+            }
+        }
+        Assert.fail("missing action: " + action);
+        return null;
+    }
+
+    /**
+     * Checks the landmarks and the orderings extracted from the first problem of the benchmark.
+     */
+    @Test
+    public void test_Landmarks_Extraction() {
+        final Problem problem = LandmarkGraphTest.instantiate("p01" + Tools.PDDL_EXT);
+        final LandmarkGraph graph = new LandmarkCount(problem).getLandmarkGraph();
+        Assert.assertTrue(graph.isReachable());
+        Assert.assertEquals(LandmarkGraphTest.LANDMARKS.length, graph.size());
+        final int[] landmarks = new int[LandmarkGraphTest.LANDMARKS.length];
+        for (int i = 0; i < landmarks.length; i++) {
+            final int literal = LandmarkGraphTest.getLiteral(problem, LandmarkGraphTest.LANDMARKS[i]);
+            landmarks[i] = graph.getLandmark(literal);
+            Assert.assertNotEquals(LandmarkGraphTest.LANDMARKS[i], -1, landmarks[i]);
+            Assert.assertEquals(LandmarkGraphTest.LANDMARKS[i], literal, graph.getLiteral(landmarks[i]));
+        }
+        for (int i = 0; i < landmarks.length; i++) {
+            final BitVector expected = new BitVector(graph.size());
+            for (int j : LandmarkGraphTest.ORDERINGS[i]) {
+                expected.set(landmarks[j]);
+            }
+            Assert.assertEquals(LandmarkGraphTest.LANDMARKS[i], expected, graph.getOrderings(landmarks[i]));
+        }
+        // The literals true in the initial state are not landmarks
+        Assert.assertEquals(-1, graph.getLandmark(LandmarkGraphTest.getLiteral(problem, "(at r1)")));
+    }
+
+    /**
+     * Checks the estimates of the landmark count heuristic along the plan of the first problem of the benchmark: each
+     * action of the plan achieves one landmark and the estimates computed from the parent of each state must be equal
+     * to the estimates computed from scratch.
+     */
+    @Test
+    public void test_Landmarks_Estimates() {
+        final Problem problem = LandmarkGraphTest.instantiate("p01" + Tools.PDDL_EXT);
+        final LandmarkCount heuristic = new LandmarkCount(problem);
+        State state = new State(problem.getInitialState());
+        Assert.assertEquals(LandmarkGraphTest.LANDMARKS.length, heuristic.estimate(state, problem.getGoal()));
+        LandmarkCount.AcceptedLandmarks accepted = heuristic.createAcceptedLandmarks();
+        heuristic.accept(state, accepted);
+        for (int i = 0; i < LandmarkGraphTest.PLAN.length; i++) {
+            final Action action = LandmarkGraphTest.getAction(problem, LandmarkGraphTest.PLAN[i]);
+            Assert.assertTrue(LandmarkGraphTest.PLAN[i], action.isApplicable(state));
+            final State next = new State(state);
+            for (ConditionalEffect ce : action.getConditionalEffects()) {
+                if (state.satisfy(ce.getCondition())) {
+                    next.apply(ce.getEffect());
+                }
+            }
+            final LandmarkCount.AcceptedLandmarks successor = heuristic.createAcceptedLandmarks();
+            final int value = heuristic.estimate(next, problem.getGoal(), state, action, accepted, successor);
+            Assert.assertEquals(LandmarkGraphTest.PLAN[i], LandmarkGraphTest.PLAN.length - i - 1, value);
+            Assert.assertEquals(LandmarkGraphTest.PLAN[i], heuristic.estimate(next, problem.getGoal()), value);
+            state = next;
+            accepted = successor;
+        }
+        Assert.assertTrue(state.satisfy(problem.getGoal()));
+    }
+
+    /**
+     * Checks that the goal of the second problem of the benchmark, whose key is locked in the room it opens, is
+     * unreachable: the graph has no landmark and the estimates are <code>Integer.MAX_VALUE</code>.
+     */
+    @Test
+    public void test_Landmarks_Unreachable() {
+        final Problem problem = LandmarkGraphTest.instantiate("p02" + Tools.PDDL_EXT);
+        final LandmarkCount heuristic = new LandmarkCount(problem);
+        final LandmarkGraph graph = heuristic.getLandmarkGraph();
+        Assert.assertFalse(graph.isReachable());
+        Assert.assertEquals(0, graph.size());
+        final State state = new State(problem.getInitialState());
+        Assert.assertEquals(Integer.MAX_VALUE, heuristic.estimate(state, problem.getGoal()));
+        final LandmarkCount.AcceptedLandmarks accepted = heuristic.createAcceptedLandmarks();
+        heuristic.accept(state, accepted);
+        final Action action = LandmarkGraphTest.getAction(problem, "move r1 r2");
+        final State next = new State(state);
+        next.apply(action.getConditionalEffects());
+        Assert.assertEquals(Integer.MAX_VALUE, heuristic.estimate(next, problem.getGoal(), state, action, accepted,
+            heuristic.createAcceptedLandmarks()));
+    }
+}
@@ -45,6 +45,11 @@ public class TFDTest {
      */
     private static final int TIMEOUT = 10;
 
+    /**
+     * The number of problems that must be solved in each benchmark directory of the first problems test.
+     */
+    private static final int NUMBER_OF_PROBLEMS = 2;
+
     /**
      * Default Trace level.
      */
@@ -66,6 +71,21 @@ public class TFDTest {
         Tools.changeVALPerm();
     }
 
+    /**
+     * Method that checks that a plan is found and validated for the first problems of IPC 2020 HDDL benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_TFDPlanner_IPC2020_HDDL_First_Problems() throws Exception {
+        for (String domain : new String[] {"gripper", "transport", "zenotravel"}) {
+            final String localTestPath = Tools.HDDL_BENCH_DIR + "ipc2020/" + domain + File.separator;
+            Assert.assertTrue("missing benchmark [directory: " + localTestPath + "] test skipped !",
+                Tools.isBenchmarkExist(localTestPath));
+            Tools.solve(localTestPath, Tools.HDDL_EXT, Planner.Name.TFD, this.config, TFDTest.NUMBER_OF_PROBLEMS);
+        }
+    }
+
     /**
      * Method that executes tests using IPC 2020 feature test 1.
      *
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.planners.statespace;
+
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.planners.PlannerConfiguration;
+import fr.uga.pddl4j.planners.SearchStrategy;
+import fr.uga.pddl4j.planners.statespace.GSP;
+import fr.uga.pddl4j.planners.statespace.search.StateSpaceSearch;
+import fr.uga.pddl4j.test.Tools;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+
+/**
+ * Implements the tests of the plan cost of the A* search. A* with the admissible MAX heuristic returns optimal plans,
+ * so the cost of its plans must not depend on the search space and the open list used, and the hash distributed A*
+ * search must find plans of the same cost whatever its number of threads. The plans found are checked with the
+ * KCL-Planning validator: https://github.com/KCL-Planning/VAL.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class AStarTest {
+
+    /**
+     * Computation timeout.
+     */
+    private static final int TIMEOUT = 10;
+
+    /**
+     * The number of problems solved in each benchmark directory.
+     */
+    private static final int NUMBER_OF_PROBLEMS = 3;
+
+    /**
+     * The planner configuration used to run the tests.
+     */
+    private PlannerConfiguration config;
+
+    /**
+     * Test initialization.
+     */
+    @Before
+    public void initTest() {
+        this.config = GSP.getDefaultConfiguration();
+        this.config.setProperty(GSP.TIME_OUT_SETTING, AStarTest.TIMEOUT);
+        this.config.setProperty(GSP.WEIGHT_HEURISTIC_SETTING, 1.0);
+        this.config.setProperty(GSP.HEURISTIC_SETTING, StateHeuristic.Name.MAX);
+        this.config.setProperty(GSP.SEARCH_STRATEGIES_SETTING, "[" + SearchStrategy.Name.ASTAR + "]");
+        Tools.changeVALPerm();
+    }
+
+    /**
+     * Checks that the plans found by A* have the same cost with each search space and each open list.
+     *
+     * @param path the path of the benchmark directory.
+     * @throws Exception if something went wrong.
+     */
+    private void compareOpenLists(final String path) throws Exception {
+        this.config.setProperty(GSP.STATE_ARENA_SETTING, Boolean.toString(false));
+        this.config.setProperty(GSP.OPEN_LIST_SETTING, StateSpaceSearch.OpenList.HEAP.toString());
+        Assert.assertTrue("missing benchmark [directory: " + path + "] test skipped !", Tools.isBenchmarkExist(path));
+        final double[] expected = Tools.solve(path, Tools.PDDL_EXT, Planner.Name.GSP, this.config,
+            AStarTest.NUMBER_OF_PROBLEMS);
+        for (boolean arena : new boolean[] {false, true}) {
+            for (StateSpaceSearch.OpenList list : StateSpaceSearch.OpenList.values()) {
+                this.config.setProperty(GSP.STATE_ARENA_SETTING, Boolean.toString(arena));
+                this.config.setProperty(GSP.OPEN_LIST_SETTING, list.toString());
+                final double[] costs = Tools.solve(path, Tools.PDDL_EXT, Planner.Name.GSP, this.config,
+                    AStarTest.NUMBER_OF_PROBLEMS);
+                Assert.assertArrayEquals("arena: " + arena + ", open list: " + list, expected, costs, 0.0);
+            }
+        }
+    }
+
+    /**
+     * Checks that the plans found by the hash distributed A* search have the same cost as the plans found by A* for
+     * several numbers of threads.
+     *
+     * @param path the path of the benchmark directory.
+     * @throws Exception if something went wrong.
+     */
+    private void compareHDAStar(final String path) throws Exception {
+        Assert.assertTrue("missing benchmark [directory: " + path + "] test skipped !", Tools.isBenchmarkExist(path));
+        final double[] expected = Tools.solve(path, Tools.PDDL_EXT, Planner.Name.GSP, this.config,
+            AStarTest.NUMBER_OF_PROBLEMS);
+        this.config.setProperty(GSP.SEARCH_STRATEGIES_SETTING,
+            "[" + SearchStrategy.Name.HASH_DISTRIBUTED_ASTAR + "]");
+        for (int threads : new int[] {1, 2, 4}) {
+            this.config.setProperty(GSP.NUMBER_OF_THREADS_SETTING, Integer.toString(threads));
+            Assert.assertArrayEquals("threads: " + threads, expected,
+                Tools.solve(path, Tools.PDDL_EXT, Planner.Name.GSP, this.config, AStarTest.NUMBER_OF_PROBLEMS), 0.0);
+        }
+    }
+
+    /**
+     * Method that executes tests using IPC 1998 gripper ADL benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_AStar_IPC1998_Gripper_ADL() throws Exception {
+        this.compareOpenLists(Tools.PDDL_BENCH_DIR + "ipc1998/gripper/adl" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Blocks STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_AStar_IPC2000_Blocks_STRIPS_Typed() throws Exception {
+        this.compareOpenLists(Tools.PDDL_BENCH_DIR + "ipc2000/blocks/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Logistics STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_AStar_IPC2000_Logistics_STRIPS_Typed() throws Exception {
+        this.compareOpenLists(Tools.PDDL_BENCH_DIR + "ipc2000/logistics/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes the hash distributed A* tests using IPC 2000 Blocks STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_HDAStar_IPC2000_Blocks_STRIPS_Typed() throws Exception {
+        this.compareHDAStar(Tools.PDDL_BENCH_DIR + "ipc2000/blocks/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes the hash distributed A* tests using IPC 2000 Blocks STRIPS untyped benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_HDAStar_IPC2000_Blocks_STRIPS_Untyped() throws Exception {
+        this.compareHDAStar(Tools.PDDL_BENCH_DIR + "ipc2000/blocks/strips-untyped" + File.separator);
+    }
+}
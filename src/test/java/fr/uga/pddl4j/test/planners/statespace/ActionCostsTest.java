@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.planners.statespace;
+
+import fr.uga.pddl4j.heuristics.state.CostFastForward;
+import fr.uga.pddl4j.heuristics.state.CostMax;
+import fr.uga.pddl4j.heuristics.state.CostSum;
+import fr.uga.pddl4j.heuristics.state.StateHeuristic;
+import fr.uga.pddl4j.planners.Planner;
+import fr.uga.pddl4j.planners.PlannerConfiguration;
+import fr.uga.pddl4j.planners.SearchStrategy;
+import fr.uga.pddl4j.planners.statespace.GSP;
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.test.Tools;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+
+/**
+ * Implements the tests of the planning problems with action costs. The benchmark used is a small delivery domain in
+ * which the packages are carried by trucks or sent by courier at a non-integer cost. The tests check the costs of the
+ * actions extracted from the <code>(increase (total-cost) n)</code> effects, the values of the cost heuristics and
+ * the cost of the plans found by A* with the admissible COST_MAX heuristic. The plans found are checked with the
+ * KCL-Planning validator: https://github.com/KCL-Planning/VAL.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ActionCostsTest {
+
+    /**
+     * The path of the benchmark.
+     */
+    private static final String PATH = Tools.PDDL_BENCH_DIR + "action-costs/delivery" + File.separator;
+
+    /**
+     * The optimal costs of the problems of the benchmark.
+     */
+    private static final double[] OPTIMAL_COSTS = {4.5, 8.0, 12.5};
+
+    /**
+     * The cost of the courier action.
+     */
+    private static final double COURIER_COST = 4.5;
+
+    /**
+     * Computation timeout.
+     */
+    private static final int TIMEOUT = 10;
+
+    /**
+     * The planner configuration used to run the tests.
+     */
+    private PlannerConfiguration config;
+
+    /**
+     * Test initialization.
+     */
+    @Before
+    public void initTest() {
+        this.config = GSP.getDefaultConfiguration();
+        this.config.setProperty(GSP.TIME_OUT_SETTING, ActionCostsTest.TIMEOUT);
+        this.config.setProperty(GSP.WEIGHT_HEURISTIC_SETTING, 1.0);
+        this.config.setProperty(GSP.HEURISTIC_SETTING, StateHeuristic.Name.COST_MAX);
+        this.config.setProperty(GSP.SEARCH_STRATEGIES_SETTING, "[" + SearchStrategy.Name.ASTAR + "]");
+        Tools.changeVALPerm();
+        Assert.assertTrue("missing benchmark [directory: " + ActionCostsTest.PATH + "] test skipped !",
+            Tools.isBenchmarkExist(ActionCostsTest.PATH));
+    }
+
+    /**
+     * Returns the instantiated problem of a specified problem file of the benchmark.
+     *
+     * @param name the name of the problem file.
+     * @return the instantiated problem.
+     */
+    private static Problem instantiate(final String name) {
+        final Problem problem = Tools.generateCodedProblem(ActionCostsTest.PATH + Tools.PDDL_DOMAIN,
+            ActionCostsTest.PATH + name);
+        Assert.assertNotNull("problem not parsed: " + name, problem);
+        problem.instantiate();
+        return problem;
+    }
+
+    /**
+     * Checks the costs of the actions extracted from the effects on the total cost.
+     */
+    @Test
+    public void test_ActionCosts_Extraction() {
+        for (int i = 1; i <= ActionCostsTest.OPTIMAL_COSTS.length; i++) {
+            final Problem problem = ActionCostsTest.instantiate(String.format("p%02d", i) + Tools.PDDL_EXT);
+            Assert.assertFalse(problem.getActions().isEmpty());
+            for (Action action : problem.getActions()) {
+                final double expected = action.getName().equals("courier") ? ActionCostsTest.COURIER_COST : 1.0;
+                Assert.assertEquals(action.getName(), expected, action.getCost().getValue(), 0.0);
+            }
+        }
+    }
+
+    /**
+     * Checks the values of the cost heuristics in the initial state of the first problem. The goal can be reached by
+     * courier at a cost of 4.5 or by truck at a cost of 6: COST_MAX rounds the cost of the courier down and must not
+     * exceed the optimal cost, whereas COST_SUM and COST_FAST_FORWARD round it to the nearest integer.
+     */
+    @Test
+    public void test_ActionCosts_Heuristics() {
+        final Problem problem = ActionCostsTest.instantiate("p01" + Tools.PDDL_EXT);
+        final State init = new State(problem.getInitialState());
+        Assert.assertEquals(4, new CostMax(problem).estimate(init, problem.getGoal()));
+        Assert.assertEquals(5, new CostSum(problem).estimate(init, problem.getGoal()));
+        Assert.assertEquals(5, new CostFastForward(problem).estimate(init, problem.getGoal()));
+        for (int i = 1; i <= ActionCostsTest.OPTIMAL_COSTS.length; i++) {
+            final Problem pb = ActionCostsTest.instantiate(String.format("p%02d", i) + Tools.PDDL_EXT);
+            final int h = new CostMax(pb).estimate(new State(pb.getInitialState()), pb.getGoal());
+            Assert.assertTrue("p" + i + ": " + h, h <= ActionCostsTest.OPTIMAL_COSTS[i - 1]);
+        }
+    }
+
+    /**
+     * Checks that A* with the COST_MAX heuristic finds optimal plans whose cost is the value of the metric computed by
+     * the validator.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_ActionCosts_AStar_Cost_Max() throws Exception {
+        Assert.assertArrayEquals(ActionCostsTest.OPTIMAL_COSTS, Tools.solve(ActionCostsTest.PATH, Tools.PDDL_EXT,
+            Planner.Name.GSP, this.config, ActionCostsTest.OPTIMAL_COSTS.length, true), 0.0);
+    }
+
+    /**
+     * Checks that the hash distributed A* search with the COST_MAX heuristic finds plans of the same cost as A*
+     * whatever its number of threads.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_ActionCosts_HDAStar_Cost_Max() throws Exception {
+        this.config.setProperty(GSP.SEARCH_STRATEGIES_SETTING,
+            "[" + SearchStrategy.Name.HASH_DISTRIBUTED_ASTAR + "]");
+        for (int threads : new int[] {1, 4}) {
+            this.config.setProperty(GSP.NUMBER_OF_THREADS_SETTING, Integer.toString(threads));
+            Assert.assertArrayEquals("threads: " + threads, ActionCostsTest.OPTIMAL_COSTS,
+                Tools.solve(ActionCostsTest.PATH, Tools.PDDL_EXT, Planner.Name.GSP, this.config,
+                    ActionCostsTest.OPTIMAL_COSTS.length, true), 0.0);
+        }
+    }
+}
@@ -56,6 +56,10 @@ public class GSPTest {
      */
     private static final double HEURISTIC_WEIGHT = 1.0;
 
+    /**
+     * The number of problems of each benchmark directory that must be solved by the new search strategies.
+     */
+    private static final int NUMBER_OF_PROBLEMS = 3;
 
     /**
      * The planner configuration used to run the tests.
@@ -84,6 +88,8 @@ public class GSPTest {
             switch (strategy) {
                 case BREADTH_FIRST:
                 case DEPTH_FIRST:
+                case ITERATED_WIDTH_1:
+                case ITERATED_WIDTH_2:
                     this.config.setProperty(GSP.SEARCH_STRATEGIES_SETTING, strategies);
                     Tools.solve(path, Tools.PDDL_EXT, Planner.Name.GSP, this.config);
                     break;
@@ -91,6 +97,9 @@ public class GSPTest {
                 case ENFORCED_HILL_CLIMBING:
                 case ASTAR:
                 case HILL_CLIMBING:
+                case HASH_DISTRIBUTED_ASTAR:
+                case LAZY_GREEDY_BEST_FIRST:
+                case BEST_FIRST_WIDTH:
                     this.config.setProperty(GSP.SEARCH_STRATEGIES_SETTING, strategies);
                     for (StateHeuristic.Name heuristic : StateHeuristic.Name.values()) {
                         this.config.setProperty(GSP.HEURISTIC_SETTING, heuristic);
@@ -103,6 +112,71 @@ public class GSPTest {
         }
     }
 
+    /**
+     * Solves the first problems of some small benchmarks with a specified search strategy and the fast forward
+     * heuristic. The test fails if no plan is found or if a plan is not valid.
+     *
+     * @param strategy the search strategy to test.
+     * @throws Exception if something went wrong.
+     */
+    private void solveFirstProblems(final SearchStrategy.Name strategy) throws Exception {
+        this.config.setProperty(GSP.SEARCH_STRATEGIES_SETTING, "[" + strategy + "]");
+        this.config.setProperty(GSP.HEURISTIC_SETTING, StateHeuristic.Name.FAST_FORWARD);
+        final String[] benchmarks = {
+            "ipc1998/gripper/strips",
+            "ipc2000/blocks/strips-typed",
+            "ipc2000/logistics/strips-typed"
+        };
+        for (String benchmark : benchmarks) {
+            final String path = Tools.PDDL_BENCH_DIR + benchmark + File.separator;
+            Assert.assertTrue("missing benchmark [directory: " + path + "] test skipped !",
+                Tools.isBenchmarkExist(path));
+            Tools.solve(path, Tools.PDDL_EXT, Planner.Name.GSP, this.config, GSPTest.NUMBER_OF_PROBLEMS);
+        }
+    }
+
+    /**
+     * Method that checks that the lazy greedy best first search solves the first problems of some small benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_GSP_Lazy_Greedy_Best_First_First_Problems() throws Exception {
+        this.solveFirstProblems(SearchStrategy.Name.LAZY_GREEDY_BEST_FIRST);
+    }
+
+    /**
+     * Method that checks that the best first width search solves the first problems of some small benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_GSP_Best_First_Width_First_Problems() throws Exception {
+        this.solveFirstProblems(SearchStrategy.Name.BEST_FIRST_WIDTH);
+    }
+
+    /**
+     * Method that checks the plans found by the iterated width searches IW(1) and IW(2) on IPC 2000 blocks STRIPS
+     * typed benchmarks. IW(k) is only complete for the problems of width at most k, so the test only requires the
+     * plans found to be valid.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_GSP_Iterated_Width_IPC2000_Blocks_STRIPS_Typed() throws Exception {
+        final String localTestPath = Tools.PDDL_BENCH_DIR + "ipc2000/blocks/strips-typed" + File.separator;
+        Assert.assertTrue("missing benchmark [directory: " + localTestPath + "] test skipped !",
+            Tools.isBenchmarkExist(localTestPath));
+        final SearchStrategy.Name[] strategies = {
+            SearchStrategy.Name.ITERATED_WIDTH_1,
+            SearchStrategy.Name.ITERATED_WIDTH_2
+        };
+        for (SearchStrategy.Name strategy : strategies) {
+            this.config.setProperty(GSP.SEARCH_STRATEGIES_SETTING, "[" + strategy + "]");
+            Tools.solve(localTestPath, Tools.PDDL_EXT, Planner.Name.GSP, this.config);
+        }
+    }
+
     /**
      * Method that executes tests using IPC 1998 Assembly ADL benchmarks.
      *
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.problem;
+
+import fr.uga.pddl4j.planners.statespace.search.Node;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.StateArena;
+import fr.uga.pddl4j.problem.operator.Effect;
+import fr.uga.pddl4j.util.BitVector;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Random;
+
+/**
+ * Implements the tests of the {@link State} class. The cached Zobrist fingerprint of a state must be equal to the
+ * fingerprint computed from scratch with {@link State#zobrist()} after each modification of the state, whether the
+ * fingerprint is updated incrementally or invalidated.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class StateTest {
+
+    /**
+     * The number of fluents of the random states.
+     */
+    private static final int FLUENTS = 300;
+
+    /**
+     * The number of operations of the random tests.
+     */
+    private static final int OPERATIONS = 10000;
+
+    /**
+     * The seed of the random tests.
+     */
+    private static final long SEED = 0;
+
+    /**
+     * Returns a random bit vector.
+     *
+     * @param random the random generator.
+     * @param bits   the maximum number of bits set.
+     * @return a random bit vector.
+     */
+    private static BitVector random(final Random random, final int bits) {
+        final BitVector vector = new BitVector();
+        final int count = random.nextInt(bits + 1);
+        for (int i = 0; i < count; i++) {
+            vector.set(random.nextInt(StateTest.FLUENTS));
+        }
+        return vector;
+    }
+
+    /**
+     * Returns a random state whose fingerprint is cached.
+     *
+     * @param random the random generator.
+     * @return a random state.
+     */
+    private static State state(final Random random) {
+        final State state = new State();
+        state.or(StateTest.random(random, StateTest.FLUENTS / 2));
+        state.fingerprint();
+        return state;
+    }
+
+    /**
+     * Checks that the cached fingerprint of a state is equal to its fingerprint computed from scratch.
+     *
+     * @param message the message printed if the test fails.
+     * @param state   the state.
+     */
+    private static void check(final String message, final State state) {
+        Assert.assertEquals(message, state.zobrist(), state.fingerprint());
+    }
+
+    /**
+     * Tests the fingerprint after the application of random effects.
+     */
+    @Test
+    public void testApply() {
+        final Random random = new Random(StateTest.SEED);
+        final State state = StateTest.state(random);
+        for (int i = 0; i < StateTest.OPERATIONS; i++) {
+            final State expected = new State();
+            expected.or(state);
+            final Effect effect = new Effect(StateTest.random(random, 4), StateTest.random(random, 4));
+            state.apply(effect);
+            expected.andNot(effect.getNegativeFluents());
+            expected.or(effect.getPositiveFluents());
+            Assert.assertEquals("apply " + i, expected, state);
+            StateTest.check("apply " + i, state);
+        }
+    }
+
+    /**
+     * Tests the fingerprint after random modifications of single bits.
+     */
+    @Test
+    public void testSetClearFlip() {
+        final Random random = new Random(StateTest.SEED);
+        final State state = StateTest.state(random);
+        for (int i = 0; i < StateTest.OPERATIONS; i++) {
+            final int bit = random.nextInt(StateTest.FLUENTS);
+            switch (random.nextInt(4)) {
+                case 0:
+                    state.set(bit);
+                    break;
+                case 1:
+                    state.clear(bit);
+                    break;
+                case 2:
+                    state.flip(bit);
+                    break;
+                default:
+                    state.set(bit, random.nextBoolean());
+                    break;
+            }
+            StateTest.check("operation " + i, state);
+        }
+    }
+
+    /**
+     * Tests the fingerprint after the bulk operations that invalidate it.
+     */
+    @Test
+    public void testBulkOperations() {
+        final Random random = new Random(StateTest.SEED);
+        final State state = StateTest.state(random);
+        for (int i = 0; i < StateTest.OPERATIONS; i++) {
+            final BitVector other = StateTest.random(random, StateTest.FLUENTS / 2);
+            switch (random.nextInt(6)) {
+                case 0:
+                    state.or(other);
+                    break;
+                case 1:
+                    state.and(other);
+                    break;
+                case 2:
+                    state.xor(other);
+                    break;
+                case 3:
+                    state.andNot(other);
+                    break;
+                case 4:
+                    final int from = random.nextInt(StateTest.FLUENTS);
+                    state.flip(from, from + random.nextInt(StateTest.FLUENTS - from + 1));
+                    break;
+                default:
+                    state.clear();
+                    break;
+            }
+            StateTest.check("operation " + i, state);
+        }
+    }
+
+    /**
+     * Tests the fingerprint after the replay of an undo log.
+     */
+    @Test
+    public void testUndo() {
+        final Random random = new Random(StateTest.SEED);
+        final int[] indexes = new int[StateTest.FLUENTS];
+        final long[] values = new long[StateTest.FLUENTS];
+        for (int i = 0; i < StateTest.OPERATIONS / 10; i++) {
+            final State state = StateTest.state(random);
+            final State initial = new State(state);
+            final int steps = 1 + random.nextInt(10);
+            final int[] marks = new int[steps + 1];
+            final State[] states = new State[steps + 1];
+            states[0] = initial;
+            for (int s = 0; s < steps; s++) {
+                marks[s + 1] = state.andNotOr(StateTest.random(random, 4), StateTest.random(random, 4), indexes,
+                    values, marks[s]);
+                states[s + 1] = new State(state);
+                StateTest.check("step " + s, state);
+            }
+            // The changes are undone step by step in reverse order
+            for (int s = steps; s > 0; s--) {
+                state.undo(indexes, values, marks[s - 1], marks[s]);
+                Assert.assertEquals("undo " + s, states[s - 1], state);
+                StateTest.check("undo " + s, state);
+            }
+        }
+    }
+
+    /**
+     * Tests the fingerprint of the copies of a state.
+     */
+    @Test
+    public void testCopy() {
+        final Random random = new Random(StateTest.SEED);
+        final State copy = new State();
+        for (int i = 0; i < StateTest.OPERATIONS / 10; i++) {
+            final State state = StateTest.state(random);
+            final State other = new State(state);
+            Assert.assertEquals(state, other);
+            StateTest.check("constructor " + i, other);
+            copy.copy(state);
+            Assert.assertEquals(state, copy);
+            StateTest.check("copy " + i, copy);
+            // The fingerprint of the copy must still be updated incrementally
+            copy.apply(new Effect(StateTest.random(random, 4), StateTest.random(random, 4)));
+            StateTest.check("copy apply " + i, copy);
+            // The words copied from an array invalidate the fingerprint
+            final long[] words = new long[StateArena.getWordsPerState(StateTest.FLUENTS)];
+            state.toWords(words, 0, words.length);
+            copy.fromWords(words, 0, words.length);
+            Assert.assertEquals(state, copy);
+            StateTest.check("words " + i, copy);
+        }
+    }
+
+    /**
+     * Tests the fingerprint of the states copied from a state arena.
+     */
+    @Test
+    public void testArena() {
+        final Random random = new Random(StateTest.SEED);
+        final StateArena arena = new StateArena(StateTest.FLUENTS);
+        final State state = new State();
+        for (int i = 0; i < StateTest.OPERATIONS / 10; i++) {
+            final State expected = StateTest.state(random);
+            final int handle = arena.intern(expected);
+            arena.get(handle, state);
+            Assert.assertEquals(expected, state);
+            Assert.assertEquals(expected.fingerprint(), arena.getFingerprint(handle));
+            StateTest.check("arena " + i, state);
+        }
+    }
+
+    /**
+     * Tests that the equality and the hash code of the states and the nodes agree.
+     */
+    @Test
+    public void testNodeEquality() {
+        final Random random = new Random(StateTest.SEED);
+        for (int i = 0; i < StateTest.OPERATIONS / 10; i++) {
+            final State state = StateTest.state(random);
+            final Node node = new Node(state, null, -1, 0.0, 0.0);
+            Assert.assertEquals(state, node);
+            Assert.assertEquals(node, state);
+            Assert.assertEquals(state.hashCode(), node.hashCode());
+            final State unhashed = new State();
+            unhashed.or(state);
+            Assert.assertEquals(unhashed, node);
+            Assert.assertEquals(unhashed.hashCode(), node.hashCode());
+            node.flip(random.nextInt(StateTest.FLUENTS));
+            Assert.assertNotEquals(state, node);
+            Assert.assertNotEquals(node, state);
+            Assert.assertFalse(state.equals(new BitVector(state)));
+        }
+    }
+}
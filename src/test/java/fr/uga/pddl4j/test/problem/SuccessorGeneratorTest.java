@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.problem;
+
+import fr.uga.pddl4j.problem.Problem;
+import fr.uga.pddl4j.problem.State;
+import fr.uga.pddl4j.problem.SuccessorGenerator;
+import fr.uga.pddl4j.problem.operator.Action;
+import fr.uga.pddl4j.problem.operator.ConditionalEffect;
+import fr.uga.pddl4j.test.Tools;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Implements the tests of the successor generator. The actions returned by the generator in random states reachable
+ * from the initial state of IPC problems are compared with the actions returned by a linear scan of the actions of the
+ * problem with {@link Action#isApplicable(State)}. The IPC benchmarks used for testing are available in
+ * <code>test/ressources/benchmarks</code> directory.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class SuccessorGeneratorTest {
+
+    /**
+     * The number of problems tested in each benchmark directory.
+     */
+    private static final int NUMBER_OF_PROBLEMS = 3;
+
+    /**
+     * The number of random walks done from the initial state of each problem.
+     */
+    private static final int NUMBER_OF_WALKS = 20;
+
+    /**
+     * The length of the random walks.
+     */
+    private static final int LENGTH_OF_WALKS = 50;
+
+    /**
+     * The seed of the random walks.
+     */
+    private static final long SEED = 0;
+
+    /**
+     * Compares the generator with a linear scan of the actions in the states of random walks for the first problems
+     * of a benchmark directory.
+     *
+     * @param path the path of the benchmark directory.
+     */
+    private static void compare(final String path) {
+        Assert.assertTrue("missing benchmark [directory: " + path + "] test skipped !", Tools.isBenchmarkExist(path));
+        final File[] files = new File(path).listFiles((dir, name) -> name.startsWith("p")
+            && name.endsWith(Tools.PDDL_EXT));
+        Assert.assertNotNull(files);
+        Arrays.sort(files);
+        final Random random = new Random(SuccessorGeneratorTest.SEED);
+        for (int i = 0; i < Math.min(files.length, SuccessorGeneratorTest.NUMBER_OF_PROBLEMS); i++) {
+            final Problem problem = Tools.generateCodedProblem(path + Tools.PDDL_DOMAIN, files[i].getPath());
+            Assert.assertNotNull("problem not parsed: " + files[i], problem);
+            problem.instantiate();
+            final SuccessorGenerator generator = problem.getSuccessorGenerator();
+            Assert.assertEquals(problem.getActions().size(), generator.size());
+            final int[] applicable = new int[generator.size()];
+            for (int w = 0; w < SuccessorGeneratorTest.NUMBER_OF_WALKS; w++) {
+                State state = new State(problem.getInitialState());
+                for (int l = 0; l < SuccessorGeneratorTest.LENGTH_OF_WALKS; l++) {
+                    final int[] expected = SuccessorGeneratorTest.scan(problem, state);
+                    final int count = generator.getApplicableActions(state, applicable);
+                    Assert.assertArrayEquals(files[i].getName() + " walk " + w + " step " + l, expected,
+                        Arrays.copyOf(applicable, count));
+                    Assert.assertArrayEquals(files[i].getName() + " walk " + w + " step " + l, expected,
+                        generator.getApplicableActions(state));
+                    if (expected.length == 0) {
+                        break;
+                    }
+                    final Action action = problem.getActions().get(expected[random.nextInt(expected.length)]);
+                    state = SuccessorGeneratorTest.apply(state, action);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexes of the actions applicable in a state in increasing order with a linear scan of the actions.
+     *
+     * @param problem the problem.
+     * @param state   the state.
+     * @return the indexes of the actions applicable in the state.
+     */
+    private static int[] scan(final Problem problem, final State state) {
+        final List<Action> actions = problem.getActions();
+        int[] applicable = new int[actions.size()];
+        int count = 0;
+        for (int i = 0; i < actions.size(); i++) {
+            if (actions.get(i).isApplicable(state)) {
+                applicable[count++] = i;
+            }
+        }
+        return Arrays.copyOf(applicable, count);
+    }
+
+    /**
+     * Returns the state reached by applying an action in a state.
+     *
+     * @param state  the state.
+     * @param action the action.
+     * @return the successor state.
+     */
+    private static State apply(final State state, final Action action) {
+        final State next = new State(state);
+        for (ConditionalEffect ce : action.getConditionalEffects()) {
+            if (state.satisfy(ce.getCondition())) {
+                next.apply(ce.getEffect());
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Method that executes tests using IPC 1998 gripper ADL benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_SuccessorGenerator_IPC1998_Gripper_ADL() throws Exception {
+        SuccessorGeneratorTest.compare(Tools.PDDL_BENCH_DIR + "ipc1998/gripper/adl" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Blocks STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_SuccessorGenerator_IPC2000_Blocks_STRIPS_Typed() throws Exception {
+        SuccessorGeneratorTest.compare(Tools.PDDL_BENCH_DIR + "ipc2000/blocks/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Logistics STRIPS typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_SuccessorGenerator_IPC2000_Logistics_STRIPS_Typed() throws Exception {
+        SuccessorGeneratorTest.compare(Tools.PDDL_BENCH_DIR + "ipc2000/logistics/strips-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2000 Schedule ADL typed benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_SuccessorGenerator_IPC2000_Schedule_ADL_Typed() throws Exception {
+        SuccessorGeneratorTest.compare(Tools.PDDL_BENCH_DIR + "ipc2000/schedule/adl-typed" + File.separator);
+    }
+
+    /**
+     * Method that executes tests using IPC 2002 Depots STRIPS automatic benchmarks.
+     *
+     * @throws Exception if something went wrong.
+     */
+    @Test
+    public void test_SuccessorGenerator_IPC2002_Depots_STRIPS_Automatic() throws Exception {
+        SuccessorGeneratorTest.compare(Tools.PDDL_BENCH_DIR + "ipc2002/depots/strips-automatic" + File.separator);
+    }
+}
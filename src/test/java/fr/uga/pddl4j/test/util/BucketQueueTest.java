@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.util;
+
+import fr.uga.pddl4j.util.BucketQueue;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Implements the tests of the {@link BucketQueue} class. The values polled are compared with the values polled from
+ * a priority queue sorted by the keys of the values and the order in which they were added.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class BucketQueueTest {
+
+    /**
+     * The number of operations of the random tests.
+     */
+    private static final int OPERATIONS = 100000;
+
+    /**
+     * The seed of the random tests.
+     */
+    private static final long SEED = 0;
+
+    /**
+     * Compares a queue with a sorted reference on random additions and polls. The keys added can be lower than the
+     * keys already polled.
+     *
+     * @param lifo <code>true</code> to test the last in first out order of the values with the same keys.
+     */
+    private static void compare(final boolean lifo) {
+        final Random random = new Random(BucketQueueTest.SEED);
+        final BucketQueue queue = new BucketQueue(lifo);
+        // The entries of the reference are {value, f, h} and the value gives the order of the additions
+        final Comparator<int[]> keys = Comparator.<int[]>comparingInt(e -> e[1]).thenComparingInt(e -> e[2]);
+        final PriorityQueue<int[]> reference = new PriorityQueue<>(lifo
+            ? keys.thenComparing(e -> e[0], Comparator.reverseOrder()) : keys.thenComparingInt(e -> e[0]));
+        int value = 0;
+        for (int i = 0; i < BucketQueueTest.OPERATIONS; i++) {
+            if (random.nextInt(5) < 3) {
+                final int f = random.nextInt(i % 1000 < 500 ? 20 : 300);
+                final int h = random.nextInt(40);
+                queue.add(value, f, h);
+                reference.add(new int[] {value, f, h});
+                value++;
+            } else {
+                final int[] expected = reference.poll();
+                if (expected == null) {
+                    Assert.assertEquals(-1, queue.poll());
+                } else {
+                    Assert.assertEquals(expected[0], queue.poll());
+                    Assert.assertEquals(expected[1], queue.getPolledPrimaryKey());
+                    Assert.assertEquals(expected[2], queue.getPolledSecondaryKey());
+                }
+            }
+            Assert.assertEquals(reference.size(), queue.size());
+        }
+        while (!reference.isEmpty()) {
+            Assert.assertEquals(reference.poll()[0], queue.poll());
+        }
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(-1, queue.poll());
+    }
+
+    /**
+     * Checks the values polled from a queue in last in first out order on random operations.
+     */
+    @Test
+    public void testRandomLifo() {
+        BucketQueueTest.compare(true);
+    }
+
+    /**
+     * Checks the values polled from a queue in first in first out order on random operations.
+     */
+    @Test
+    public void testRandomFifo() {
+        BucketQueueTest.compare(false);
+    }
+
+    /**
+     * Checks the order of the values with the same keys.
+     */
+    @Test
+    public void testTieOrder() {
+        final BucketQueue lifo = new BucketQueue(true);
+        final BucketQueue fifo = new BucketQueue(false);
+        for (int value = 0; value < 100; value++) {
+            lifo.add(value, 3, 1);
+            fifo.add(value, 3, 1);
+        }
+        lifo.add(100, 3, 0);
+        fifo.add(100, 3, 0);
+        Assert.assertEquals(100, lifo.poll());
+        Assert.assertEquals(100, fifo.poll());
+        for (int value = 0; value < 100; value++) {
+            Assert.assertEquals(99 - value, lifo.poll());
+            Assert.assertEquals(value, fifo.poll());
+        }
+        Assert.assertTrue(lifo.isEmpty());
+        Assert.assertTrue(fifo.isEmpty());
+    }
+
+    /**
+     * Checks that the values added again with lower keys are polled once with their last keys when the stale
+     * entries are skipped with the keys of the values polled, as in the open list of a best first search.
+     */
+    @Test
+    public void testStaleEntries() {
+        final Random random = new Random(BucketQueueTest.SEED);
+        final BucketQueue queue = new BucketQueue(true);
+        final int values = 1000;
+        final int[] f = new int[values];
+        final int[] h = new int[values];
+        for (int value = 0; value < values; value++) {
+            f[value] = 50 + random.nextInt(50);
+            h[value] = random.nextInt(20);
+            queue.add(value, f[value], h[value]);
+        }
+        for (int value = 0; value < values; value += 2) {
+            f[value] -= random.nextInt(50);
+            h[value] = random.nextInt(20);
+            queue.add(value, f[value], h[value]);
+        }
+        final boolean[] polled = new boolean[values];
+        int lastF = -1;
+        int lastH = -1;
+        for (int i = 0; i < values; i++) {
+            int value = queue.poll();
+            while (polled[value] || queue.getPolledPrimaryKey() != f[value]
+                    || queue.getPolledSecondaryKey() != h[value]) {
+                value = queue.poll();
+            }
+            polled[value] = true;
+            Assert.assertTrue(f[value] > lastF || f[value] == lastF && h[value] >= lastH);
+            lastF = f[value];
+            lastH = h[value];
+        }
+        // Only the stale entries are left
+        while (!queue.isEmpty()) {
+            final int value = queue.poll();
+            Assert.assertTrue(polled[value]);
+        }
+    }
+
+    /**
+     * Checks that a cleared queue is empty and can be reused.
+     */
+    @Test
+    public void testClear() {
+        final BucketQueue queue = new BucketQueue(false);
+        Assert.assertEquals(-1, queue.poll());
+        Assert.assertEquals(-1, queue.getPolledPrimaryKey());
+        Assert.assertEquals(-1, queue.getPolledSecondaryKey());
+        for (int value = 0; value < 50; value++) {
+            queue.add(value, value % 7, value % 3);
+        }
+        queue.clear();
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(-1, queue.poll());
+        queue.add(7, 40, 2);
+        queue.add(8, 2, 9);
+        Assert.assertEquals(8, queue.poll());
+        Assert.assertEquals(7, queue.poll());
+        Assert.assertEquals(0, queue.size());
+    }
+
+    /**
+     * Checks that a negative key is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeKey() {
+        new BucketQueue(true).add(0, 0, -1);
+    }
+}
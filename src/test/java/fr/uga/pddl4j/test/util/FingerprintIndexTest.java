@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 by Damien Pellier <Damien.Pellier@imag.fr>.
+ *
+ * This file is part of PDDL4J library.
+ *
+ * PDDL4J is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * PDDL4J is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with PDDL4J.  If not, see
+ * <http://www.gnu.org/licenses/>
+ */
+
+package fr.uga.pddl4j.test.util;
+
+import fr.uga.pddl4j.util.FingerprintIndex;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Implements the tests of the {@link FingerprintIndex} class. The handles returned are compared with the handles of a
+ * hash map on random keys. The fingerprints of the keys are taken in a small range so that distinct keys often share
+ * a fingerprint and are told apart by the matcher.
+ *
+ * @author T. Togarepi
+ * @version 1.0 - 17.10.2026
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class FingerprintIndexTest {
+
+    /**
+     * The number of operations of the random tests.
+     */
+    private static final int OPERATIONS = 100000;
+
+    /**
+     * The number of distinct keys of the random tests.
+     */
+    private static final int KEYS = 20000;
+
+    /**
+     * The number of distinct fingerprints of the random tests.
+     */
+    private static final int FINGERPRINTS = 5000;
+
+    /**
+     * The seed of the random tests.
+     */
+    private static final long SEED = 0;
+
+    /**
+     * Compares the handles of the index with the handles of a hash map on random lookups and additions.
+     */
+    @Test
+    public void testAddAndFind() {
+        final Random random = new Random(FingerprintIndexTest.SEED);
+        final List<Integer> keys = new ArrayList<>();
+        final FingerprintIndex<Integer> index = new FingerprintIndex<>(1,
+            (handle, key) -> keys.get(handle).equals(key));
+        final Map<Integer, Integer> reference = new HashMap<>();
+        for (int i = 0; i < FingerprintIndexTest.OPERATIONS; i++) {
+            final Integer key = random.nextInt(FingerprintIndexTest.KEYS);
+            final long fingerprint = (key % FingerprintIndexTest.FINGERPRINTS) * 0x9E3779B97F4A7C15L;
+            final Integer expected = reference.get(key);
+            if (random.nextBoolean()) {
+                Assert.assertEquals(expected == null ? FingerprintIndex.NONE : expected,
+                    index.find(fingerprint, key));
+            } else if (expected == null) {
+                final int handle = index.add(fingerprint, key);
+                Assert.assertEquals(-(keys.size() + 1), handle);
+                reference.put(key, keys.size());
+                keys.add(key);
+            } else {
+                Assert.assertEquals((int) expected, index.add(fingerprint, key));
+            }
+            Assert.assertEquals(keys.size(), index.size());
+        }
+        for (int handle = 0; handle < keys.size(); handle++) {
+            final long fingerprint = (keys.get(handle) % FingerprintIndexTest.FINGERPRINTS) * 0x9E3779B97F4A7C15L;
+            Assert.assertEquals(fingerprint, index.getFingerprint(handle));
+            Assert.assertEquals(handle, index.find(fingerprint, keys.get(handle)));
+        }
+    }
+
+    /**
+     * Checks that the capacity of an index must be a strictly positive power of two.
+     */
+    @Test
+    public void testInvalidCapacity() {
+        for (int capacity : new int[] {0, -4, 3, 1000}) {
+            try {
+                new FingerprintIndex<Integer>(capacity, (handle, key) -> false);
+                Assert.fail("capacity " + capacity);
+            } catch (IllegalArgumentException e) {
+                // The capacity is rejected
+            }
+        }
+    }
+}